@@ -5,9 +5,14 @@
 
 package io.opentelemetry.api.baggage;
 
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -16,6 +21,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
@@ -37,6 +43,70 @@ public class BaggageBenchmark {
     }
   }
 
+  // More distinct headers than the propagator caches, so each extraction parses the header.
+  private static final int UNIQUE_HEADERS = 256;
+
+  private static final TextMapGetter<String> getter =
+      new TextMapGetter<String>() {
+        @Override
+        public Iterable<String> keys(String carrier) {
+          return Collections.singletonList("baggage");
+        }
+
+        @Nullable
+        @Override
+        public String get(@Nullable String carrier, String key) {
+          return carrier;
+        }
+      };
+
+  private String repeatedHeader;
+  private final String[] uniqueHeaders = new String[UNIQUE_HEADERS];
+  private int uniqueHeaderIndex;
+
+  @Setup
+  public void setup() {
+    repeatedHeader = header(-1);
+    for (int i = 0; i < UNIQUE_HEADERS; i++) {
+      uniqueHeaders[i] = header(i);
+    }
+  }
+
+  /**
+   * Returns a header like the ones edge services receive, with {@link #itemsToAdd} entries mixing
+   * plain and percent-encoded values, optional whitespace and metadata, and a per-request id if
+   * {@code requestId} isn't negative.
+   */
+  private String header(int requestId) {
+    StringBuilder header = new StringBuilder();
+    for (int i = 0; i < itemsToAdd; i++) {
+      if (i > 0) {
+        header.append(i % 3 == 0 ? ", " : ",");
+      }
+      switch (i % 5) {
+        case 0:
+          header.append("user.id").append(i).append("=usr_").append(1000 + i);
+          break;
+        case 1:
+          header.append("tenant.name").append(i).append("=Acme%20Corp%2C%20Inc.");
+          break;
+        case 2:
+          header.append("session.id").append(i).append("=").append(String.format("%032x", i));
+          break;
+        case 3:
+          header.append("feature.flags").append(i).append("=checkout-v2;propagate=false");
+          break;
+        default:
+          header.append("deployment.region").append(i).append(" = eu-west-1");
+          break;
+      }
+    }
+    if (requestId >= 0 && itemsToAdd > 0) {
+      header.append(",request.id=").append(requestId);
+    }
+    return header.toString();
+  }
+
   @Benchmark
   @BenchmarkMode({Mode.AverageTime})
   @Fork(1)
@@ -64,4 +134,26 @@ public class BaggageBenchmark {
     }
     return baggage;
   }
+
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public Context extractRepeatedHeader() {
+    return W3CBaggagePropagator.getInstance().extract(Context.root(), repeatedHeader, getter);
+  }
+
+  @Benchmark
+  @BenchmarkMode({Mode.AverageTime})
+  @Fork(1)
+  @Measurement(iterations = 15, time = 1)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  @Warmup(iterations = 5, time = 1)
+  public Context extractUniqueHeaders() {
+    String header = uniqueHeaders[uniqueHeaderIndex];
+    uniqueHeaderIndex = (uniqueHeaderIndex + 1) % UNIQUE_HEADERS;
+    return W3CBaggagePropagator.getInstance().extract(Context.root(), header, getter);
+  }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.baggage.propagation;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.baggage.BaggageBuilder;
+import io.opentelemetry.api.baggage.BaggageEntry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a fan-out service which receives baggage and trace state with each request and injects
+ * them into {@link #DOWNSTREAM_CALLS} downstream calls. Each invocation is one request, with new
+ * baggage and trace state instances. Without memoization the baggage and trace state are wrapped
+ * in forwarding implementations, so every injection encodes the headers again as before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 15, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FanOutInjectBenchmark {
+
+  private static final int DOWNSTREAM_CALLS = 20;
+  private static final TextMapSetter<Map<String, String>> setter = Map::put;
+
+  @Param({"true", "false"})
+  public boolean memoized;
+
+  private final Map<String, String> carrier = new HashMap<>();
+  private long requestId;
+
+  @Benchmark
+  public Map<String, String> request() {
+    requestId++;
+    Baggage baggage =
+        Baggage.builder()
+            .put("user.id", "usr_" + (requestId % 1000))
+            .put("tenant.name", "Acme Corp, Inc.")
+            .put("session.id", "2f4c1b7e9a0d4e3c8b6a5f1e0d9c8b7a")
+            .put("feature.flags", "checkout-v2,search-beta")
+            .put("deployment.region", "eu-west-1")
+            .build();
+    TraceState traceState =
+        TraceState.builder()
+            .put("congo", "t61rcWkgMzE")
+            .put("rojo", "00f067aa0ba902b7")
+            .put("vendor", "sampled:" + (requestId % 2))
+            .build();
+    if (!memoized) {
+      baggage = new ForwardingBaggage(baggage);
+      traceState = new ForwardingTraceState(traceState);
+    }
+    Context context =
+        Context.root()
+            .with(baggage)
+            .with(
+                Span.wrap(
+                    SpanContext.createFromRemoteParent(
+                        "905734c59b913b4a905734c59b913b4a",
+                        "9909983295041501",
+                        TraceFlags.getSampled(),
+                        traceState)));
+    for (int i = 0; i < DOWNSTREAM_CALLS; i++) {
+      carrier.clear();
+      W3CTraceContextPropagator.getInstance().inject(context, carrier, setter);
+      W3CBaggagePropagator.getInstance().inject(context, carrier, setter);
+    }
+    return carrier;
+  }
+
+  private static final class ForwardingBaggage implements Baggage {
+    private final Baggage delegate;
+
+    private ForwardingBaggage(Baggage delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super BaggageEntry> consumer) {
+      delegate.forEach(consumer);
+    }
+
+    @Override
+    public Map<String, BaggageEntry> asMap() {
+      return delegate.asMap();
+    }
+
+    @Nullable
+    @Override
+    public String getEntryValue(String entryKey) {
+      return delegate.getEntryValue(entryKey);
+    }
+
+    @Override
+    public BaggageBuilder toBuilder() {
+      return delegate.toBuilder();
+    }
+  }
+
+  private static final class ForwardingTraceState implements TraceState {
+    private final TraceState delegate;
+
+    private ForwardingTraceState(TraceState delegate) {
+      this.delegate = delegate;
+    }
+
+    @Nullable
+    @Override
+    public String get(String key) {
+      return delegate.get(key);
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return delegate.isEmpty();
+    }
+
+    @Override
+    public void forEach(BiConsumer<String, String> consumer) {
+      delegate.forEach(consumer);
+    }
+
+    @Override
+    public Map<String, String> asMap() {
+      return delegate.asMap();
+    }
+
+    @Override
+    public TraceStateBuilder toBuilder() {
+      return delegate.toBuilder();
+    }
+  }
+}
@@ -5,19 +5,24 @@
 
 package io.opentelemetry.api.baggage;
 
+import io.opentelemetry.api.internal.HeaderEncodable;
 import io.opentelemetry.api.internal.ImmutableKeyValuePairs;
+import io.opentelemetry.api.internal.MemoizedHeader;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
 final class ImmutableBaggage extends ImmutableKeyValuePairs<String, BaggageEntry>
-    implements Baggage {
+    implements Baggage, HeaderEncodable<Baggage> {
 
   private static final Baggage EMPTY = new ImmutableBaggage.Builder().build();
 
+  @Nullable private MemoizedHeader memoizedHeader;
+
   private ImmutableBaggage(Object[] data) {
     super(data, Comparator.naturalOrder());
   }
@@ -37,6 +42,13 @@ final class ImmutableBaggage extends ImmutableKeyValuePairs<String, BaggageEntry
     return entry != null ? entry.getValue() : null;
   }
 
+  @Override
+  public String getEncodedHeader(Function<? super Baggage, String> encoder) {
+    MemoizedHeader memoized = MemoizedHeader.get(memoizedHeader, this, encoder);
+    memoizedHeader = memoized;
+    return memoized.getHeader();
+  }
+
   @Override
   public BaggageBuilder toBuilder() {
     return new Builder(new ArrayList<>(data()));
@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.baggage.propagation;
+
+import io.opentelemetry.api.baggage.Baggage;
+import javax.annotation.Nullable;
+
+/**
+ * A small direct-mapped cache of the {@link Baggage} parsed from recently seen baggage headers.
+ * Services tend to receive the same few headers over and over, and as {@link Baggage} is immutable
+ * a header seen before can skip parsing entirely, at the cost of hashing and comparing it.
+ *
+ * <p>Entries are immutable and published through a plain array, so concurrent readers see either
+ * a complete entry or an older one, which only causes a miss.
+ */
+final class BaggageCache {
+
+  // Longer headers are unlikely to repeat exactly, e.g. as they carry per-request values.
+  static final int MAX_CACHED_HEADER_LENGTH = 1024;
+  private static final int DEFAULT_SIZE = 64;
+
+  private final Entry[] entries;
+
+  static BaggageCache create() {
+    return new BaggageCache(DEFAULT_SIZE);
+  }
+
+  /** Creates a cache with {@code size} entries, which must be a power of two. */
+  BaggageCache(int size) {
+    if (Integer.bitCount(size) != 1) {
+      throw new IllegalArgumentException("size must be a power of two");
+    }
+    entries = new Entry[size];
+  }
+
+  /** Returns the {@link Baggage} previously cached for {@code header}, or {@code null}. */
+  @Nullable
+  Baggage get(String header) {
+    if (header.length() > MAX_CACHED_HEADER_LENGTH) {
+      return null;
+    }
+    Entry entry = entries[index(header)];
+    if (entry != null && entry.header.equals(header)) {
+      return entry.baggage;
+    }
+    return null;
+  }
+
+  /** Caches {@code baggage} as parsed from {@code header}, replacing any entry in its slot. */
+  void put(String header, Baggage baggage) {
+    if (header.length() > MAX_CACHED_HEADER_LENGTH) {
+      return;
+    }
+    entries[index(header)] = new Entry(header, baggage);
+  }
+
+  private int index(String header) {
+    int hash = header.hashCode();
+    // Spread the higher bits, as the lower bits of similar strings' hashes tend to collide.
+    return (hash ^ (hash >>> 16)) & (entries.length - 1);
+  }
+
+  private static final class Entry {
+    private final String header;
+    private final Baggage baggage;
+
+    private Entry(String header, Baggage baggage) {
+      this.header = header;
+      this.baggage = baggage;
+    }
+  }
+}
@@ -71,6 +71,43 @@ class BaggageCodec {
     return new String(bytes, charset);
   }
 
+  /**
+   * Decodes the UTF-8 value between {@code start} (inclusive) and {@code end} (exclusive) of {@code
+   * header}, with the same result as {@code decode(header.substring(start, end), UTF_8)}. A value
+   * without escapes is returned as a substring without being copied to bytes and back, and escaped
+   * US-ASCII values are decoded without an intermediate substring.
+   */
+  static String decode(String header, int start, int end) {
+    boolean escaped = false;
+    for (int i = start; i < end; i++) {
+      char c = header.charAt(i);
+      if (c >= 128) {
+        // Non US-ASCII characters are replaced while encoding, keep the exact semantics for them.
+        return decode(header.substring(start, end), StandardCharsets.UTF_8);
+      }
+      escaped |= c == ESCAPE_CHAR;
+    }
+    if (!escaped) {
+      return header.substring(start, end);
+    }
+    byte[] bytes = new byte[end - start];
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      char c = header.charAt(i);
+      if (c == ESCAPE_CHAR) {
+        if (i + 2 >= end) {
+          throw new IllegalArgumentException("Invalid URL encoding: ");
+        }
+        int u = digit16((byte) header.charAt(++i));
+        int l = digit16((byte) header.charAt(++i));
+        bytes[length++] = (byte) ((u << 4) + l);
+      } else {
+        bytes[length++] = (byte) c;
+      }
+    }
+    return new String(bytes, 0, length, StandardCharsets.UTF_8);
+  }
+
   /**
    * Returns the numeric value of the character {@code b} in radix 16.
    *
@@ -37,7 +37,7 @@ class Element {
   private boolean trailingSpace;
   private int start;
   private int end;
-  @Nullable private String value;
+  private boolean hasValue;
 
   static Element createKeyElement() {
     return new Element(EXCLUDED_KEY_CHARS);
@@ -57,9 +57,29 @@ class Element {
     reset(0);
   }
 
+  /**
+   * Returns the element as a substring of {@code header}, or {@code null} if it was not terminated
+   * with content.
+   */
   @Nullable
-  String getValue() {
-    return value;
+  String getValue(String header) {
+    return hasValue ? header.substring(start, end) : null;
+  }
+
+  /**
+   * Returns whether the element was terminated with content, which spans from {@link #getStart()}
+   * to {@link #getEnd()}.
+   */
+  boolean hasValue() {
+    return hasValue;
+  }
+
+  int getStart() {
+    return start;
+  }
+
+  int getEnd() {
+    return end;
   }
 
   void reset(int start) {
@@ -67,15 +87,15 @@ class Element {
     leadingSpace = true;
     readingValue = false;
     trailingSpace = false;
-    value = null;
+    hasValue = false;
   }
 
-  boolean tryTerminating(int index, String header) {
+  boolean tryTerminating(int index) {
     if (this.readingValue) {
       markEnd(index);
     }
     if (this.trailingSpace) {
-      setValue(header);
+      hasValue = true;
       return true;
     } else {
       // leading spaces - no content, invalid
@@ -89,10 +109,6 @@ class Element {
     trailingSpace = true;
   }
 
-  private void setValue(String header) {
-    this.value = header.substring(this.start, this.end);
-  }
-
   boolean tryNextChar(char character, int index) {
     if (isWhitespace(character)) {
       return tryNextWhitespace(index);
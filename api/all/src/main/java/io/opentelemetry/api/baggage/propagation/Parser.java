@@ -7,8 +7,6 @@ package io.opentelemetry.api.baggage.propagation;
 
 import io.opentelemetry.api.baggage.BaggageBuilder;
 import io.opentelemetry.api.baggage.BaggageEntryMetadata;
-import java.nio.charset.StandardCharsets;
-import javax.annotation.Nullable;
 
 /**
  * Implements single-pass Baggage parsing in accordance with https://w3c.github.io/baggage/ Key /
@@ -30,7 +28,6 @@ class Parser {
 
   private final Element key = Element.createKeyElement();
   private final Element value = Element.createValueElement();
-  private String meta;
 
   private State state;
   private int metaStart;
@@ -57,7 +54,7 @@ class Parser {
         case '=':
           {
             if (state == State.KEY) {
-              if (key.tryTerminating(i, baggageHeader)) {
+              if (key.tryTerminating(i)) {
                 setState(State.VALUE, i + 1);
               } else {
                 skipToNext = true;
@@ -70,23 +67,24 @@ class Parser {
         case ';':
           {
             if (state == State.VALUE) {
-              skipToNext = !value.tryTerminating(i, baggageHeader);
+              skipToNext = !value.tryTerminating(i);
               setState(State.META, i + 1);
             }
             break;
           }
         case ',':
           {
+            int metaEnd = -1;
             switch (state) {
               case VALUE:
-                value.tryTerminating(i, baggageHeader);
+                value.tryTerminating(i);
                 break;
               case META:
-                meta = baggageHeader.substring(metaStart, i).trim();
+                metaEnd = i;
                 break;
               case KEY: // none
             }
-            putBaggage(baggageBuilder, key.getValue(), value.getValue(), meta);
+            putBaggage(baggageBuilder, metaEnd);
             reset(i + 1);
             break;
           }
@@ -110,43 +108,51 @@ class Parser {
         break;
       case META:
         {
-          String rest = baggageHeader.substring(metaStart).trim();
-          putBaggage(baggageBuilder, key.getValue(), value.getValue(), rest);
+          putBaggage(baggageBuilder, baggageHeader.length());
           break;
         }
       case VALUE:
         {
           if (!skipToNext) {
-            value.tryTerminating(baggageHeader.length(), baggageHeader);
-            putBaggage(baggageBuilder, key.getValue(), value.getValue(), null);
+            value.tryTerminating(baggageHeader.length());
+            putBaggage(baggageBuilder, -1);
             break;
           }
         }
     }
   }
 
-  private static void putBaggage(
-      BaggageBuilder baggage,
-      @Nullable String key,
-      @Nullable String value,
-      @Nullable String metadataValue) {
-    String decodedValue = decodeValue(value);
-    metadataValue = decodeValue(metadataValue);
-    BaggageEntryMetadata baggageEntryMetadata =
-        metadataValue != null
-            ? BaggageEntryMetadata.create(metadataValue)
-            : BaggageEntryMetadata.empty();
-    if (key != null && decodedValue != null) {
-      baggage.put(key, decodedValue, baggageEntryMetadata);
+  /**
+   * Adds the current element to {@code baggage} if it has both a key and a value. Values and
+   * metadata are decoded straight from the header, only allocating the resulting strings.
+   *
+   * @param metaEnd end of the metadata started at {@link #metaStart}, or -1 if there is none
+   */
+  private void putBaggage(BaggageBuilder baggage, int metaEnd) {
+    String decodedValue =
+        value.hasValue()
+            ? BaggageCodec.decode(baggageHeader, value.getStart(), value.getEnd())
+            : null;
+    BaggageEntryMetadata baggageEntryMetadata = BaggageEntryMetadata.empty();
+    if (metaEnd != -1) {
+      // Trim the metadata the same way as String.trim().
+      int start = metaStart;
+      int end = metaEnd;
+      while (start < end && baggageHeader.charAt(start) <= ' ') {
+        start++;
+      }
+      while (end > start && baggageHeader.charAt(end - 1) <= ' ') {
+        end--;
+      }
+      if (start < end) {
+        baggageEntryMetadata =
+            BaggageEntryMetadata.create(BaggageCodec.decode(baggageHeader, start, end));
+      }
     }
-  }
-
-  @Nullable
-  private static String decodeValue(@Nullable String value) {
-    if (value == null) {
-      return null;
+    String decodedKey = key.getValue(baggageHeader);
+    if (decodedKey != null && decodedValue != null) {
+      baggage.put(decodedKey, decodedValue, baggageEntryMetadata);
     }
-    return BaggageCodec.decode(value, StandardCharsets.UTF_8);
   }
 
   /**
@@ -159,7 +165,6 @@ class Parser {
     this.state = State.KEY;
     this.key.reset(index);
     this.value.reset(index);
-    this.meta = "";
     this.metaStart = 0;
   }
 
@@ -10,6 +10,7 @@ import static java.util.Collections.singletonList;
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.baggage.BaggageBuilder;
 import io.opentelemetry.api.baggage.BaggageEntry;
+import io.opentelemetry.api.internal.HeaderEncodable;
 import io.opentelemetry.api.internal.PercentEscaper;
 import io.opentelemetry.api.internal.StringUtils;
 import io.opentelemetry.context.Context;
@@ -18,6 +19,7 @@ import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 /**
@@ -29,6 +31,10 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
   private static final List<String> FIELDS = singletonList(FIELD);
   private static final W3CBaggagePropagator INSTANCE = new W3CBaggagePropagator();
   private static final PercentEscaper URL_ESCAPER = PercentEscaper.create();
+  private static final Function<Baggage, String> HEADER_ENCODER =
+      W3CBaggagePropagator::baggageToString;
+
+  private final BaggageCache cache = BaggageCache.create();
 
   /** Singleton instance of the W3C Baggage Propagator. */
   public static W3CBaggagePropagator getInstance() {
@@ -51,13 +57,22 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
     if (baggage.isEmpty()) {
       return;
     }
-    String headerContent = baggageToString(baggage);
+    String headerContent = encodeHeader(baggage);
 
     if (!headerContent.isEmpty()) {
       setter.set(carrier, FIELD, headerContent);
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static String encodeHeader(Baggage baggage) {
+    // The same baggage is typically injected into many requests, so encode it only once.
+    if (baggage instanceof HeaderEncodable) {
+      return ((HeaderEncodable<Baggage>) baggage).getEncodedHeader(HEADER_ENCODER);
+    }
+    return baggageToString(baggage);
+  }
+
   private static String baggageToString(Baggage baggage) {
     StringBuilder headerContent = new StringBuilder();
     baggage.forEach(
@@ -103,13 +118,18 @@ public final class W3CBaggagePropagator implements TextMapPropagator {
       return context;
     }
 
-    BaggageBuilder baggageBuilder = Baggage.builder();
-    try {
-      extractEntries(baggageHeader, baggageBuilder);
-    } catch (RuntimeException e) {
-      return context;
+    Baggage baggage = cache.get(baggageHeader);
+    if (baggage == null) {
+      BaggageBuilder baggageBuilder = Baggage.builder();
+      try {
+        extractEntries(baggageHeader, baggageBuilder);
+      } catch (RuntimeException e) {
+        return context;
+      }
+      baggage = baggageBuilder.build();
+      cache.put(baggageHeader, baggage);
     }
-    return context.with(baggageBuilder.build());
+    return context.with(baggage);
   }
 
   private static void extractEntries(String baggageHeader, BaggageBuilder baggageBuilder) {
@@ -0,0 +1,28 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import java.util.function.Function;
+
+/**
+ * An immutable propagated value, such as baggage or trace state, which memoizes the header it is
+ * encoded to. The same instance is typically injected into many outbound requests, so propagators
+ * encode it once instead of on every call.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * @param <T> the type of the value passed to encoders
+ */
+public interface HeaderEncodable<T> {
+
+  /**
+   * Returns the header {@code encoder} encodes this value to, only calling {@code encoder} if this
+   * value was last encoded by a different encoder. {@code encoder} must be a constant, and must
+   * return the same header each time it is called with the same value.
+   */
+  String getEncodedHeader(Function<? super T, String> encoder);
+}
@@ -106,11 +106,33 @@ public abstract class ImmutableKeyValuePairs<K, V> {
     if (data.length == 0) {
       return data;
     }
+    // Data which is already sorted, such as pairs copied from an existing instance or parsed from
+    // a header written in order, needs neither sorting nor deduping.
+    if (isSortedAndDistinct(data, keyComparator)) {
+      return data;
+    }
 
     mergeSort(data, keyComparator);
     return dedupe(data, keyComparator);
   }
 
+  /**
+   * Returns whether the keys in {@code data} are in strictly ascending order, with no {@code null}
+   * keys or values.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K> boolean isSortedAndDistinct(Object[] data, Comparator<K> keyComparator) {
+    for (int i = 0; i < data.length; i += 2) {
+      if (data[i] == null || data[i + 1] == null) {
+        return false;
+      }
+      if (i > 0 && keyComparator.compare((K) data[i - 2], (K) data[i]) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   // note: merge sort implementation cribbed from this wikipedia article:
   // https://en.wikipedia.org/wiki/Merge_sort (this is the top-down variant)
   private static void mergeSort(Object[] data, Comparator<?> keyComparator) {
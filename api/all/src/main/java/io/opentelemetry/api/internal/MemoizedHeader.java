@@ -0,0 +1,48 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.internal;
+
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A header memoized by a {@link HeaderEncodable}, with the encoder which produced it.
+ *
+ * <p>Implementations hold the latest instance in a plain field, like {@link String#hashCode()}
+ * does. As instances are immutable a racing thread sees either a complete instance or none, and at
+ * worst encodes the header again.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@Immutable
+public final class MemoizedHeader {
+
+  private final Object encoder;
+  private final String header;
+
+  /**
+   * Returns {@code memoized} if it was produced by {@code encoder}, or else a new instance holding
+   * the header {@code encoder} encodes {@code value} to.
+   */
+  public static <T> MemoizedHeader get(
+      @Nullable MemoizedHeader memoized, T value, Function<? super T, String> encoder) {
+    if (memoized != null && memoized.encoder == encoder) {
+      return memoized;
+    }
+    return new MemoizedHeader(encoder, encoder.apply(value));
+  }
+
+  private MemoizedHeader(Object encoder, String header) {
+    this.encoder = encoder;
+    this.header = header;
+  }
+
+  public String getHeader() {
+    return header;
+  }
+}
@@ -6,16 +6,22 @@
 package io.opentelemetry.api.trace;
 
 import com.google.auto.value.AutoValue;
+import io.opentelemetry.api.internal.HeaderEncodable;
+import io.opentelemetry.api.internal.MemoizedHeader;
 import io.opentelemetry.api.internal.ReadOnlyArrayMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
 @AutoValue
-abstract class ArrayBasedTraceState implements TraceState {
+abstract class ArrayBasedTraceState implements TraceState, HeaderEncodable<TraceState> {
+
+  // Not an AutoValue property, so not part of equals and hashCode.
+  @Nullable private MemoizedHeader memoizedHeader;
 
   @Override
   @Nullable
@@ -61,6 +67,13 @@ abstract class ArrayBasedTraceState implements TraceState {
 
   abstract List<String> getEntries();
 
+  @Override
+  public String getEncodedHeader(Function<? super TraceState, String> encoder) {
+    MemoizedHeader memoized = MemoizedHeader.get(memoizedHeader, this, encoder);
+    memoizedHeader = memoized;
+    return memoized.getHeader();
+  }
+
   @Override
   public TraceStateBuilder toBuilder() {
     return new ArrayBasedTraceStateBuilder(this);
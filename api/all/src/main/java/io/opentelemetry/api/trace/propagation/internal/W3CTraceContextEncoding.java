@@ -7,8 +7,10 @@ package io.opentelemetry.api.trace.propagation.internal;
 
 import static io.opentelemetry.api.internal.Utils.checkArgument;
 
+import io.opentelemetry.api.internal.HeaderEncodable;
 import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.TraceStateBuilder;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import javax.annotation.concurrent.Immutable;
 
@@ -31,6 +33,8 @@ public final class W3CTraceContextEncoding {
   private static final char TRACESTATE_ENTRY_DELIMITER = ',';
   private static final Pattern TRACESTATE_ENTRY_DELIMITER_SPLIT_PATTERN =
       Pattern.compile("[ \t]*" + TRACESTATE_ENTRY_DELIMITER + "[ \t]*");
+  private static final Function<TraceState, String> HEADER_ENCODER =
+      W3CTraceContextEncoding::encode;
 
   /**
    * Decodes a trace state header into a {@link TraceState} object.
@@ -59,8 +63,19 @@ public final class W3CTraceContextEncoding {
     return traceState;
   }
 
-  /** Return the trace state encoded as a string according to the W3C specification. */
+  /**
+   * Return the trace state encoded as a string according to the W3C specification. The encoding
+   * is memoized on trace states which support it, as they are typically encoded many times.
+   */
+  @SuppressWarnings("unchecked")
   public static String encodeTraceState(TraceState traceState) {
+    if (traceState instanceof HeaderEncodable) {
+      return ((HeaderEncodable<TraceState>) traceState).getEncodedHeader(HEADER_ENCODER);
+    }
+    return encode(traceState);
+  }
+
+  private static String encode(TraceState traceState) {
     if (traceState.isEmpty()) {
       return "";
     }
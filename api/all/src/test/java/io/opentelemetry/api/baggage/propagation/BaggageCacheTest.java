@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.baggage.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.baggage.Baggage;
+import org.junit.jupiter.api.Test;
+
+class BaggageCacheTest {
+
+  @Test
+  void create_InvalidSize() {
+    assertThatThrownBy(() -> new BaggageCache(3)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new BaggageCache(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void get_KeyedByEquality() {
+    BaggageCache cache = BaggageCache.create();
+    String header = "key=value";
+    Baggage baggage = Baggage.builder().put("key", "value").build();
+
+    assertThat(cache.get(header)).isNull();
+    cache.put(header, baggage);
+    assertThat(cache.get(new String(header.toCharArray()))).isSameAs(baggage);
+    assertThat(cache.get("key=other")).isNull();
+  }
+
+  @Test
+  void put_ReplacesSlot() {
+    BaggageCache cache = new BaggageCache(1);
+    Baggage first = Baggage.builder().put("a", "1").build();
+    Baggage second = Baggage.builder().put("b", "2").build();
+
+    cache.put("a=1", first);
+    cache.put("b=2", second);
+    assertThat(cache.get("a=1")).isNull();
+    assertThat(cache.get("b=2")).isSameAs(second);
+  }
+
+  @Test
+  void put_LongHeaderNotCached() {
+    BaggageCache cache = BaggageCache.create();
+    StringBuilder header = new StringBuilder("key=");
+    while (header.length() <= BaggageCache.MAX_CACHED_HEADER_LENGTH) {
+      header.append('v');
+    }
+
+    cache.put(header.toString(), Baggage.empty());
+    assertThat(cache.get(header.toString())).isNull();
+  }
+}
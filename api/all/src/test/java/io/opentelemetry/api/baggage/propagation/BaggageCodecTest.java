@@ -39,4 +39,23 @@ class BaggageCodecTest {
     assertThatThrownBy(() -> BaggageCodec.decode("%1", StandardCharsets.UTF_8))
         .isInstanceOf(IllegalArgumentException.class);
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      quoteCharacter = ';',
+      value = {"plain", "%41%42C", "%E2%88%86", "a%2Cb%3Bc", "café", "%", "%4", "%4G"})
+  void decodeRange_SameAsDecode(String value) {
+    String header = "key=" + value + ",next";
+    int start = 4;
+    int end = start + value.length();
+    String expected;
+    try {
+      expected = BaggageCodec.decode(value, StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      assertThatThrownBy(() -> BaggageCodec.decode(header, start, end))
+          .isInstanceOf(IllegalArgumentException.class);
+      return;
+    }
+    assertThat(BaggageCodec.decode(header, start, end)).isEqualTo(expected);
+  }
 }
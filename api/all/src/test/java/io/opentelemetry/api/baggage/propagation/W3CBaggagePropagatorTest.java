@@ -7,6 +7,7 @@ package io.opentelemetry.api.baggage.propagation;
 
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.google.common.collect.ImmutableMap;
 import io.opentelemetry.api.baggage.Baggage;
@@ -408,6 +409,29 @@ class W3CBaggagePropagatorTest {
     assertThat(Baggage.fromContext(result)).isEqualTo(expectedBaggage);
   }
 
+  @Test
+  void extract_repeatedHeader() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    String header = "user.id=1234,tenant=acme%20corp;ttl=60,region=eu-west-1";
+
+    Context first = propagator.extract(Context.root(), ImmutableMap.of("baggage", header), getter);
+    Context second =
+        propagator.extract(
+            Context.root(),
+            ImmutableMap.of("baggage", new String(header.toCharArray())),
+            getter);
+
+    Baggage expectedBaggage =
+        Baggage.builder()
+            .put("region", "eu-west-1")
+            .put("tenant", "acme corp", BaggageEntryMetadata.create("ttl=60"))
+            .put("user.id", "1234")
+            .build();
+    assertThat(Baggage.fromContext(first)).isEqualTo(expectedBaggage);
+    // Baggage is immutable, so the baggage parsed from an identical header is reused.
+    assertThat(Baggage.fromContext(second)).isSameAs(Baggage.fromContext(first));
+  }
+
   @Test
   void extract_nullContext() {
     assertThat(W3CBaggagePropagator.getInstance().extract(null, Collections.emptyMap(), getter))
@@ -460,6 +484,22 @@ class W3CBaggagePropagatorTest {
                 "meta=meta-value;somemetadata%3B%20someother%3Dfoo,needsEncoding=blah%20blah%20blah,nometa=nometa-value"));
   }
 
+  @Test
+  void inject_memoized() {
+    Baggage baggage = Baggage.builder().put("user.id", "1234").put("tenant", "acme corp").build();
+    Context context = Context.root().with(baggage);
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    Map<String, String> first = new HashMap<>();
+    Map<String, String> second = new HashMap<>();
+
+    propagator.inject(context, first, Map::put);
+    propagator.inject(context, second, Map::put);
+
+    assertThat(first).containsExactly(entry("baggage", "tenant=acme%20corp,user.id=1234"));
+    // The header is encoded once per baggage instance.
+    assertThat(second.get("baggage")).isSameAs(first.get("baggage"));
+  }
+
   @Test
   void inject_nullContext() {
     Map<String, String> carrier = new LinkedHashMap<>();
@@ -119,6 +119,26 @@ class W3CTraceContextPropagatorTest {
         .containsExactly(entry(W3CTraceContextPropagator.TRACE_PARENT, TRACEPARENT_HEADER_SAMPLED));
   }
 
+  @Test
+  void inject_SampledContext_WithTraceState_Memoized() {
+    Context context =
+        withSpanContext(
+            SpanContext.create(
+                TRACE_ID_BASE16, SPAN_ID_BASE16, TraceFlags.getSampled(), TRACE_STATE),
+            Context.current());
+    Map<String, String> first = new LinkedHashMap<>();
+    Map<String, String> second = new LinkedHashMap<>();
+
+    w3cTraceContextPropagator.inject(context, first, setter);
+    w3cTraceContextPropagator.inject(context, second, setter);
+
+    assertThat(first)
+        .containsEntry(W3CTraceContextPropagator.TRACE_STATE, TRACESTATE_NOT_DEFAULT_ENCODING);
+    // The header is encoded once per trace state instance.
+    assertThat(second.get(W3CTraceContextPropagator.TRACE_STATE))
+        .isSameAs(first.get(W3CTraceContextPropagator.TRACE_STATE));
+  }
+
   @Test
   void inject_NotSampledContext() {
     Map<String, String> carrier = new LinkedHashMap<>();
@@ -6,6 +6,7 @@
 package io.opentelemetry.api.incubator.logs;
 
 import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
 
 /** Extended {@link Logger} with experimental APIs. */
 public interface ExtendedLogger extends Logger {
@@ -20,4 +21,15 @@ public interface ExtendedLogger extends Logger {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns {@code true} if the logger is enabled for log records with the given {@code severity}.
+   *
+   * <p>This allows log appenders to skip building records which would be dropped, such as those
+   * below a configured minimum severity. As with {@link #isEnabled()}, callers should call this
+   * before each call to {@link #logRecordBuilder()}.
+   */
+  default boolean isEnabled(Severity severity) {
+    return isEnabled();
+  }
 }
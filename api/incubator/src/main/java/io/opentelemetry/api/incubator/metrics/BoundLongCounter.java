@@ -0,0 +1,41 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.context.Context;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link LongCounter} whose {@link Attributes} are fixed at the time it is obtained from {@link
+ * ExtendedLongCounter#bind(Attributes)}.
+ *
+ * <p>Implementations may pre-resolve the state associated with the bound attributes, making
+ * recording cheaper than calling {@link LongCounter#add(long, Attributes)} with the same
+ * attributes each time.
+ */
+@ThreadSafe
+public interface BoundLongCounter {
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * <p>Note: This may use {@code Context.current()} to pull the context associated with this
+   * measurement.
+   *
+   * @param value The increment amount. MUST be non-negative.
+   */
+  void add(long value);
+
+  /**
+   * Records a value with the bound attributes.
+   *
+   * @param value The increment amount. MUST be non-negative.
+   * @param context The explicit context to associate with this measurement.
+   */
+  void add(long value, Context context);
+}
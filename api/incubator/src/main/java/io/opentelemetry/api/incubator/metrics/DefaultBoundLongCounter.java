@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.api.incubator.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.context.Context;
+
+/** {@link BoundLongCounter} which delegates to {@link LongCounter#add(long, Attributes)}. */
+final class DefaultBoundLongCounter implements BoundLongCounter {
+
+  private final LongCounter counter;
+  private final Attributes attributes;
+
+  DefaultBoundLongCounter(LongCounter counter, Attributes attributes) {
+    this.counter = counter;
+    this.attributes = attributes;
+  }
+
+  @Override
+  public void add(long value) {
+    counter.add(value, attributes);
+  }
+
+  @Override
+  public void add(long value, Context context) {
+    counter.add(value, attributes, context);
+  }
+}
@@ -24,4 +24,18 @@ public interface ExtendedLongCounter extends LongCounter {
   default boolean isEnabled() {
     return true;
   }
+
+  /**
+   * Returns a {@link BoundLongCounter} which records measurements with the given {@code
+   * attributes}.
+   *
+   * <p>This is intended for hot paths where the attribute set is known ahead of time. SDKs may
+   * resolve the state associated with {@code attributes} once, instead of on each call to {@link
+   * #add(long, Attributes)}. Callers should retain and reuse the returned handle.
+   *
+   * @param attributes the attributes to associate with all measurements recorded with the handle.
+   */
+  default BoundLongCounter bind(Attributes attributes) {
+    return new DefaultBoundLongCounter(this, attributes);
+  }
 }
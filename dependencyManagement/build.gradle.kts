@@ -55,6 +55,7 @@ val DEPENDENCIES = listOf(
   "io.prometheus:simpleclient_common:${prometheusClientVersion}",
   "io.prometheus:simpleclient_httpserver:${prometheusClientVersion}",
   "javax.annotation:javax.annotation-api:1.3.2",
+  "com.github.luben:zstd-jni:1.5.6-5",
   "com.github.stefanbirkner:system-rules:1.19.0",
   "com.google.api.grpc:proto-google-common-protos:2.43.0",
   "com.google.code.findbugs:jsr305:3.0.2",
@@ -79,6 +80,7 @@ val DEPENDENCIES = listOf(
   "org.codehaus.mojo:animal-sniffer-annotations:1.24",
   "org.jctools:jctools-core:4.0.5",
   "org.junit-pioneer:junit-pioneer:1.9.1",
+  "org.lz4:lz4-java:1.8.0",
   "org.mock-server:mockserver-netty:5.15.0:shaded",
   "org.skyscreamer:jsonassert:1.5.3",
   "com.android.tools:desugar_jdk_libs:2.0.4",
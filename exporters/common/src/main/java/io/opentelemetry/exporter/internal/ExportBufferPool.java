@@ -0,0 +1,153 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import io.opentelemetry.api.internal.ConfigUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of byte arrays used to hold serialized export requests between exports.
+ *
+ * <p>Buffers are bucketed into power-of-two size classes between 4 KiB and 16 MiB. The total number
+ * of bytes retained by the pool is capped, by default at 8 MiB. Buffers released while the pool is
+ * full, and requests larger than the largest size class, are left to the garbage collector.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExportBufferPool {
+
+  static final int MIN_BUFFER_SIZE = 1 << 12;
+  static final int MAX_BUFFER_SIZE = 1 << 24;
+
+  private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+  private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE);
+
+  private static final long DEFAULT_MAX_POOLED_BYTES;
+
+  static {
+    long maxPooledBytes = 8L * 1024 * 1024;
+    try {
+      String maxPooledBytesConfig =
+          ConfigUtil.getString("otel.experimental.exporter.buffer-pool.max-bytes", "");
+      if (!maxPooledBytesConfig.isEmpty()) {
+        maxPooledBytes = Long.parseLong(maxPooledBytesConfig);
+      }
+    } catch (Throwable t) {
+      // Ignore.
+    }
+    DEFAULT_MAX_POOLED_BYTES = maxPooledBytes;
+  }
+
+  private final long maxPooledBytes;
+  private final List<Queue<byte[]>> sizeClasses;
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private ExportBufferPool(long maxPooledBytes) {
+    this.maxPooledBytes = maxPooledBytes;
+    List<Queue<byte[]>> sizeClasses = new ArrayList<>(MAX_SHIFT - MIN_SHIFT + 1);
+    for (int shift = MIN_SHIFT; shift <= MAX_SHIFT; shift++) {
+      sizeClasses.add(new ConcurrentLinkedQueue<>());
+    }
+    this.sizeClasses = sizeClasses;
+  }
+
+  /** Returns a new {@link ExportBufferPool} with the default cap on pooled bytes. */
+  public static ExportBufferPool create() {
+    return new ExportBufferPool(DEFAULT_MAX_POOLED_BYTES);
+  }
+
+  /** Returns a new {@link ExportBufferPool} retaining at most {@code maxPooledBytes} bytes. */
+  public static ExportBufferPool create(long maxPooledBytes) {
+    if (maxPooledBytes < 0) {
+      throw new IllegalArgumentException("maxPooledBytes must be non-negative");
+    }
+    return new ExportBufferPool(maxPooledBytes);
+  }
+
+  /**
+   * Returns a buffer with a length of at least {@code minCapacity}. The buffer may contain stale
+   * data from a previous export. Callers should return it with {@link #release(byte[])} once its
+   * contents are no longer needed.
+   */
+  public byte[] acquire(int minCapacity) {
+    if (minCapacity > MAX_BUFFER_SIZE) {
+      misses.increment();
+      return new byte[minCapacity];
+    }
+    int shift = shiftFor(minCapacity);
+    byte[] buffer = sizeClasses.get(shift - MIN_SHIFT).poll();
+    if (buffer == null) {
+      misses.increment();
+      return new byte[1 << shift];
+    }
+    pooledBytes.addAndGet(-buffer.length);
+    hits.increment();
+    return buffer;
+  }
+
+  /**
+   * Returns {@code buffer} to the pool. Buffers not obtained from {@link #acquire(int)}, or
+   * released while the pool is at capacity, are dropped.
+   */
+  public void release(byte[] buffer) {
+    int length = buffer.length;
+    if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE || Integer.bitCount(length) != 1) {
+      return;
+    }
+    long current;
+    do {
+      current = pooledBytes.get();
+      if (current + length > maxPooledBytes) {
+        return;
+      }
+    } while (!pooledBytes.compareAndSet(current, current + length));
+    sizeClasses.get(Integer.numberOfTrailingZeros(length) - MIN_SHIFT).offer(buffer);
+  }
+
+  /** Returns the number of {@link #acquire(int)} calls served from the pool. */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /** Returns the number of {@link #acquire(int)} calls which had to allocate a new buffer. */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /** Returns the number of bytes currently retained by the pool. */
+  public long getPooledBytes() {
+    return pooledBytes.get();
+  }
+
+  private static int shiftFor(int minCapacity) {
+    if (minCapacity <= MIN_BUFFER_SIZE) {
+      return MIN_SHIFT;
+    }
+    return 32 - Integer.numberOfLeadingZeros(minCapacity - 1);
+  }
+
+  @Override
+  public String toString() {
+    return "ExportBufferPool{"
+        + "maxPooledBytes="
+        + maxPooledBytes
+        + ", pooledBytes="
+        + getPooledBytes()
+        + ", hits="
+        + getHits()
+        + ", misses="
+        + getMisses()
+        + "}";
+  }
+}
@@ -13,6 +13,7 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -40,6 +41,9 @@ public class ExporterMetrics {
   /** Access via {@link #exported()} . */
   @Nullable private volatile LongCounter exported;
 
+  @Nullable private volatile ExportBufferPool bufferPool;
+  private final AtomicBoolean bufferPoolMetricsRegistered = new AtomicBoolean();
+
   private ExporterMetrics(
       Supplier<MeterProvider> meterProviderSupplier,
       String exporterName,
@@ -53,6 +57,14 @@ public class ExporterMetrics {
     this.failedAttrs = this.seenAttrs.toBuilder().put(ATTRIBUTE_KEY_SUCCESS, false).build();
   }
 
+  /**
+   * Report hits and misses of the {@link ExportBufferPool} used by the exporter's sender. The
+   * instruments are registered along with the other exporter instruments on first use.
+   */
+  public void setBufferPool(ExportBufferPool bufferPool) {
+    this.bufferPool = bufferPool;
+  }
+
   /** Record number of records seen. */
   public void addSeen(long value) {
     seen().add(value, seenAttrs);
@@ -71,7 +83,9 @@ public class ExporterMetrics {
   private LongCounter seen() {
     LongCounter seen = this.seen;
     if (seen == null) {
-      seen = meter().counterBuilder(exporterName + ".exporter.seen").build();
+      Meter meter = meter();
+      seen = meter.counterBuilder(exporterName + ".exporter.seen").build();
+      registerBufferPoolMetrics(meter);
       this.seen = seen;
     }
     return seen;
@@ -86,6 +100,19 @@ public class ExporterMetrics {
     return exported;
   }
 
+  private void registerBufferPoolMetrics(Meter meter) {
+    ExportBufferPool bufferPool = this.bufferPool;
+    if (bufferPool == null || !bufferPoolMetricsRegistered.compareAndSet(false, true)) {
+      return;
+    }
+    meter
+        .counterBuilder(exporterName + ".exporter.buffer_pool.hits")
+        .buildWithCallback(measurement -> measurement.record(bufferPool.getHits(), seenAttrs));
+    meter
+        .counterBuilder(exporterName + ".exporter.buffer_pool.misses")
+        .buildWithCallback(measurement -> measurement.record(bufferPool.getMisses(), seenAttrs));
+  }
+
   private Meter meter() {
     return meterProviderSupplier
         .get()
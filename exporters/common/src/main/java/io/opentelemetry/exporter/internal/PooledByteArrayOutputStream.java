@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} which writes into buffers borrowed from an {@link ExportBufferPool}.
+ * Growing the stream borrows a larger buffer and returns the previous one to the pool.
+ *
+ * <p>{@link #close()} does nothing, so the stream can be safely wrapped by compressing streams
+ * which close their delegate. Call {@link #release()} to return the buffer to the pool once the
+ * written bytes are no longer referenced.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class PooledByteArrayOutputStream extends OutputStream {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final ExportBufferPool pool;
+  private byte[] buf;
+  private int count;
+
+  /**
+   * Creates a stream backed by a buffer from {@code pool} large enough for {@code
+   * initialCapacity} bytes.
+   */
+  public PooledByteArrayOutputStream(ExportBufferPool pool, int initialCapacity) {
+    this.pool = pool;
+    this.buf = pool.acquire(initialCapacity);
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(count + 1);
+    buf[count] = (byte) b;
+    count++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+    ensureCapacity(count + len);
+    System.arraycopy(b, off, buf, count, len);
+    count += len;
+  }
+
+  /** Returns the backing buffer. Only the first {@link #size()} bytes are valid. */
+  public byte[] buf() {
+    return buf;
+  }
+
+  /** Returns the number of bytes written. */
+  public int size() {
+    return count;
+  }
+
+  /** Discards the written bytes, keeping the current buffer. */
+  public void reset() {
+    count = 0;
+  }
+
+  /** Returns the backing buffer to the pool. The stream must not be used afterwards. */
+  public void release() {
+    byte[] buf = this.buf;
+    this.buf = EMPTY;
+    count = 0;
+    if (buf != EMPTY) {
+      pool.release(buf);
+    }
+  }
+
+  @Override
+  public void close() {
+    // Retain the buffer until release() is called.
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity < 0) {
+      throw new OutOfMemoryError("Required buffer size too large");
+    }
+    if (minCapacity <= buf.length) {
+      return;
+    }
+    int newCapacity = Math.max(minCapacity, buf.length << 1);
+    if (newCapacity < 0) {
+      newCapacity = minCapacity;
+    }
+    byte[] newBuf = pool.acquire(newCapacity);
+    System.arraycopy(buf, 0, newBuf, 0, count);
+    byte[] oldBuf = buf;
+    buf = newBuf;
+    if (oldBuf != EMPTY) {
+      pool.release(oldBuf);
+    }
+  }
+}
@@ -54,6 +54,16 @@ public final class CompressorUtil {
     }
     // Hardcode gzip compressor
     compressors.put(GzipCompressor.getInstance().getEncoding(), GzipCompressor.getInstance());
+    // zstd and lz4 depend on optional libraries, and may be overridden by SPI compressors, e.g. to
+    // use a different compression level
+    if (ZstdCompressor.isAvailable()) {
+      compressors.putIfAbsent(
+          ZstdCompressor.getInstance().getEncoding(), ZstdCompressor.getInstance());
+    }
+    if (Lz4Compressor.isAvailable()) {
+      compressors.putIfAbsent(
+          Lz4Compressor.getInstance().getEncoding(), Lz4Compressor.getInstance());
+    }
     return compressors;
   }
 }
@@ -5,26 +5,83 @@
 
 package io.opentelemetry.exporter.internal.compression;
 
+import io.opentelemetry.api.internal.ConfigUtil;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
  * Gzip {@link Compressor}.
  *
+ * <p>Unlike {@link java.util.zip.GZIPOutputStream}, which allocates a new native {@link Deflater}
+ * per stream and relies on the garbage collector to release it, {@link Deflater}s and their
+ * buffers are pooled and reset between streams. The gzip header and trailer are written directly.
+ * The compression level of {@link #getInstance()} defaults to {@link Deflater#DEFAULT_COMPRESSION}
+ * and can be overridden with {@code otel.experimental.exporter.compression.gzip.level}.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
 public final class GzipCompressor implements Compressor {
 
-  private static final GzipCompressor INSTANCE = new GzipCompressor();
+  // Bounds the native memory retained by idle deflaters, roughly 256KB each.
+  static final int MAX_POOLED_DEFLATERS = 8;
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  private static final GzipCompressor INSTANCE = new GzipCompressor(configuredLevel());
+
+  private final int level;
+  private final Queue<DeflaterState> pool = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledCount = new AtomicInteger();
 
-  private GzipCompressor() {}
+  private GzipCompressor(int level) {
+    this.level = level;
+  }
 
   public static GzipCompressor getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * Returns a {@link GzipCompressor} using the given compression {@code level}, between {@link
+   * Deflater#BEST_SPEED} and {@link Deflater#BEST_COMPRESSION}, or {@link
+   * Deflater#DEFAULT_COMPRESSION}.
+   */
+  public static GzipCompressor create(int level) {
+    if ((level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION)
+        && level != Deflater.DEFAULT_COMPRESSION) {
+      throw new IllegalArgumentException("Invalid compression level: " + level);
+    }
+    return new GzipCompressor(level);
+  }
+
+  private static int configuredLevel() {
+    try {
+      String levelConfig =
+          ConfigUtil.getString("otel.experimental.exporter.compression.gzip.level", "");
+      if (!levelConfig.isEmpty()) {
+        int level = Integer.parseInt(levelConfig);
+        if (level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION) {
+          return level;
+        }
+      }
+    } catch (Throwable t) {
+      // Ignore.
+    }
+    return Deflater.DEFAULT_COMPRESSION;
+  }
+
+  /** Returns the compression level. */
+  public int getLevel() {
+    return level;
+  }
+
   @Override
   public String getEncoding() {
     return "gzip";
@@ -32,6 +89,144 @@ public final class GzipCompressor implements Compressor {
 
   @Override
   public OutputStream compress(OutputStream outputStream) throws IOException {
-    return new GZIPOutputStream(outputStream);
+    return new GzipOutputStream(this, outputStream, acquire());
+  }
+
+  // Visible for testing
+  int getPooledCount() {
+    return pooledCount.get();
+  }
+
+  private DeflaterState acquire() {
+    DeflaterState state = pool.poll();
+    if (state == null) {
+      return new DeflaterState(level);
+    }
+    pooledCount.decrementAndGet();
+    return state;
+  }
+
+  private void release(DeflaterState state) {
+    if (pooledCount.incrementAndGet() > MAX_POOLED_DEFLATERS) {
+      pooledCount.decrementAndGet();
+      state.deflater.end();
+      return;
+    }
+    state.deflater.reset();
+    state.crc.reset();
+    pool.offer(state);
+  }
+
+  private static final class DeflaterState {
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private final byte[] singleByte = new byte[1];
+
+    private DeflaterState(int level) {
+      // nowrap, the gzip header and trailer are written by GzipOutputStream
+      this.deflater = new Deflater(level, /* nowrap= */ true);
+    }
+  }
+
+  private static final class GzipOutputStream extends FilterOutputStream {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final byte OS_UNKNOWN = (byte) 255;
+
+    private final GzipCompressor compressor;
+    private final DeflaterState state;
+    private boolean closed;
+
+    private GzipOutputStream(GzipCompressor compressor, OutputStream out, DeflaterState state)
+        throws IOException {
+      super(out);
+      this.compressor = compressor;
+      this.state = state;
+      writeHeader();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      state.singleByte[0] = (byte) b;
+      write(state.singleByte, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+      if (off < 0 || len < 0 || len > b.length - off) {
+        throw new IndexOutOfBoundsException();
+      }
+      if (len == 0) {
+        return;
+      }
+      state.crc.update(b, off, len);
+      Deflater deflater = state.deflater;
+      deflater.setInput(b, off, len);
+      while (!deflater.needsInput()) {
+        deflate();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      try {
+        Deflater deflater = state.deflater;
+        deflater.finish();
+        while (!deflater.finished()) {
+          deflate();
+        }
+        writeTrailer();
+      } finally {
+        // The state must not be touched once released, it may be in use by another stream
+        compressor.release(state);
+        out.close();
+      }
+    }
+
+    private void deflate() throws IOException {
+      byte[] buf = state.buf;
+      int len = state.deflater.deflate(buf, 0, buf.length);
+      if (len > 0) {
+        out.write(buf, 0, len);
+      }
+    }
+
+    private void writeHeader() throws IOException {
+      byte[] buf = state.buf;
+      buf[0] = (byte) GZIP_MAGIC;
+      buf[1] = (byte) (GZIP_MAGIC >> 8);
+      buf[2] = Deflater.DEFLATED;
+      // No flags, modification time or extra flags
+      for (int i = 3; i < 9; i++) {
+        buf[i] = 0;
+      }
+      buf[9] = OS_UNKNOWN;
+      out.write(buf, 0, 10);
+    }
+
+    private void writeTrailer() throws IOException {
+      byte[] buf = state.buf;
+      writeIntLe((int) state.crc.getValue(), buf, 0);
+      writeIntLe((int) state.deflater.getBytesRead(), buf, 4);
+      out.write(buf, 0, 8);
+    }
+
+    private static void writeIntLe(int value, byte[] buf, int offset) {
+      buf[offset] = (byte) value;
+      buf[offset + 1] = (byte) (value >> 8);
+      buf[offset + 2] = (byte) (value >> 16);
+      buf[offset + 3] = (byte) (value >> 24);
+    }
   }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static io.opentelemetry.api.internal.Utils.checkArgument;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.util.Native;
+import io.opentelemetry.api.internal.ConfigUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Zstandard {@link Compressor}, backed by {@code com.github.luben:zstd-jni}. Only registered when
+ * zstd-jni and its native library are available at runtime.
+ *
+ * <p>Each compressed stream buffers its input and compresses it as a single frame when closed.
+ * Native compression contexts, with the level already set, are pooled and reused across requests
+ * along with their buffers. The compression level of {@link #getInstance()} defaults to {@value
+ * #DEFAULT_LEVEL} and can be overridden with {@code
+ * otel.experimental.exporter.compression.zstd.level}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ZstdCompressor implements Compressor {
+
+  static final int DEFAULT_LEVEL = 3;
+
+  private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+  // Larger buffers are released after use rather than kept in the pool.
+  private static final int MAX_POOLED_BUFFER_SIZE = 4 * 1024 * 1024;
+
+  private final int level;
+  private final Queue<PooledContext> contexts = new ConcurrentLinkedQueue<>();
+
+  private ZstdCompressor(int level) {
+    this.level = level;
+  }
+
+  /** Returns the {@link ZstdCompressor} using the configured compression level. */
+  public static ZstdCompressor getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  /**
+   * Returns a {@link ZstdCompressor} using the given compression {@code level}.
+   *
+   * @throws IllegalArgumentException if {@code level} is not supported by the zstd library.
+   */
+  public static ZstdCompressor create(int level) {
+    checkArgument(
+        isValidLevel(level),
+        "zstd compression level must be between "
+            + Zstd.minCompressionLevel()
+            + " and "
+            + Zstd.maxCompressionLevel()
+            + ", was "
+            + level);
+    return new ZstdCompressor(level);
+  }
+
+  /** Returns whether zstd-jni and its native library can be loaded. */
+  public static boolean isAvailable() {
+    try {
+      Class.forName(
+          "com.github.luben.zstd.ZstdCompressCtx", false, ZstdCompressor.class.getClassLoader());
+      Native.load();
+      return true;
+    } catch (Throwable t) {
+      return false;
+    }
+  }
+
+  private static boolean isValidLevel(int level) {
+    return level >= Zstd.minCompressionLevel() && level <= Zstd.maxCompressionLevel();
+  }
+
+  private static int configuredLevel() {
+    try {
+      String levelConfig =
+          ConfigUtil.getString("otel.experimental.exporter.compression.zstd.level", "");
+      if (!levelConfig.isEmpty()) {
+        int level = Integer.parseInt(levelConfig);
+        if (isValidLevel(level)) {
+          return level;
+        }
+      }
+    } catch (Throwable t) {
+      // Ignore.
+    }
+    return DEFAULT_LEVEL;
+  }
+
+  /** Returns the compression level. */
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  public String getEncoding() {
+    return "zstd";
+  }
+
+  @Override
+  public OutputStream compress(OutputStream outputStream) throws IOException {
+    PooledContext context = contexts.poll();
+    if (context == null) {
+      context = new PooledContext(level);
+    }
+    return new CompressingOutputStream(outputStream, context);
+  }
+
+  private void release(PooledContext context) {
+    if (context.src.length > MAX_POOLED_BUFFER_SIZE) {
+      context.src = new byte[INITIAL_BUFFER_SIZE];
+    }
+    if (context.dst.length > MAX_POOLED_BUFFER_SIZE) {
+      context.dst = new byte[0];
+    }
+    contexts.offer(context);
+  }
+
+  /** A native compression context with the level set, and the buffers used with it. */
+  private static final class PooledContext {
+
+    private final ZstdCompressCtx ctx;
+    private byte[] src = new byte[INITIAL_BUFFER_SIZE];
+    private byte[] dst = new byte[0];
+
+    private PooledContext(int level) {
+      this.ctx = new ZstdCompressCtx().setLevel(level);
+    }
+  }
+
+  /**
+   * Buffers the uncompressed bytes, and writes them to the underlying stream as one compressed
+   * frame on {@link #close()}.
+   */
+  private final class CompressingOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    @Nullable private PooledContext context;
+    private int size;
+
+    private CompressingOutputStream(OutputStream out, PooledContext context) {
+      this.out = out;
+      this.context = context;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      PooledContext context = ensureCapacity(size + 1);
+      context.src[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      PooledContext context = ensureCapacity(size + len);
+      System.arraycopy(b, off, context.src, size, len);
+      size += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      PooledContext context = this.context;
+      if (context == null) {
+        return;
+      }
+      this.context = null;
+      try {
+        int bound = (int) Zstd.compressBound(size);
+        if (context.dst.length < bound) {
+          context.dst = new byte[bound];
+        }
+        int compressedSize =
+            context.ctx.compressByteArray(context.dst, 0, context.dst.length, context.src, 0, size);
+        out.write(context.dst, 0, compressedSize);
+      } finally {
+        release(context);
+        out.close();
+      }
+    }
+
+    private PooledContext ensureCapacity(int capacity) throws IOException {
+      PooledContext context = this.context;
+      if (context == null) {
+        throw new IOException("Stream closed");
+      }
+      if (capacity < 0) {
+        throw new OutOfMemoryError("Required buffer size too large");
+      }
+      if (capacity > context.src.length) {
+        context.src = Arrays.copyOf(context.src, Math.max(capacity, 2 * context.src.length));
+      }
+      return context;
+    }
+  }
+
+  // Initialized on first use, so that loading this class to call isAvailable() does not require
+  // the native library.
+  private static final class InstanceHolder {
+    private static final ZstdCompressor INSTANCE = new ZstdCompressor(configuredLevel());
+  }
+}
@@ -10,6 +10,7 @@ import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STAT
 import static io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil.GRPC_STATUS_UNKNOWN;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.ExportBufferPool;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
 import io.opentelemetry.exporter.internal.FailedExportException;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
@@ -49,6 +50,10 @@ public final class GrpcExporter<T extends Marshaler> {
     this.type = type;
     this.grpcSender = grpcSender;
     this.exporterMetrics = ExporterMetrics.createGrpc(exporterName, type, meterProviderSupplier);
+    ExportBufferPool bufferPool = grpcSender.getBufferPool();
+    if (bufferPool != null) {
+      exporterMetrics.setBufferPool(bufferPool);
+    }
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -5,9 +5,11 @@
 
 package io.opentelemetry.exporter.internal.grpc;
 
+import io.opentelemetry.exporter.internal.ExportBufferPool;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 
 /**
  * An exporter of a messages encoded by {@link Marshaler} using the gRPC wire format.
@@ -21,4 +23,13 @@ public interface GrpcSender<T extends Marshaler> {
 
   /** Shutdown the sender. */
   CompletableResultCode shutdown();
+
+  /**
+   * Returns the {@link ExportBufferPool} request messages are serialized into, or {@code null} if
+   * the sender does not pool buffers.
+   */
+  @Nullable
+  default ExportBufferPool getBufferPool() {
+    return null;
+  }
 }
@@ -6,6 +6,7 @@
 package io.opentelemetry.exporter.internal.http;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.exporter.internal.ExportBufferPool;
 import io.opentelemetry.exporter.internal.ExporterMetrics;
 import io.opentelemetry.exporter.internal.FailedExportException;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
@@ -49,6 +50,10 @@ public final class HttpExporter<T extends Marshaler> {
         exportAsJson
             ? ExporterMetrics.createHttpJson(exporterName, type, meterProviderSupplier)
             : ExporterMetrics.createHttpProtobuf(exporterName, type, meterProviderSupplier);
+    ExportBufferPool bufferPool = httpSender.getBufferPool();
+    if (bufferPool != null) {
+      exporterMetrics.setBufferPool(bufferPool);
+    }
   }
 
   public CompletableResultCode export(T exportRequest, int numItems) {
@@ -5,10 +5,12 @@
 
 package io.opentelemetry.exporter.internal.http;
 
+import io.opentelemetry.exporter.internal.ExportBufferPool;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import java.io.IOException;
 import java.util.function.Consumer;
+import javax.annotation.Nullable;
 
 /**
  * An abstraction for sending HTTP requests and handling responses.
@@ -41,6 +43,15 @@ public interface HttpSender {
   /** Shutdown the sender. */
   CompletableResultCode shutdown();
 
+  /**
+   * Returns the {@link ExportBufferPool} request bodies are serialized into, or {@code null} if the
+   * sender does not pool buffers.
+   */
+  @Nullable
+  default ExportBufferPool getBufferPool() {
+    return null;
+  }
+
   /** The HTTP response. */
   interface Response {
 
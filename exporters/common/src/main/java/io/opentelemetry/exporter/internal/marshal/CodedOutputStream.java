@@ -44,6 +44,9 @@ import static io.opentelemetry.exporter.internal.marshal.WireFormat.MAX_VARINT_S
 import io.opentelemetry.api.internal.ConfigUtil;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * Protobuf wire encoder.
@@ -56,7 +59,7 @@ import java.io.OutputStream;
 //
 // Differences
 // - No support for Message/Lite
-// - No support for ByteString or ByteBuffer
+// - No support for ByteString
 // - No support for message set extensions
 // - No support for Unsafe
 // - No support for Java String, only UTF-8 bytes
@@ -103,6 +106,17 @@ public abstract class CodedOutputStream {
     return cos;
   }
 
+  /**
+   * Create a new {@code CodedOutputStream} writing directly into the given {@code ByteBuffer},
+   * which may be direct, starting at its position. The position of {@code buffer} is advanced past
+   * the written bytes on {@link #flush()}. Writing more bytes than remain in {@code buffer} fails
+   * with an {@link IOException}.
+   */
+  static CodedOutputStream newInstance(final ByteBuffer buffer) {
+    // Not thread local, the encoder would otherwise retain the last buffer written to.
+    return new ByteBufferEncoder(buffer);
+  }
+
   // Disallow construction outside of this class.
   private CodedOutputStream() {}
 
@@ -582,4 +596,115 @@ public abstract class CodedOutputStream {
       position = 0;
     }
   }
+
+  /**
+   * A {@link CodedOutputStream} that writes directly to a {@link ByteBuffer}, without an
+   * intermediate heap buffer.
+   */
+  private static final class ByteBufferEncoder extends CodedOutputStream {
+    private final ByteBuffer originalBuffer;
+    // A little endian view of originalBuffer, for writing fixed width values.
+    private final ByteBuffer buffer;
+
+    ByteBufferEncoder(ByteBuffer buffer) {
+      this.originalBuffer = buffer;
+      this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Override
+    void writeByteArrayNoTag(final byte[] value, int offset, int length) throws IOException {
+      writeUInt32NoTag(length);
+      write(value, offset, length);
+    }
+
+    @Override
+    void write(byte value) throws IOException {
+      try {
+        buffer.put(value);
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void writeInt32NoTag(int value) throws IOException {
+      if (value >= 0) {
+        writeUInt32NoTag(value);
+      } else {
+        // Must sign-extend.
+        writeUInt64NoTag(value);
+      }
+    }
+
+    @Override
+    void writeUInt32NoTag(int value) throws IOException {
+      try {
+        while (true) {
+          if ((value & ~0x7F) == 0) {
+            buffer.put((byte) value);
+            return;
+          } else {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+          }
+        }
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void writeFixed32NoTag(final int value) throws IOException {
+      try {
+        buffer.putInt(value);
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void writeUInt64NoTag(long value) throws IOException {
+      try {
+        while (true) {
+          if ((value & ~0x7FL) == 0) {
+            buffer.put((byte) value);
+            return;
+          } else {
+            buffer.put((byte) (((int) value & 0x7F) | 0x80));
+            value >>>= 7;
+          }
+        }
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void writeFixed64NoTag(final long value) throws IOException {
+      try {
+        buffer.putLong(value);
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void write(byte[] value, int offset, int length) throws IOException {
+      try {
+        buffer.put(value, offset, length);
+      } catch (BufferOverflowException e) {
+        throw outOfSpace(e);
+      }
+    }
+
+    @Override
+    void flush() {
+      originalBuffer.position(buffer.position());
+    }
+
+    private static IOException outOfSpace(BufferOverflowException e) {
+      return new IOException(
+          "CodedOutputStream was writing to a ByteBuffer and ran out of space", e);
+    }
+  }
 }
@@ -8,6 +8,7 @@ package io.opentelemetry.exporter.internal.marshal;
 import com.fasterxml.jackson.core.JsonGenerator;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Marshaler from an SDK structure to protobuf wire format.
@@ -24,8 +25,25 @@ public abstract class Marshaler {
     }
   }
 
+  /**
+   * Marshals into the {@link ByteBuffer} in proto binary format, starting at its position and
+   * advancing the position past the written bytes. The buffer, which may be direct, must have at
+   * least {@link #getBinarySerializedSize()} bytes remaining.
+   */
+  public final void writeBinaryTo(ByteBuffer output) throws IOException {
+    try (Serializer serializer = new ProtoSerializer(output)) {
+      writeTo(serializer);
+    }
+  }
+
   /** Marshals into the {@link OutputStream} in proto JSON format. */
   public final void writeJsonTo(OutputStream output) throws IOException {
+    if (MarshalerUtil.STREAMING_JSON) {
+      try (StreamingJsonSerializer serializer = new StreamingJsonSerializer(output)) {
+        serializer.writeMessageValue(this);
+      }
+      return;
+    }
     try (JsonSerializer serializer = new JsonSerializer(output)) {
       serializer.writeMessageValue(this);
     }
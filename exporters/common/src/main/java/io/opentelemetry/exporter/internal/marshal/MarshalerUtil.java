@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import io.opentelemetry.api.internal.ConfigUtil;
 import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
@@ -34,7 +35,9 @@ public final class MarshalerUtil {
   private static final int SPAN_ID_VALUE_SIZE =
       CodedOutputStream.computeLengthDelimitedFieldSize(SpanId.getLength() / 2);
 
-  private static final boolean JSON_AVAILABLE;
+  // Whether to write JSON with StreamingJsonSerializer instead of Jackson. Used when Jackson is not
+  // available, or when enabled with otel.experimental.otlp.streaming-json.enabled.
+  static final boolean STREAMING_JSON;
 
   static {
     boolean jsonAvailable = false;
@@ -44,7 +47,15 @@ public final class MarshalerUtil {
     } catch (ClassNotFoundException e) {
       // Not available
     }
-    JSON_AVAILABLE = jsonAvailable;
+    boolean streamingJsonEnabled = false;
+    try {
+      streamingJsonEnabled =
+          Boolean.parseBoolean(
+              ConfigUtil.getString("otel.experimental.otlp.streaming-json.enabled", "false"));
+    } catch (Throwable t) {
+      // Ignore.
+    }
+    STREAMING_JSON = !jsonAvailable || streamingJsonEnabled;
   }
 
   private static final byte[] EMPTY_BYTES = new byte[0];
@@ -72,10 +83,6 @@ public final class MarshalerUtil {
 
   /** Preserialize into JSON format. */
   public static String preserializeJsonFields(Marshaler marshaler) {
-    if (!MarshalerUtil.JSON_AVAILABLE) {
-      return "";
-    }
-
     ByteArrayOutputStream jsonBos = new ByteArrayOutputStream();
     try {
       marshaler.writeJsonTo(jsonBos);
@@ -380,5 +387,17 @@ public final class MarshalerUtil {
     return value.getBytes(StandardCharsets.UTF_8);
   }
 
+  /**
+   * Converts a string expected to repeat across exports, such as a name or attribute key, to utf8
+   * bytes for encoding, using {@link Utf8Cache}. The returned array must not be modified.
+   */
+  public static byte[] toCachedBytes(@Nullable String value) {
+    if (value == null || value.isEmpty()) {
+      return EMPTY_BYTES;
+    }
+    byte[] valueUtf8 = Utf8Cache.getInstance().get(value);
+    return valueUtf8 != null ? valueUtf8 : value.getBytes(StandardCharsets.UTF_8);
+  }
+
   private MarshalerUtil() {}
 }
@@ -6,6 +6,8 @@
 package io.opentelemetry.exporter.internal.marshal;
 
 import com.google.auto.value.AutoValue;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
 
 /**
  * Information about a field in a proto definition.
@@ -16,6 +18,10 @@ import com.google.auto.value.AutoValue;
 @AutoValue
 public abstract class ProtoFieldInfo {
 
+  // Lazily computed, racing threads compute equal values. Held through a final field so that the
+  // array contents are visible to threads which read the reference without synchronization.
+  @Nullable private JsonFieldName jsonFieldName;
+
   public static ProtoFieldInfo create(int fieldNumber, int tag, String jsonName) {
     return new AutoValue_ProtoFieldInfo(
         fieldNumber, tag, CodedOutputStream.computeTagSize(fieldNumber), jsonName);
@@ -28,4 +34,23 @@ public abstract class ProtoFieldInfo {
   public abstract int getTagSize();
 
   public abstract String getJsonName();
+
+  /** Returns the UTF-8 encoded JSON name, quoted and followed by a colon, e.g. {@code "name":}. */
+  final byte[] getJsonFieldName() {
+    JsonFieldName jsonFieldName = this.jsonFieldName;
+    if (jsonFieldName == null) {
+      jsonFieldName =
+          new JsonFieldName(('"' + getJsonName() + "\":").getBytes(StandardCharsets.UTF_8));
+      this.jsonFieldName = jsonFieldName;
+    }
+    return jsonFieldName.bytes;
+  }
+
+  private static final class JsonFieldName {
+    private final byte[] bytes;
+
+    private JsonFieldName(byte[] bytes) {
+      this.bytes = bytes;
+    }
+  }
 }
@@ -10,6 +10,7 @@ import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.TraceId;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,11 @@ final class ProtoSerializer extends Serializer implements AutoCloseable {
     idCache = getIdCache();
   }
 
+  ProtoSerializer(ByteBuffer output) {
+    this.output = CodedOutputStream.newInstance(output);
+    idCache = getIdCache();
+  }
+
   @Override
   protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
     byte[] traceIdBytes =
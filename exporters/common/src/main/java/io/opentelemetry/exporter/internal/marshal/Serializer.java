@@ -238,6 +238,23 @@ public abstract class Serializer implements AutoCloseable {
     }
   }
 
+  /**
+   * Serializes a protobuf {@code string} field sized with {@link
+   * StatelessMarshalerUtil#sizeCachedStringWithContext(ProtoFieldInfo, String, MarshalerContext)}.
+   */
+  public void serializeCachedStringWithContext(
+      ProtoFieldInfo field, @Nullable String string, MarshalerContext context) throws IOException {
+    if (string == null || string.isEmpty()) {
+      return;
+    }
+    byte[] valueUtf8 = context.getData(byte[].class);
+    if (valueUtf8 == null) {
+      serializeStringWithContext(field, string, context);
+    } else {
+      writeString(field, valueUtf8);
+    }
+  }
+
   /** Writes a protobuf {@code string} field, even if it matches the default value. */
   public abstract void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException;
 
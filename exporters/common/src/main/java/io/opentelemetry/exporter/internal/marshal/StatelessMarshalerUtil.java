@@ -105,6 +105,25 @@ public final class StatelessMarshalerUtil {
     }
   }
 
+  /**
+   * Returns the size of a string field whose value is expected to repeat across exports, such as a
+   * name or attribute key, encoding it through {@link Utf8Cache}. Must be paired with {@link
+   * Serializer#serializeCachedStringWithContext(ProtoFieldInfo, String, MarshalerContext)}.
+   */
+  public static int sizeCachedStringWithContext(
+      ProtoFieldInfo field, @Nullable String value, MarshalerContext context) {
+    if (value == null || value.isEmpty()) {
+      return sizeBytes(field, 0);
+    }
+    byte[] valueUtf8 = Utf8Cache.getInstance().get(value);
+    // Null tells the serializer the string was not cached.
+    context.addData(valueUtf8);
+    if (valueUtf8 == null) {
+      return sizeStringWithContext(field, value, context);
+    }
+    return sizeBytes(field, valueUtf8.length);
+  }
+
   /** Returns the size of a bytes field. */
   private static int sizeBytes(ProtoFieldInfo field, int length) {
     if (length == 0) {
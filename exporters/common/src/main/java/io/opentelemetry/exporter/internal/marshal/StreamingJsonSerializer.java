@@ -0,0 +1,541 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A {@link Serializer} writing proto JSON directly to an {@link OutputStream} without Jackson. It
+ * writes the same output as {@link JsonSerializer}: field names come pre-encoded from {@link
+ * ProtoFieldInfo}, numbers are formatted into the buffer without intermediate strings, and strings
+ * and bytes are escaped or base64 encoded in place.
+ */
+final class StreamingJsonSerializer extends Serializer {
+
+  private static final int BUFFER_SIZE = 8192;
+  // Longest output for a single char: a \\uXXXX escape.
+  private static final int MAX_CHAR_SIZE = 6;
+  private static final byte[] MIN_LONG = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+  private static final int MAX_LONG_SIZE = MIN_LONG.length;
+
+  private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+  private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+  private static final byte[] HEX = {
+    '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'
+  };
+  private static final byte[] BASE64 =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+          .getBytes(StandardCharsets.US_ASCII);
+
+  // Buffers are reused by the next serializer on the same thread once closed.
+  private static final ThreadLocal<byte[]> THREAD_LOCAL_BUFFER = new ThreadLocal<>();
+
+  private final OutputStream output;
+  private final byte[] buffer;
+  private int position;
+  // Whether a value was written in the current object or array, so the next needs a comma.
+  private boolean needsComma;
+
+  StreamingJsonSerializer(OutputStream output) {
+    this.output = output;
+    byte[] buffer = THREAD_LOCAL_BUFFER.get();
+    if (buffer == null) {
+      buffer = new byte[BUFFER_SIZE];
+    } else {
+      THREAD_LOCAL_BUFFER.set(null);
+    }
+    this.buffer = buffer;
+  }
+
+  @Override
+  protected void writeTraceId(ProtoFieldInfo field, String traceId) throws IOException {
+    writeFieldName(field);
+    writeQuotedAscii(traceId);
+  }
+
+  @Override
+  protected void writeSpanId(ProtoFieldInfo field, String spanId) throws IOException {
+    writeFieldName(field);
+    writeQuotedAscii(spanId);
+  }
+
+  @Override
+  public void writeBool(ProtoFieldInfo field, boolean value) throws IOException {
+    writeFieldName(field);
+    writeRaw(value ? TRUE : FALSE);
+  }
+
+  @Override
+  protected void writeEnum(ProtoFieldInfo field, ProtoEnumInfo enumValue) throws IOException {
+    writeFieldName(field);
+    writeLong(enumValue.getEnumNumber());
+  }
+
+  @Override
+  protected void writeUint32(ProtoFieldInfo field, int value) throws IOException {
+    writeFieldName(field);
+    writeLong(value);
+  }
+
+  @Override
+  protected void writeSInt32(ProtoFieldInfo field, int value) throws IOException {
+    writeFieldName(field);
+    writeLong(value);
+  }
+
+  @Override
+  protected void writeint32(ProtoFieldInfo field, int value) throws IOException {
+    writeFieldName(field);
+    writeLong(value);
+  }
+
+  @Override
+  public void writeInt64(ProtoFieldInfo field, long value) throws IOException {
+    writeFieldName(field);
+    writeQuotedLong(value);
+  }
+
+  @Override
+  protected void writeFixed64(ProtoFieldInfo field, long value) throws IOException {
+    writeFieldName(field);
+    writeQuotedLong(value);
+  }
+
+  @Override
+  protected void writeFixed64Value(long value) throws IOException {
+    writeComma();
+    writeQuotedLong(value);
+  }
+
+  @Override
+  protected void writeUInt64Value(long value) throws IOException {
+    writeComma();
+    writeQuotedLong(value);
+  }
+
+  @Override
+  public void writeUInt64(ProtoFieldInfo field, long value) throws IOException {
+    writeFieldName(field);
+    writeQuotedLong(value);
+  }
+
+  @Override
+  protected void writeFixed32(ProtoFieldInfo field, int value) throws IOException {
+    writeFieldName(field);
+    writeLong(value);
+  }
+
+  @Override
+  public void writeDouble(ProtoFieldInfo field, double value) throws IOException {
+    writeFieldName(field);
+    writeDouble(value);
+  }
+
+  @Override
+  protected void writeDoubleValue(double value) throws IOException {
+    writeComma();
+    writeDouble(value);
+  }
+
+  @Override
+  public void writeString(ProtoFieldInfo field, byte[] utf8Bytes) throws IOException {
+    writeFieldName(field);
+    writeByte('"');
+    int start = 0;
+    for (int i = 0; i < utf8Bytes.length; i++) {
+      int b = utf8Bytes[i] & 0xff;
+      if (b < 0x20 || b == '"' || b == '\\') {
+        writeRaw(utf8Bytes, start, i - start);
+        ensureCapacity(MAX_CHAR_SIZE);
+        writeEscaped(b);
+        start = i + 1;
+      } else if (b >= 0xf0 && i + 3 < utf8Bytes.length) {
+        // A supplementary character, escaped as a surrogate pair like Jackson does. Other
+        // multi-byte sequences are copied as is.
+        int codePoint =
+            ((b & 0x07) << 18)
+                | ((utf8Bytes[i + 1] & 0x3f) << 12)
+                | ((utf8Bytes[i + 2] & 0x3f) << 6)
+                | (utf8Bytes[i + 3] & 0x3f);
+        writeRaw(utf8Bytes, start, i - start);
+        ensureCapacity(2 * MAX_CHAR_SIZE);
+        writeUnicodeEscape(Character.highSurrogate(codePoint));
+        writeUnicodeEscape(Character.lowSurrogate(codePoint));
+        i += 3;
+        start = i + 1;
+      }
+    }
+    writeRaw(utf8Bytes, start, utf8Bytes.length - start);
+    writeByte('"');
+  }
+
+  @Override
+  public void writeString(
+      ProtoFieldInfo field, String string, int utf8Length, MarshalerContext context)
+      throws IOException {
+    writeFieldName(field);
+    writeByte('"');
+    writeUtf8(string, /* escape= */ true);
+    writeByte('"');
+  }
+
+  @Override
+  public void writeBytes(ProtoFieldInfo field, byte[] value) throws IOException {
+    writeFieldName(field);
+    writeByte('"');
+    int i = 0;
+    for (; i + 3 <= value.length; i += 3) {
+      ensureCapacity(4);
+      int bits = ((value[i] & 0xff) << 16) | ((value[i + 1] & 0xff) << 8) | (value[i + 2] & 0xff);
+      buffer[position++] = BASE64[bits >>> 18];
+      buffer[position++] = BASE64[(bits >>> 12) & 0x3f];
+      buffer[position++] = BASE64[(bits >>> 6) & 0x3f];
+      buffer[position++] = BASE64[bits & 0x3f];
+    }
+    int remaining = value.length - i;
+    if (remaining > 0) {
+      ensureCapacity(4);
+      int bits = ((value[i] & 0xff) << 16) | (remaining == 2 ? (value[i + 1] & 0xff) << 8 : 0);
+      buffer[position++] = BASE64[bits >>> 18];
+      buffer[position++] = BASE64[(bits >>> 12) & 0x3f];
+      buffer[position++] = remaining == 2 ? BASE64[(bits >>> 6) & 0x3f] : (byte) '=';
+      buffer[position++] = '=';
+    }
+    writeByte('"');
+  }
+
+  @Override
+  protected void writeStartMessage(ProtoFieldInfo field, int protoMessageSize) throws IOException {
+    writeFieldName(field);
+    writeStartObject();
+  }
+
+  @Override
+  protected void writeEndMessage() throws IOException {
+    writeEndObject();
+  }
+
+  @Override
+  protected void writeStartRepeatedPrimitive(
+      ProtoFieldInfo field, int protoSizePerElement, int numElements) throws IOException {
+    writeStartArray(field);
+  }
+
+  @Override
+  protected void writeEndRepeatedPrimitive() throws IOException {
+    writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeatedVarint(ProtoFieldInfo field, int payloadSize)
+      throws IOException {
+    writeStartArray(field);
+  }
+
+  @Override
+  protected void writeEndRepeatedVarint() throws IOException {
+    writeEndArray();
+  }
+
+  @Override
+  public void serializeRepeatedMessage(ProtoFieldInfo field, Marshaler[] repeatedMessage)
+      throws IOException {
+    writeStartArray(field);
+    for (Marshaler marshaler : repeatedMessage) {
+      writeMessageValue(marshaler);
+    }
+    writeEndArray();
+  }
+
+  @Override
+  public void serializeRepeatedMessage(
+      ProtoFieldInfo field, List<? extends Marshaler> repeatedMessage) throws IOException {
+    writeStartArray(field);
+    for (Marshaler marshaler : repeatedMessage) {
+      writeMessageValue(marshaler);
+    }
+    writeEndArray();
+  }
+
+  @Override
+  public <T> void serializeRepeatedMessageWithContext(
+      ProtoFieldInfo field,
+      List<? extends T> messages,
+      StatelessMarshaler<T> marshaler,
+      MarshalerContext context)
+      throws IOException {
+    writeStartArray(field);
+    for (int i = 0; i < messages.size(); i++) {
+      T message = messages.get(i);
+      writeComma();
+      writeStartObject();
+      marshaler.writeTo(this, message, context);
+      writeEndObject();
+    }
+    writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeated(ProtoFieldInfo field) throws IOException {
+    writeStartArray(field);
+  }
+
+  @Override
+  protected void writeEndRepeated() throws IOException {
+    writeEndArray();
+  }
+
+  @Override
+  protected void writeStartRepeatedElement(ProtoFieldInfo field, int protoMessageSize)
+      throws IOException {
+    writeComma();
+    writeStartObject();
+  }
+
+  @Override
+  protected void writeEndRepeatedElement() throws IOException {
+    writeEndObject();
+  }
+
+  // Not a field.
+  void writeMessageValue(Marshaler message) throws IOException {
+    writeComma();
+    writeStartObject();
+    message.writeTo(this);
+    writeEndObject();
+  }
+
+  @Override
+  public void writeSerializedMessage(byte[] protoSerialized, String jsonSerialized)
+      throws IOException {
+    if (jsonSerialized.isEmpty()) {
+      return;
+    }
+    writeComma();
+    writeUtf8(jsonSerialized, /* escape= */ false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      flushBuffer();
+      output.close();
+    } finally {
+      THREAD_LOCAL_BUFFER.set(buffer);
+    }
+  }
+
+  private void writeFieldName(ProtoFieldInfo field) throws IOException {
+    writeComma();
+    writeRaw(field.getJsonFieldName());
+  }
+
+  private void writeComma() throws IOException {
+    if (needsComma) {
+      writeByte(',');
+    }
+    needsComma = true;
+  }
+
+  private void writeStartObject() throws IOException {
+    writeByte('{');
+    needsComma = false;
+  }
+
+  private void writeEndObject() throws IOException {
+    writeByte('}');
+    needsComma = true;
+  }
+
+  private void writeStartArray(ProtoFieldInfo field) throws IOException {
+    writeFieldName(field);
+    writeByte('[');
+    needsComma = false;
+  }
+
+  private void writeEndArray() throws IOException {
+    writeByte(']');
+    needsComma = true;
+  }
+
+  // Only for strings known to be short ASCII, such as hex IDs.
+  private void writeQuotedAscii(String value) throws IOException {
+    ensureCapacity(value.length() + 2);
+    buffer[position++] = '"';
+    for (int i = 0; i < value.length(); i++) {
+      buffer[position++] = (byte) value.charAt(i);
+    }
+    buffer[position++] = '"';
+  }
+
+  private void writeQuotedLong(long value) throws IOException {
+    ensureCapacity(MAX_LONG_SIZE + 2);
+    buffer[position++] = '"';
+    writeDigits(value);
+    buffer[position++] = '"';
+  }
+
+  private void writeLong(long value) throws IOException {
+    ensureCapacity(MAX_LONG_SIZE);
+    writeDigits(value);
+  }
+
+  private void writeDigits(long value) {
+    if (value == Long.MIN_VALUE) {
+      System.arraycopy(MIN_LONG, 0, buffer, position, MIN_LONG.length);
+      position += MIN_LONG.length;
+      return;
+    }
+    if (value < 0) {
+      buffer[position++] = '-';
+      value = -value;
+    }
+    int length = 1;
+    for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+      length++;
+    }
+    for (int i = position + length - 1; i >= position; i--) {
+      buffer[i] = (byte) ('0' + (value % 10));
+      value /= 10;
+    }
+    position += length;
+  }
+
+  private void writeDouble(double value) throws IOException {
+    // Matches Jackson, which quotes NaN and infinities as they are not valid JSON numbers.
+    String string = Double.toString(value);
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      writeQuotedAscii(string);
+      return;
+    }
+    ensureCapacity(string.length());
+    for (int i = 0; i < string.length(); i++) {
+      buffer[position++] = (byte) string.charAt(i);
+    }
+  }
+
+  private void writeUtf8(String string, boolean escape) throws IOException {
+    int limit = buffer.length - MAX_CHAR_SIZE;
+    for (int i = 0; i < string.length(); i++) {
+      if (position > limit) {
+        flushBuffer();
+      }
+      char c = string.charAt(i);
+      if (c < 0x80) {
+        if (escape && (c < 0x20 || c == '"' || c == '\\')) {
+          writeEscaped(c);
+        } else {
+          buffer[position++] = (byte) c;
+        }
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xc0 | (c >>> 6));
+        buffer[position++] = (byte) (0x80 | (c & 0x3f));
+      } else if (!Character.isSurrogate(c)) {
+        buffer[position++] = (byte) (0xe0 | (c >>> 12));
+        buffer[position++] = (byte) (0x80 | ((c >>> 6) & 0x3f));
+        buffer[position++] = (byte) (0x80 | (c & 0x3f));
+      } else if (escape) {
+        // Matches Jackson, which escapes supplementary characters as surrogate pairs.
+        writeUnicodeEscape(c);
+      } else {
+        int codePoint = Character.codePointAt(string, i);
+        if (codePoint == c) {
+          // Unpaired surrogate, replaced like the protobuf serializer does.
+          buffer[position++] = '?';
+          continue;
+        }
+        buffer[position++] = (byte) (0xf0 | (codePoint >>> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3f));
+        buffer[position++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3f));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+        i++;
+      }
+    }
+  }
+
+  // Requires MAX_CHAR_SIZE bytes of capacity.
+  private void writeEscaped(int c) {
+    byte shortEscape;
+    switch (c) {
+      case '"':
+      case '\\':
+        shortEscape = (byte) c;
+        break;
+      case '\b':
+        shortEscape = 'b';
+        break;
+      case '\t':
+        shortEscape = 't';
+        break;
+      case '\n':
+        shortEscape = 'n';
+        break;
+      case '\f':
+        shortEscape = 'f';
+        break;
+      case '\r':
+        shortEscape = 'r';
+        break;
+      default:
+        writeUnicodeEscape(c);
+        return;
+    }
+    buffer[position++] = '\\';
+    buffer[position++] = shortEscape;
+  }
+
+  // Requires MAX_CHAR_SIZE bytes of capacity.
+  private void writeUnicodeEscape(int c) {
+    buffer[position++] = '\\';
+    buffer[position++] = 'u';
+    buffer[position++] = HEX[(c >>> 12) & 0xf];
+    buffer[position++] = HEX[(c >>> 8) & 0xf];
+    buffer[position++] = HEX[(c >>> 4) & 0xf];
+    buffer[position++] = HEX[c & 0xf];
+  }
+
+  private void writeByte(char b) throws IOException {
+    ensureCapacity(1);
+    buffer[position++] = (byte) b;
+  }
+
+  private void writeRaw(byte[] bytes) throws IOException {
+    writeRaw(bytes, 0, bytes.length);
+  }
+
+  private void writeRaw(byte[] bytes, int offset, int length) throws IOException {
+    if (length == 0) {
+      return;
+    }
+    if (length > buffer.length - position) {
+      flushBuffer();
+      if (length > buffer.length) {
+        output.write(bytes, offset, length);
+        return;
+      }
+    }
+    System.arraycopy(bytes, offset, buffer, position, length);
+    position += length;
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (length > buffer.length - position) {
+      flushBuffer();
+    }
+  }
+
+  private void flushBuffer() throws IOException {
+    if (position > 0) {
+      // Reset first so a failed write is not retried when closing.
+      int length = position;
+      position = 0;
+      output.write(buffer, 0, length);
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import io.opentelemetry.api.internal.ConfigUtil;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+
+/**
+ * A bounded cache of the UTF-8 encoding of strings which repeat across exports, such as span
+ * names, metric names and attribute keys, keyed by string identity.
+ *
+ * <p>The cache is direct mapped on the identity hash code of the string, so a lookup is a single
+ * array read and reference comparison, and a string replaces whichever string occupied its slot.
+ * A string is only encoded and cached when it is seen twice in a row for its slot, so that a stream
+ * of unique strings, such as high cardinality attribute values, costs a slot write per string
+ * instead of an encoding and allocation. Strings longer than {@link #MAX_CACHED_LENGTH} are never
+ * cached. The number of slots defaults to 4096 and can be configured with {@code
+ * otel.experimental.otlp.utf8-cache.size}, where 0 disables the cache.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class Utf8Cache {
+
+  static final int MAX_CACHED_LENGTH = 128;
+
+  private static final Utf8Cache INSTANCE;
+
+  static {
+    int size = 4096;
+    try {
+      String sizeConfig = ConfigUtil.getString("otel.experimental.otlp.utf8-cache.size", "");
+      if (!sizeConfig.isEmpty()) {
+        size = Integer.parseInt(sizeConfig);
+      }
+    } catch (Throwable t) {
+      // Ignore.
+    }
+    INSTANCE = create(Math.max(0, Math.min(size, 1 << 30)));
+  }
+
+  // Entries only have final fields, so they are safely published through the racy arrays.
+  private final Entry[] entries;
+  // Strings seen once for their slot, which are cached if seen again.
+  private final String[] candidates;
+  private final int mask;
+
+  private Utf8Cache(int size) {
+    entries = new Entry[size];
+    candidates = new String[size];
+    mask = size - 1;
+  }
+
+  /** Returns the cache shared by the OTLP marshalers. */
+  public static Utf8Cache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a new {@link Utf8Cache} with {@code size} slots, rounded up to a power of two. A size
+   * of zero returns a cache which never caches.
+   */
+  public static Utf8Cache create(int size) {
+    if (size < 0 || size > 1 << 30) {
+      throw new IllegalArgumentException("size must be in range [0, 2^30]");
+    }
+    int slots = size == 0 ? 0 : 1;
+    while (slots < size) {
+      slots <<= 1;
+    }
+    return new Utf8Cache(slots);
+  }
+
+  /**
+   * Returns the UTF-8 encoding of {@code value} if it is cached, caching it if this is the second
+   * time in a row it is seen for its slot. Returns {@code null} if {@code value} is not cached, in
+   * which case the caller should encode it itself. The returned array must not be modified.
+   */
+  @Nullable
+  @SuppressWarnings("ReferenceEquality") // Keyed by identity
+  public byte[] get(String value) {
+    if (entries.length == 0 || value.length() > MAX_CACHED_LENGTH) {
+      return null;
+    }
+    int slot = System.identityHashCode(value) & mask;
+    Entry entry = entries[slot];
+    if (entry != null && entry.value == value) {
+      return entry.utf8;
+    }
+    if (candidates[slot] != value) {
+      candidates[slot] = value;
+      return null;
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    entries[slot] = new Entry(value, utf8);
+    candidates[slot] = null;
+    return utf8;
+  }
+
+  // Visible for testing
+  int size() {
+    return entries.length;
+  }
+
+  private static final class Entry {
+    private final String value;
+    private final byte[] utf8;
+
+    private Entry(String value, byte[] utf8) {
+      this.value = value;
+      this.utf8 = utf8;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class ExportBufferPoolTest {
+
+  @Test
+  void create_InvalidMaxPooledBytes() {
+    assertThatThrownBy(() -> ExportBufferPool.create(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxPooledBytes must be non-negative");
+  }
+
+  @Test
+  void acquire_RoundsUpToSizeClass() {
+    ExportBufferPool pool = ExportBufferPool.create(1024 * 1024);
+
+    assertThat(pool.acquire(0)).hasSize(ExportBufferPool.MIN_BUFFER_SIZE);
+    assertThat(pool.acquire(ExportBufferPool.MIN_BUFFER_SIZE)).hasSize(4096);
+    assertThat(pool.acquire(4097)).hasSize(8192);
+    assertThat(pool.acquire(100_000)).hasSize(131072);
+    assertThat(pool.acquire(ExportBufferPool.MAX_BUFFER_SIZE + 1))
+        .hasSize(ExportBufferPool.MAX_BUFFER_SIZE + 1);
+    assertThat(pool.getMisses()).isEqualTo(5);
+    assertThat(pool.getHits()).isEqualTo(0);
+  }
+
+  @Test
+  void release_ReusedBySameSizeClass() {
+    ExportBufferPool pool = ExportBufferPool.create(1024 * 1024);
+
+    byte[] buffer = pool.acquire(5000);
+    pool.release(buffer);
+    assertThat(pool.getPooledBytes()).isEqualTo(8192);
+
+    assertThat(pool.acquire(4096)).isNotSameAs(buffer);
+    assertThat(pool.acquire(6000)).isSameAs(buffer);
+    assertThat(pool.getPooledBytes()).isEqualTo(0);
+    assertThat(pool.getHits()).isEqualTo(1);
+    assertThat(pool.getMisses()).isEqualTo(2);
+  }
+
+  @Test
+  void release_DropsForeignBuffers() {
+    ExportBufferPool pool = ExportBufferPool.create(1024 * 1024);
+
+    pool.release(new byte[10]);
+    pool.release(new byte[5000]);
+    pool.release(new byte[ExportBufferPool.MAX_BUFFER_SIZE * 2]);
+
+    assertThat(pool.getPooledBytes()).isEqualTo(0);
+  }
+
+  @Test
+  void release_CappedInBytes() {
+    ExportBufferPool pool = ExportBufferPool.create(3 * 4096);
+
+    byte[] first = pool.acquire(4096);
+    byte[] second = pool.acquire(4096);
+    byte[] large = pool.acquire(8192);
+    pool.release(first);
+    pool.release(second);
+    pool.release(large);
+
+    assertThat(pool.getPooledBytes()).isEqualTo(2 * 4096);
+    assertThat(pool.acquire(8192)).isNotSameAs(large);
+  }
+
+  @Test
+  void pooledOutputStream() {
+    ExportBufferPool pool = ExportBufferPool.create(1024 * 1024);
+    byte[] payload = new byte[10_000];
+    for (int i = 0; i < payload.length; i++) {
+      payload[i] = (byte) i;
+    }
+
+    PooledByteArrayOutputStream os = new PooledByteArrayOutputStream(pool, 10);
+    os.write('a');
+    os.write(payload, 0, payload.length);
+    os.close();
+    os.write("bc".getBytes(StandardCharsets.UTF_8), 0, 2);
+
+    assertThat(os.size()).isEqualTo(payload.length + 3);
+    assertThat(os.buf()[0]).isEqualTo((byte) 'a');
+    assertThat(os.buf()[payload.length]).isEqualTo(payload[payload.length - 1]);
+    assertThat(os.buf()[payload.length + 2]).isEqualTo((byte) 'c');
+    // Growing returned the initial buffer to the pool.
+    assertThat(pool.getPooledBytes()).isEqualTo(4096);
+
+    byte[] buf = os.buf();
+    os.release();
+    assertThat(os.size()).isEqualTo(0);
+    assertThat(pool.getPooledBytes()).isEqualTo(4096 + 16384);
+
+    PooledByteArrayOutputStream reused = new PooledByteArrayOutputStream(pool, 9000);
+    assertThat(reused.buf()).isSameAs(buf);
+    reused.release();
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.junit.jupiter.api.Test;
+
+class CompressorUtilTest {
+
+  private static final byte[] PAYLOAD =
+      repeat("{\"service.name\":\"checkout\",\"http.route\":\"/cart/{id}\"}", 200);
+
+  @Test
+  void validateAndResolveCompressor() {
+    assertThat(CompressorUtil.validateAndResolveCompressor("none")).isNull();
+    assertThat(CompressorUtil.validateAndResolveCompressor("gzip"))
+        .isSameAs(GzipCompressor.getInstance());
+    assertThat(CompressorUtil.validateAndResolveCompressor("zstd"))
+        .isSameAs(ZstdCompressor.getInstance());
+    assertThat(CompressorUtil.validateAndResolveCompressor("lz4"))
+        .isSameAs(Lz4Compressor.getInstance());
+    assertThatThrownBy(() -> CompressorUtil.validateAndResolveCompressor("foo"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("zstd")
+        .hasMessageContaining("lz4");
+  }
+
+  @Test
+  void gzipRoundTrip() throws IOException {
+    byte[] compressed = compress(GzipCompressor.getInstance());
+    assertThat(decompress(new GZIPInputStream(new ByteArrayInputStream(compressed))))
+        .isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void zstdRoundTrip() throws IOException {
+    assertThat(ZstdCompressor.isAvailable()).isTrue();
+    assertThat(ZstdCompressor.getInstance().getLevel()).isEqualTo(ZstdCompressor.DEFAULT_LEVEL);
+
+    byte[] compressed = compress(ZstdCompressor.getInstance());
+    assertThat(compressed.length).isLessThan(PAYLOAD.length);
+    assertThat(decompress(new ZstdInputStream(new ByteArrayInputStream(compressed))))
+        .isEqualTo(PAYLOAD);
+
+    // Compression contexts and buffers are reused between streams
+    byte[] compressedAgain = compress(ZstdCompressor.getInstance());
+    assertThat(compressedAgain).isEqualTo(compressed);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    OutputStream os = ZstdCompressor.getInstance().compress(baos);
+    for (byte b : PAYLOAD) {
+      os.write(b);
+    }
+    os.close();
+    assertThat(baos.toByteArray()).isEqualTo(compressed);
+    assertThatThrownBy(() -> os.write(1)).isInstanceOf(IOException.class);
+
+    byte[] compressedMax = compress(ZstdCompressor.create(19));
+    assertThat(decompress(new ZstdInputStream(new ByteArrayInputStream(compressedMax))))
+        .isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void zstdInvalidLevel() {
+    assertThatThrownBy(() -> ZstdCompressor.create(Zstd.maxCompressionLevel() + 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("zstd compression level must be between");
+    assertThatThrownBy(() -> ZstdCompressor.create(Zstd.minCompressionLevel() - 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(ZstdCompressor.create(Zstd.maxCompressionLevel()).getLevel())
+        .isEqualTo(Zstd.maxCompressionLevel());
+  }
+
+  @Test
+  void lz4RoundTrip() throws IOException {
+    assertThat(Lz4Compressor.isAvailable()).isTrue();
+
+    byte[] compressed = compress(Lz4Compressor.getInstance());
+    assertThat(compressed.length).isLessThan(PAYLOAD.length);
+    assertThat(decompress(new LZ4FrameInputStream(new ByteArrayInputStream(compressed))))
+        .isEqualTo(PAYLOAD);
+  }
+
+  private static byte[] compress(Compressor compressor) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write(PAYLOAD);
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] decompress(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buf = new byte[1024];
+    int read;
+    while ((read = is.read(buf)) != -1) {
+      baos.write(buf, 0, read);
+    }
+    is.close();
+    return baos.toByteArray();
+  }
+
+  private static byte[] repeat(String value, int times) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) {
+      sb.append(value);
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
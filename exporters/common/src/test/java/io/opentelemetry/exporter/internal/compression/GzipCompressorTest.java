@@ -0,0 +1,135 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class GzipCompressorTest {
+
+  private static final byte[] PAYLOAD = payload();
+
+  @Test
+  void create_InvalidLevel() {
+    assertThatThrownBy(() -> GzipCompressor.create(10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid compression level: 10");
+    assertThat(GzipCompressor.create(Deflater.BEST_SPEED).getLevel()).isEqualTo(1);
+    assertThat(GzipCompressor.getInstance().getLevel()).isEqualTo(Deflater.DEFAULT_COMPRESSION);
+  }
+
+  @Test
+  void compress_MatchesGzipOutputStream() throws IOException {
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    try (OutputStream os = new GZIPOutputStream(expected)) {
+      os.write(PAYLOAD);
+    }
+
+    byte[] compressed = compress(GzipCompressor.create(Deflater.DEFAULT_COMPRESSION));
+    // The operating system header byte differs between JDK versions
+    assertThat(Arrays.copyOfRange(compressed, 10, compressed.length))
+        .isEqualTo(Arrays.copyOfRange(expected.toByteArray(), 10, expected.size()));
+    assertThat(decompress(compressed)).isEqualTo(PAYLOAD);
+  }
+
+  @Test
+  void compress_ReusesDeflater() throws IOException {
+    GzipCompressor compressor = GzipCompressor.create(Deflater.BEST_SPEED);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(decompress(compress(compressor))).isEqualTo(PAYLOAD);
+      assertThat(compressor.getPooledCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void compress_SingleBytesAndEmpty() throws IOException {
+    GzipCompressor compressor = GzipCompressor.create(Deflater.DEFAULT_COMPRESSION);
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write('a');
+      os.write(PAYLOAD, 0, 0);
+      os.write('b');
+    }
+    assertThat(decompress(baos.toByteArray())).isEqualTo(new byte[] {'a', 'b'});
+
+    baos.reset();
+    compressor.compress(baos).close();
+    assertThat(decompress(baos.toByteArray())).isEmpty();
+  }
+
+  @Test
+  void close_Idempotent() throws IOException {
+    GzipCompressor compressor = GzipCompressor.create(Deflater.DEFAULT_COMPRESSION);
+
+    OutputStream os = compressor.compress(new ByteArrayOutputStream());
+    os.close();
+    os.close();
+    assertThat(compressor.getPooledCount()).isEqualTo(1);
+    assertThatThrownBy(() -> os.write(1))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Stream closed");
+  }
+
+  @Test
+  void pool_Bounded() throws IOException {
+    GzipCompressor compressor = GzipCompressor.create(Deflater.DEFAULT_COMPRESSION);
+
+    List<OutputStream> streams = new ArrayList<>();
+    for (int i = 0; i < GzipCompressor.MAX_POOLED_DEFLATERS + 4; i++) {
+      streams.add(compressor.compress(new ByteArrayOutputStream()));
+    }
+    for (OutputStream os : streams) {
+      os.close();
+    }
+
+    assertThat(compressor.getPooledCount()).isEqualTo(GzipCompressor.MAX_POOLED_DEFLATERS);
+  }
+
+  private static byte[] compress(Compressor compressor) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (OutputStream os = compressor.compress(baos)) {
+      os.write(PAYLOAD);
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] decompress(byte[] compressed) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      byte[] buf = new byte[1024];
+      int read;
+      while ((read = is.read(buf)) != -1) {
+        baos.write(buf, 0, read);
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] payload() {
+    Random random = new Random(1234);
+    byte[] payload = new byte[100_000];
+    for (int i = 0; i < payload.length; i++) {
+      payload[i] = (byte) ('a' + random.nextInt(8));
+    }
+    return payload;
+  }
+}
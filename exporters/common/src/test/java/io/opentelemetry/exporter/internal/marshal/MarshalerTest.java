@@ -5,14 +5,18 @@
 
 package io.opentelemetry.exporter.internal.marshal;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class MarshalerTest {
@@ -47,4 +51,59 @@ class MarshalerTest {
     assertThatThrownBy(() -> marshaler.writeBinaryTo(os)).isInstanceOf(IOException.class);
     assertThatThrownBy(() -> marshaler.writeJsonTo(os)).isInstanceOf(IOException.class);
   }
+
+  @Test
+  void writeBinaryTo_ByteBuffer() throws IOException {
+    Marshaler marshaler = new TestMarshaler();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(bos);
+    byte[] expected = bos.toByteArray();
+
+    for (ByteBuffer buffer :
+        new ByteBuffer[] {
+          ByteBuffer.allocate(expected.length + 3), ByteBuffer.allocateDirect(expected.length + 3)
+        }) {
+      buffer.position(3);
+      marshaler.writeBinaryTo(buffer);
+      assertThat(buffer.position()).isEqualTo(expected.length + 3);
+
+      buffer.flip().position(3);
+      byte[] actual = new byte[buffer.remaining()];
+      buffer.get(actual);
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void writeBinaryTo_ByteBufferOutOfSpace() {
+    Marshaler marshaler = new TestMarshaler();
+    ByteBuffer buffer = ByteBuffer.allocate(marshaler.getBinarySerializedSize() - 1);
+
+    assertThatThrownBy(() -> marshaler.writeBinaryTo(buffer)).isInstanceOf(IOException.class);
+  }
+
+  private static final class TestMarshaler extends MarshalerWithSize {
+    private static final ProtoFieldInfo INT = ProtoFieldInfo.create(1, 8, "int");
+    private static final ProtoFieldInfo DOUBLE = ProtoFieldInfo.create(2, 17, "double");
+    private static final ProtoFieldInfo STRING = ProtoFieldInfo.create(3, 26, "string");
+    private static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+
+    private TestMarshaler() {
+      super(
+          MarshalerUtil.sizeInt64(INT, -1L)
+              + MarshalerUtil.sizeDouble(DOUBLE, 1.5)
+              + MarshalerUtil.sizeBytes(STRING, VALUE)
+              + 4 * WireFormat.FIXED64_SIZE);
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      output.writeInt64(INT, -1L);
+      output.writeDouble(DOUBLE, 1.5);
+      output.writeString(STRING, VALUE);
+      for (int i = 0; i < 4; i++) {
+        output.writeFixed64Value(Long.MAX_VALUE - i);
+      }
+    }
+  }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingJsonSerializerTest {
+
+  private static final ProtoFieldInfo TRACE_ID = ProtoFieldInfo.create(1, 10, "traceId");
+  private static final ProtoFieldInfo SPAN_ID = ProtoFieldInfo.create(2, 18, "spanId");
+  private static final ProtoFieldInfo BOOL = ProtoFieldInfo.create(3, 24, "bool");
+  private static final ProtoFieldInfo ENUM = ProtoFieldInfo.create(4, 32, "enum");
+  private static final ProtoFieldInfo INT = ProtoFieldInfo.create(5, 40, "int");
+  private static final ProtoFieldInfo LONG = ProtoFieldInfo.create(6, 48, "long");
+  private static final ProtoFieldInfo FIXED64 = ProtoFieldInfo.create(7, 57, "fixed64");
+  private static final ProtoFieldInfo DOUBLE = ProtoFieldInfo.create(8, 65, "double");
+  private static final ProtoFieldInfo STRING = ProtoFieldInfo.create(9, 74, "string");
+  private static final ProtoFieldInfo BYTES = ProtoFieldInfo.create(10, 82, "bytes");
+  private static final ProtoFieldInfo MESSAGE = ProtoFieldInfo.create(11, 90, "message");
+  private static final ProtoFieldInfo REPEATED = ProtoFieldInfo.create(12, 98, "repeated");
+  private static final ProtoFieldInfo VALUES = ProtoFieldInfo.create(13, 106, "values");
+
+  private static final StatelessMarshaler<String> STRING_MARSHALER =
+      new StatelessMarshaler<String>() {
+        @Override
+        public int getBinarySerializedSize(String value, MarshalerContext context) {
+          return 0;
+        }
+
+        @Override
+        public void writeTo(Serializer output, String value, MarshalerContext context)
+            throws IOException {
+          output.writeString(STRING, value.getBytes(StandardCharsets.UTF_8));
+        }
+      };
+
+  @Test
+  void sameAsJackson_AllFieldTypes() throws IOException {
+    assertSameAsJackson(
+        new TestMarshaler(
+            output -> {
+              output.serializeTraceId(TRACE_ID, "0123456789abcdef0123456789abcdef");
+              output.serializeSpanId(SPAN_ID, "0123456789abcdef");
+              output.writeBool(BOOL, true);
+              output.writeBool(BOOL, false);
+              output.serializeEnum(ENUM, ProtoEnumInfo.create(2, "ENUM_TWO"));
+              output.serializeInt32(INT, Integer.MIN_VALUE);
+              output.serializeUInt32(INT, Integer.MAX_VALUE);
+              output.writeInt64(LONG, 0);
+              output.writeInt64(LONG, Long.MIN_VALUE);
+              output.writeUInt64(LONG, Long.MAX_VALUE);
+              output.serializeFixed64(FIXED64, -12345);
+              output.serializeFixed32(INT, 7);
+              output.writeDouble(DOUBLE, 1.5);
+              output.writeDouble(DOUBLE, -1e-300);
+              output.writeDouble(DOUBLE, 1e21);
+              output.writeDouble(DOUBLE, Double.NaN);
+              output.writeDouble(DOUBLE, Double.POSITIVE_INFINITY);
+              output.writeDouble(DOUBLE, Double.NEGATIVE_INFINITY);
+              output.serializeRepeatedFixed64(FIXED64, new long[] {1, -2, 3});
+              output.serializeRepeatedUInt64(VALUES, Arrays.asList(0L, 10L, 100L));
+              output.serializeRepeatedDouble(VALUES, Arrays.asList(0.5, 2.0));
+            }));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "plain",
+        "quote\" backslash\\ slash/",
+        "controls\b\t\n\f\r\u0000\u001f\u007f",
+        "latin1 äöü",
+        "unicode ∆ 😀",
+        "unpaired \uD83D surrogates \uDE00",
+      })
+  @SuppressWarnings("AvoidEscapedUnicodeCharacters")
+  void sameAsJackson_Strings(String value) throws IOException {
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    assertSameAsJackson(
+        new TestMarshaler(
+            output -> {
+              output.writeString(STRING, utf8);
+              output.writeString(STRING, value, utf8.length, new MarshalerContext());
+            }));
+  }
+
+  @Test
+  void sameAsJackson_LongerThanBuffer() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      sb.append(i % 10 == 0 ? "\"∆😀" : "a");
+    }
+    String value = sb.toString();
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    byte[] bytes = new byte[30000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    assertSameAsJackson(
+        new TestMarshaler(
+            output -> {
+              output.writeString(STRING, utf8);
+              output.writeString(STRING, value, utf8.length, new MarshalerContext());
+              output.writeBytes(BYTES, bytes);
+            }));
+  }
+
+  @Test
+  void sameAsJackson_Bytes() throws IOException {
+    for (int length = 0; length < 6; length++) {
+      byte[] value = new byte[length];
+      for (int i = 0; i < length; i++) {
+        value[i] = (byte) (0xfb + i);
+      }
+      assertSameAsJackson(new TestMarshaler(output -> output.writeBytes(BYTES, value)));
+    }
+  }
+
+  @Test
+  void sameAsJackson_Messages() throws IOException {
+    Marshaler leaf =
+        new TestMarshaler(
+            output -> {
+              output.writeString(STRING, "leaf".getBytes(StandardCharsets.UTF_8));
+              output.writeBool(BOOL, true);
+            });
+    Marshaler empty = new TestMarshaler(output -> {});
+    assertSameAsJackson(
+        new TestMarshaler(
+            output -> {
+              output.writeBool(BOOL, true);
+              output.serializeMessage(MESSAGE, leaf);
+              output.serializeMessage(MESSAGE, empty);
+              output.serializeRepeatedMessage(REPEATED, new Marshaler[] {leaf, empty, leaf});
+              output.serializeRepeatedMessage(REPEATED, Collections.<Marshaler>emptyList());
+              output.serializeRepeatedMessageWithContext(
+                  REPEATED, Arrays.asList("a", "b"), STRING_MARSHALER, new MarshalerContext());
+              output.writeInt64(LONG, 1);
+            }));
+  }
+
+  @Test
+  void preserializedFields() throws IOException {
+    Marshaler fields =
+        new TestMarshaler(
+            output -> {
+              output.writeString(STRING, "value".getBytes(StandardCharsets.UTF_8));
+              output.writeInt64(LONG, 5);
+            });
+    String json = MarshalerUtil.preserializeJsonFields(fields);
+    Marshaler preserialized =
+        new TestMarshaler(output -> output.writeSerializedMessage(new byte[0], json));
+    Marshaler message =
+        new TestMarshaler(output -> output.serializeMessage(MESSAGE, preserialized));
+
+    assertThat(toStreamingJson(message))
+        .isEqualTo("{\"message\":{\"string\":\"value\",\"long\":\"5\"}}");
+  }
+
+  @Test
+  void writeError_NotRetriedOnClose() throws IOException {
+    Marshaler marshaler =
+        new TestMarshaler(
+            output -> {
+              for (int i = 0; i < 2000; i++) {
+                output.writeInt64(LONG, i);
+              }
+            });
+    OutputStream os = mock(OutputStream.class);
+    IOException error = new IOException("error!");
+    doThrow(error).when(os).write(any(), anyInt(), anyInt());
+
+    // The failed buffer must not be written again when closing, which would suppress the error with
+    // itself.
+    assertThatThrownBy(
+            () -> {
+              try (StreamingJsonSerializer serializer = new StreamingJsonSerializer(os)) {
+                serializer.writeMessageValue(marshaler);
+              }
+            })
+        .isSameAs(error);
+  }
+
+  private static void assertSameAsJackson(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream jackson = new ByteArrayOutputStream();
+    try (JsonSerializer serializer = new JsonSerializer(jackson)) {
+      serializer.writeMessageValue(marshaler);
+    }
+    assertThat(toStreamingJson(marshaler))
+        .isEqualTo(new String(jackson.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  private static String toStreamingJson(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (StreamingJsonSerializer serializer = new StreamingJsonSerializer(bos)) {
+      serializer.writeMessageValue(marshaler);
+    }
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void writeTo(Serializer output) throws IOException;
+  }
+
+  private static final class TestMarshaler extends Marshaler {
+    private final Writer writer;
+
+    private TestMarshaler(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public int getBinarySerializedSize() {
+      return 0;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      writer.writeTo(output);
+    }
+  }
+}
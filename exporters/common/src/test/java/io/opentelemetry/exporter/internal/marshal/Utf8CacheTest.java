@@ -0,0 +1,109 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.marshal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class Utf8CacheTest {
+
+  @Test
+  void create_RoundsUpToPowerOfTwo() {
+    assertThat(Utf8Cache.create(0).size()).isEqualTo(0);
+    assertThat(Utf8Cache.create(1).size()).isEqualTo(1);
+    assertThat(Utf8Cache.create(100).size()).isEqualTo(128);
+    assertThat(Utf8Cache.create(128).size()).isEqualTo(128);
+  }
+
+  @Test
+  void create_InvalidSize() {
+    assertThatThrownBy(() -> Utf8Cache.create(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Utf8Cache.create((1 << 30) + 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void get_CachedOnSecondSighting() {
+    Utf8Cache cache = Utf8Cache.create(16);
+    String value = "http.request.method";
+
+    assertThat(cache.get(value)).isNull();
+    byte[] utf8 = cache.get(value);
+    assertThat(utf8).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+    assertThat(cache.get(value)).isSameAs(utf8);
+  }
+
+  @Test
+  void get_KeyedByIdentity() {
+    Utf8Cache cache = Utf8Cache.create(16);
+    String value = "span-name";
+    String equalValue = new String(value.toCharArray());
+
+    cache.get(value);
+    assertThat(cache.get(value)).isNotNull();
+    assertThat(cache.get(equalValue)).isNull();
+  }
+
+  @Test
+  void get_Unicode() {
+    Utf8Cache cache = Utf8Cache.create(16);
+    String value = "∆ä😀";
+
+    cache.get(value);
+    assertThat(cache.get(value)).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void get_LongStringsNotCached() {
+    Utf8Cache cache = Utf8Cache.create(16);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i <= Utf8Cache.MAX_CACHED_LENGTH; i++) {
+      sb.append('a');
+    }
+    String value = sb.toString();
+
+    cache.get(value);
+    assertThat(cache.get(value)).isNull();
+  }
+
+  @Test
+  void get_Disabled() {
+    Utf8Cache cache = Utf8Cache.create(0);
+    String value = "metric.name";
+
+    cache.get(value);
+    assertThat(cache.get(value)).isNull();
+  }
+
+  @Test
+  void get_Evicted() {
+    Utf8Cache cache = Utf8Cache.create(1);
+    String first = "first";
+    String second = "second";
+
+    cache.get(first);
+    assertThat(cache.get(first)).isNotNull();
+    cache.get(second);
+    assertThat(cache.get(second)).isNotNull();
+    // The single slot now holds the second string, so the first must be admitted again.
+    assertThat(cache.get(first)).isNull();
+    assertThat(cache.get(first)).isNotNull();
+  }
+
+  @Test
+  void get_UniqueStringsNotCached() {
+    Utf8Cache cache = Utf8Cache.create(1);
+    String repeated = "repeated";
+
+    cache.get(repeated);
+    // A unique string in between replaces the candidate, so nothing is cached.
+    cache.get(new String("unique".toCharArray()));
+    assertThat(cache.get(repeated)).isNull();
+  }
+}
@@ -2,6 +2,7 @@ plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
 
+  id("otel.jmh-conventions")
   id("otel.animalsniffer-conventions")
 }
 
@@ -20,5 +21,7 @@ dependencies {
 
   testImplementation(project(":sdk:testing"))
 
+  jmhImplementation(project(":sdk:testing"))
+
   testImplementation("org.skyscreamer:jsonassert")
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.logging.otlp.internal.JsonStreamWriter;
+import io.opentelemetry.exporter.logging.otlp.internal.OtlpJsonStreamSpanExporter;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the span throughput of logging OTLP JSON through {@link Logger} with writing it through
+ * a {@link JsonStreamWriter}. Both write to an output which discards everything, and each
+ * invocation exports a batch and waits for it to be flushed, so the score is in spans per second
+ * end to end and can be read against a target rate such as 100k spans per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStreamExporterBenchmark {
+
+  private static final int BATCH_SIZE = 512;
+
+  @Param({"logging", "stream"})
+  public String mode;
+
+  private final List<SpanData> spans = new ArrayList<>(BATCH_SIZE);
+  // Held strongly so the handler configuration isn't lost to garbage collection.
+  private final Logger logger = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+  private StreamHandler handler;
+  private JsonStreamWriter writer;
+  private SpanExporter exporter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if (mode.equals("logging")) {
+      handler = new StreamHandler(new NullOutputStream(), new SimpleFormatter());
+      logger.setUseParentHandlers(false);
+      logger.addHandler(handler);
+      exporter = OtlpJsonLoggingSpanExporter.create();
+    } else {
+      writer = JsonStreamWriter.create(new NullOutputStream());
+      exporter = OtlpJsonStreamSpanExporter.create(writer);
+    }
+
+    Resource resource =
+        Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "svc"));
+    InstrumentationScopeInfo scope =
+        InstrumentationScopeInfo.builder("io.opentelemetry.benchmark").setVersion("1.0").build();
+    Attributes attributes =
+        Attributes.builder()
+            .put("http.request.method", "GET")
+            .put("url.path", "/api/v1/items")
+            .put("http.response.status_code", 200L)
+            .put("server.address", "example.com")
+            .build();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setSpanContext(
+                  SpanContext.create(
+                      String.format("%032x", i + 1),
+                      String.format("%016x", i + 1),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setResource(resource)
+              .setInstrumentationScopeInfo(scope)
+              .setKind(SpanKind.SERVER)
+              .setName("GET /api/v1/items")
+              .setStartEpochNanos(1_700_000_000_000_000_000L + i)
+              .setEndEpochNanos(1_700_000_000_001_000_000L + i)
+              .setAttributes(attributes)
+              .setTotalAttributeCount(attributes.size())
+              .setStatus(StatusData.ok())
+              .setHasEnded(true)
+              .build());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    exporter.shutdown().join(10, TimeUnit.SECONDS);
+    if (writer != null) {
+      writer.shutdown().join(10, TimeUnit.SECONDS);
+    }
+    if (handler != null) {
+      logger.removeHandler(handler);
+      logger.setUseParentHandlers(true);
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public boolean export() {
+    exporter.export(spans);
+    if (handler != null) {
+      handler.flush();
+      return true;
+    }
+    return exporter.flush().join(10, TimeUnit.SECONDS).isSuccess();
+  }
+
+  private static final class NullOutputStream extends OutputStream {
+    @Override
+    public void write(int b) {}
+
+    @Override
+    public void write(byte[] b, int off, int len) {}
+  }
+}
@@ -5,8 +5,6 @@
 
 package io.opentelemetry.exporter.logging.otlp;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.io.SegmentedStringWriter;
 import io.opentelemetry.exporter.internal.otlp.traces.ResourceSpansMarshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.trace.data.SpanData;
@@ -43,19 +41,14 @@ public final class OtlpJsonLoggingSpanExporter implements SpanExporter {
 
     ResourceSpansMarshaler[] allResourceSpans = ResourceSpansMarshaler.create(spans);
     for (ResourceSpansMarshaler resourceSpans : allResourceSpans) {
-      SegmentedStringWriter sw =
-          new SegmentedStringWriter(JsonUtil.JSON_FACTORY._getBufferRecycler());
-      try (JsonGenerator gen = JsonUtil.create(sw)) {
-        resourceSpans.writeJsonTo(gen);
+      String json;
+      try {
+        json = JsonUtil.toJson(resourceSpans);
       } catch (IOException e) {
         // Shouldn't happen in practice, just skip it.
         continue;
       }
-      try {
-        logger.log(Level.INFO, sw.getAndClear());
-      } catch (IOException e) {
-        logger.log(Level.WARNING, "Unable to read OTLP JSON spans", e);
-      }
+      logger.log(Level.INFO, json);
     }
     return CompletableResultCode.ofSuccess();
   }
@@ -0,0 +1,256 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.internal.ThrottlingLogger;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Writes newline-delimited OTLP JSON to an {@link OutputStream} or {@link WritableByteChannel} from
+ * a dedicated writer thread.
+ *
+ * <p>Each export is encoded to JSON on the calling thread, as the exported data may be reused once
+ * the export returns, into a buffer taken from a pool. The buffer is then queued for the writer
+ * thread, which writes queued buffers back to back, flushes the output once the queue is empty and
+ * returns the buffers to the pool. No strings are built and nothing goes through {@link Logger}.
+ * When the queue is full, exports are dropped and fail. The pool retains at most {@value
+ * #MAX_POOLED_BUFFERS} buffers, and buffers grown by large exports are dropped rather than pooled.
+ *
+ * <p>A writer may be shared by several exporters, which only flush it. Whoever creates the writer
+ * is responsible for calling {@link #shutdown()} once all exporters using it are shut down. The
+ * output is not closed on shutdown.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class JsonStreamWriter {
+
+  private static final Logger logger = Logger.getLogger(JsonStreamWriter.class.getName());
+
+  static final int DEFAULT_MAX_QUEUE_SIZE = 1024;
+  // Bounds the memory retained by the pool, independently of the queue size.
+  static final int MAX_POOLED_BUFFERS = 8;
+  // Buffers grown beyond this by an unusually large export are not pooled.
+  private static final int MAX_POOLED_BUFFER_SIZE = 256 * 1024;
+  private static final int INITIAL_BUFFER_SIZE = 16 * 1024;
+
+  private final ThrottlingLogger throttlingLogger = new ThrottlingLogger(logger);
+  private final OutputStream output;
+  private final BlockingQueue<WriteBuffer> queue;
+  private final BlockingQueue<WriteBuffer> pool = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+  // Held while checking isShutdown and enqueueing, so nothing is enqueued after the shutdown
+  // marker.
+  private final Object lock = new Object();
+  private volatile boolean isShutdown;
+
+  /**
+   * Returns a {@link JsonStreamWriter} writing to {@code output}, queueing up to {@code
+   * maxQueueSize} exports.
+   */
+  public static JsonStreamWriter create(OutputStream output, int maxQueueSize) {
+    if (maxQueueSize <= 0) {
+      throw new IllegalArgumentException("maxQueueSize must be positive");
+    }
+    return new JsonStreamWriter(output, maxQueueSize);
+  }
+
+  /** Returns a {@link JsonStreamWriter} writing to {@code output}. */
+  public static JsonStreamWriter create(OutputStream output) {
+    return create(output, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  /**
+   * Returns a {@link JsonStreamWriter} writing to {@code channel}, such as a {@link
+   * java.nio.channels.FileChannel}, queueing up to {@code maxQueueSize} exports.
+   */
+  public static JsonStreamWriter create(WritableByteChannel channel, int maxQueueSize) {
+    return create(Channels.newOutputStream(channel), maxQueueSize);
+  }
+
+  /** Returns a {@link JsonStreamWriter} writing to {@code channel}. */
+  public static JsonStreamWriter create(WritableByteChannel channel) {
+    return create(channel, DEFAULT_MAX_QUEUE_SIZE);
+  }
+
+  private JsonStreamWriter(OutputStream output, int maxQueueSize) {
+    this.output = output;
+    this.queue = new ArrayBlockingQueue<>(maxQueueSize);
+    new DaemonThreadFactory("otlp-json-writer").newThread(this::run).start();
+  }
+
+  /**
+   * Encodes each of {@code marshalers} as a line of JSON and queues them to be written. Returns a
+   * failed result if the writer is shut down or the queue is full.
+   */
+  @SuppressWarnings("AvoidObjectArrays")
+  public CompletableResultCode write(Marshaler[] marshalers) {
+    if (isShutdown) {
+      return CompletableResultCode.ofFailure();
+    }
+    if (marshalers.length == 0) {
+      return CompletableResultCode.ofSuccess();
+    }
+    WriteBuffer buffer = pool.poll();
+    if (buffer == null) {
+      buffer = new WriteBuffer(null, /* shutdown= */ false);
+    }
+    try {
+      for (Marshaler marshaler : marshalers) {
+        marshaler.writeJsonTo(buffer);
+        buffer.write('\n');
+      }
+    } catch (IOException e) {
+      // Shouldn't happen in practice, the buffer is in memory.
+      release(buffer);
+      throttlingLogger.log(Level.WARNING, "Unable to encode OTLP JSON", e);
+      return CompletableResultCode.ofFailure();
+    }
+    boolean queued;
+    synchronized (lock) {
+      if (isShutdown) {
+        release(buffer);
+        return CompletableResultCode.ofFailure();
+      }
+      queued = queue.offer(buffer);
+    }
+    if (!queued) {
+      release(buffer);
+      throttlingLogger.log(Level.WARNING, "OTLP JSON writer queue is full, dropping export.");
+      return CompletableResultCode.ofFailure();
+    }
+    return CompletableResultCode.ofSuccess();
+  }
+
+  /** Returns a result completed once everything queued so far is written and flushed. */
+  public CompletableResultCode flush() {
+    if (isShutdown) {
+      return CompletableResultCode.ofSuccess();
+    }
+    return enqueueMarker(/* shutdown= */ false);
+  }
+
+  /**
+   * Stops accepting exports and returns a result completed once everything queued is written and
+   * the writer thread has stopped.
+   */
+  public CompletableResultCode shutdown() {
+    synchronized (lock) {
+      if (isShutdown) {
+        logger.log(Level.INFO, "Calling shutdown() multiple times.");
+        return CompletableResultCode.ofSuccess();
+      }
+      isShutdown = true;
+    }
+    // Every export accepted was enqueued before isShutdown was set, so is written before the
+    // marker.
+    return enqueueMarker(/* shutdown= */ true);
+  }
+
+  // Markers carry no data and are never dropped, waiting for room in the queue if needed.
+  private CompletableResultCode enqueueMarker(boolean shutdown) {
+    CompletableResultCode result = new CompletableResultCode();
+    try {
+      queue.put(new WriteBuffer(result, shutdown));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableResultCode.ofFailure();
+    }
+    return result;
+  }
+
+  private void run() {
+    List<CompletableResultCode> pendingResults = new ArrayList<>();
+    boolean shutdown = false;
+    while (!shutdown) {
+      WriteBuffer buffer;
+      try {
+        buffer = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      // Write everything queued, then flush once.
+      do {
+        if (buffer.result != null) {
+          pendingResults.add(buffer.result);
+          shutdown |= buffer.shutdown;
+        } else {
+          try {
+            buffer.writeTo(output);
+          } catch (IOException e) {
+            throttlingLogger.log(Level.WARNING, "Unable to write OTLP JSON", e);
+          }
+          release(buffer);
+        }
+        buffer = shutdown ? null : queue.poll();
+      } while (buffer != null);
+      boolean flushed = true;
+      try {
+        output.flush();
+      } catch (IOException e) {
+        flushed = false;
+        throttlingLogger.log(Level.WARNING, "Unable to flush OTLP JSON", e);
+      }
+      for (CompletableResultCode result : pendingResults) {
+        if (flushed) {
+          result.succeed();
+        } else {
+          result.fail();
+        }
+      }
+      pendingResults.clear();
+    }
+    // Complete flushes which raced with the shutdown.
+    for (WriteBuffer buffer = queue.poll(); buffer != null; buffer = queue.poll()) {
+      if (buffer.result != null) {
+        buffer.result.succeed();
+      }
+    }
+  }
+
+  private void release(WriteBuffer buffer) {
+    if (buffer.capacity() > MAX_POOLED_BUFFER_SIZE) {
+      return;
+    }
+    buffer.reset();
+    pool.offer(buffer);
+  }
+
+  private static final class WriteBuffer extends ByteArrayOutputStream {
+    // Set on markers, which carry no data.
+    @Nullable private final CompletableResultCode result;
+    private final boolean shutdown;
+
+    private WriteBuffer(@Nullable CompletableResultCode result, boolean shutdown) {
+      super(result == null ? INITIAL_BUFFER_SIZE : 0);
+      this.result = result;
+      this.shutdown = shutdown;
+    }
+
+    private int capacity() {
+      return buf.length;
+    }
+
+    @Override
+    public void close() {
+      // Marshalers close the stream they write to, the buffer is reused instead.
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import io.opentelemetry.exporter.internal.otlp.metrics.ResourceMetricsMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.metrics.InstrumentType;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.export.MetricExporter;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link MetricExporter} which writes {@linkplain MetricData metrics} in OTLP JSON format through
+ * a {@link JsonStreamWriter}. Each line will include a single {@code ResourceMetrics}.
+ *
+ * <p>Shutting down the exporter flushes the writer, but doesn't shut it down.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class OtlpJsonStreamMetricExporter implements MetricExporter {
+
+  private static final Logger logger =
+      Logger.getLogger(OtlpJsonStreamMetricExporter.class.getName());
+
+  private final JsonStreamWriter writer;
+  private final AtomicBoolean isShutdown = new AtomicBoolean();
+  private final AggregationTemporality aggregationTemporality;
+
+  /**
+   * Returns a new {@link OtlpJsonStreamMetricExporter} writing through {@code writer}, with the
+   * given {@code aggregationTemporality}.
+   */
+  public static MetricExporter create(
+      JsonStreamWriter writer, AggregationTemporality aggregationTemporality) {
+    return new OtlpJsonStreamMetricExporter(writer, aggregationTemporality);
+  }
+
+  private OtlpJsonStreamMetricExporter(
+      JsonStreamWriter writer, AggregationTemporality aggregationTemporality) {
+    this.writer = writer;
+    this.aggregationTemporality = aggregationTemporality;
+  }
+
+  @Override
+  public AggregationTemporality getAggregationTemporality(InstrumentType instrumentType) {
+    return aggregationTemporality;
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<MetricData> metrics) {
+    if (isShutdown.get()) {
+      return CompletableResultCode.ofFailure();
+    }
+    return writer.write(ResourceMetricsMarshaler.create(metrics));
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    return writer.flush();
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (!isShutdown.compareAndSet(false, true)) {
+      logger.log(Level.INFO, "Calling shutdown() multiple times.");
+      return CompletableResultCode.ofSuccess();
+    }
+    // The writer may be shared with other exporters, so it is only flushed.
+    return writer.flush();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import io.opentelemetry.exporter.internal.otlp.traces.ResourceSpansMarshaler;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link SpanExporter} which writes {@linkplain SpanData spans} in OTLP JSON format through a
+ * {@link JsonStreamWriter}. Each line will include a single {@code ResourceSpans}.
+ *
+ * <p>Shutting down the exporter flushes the writer, but doesn't shut it down.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class OtlpJsonStreamSpanExporter implements SpanExporter {
+
+  private static final Logger logger =
+      Logger.getLogger(OtlpJsonStreamSpanExporter.class.getName());
+
+  private final JsonStreamWriter writer;
+  private final AtomicBoolean isShutdown = new AtomicBoolean();
+
+  /** Returns a new {@link OtlpJsonStreamSpanExporter} writing through {@code writer}. */
+  public static SpanExporter create(JsonStreamWriter writer) {
+    return new OtlpJsonStreamSpanExporter(writer);
+  }
+
+  private OtlpJsonStreamSpanExporter(JsonStreamWriter writer) {
+    this.writer = writer;
+  }
+
+  @Override
+  public CompletableResultCode export(Collection<SpanData> spans) {
+    if (isShutdown.get()) {
+      return CompletableResultCode.ofFailure();
+    }
+    return writer.write(ResourceSpansMarshaler.create(spans));
+  }
+
+  @Override
+  public CompletableResultCode flush() {
+    return writer.flush();
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    if (!isShutdown.compareAndSet(false, true)) {
+      logger.log(Level.INFO, "Calling shutdown() multiple times.");
+      return CompletableResultCode.ofSuccess();
+    }
+    // The writer may be shared with other exporters, so it is only flushed.
+    return writer.flush();
+  }
+}
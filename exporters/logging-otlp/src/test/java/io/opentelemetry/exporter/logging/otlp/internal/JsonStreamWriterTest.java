@@ -0,0 +1,264 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.logging.otlp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+@SuppressLogger(JsonStreamWriter.class)
+class JsonStreamWriterTest {
+
+  private static final SpanData SPAN1 =
+      TestSpanData.builder()
+          .setHasEnded(true)
+          .setSpanContext(
+              SpanContext.create(
+                  "12345678876543211234567887654321",
+                  "8765432112345678",
+                  TraceFlags.getSampled(),
+                  TraceState.getDefault()))
+          .setStartEpochNanos(100)
+          .setEndEpochNanos(1100)
+          .setStatus(StatusData.ok())
+          .setName("testSpan1")
+          .setKind(SpanKind.INTERNAL)
+          .setResource(Resource.create(Attributes.builder().put("key", "value1").build()))
+          .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("instrumentation"))
+          .build();
+
+  private static final SpanData SPAN2 =
+      TestSpanData.builder()
+          .setHasEnded(true)
+          .setSpanContext(
+              SpanContext.create(
+                  "12340000000043211234000000004321",
+                  "8765000000005678",
+                  TraceFlags.getSampled(),
+                  TraceState.getDefault()))
+          .setStartEpochNanos(500)
+          .setEndEpochNanos(1501)
+          .setStatus(StatusData.error())
+          .setName("testSpan2")
+          .setKind(SpanKind.CLIENT)
+          .setResource(Resource.create(Attributes.builder().put("key", "value2").build()))
+          .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("instrumentation"))
+          .build();
+
+  @Test
+  void create_InvalidQueueSize() {
+    assertThatThrownBy(() -> JsonStreamWriter.create(new ByteArrayOutputStream(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void export_WritesLinePerResource() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    SpanExporter exporter = OtlpJsonStreamSpanExporter.create(JsonStreamWriter.create(output));
+
+    assertThat(exporter.export(Arrays.asList(SPAN1, SPAN2)).isSuccess()).isTrue();
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+    String json = new String(output.toByteArray(), StandardCharsets.UTF_8);
+    assertThat(json).endsWith("\n");
+    List<String> lines = Arrays.asList(json.split("\n"));
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0)).contains("testSpan1", "value1").doesNotContain("testSpan2");
+    assertThat(lines.get(1)).contains("testSpan2", "value2").doesNotContain("testSpan1");
+    assertThat(lines.get(2)).isEqualTo(lines.get(0));
+    JSONAssert.assertEquals(
+        "{"
+            + "  \"resource\": {"
+            + "    \"attributes\": [{"
+            + "      \"key\": \"key\","
+            + "      \"value\": {"
+            + "        \"stringValue\": \"value2\""
+            + "      }"
+            + "    }]"
+            + "  },"
+            + "  \"scopeSpans\": [{"
+            + "    \"scope\": {"
+            + "      \"name\": \"instrumentation\""
+            + "    },"
+            + "    \"spans\": [{"
+            + "      \"traceId\": \"12340000000043211234000000004321\","
+            + "      \"spanId\": \"8765000000005678\","
+            + "      \"name\": \"testSpan2\","
+            + "      \"kind\": 3,"
+            + "      \"startTimeUnixNano\": \"500\","
+            + "      \"endTimeUnixNano\": \"1501\","
+            + "      \"status\": {"
+            + "        \"code\": 2"
+            + "      }"
+            + "    }]"
+            + "  }]"
+            + "}",
+        lines.get(1),
+        /* strict= */ false);
+
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void export_FileChannel(@TempDir Path tempDir) throws Exception {
+    Path file = tempDir.resolve("spans.jsonl");
+    try (FileChannel channel =
+        FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+      SpanExporter exporter = OtlpJsonStreamSpanExporter.create(JsonStreamWriter.create(channel));
+
+      assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+      assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+      // The channel is left open for the caller to close.
+      assertThat(channel.isOpen()).isTrue();
+    }
+
+    List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertThat(lines).hasSize(1);
+    assertThat(lines.get(0)).contains("testSpan1");
+  }
+
+  @Test
+  void export_QueueFull() throws Exception {
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch unblock = new CountDownLatch(1);
+    OutputStream blockingOutput =
+        new OutputStream() {
+          @Override
+          public void write(int b) {}
+
+          @Override
+          public void write(byte[] b, int off, int len) {
+            writing.countDown();
+            try {
+              unblock.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+        };
+    SpanExporter exporter =
+        OtlpJsonStreamSpanExporter.create(JsonStreamWriter.create(blockingOutput, 1));
+
+    // The writer thread takes the first export and blocks writing it, the second fills the queue.
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isFalse();
+
+    unblock.countDown();
+    assertThat(exporter.flush().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    assertThat(exporter.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void shutdown() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    JsonStreamWriter writer = JsonStreamWriter.create(output);
+    SpanExporter exporter = OtlpJsonStreamSpanExporter.create(writer);
+
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    assertThat(writer.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    // Exports queued before shutdown are written.
+    assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).contains("testSpan1");
+
+    assertThat(exporter.export(Collections.singletonList(SPAN1)).isSuccess()).isFalse();
+    assertThat(writer.flush().isSuccess()).isTrue();
+    assertThat(writer.shutdown().isSuccess()).isTrue();
+  }
+
+  @Test
+  void exporterShutdown_SharedWriter() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    JsonStreamWriter writer = JsonStreamWriter.create(output);
+    SpanExporter exporter1 = OtlpJsonStreamSpanExporter.create(writer);
+    SpanExporter exporter2 = OtlpJsonStreamSpanExporter.create(writer);
+
+    assertThat(exporter1.export(Collections.singletonList(SPAN1)).isSuccess()).isTrue();
+    // Shutting down an exporter flushes the writer, but leaves it usable by the other exporter.
+    assertThat(exporter1.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).contains("testSpan1");
+    assertThat(exporter1.export(Collections.singletonList(SPAN1)).isSuccess()).isFalse();
+
+    assertThat(exporter2.export(Collections.singletonList(SPAN2)).isSuccess()).isTrue();
+    assertThat(exporter2.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).contains("testSpan2");
+
+    assertThat(writer.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+  }
+
+  @Test
+  void shutdown_ConcurrentExportsWrittenOrRejected() throws Exception {
+    CountingOutputStream output = new CountingOutputStream();
+    JsonStreamWriter writer = JsonStreamWriter.create(output);
+    SpanExporter exporter = OtlpJsonStreamSpanExporter.create(writer);
+
+    AtomicInteger accepted = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    Thread exporting =
+        new Thread(
+            () -> {
+              started.countDown();
+              while (exporter.export(Collections.singletonList(SPAN1)).isSuccess()) {
+                accepted.incrementAndGet();
+              }
+            });
+    exporting.start();
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(writer.shutdown().join(10, TimeUnit.SECONDS).isSuccess()).isTrue();
+    exporting.join(10_000);
+    // Every export reported as successful was written before the writer stopped.
+    assertThat(output.lines.get()).isEqualTo(accepted.get());
+  }
+
+  private static final class CountingOutputStream extends OutputStream {
+    private final AtomicInteger lines = new AtomicInteger();
+
+    @Override
+    public void write(int b) {
+      if (b == '\n') {
+        lines.incrementAndGet();
+      }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        write(b[i]);
+      }
+    }
+  }
+}
@@ -31,7 +31,7 @@ dependencies {
   jmhImplementation("com.linecorp.armeria:armeria")
   jmhImplementation("com.linecorp.armeria:armeria-grpc")
   jmhImplementation("io.opentelemetry.proto:opentelemetry-proto")
-  jmhRuntimeOnly("com.squareup.okhttp3:okhttp")
+  jmhImplementation("com.squareup.okhttp3:okhttp")
   jmhRuntimeOnly("io.grpc:grpc-netty")
 }
 
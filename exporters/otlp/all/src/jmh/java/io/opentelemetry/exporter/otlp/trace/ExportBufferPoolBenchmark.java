@@ -0,0 +1,82 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.otlp.trace;
+
+import io.opentelemetry.exporter.internal.ExportBufferPool;
+import io.opentelemetry.exporter.internal.PooledByteArrayOutputStream;
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.sender.okhttp.internal.GrpcRequestBody;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okio.BufferedSink;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of serializing an export request into a buffer with and without an {@link
+ * ExportBufferPool}. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to see the
+ * bytes allocated per export.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ExportBufferPoolBenchmark {
+
+  @Param({"true", "false"})
+  boolean pooled;
+
+  private ExportBufferPool bufferPool;
+  private BufferedSink blackhole;
+
+  @Setup
+  public void setup() {
+    bufferPool = ExportBufferPool.create();
+    blackhole = Okio.buffer(Okio.blackhole());
+  }
+
+  @Benchmark
+  public int httpProtobufBody(RequestMarshalState state) throws IOException {
+    if (pooled) {
+      PooledByteArrayOutputStream os =
+          new PooledByteArrayOutputStream(
+              bufferPool, state.traceRequestMarshaler.getBinarySerializedSize());
+      try {
+        state.traceRequestMarshaler.writeBinaryTo(os);
+        return os.size();
+      } finally {
+        os.release();
+      }
+    }
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    state.traceRequestMarshaler.writeBinaryTo(os);
+    return os.size();
+  }
+
+  @Benchmark
+  public BufferedSink grpcGzipBody(RequestMarshalState state) throws IOException {
+    GrpcRequestBody body =
+        new GrpcRequestBody(
+            state.traceRequestMarshaler, GzipCompressor.getInstance(), pooled ? bufferPool : null);
+    body.writeTo(blackhole);
+    return blackhole;
+  }
+}
@@ -143,8 +143,10 @@ public final class OtlpGrpcLogRecordExporterBuilder {
 
   /**
    * Sets the method used to compress payloads. If unset, compression is disabled. Compression
-   * method "gzip" and "none" are supported out of the box. Support for additional compression
-   * methods is available by implementing {@link Compressor} and {@link CompressorProvider}.
+   * method "gzip" and "none" are supported out of the box. "zstd" and "lz4" are supported when
+   * {@code com.github.luben:zstd-jni} and {@code org.lz4:lz4-java} respectively are on the
+   * classpath. Support for additional compression methods is available by implementing {@link
+   * Compressor} and {@link CompressorProvider}.
    */
   public OtlpGrpcLogRecordExporterBuilder setCompression(String compressionMethod) {
     requireNonNull(compressionMethod, "compressionMethod");
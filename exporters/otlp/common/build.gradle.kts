@@ -28,6 +28,7 @@ dependencies {
   testImplementation(project(":sdk:testing"))
 
   testImplementation("com.fasterxml.jackson.core:jackson-databind")
+  testImplementation("com.google.guava:guava-testlib")
   testImplementation("com.google.protobuf:protobuf-java-util")
   testImplementation("io.opentelemetry.proto:opentelemetry-proto")
 
@@ -35,6 +36,8 @@ dependencies {
   jmhImplementation("com.fasterxml.jackson.core:jackson-core")
   jmhImplementation("io.opentelemetry.proto:opentelemetry-proto")
   jmhImplementation("io.grpc:grpc-netty")
+  jmhRuntimeOnly("com.github.luben:zstd-jni")
+  jmhRuntimeOnly("org.lz4:lz4-java")
 }
 
 wire {
@@ -0,0 +1,102 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares encoding a request into a send buffer through the buffered {@link OutputStream} encoder,
+ * which copies out of its own heap buffer, with encoding directly into a heap or direct {@link
+ * ByteBuffer}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ByteBufferMarshalBenchmark {
+
+  private static final LowAllocationTraceRequestMarshaler MARSHALER =
+      new LowAllocationTraceRequestMarshaler();
+  private static final int MAX_REQUEST_SIZE = 8 * 1024 * 1024;
+  private static final byte[] ARRAY = new byte[MAX_REQUEST_SIZE];
+  private static final ArrayOutputStream OUTPUT = new ArrayOutputStream(ARRAY);
+  private static final ByteBuffer HEAP_BUFFER = ByteBuffer.wrap(ARRAY);
+  private static final ByteBuffer DIRECT_BUFFER = ByteBuffer.allocateDirect(MAX_REQUEST_SIZE);
+
+  @Benchmark
+  @Threads(1)
+  public int outputStream(RequestMarshalState state) throws IOException {
+    MARSHALER.initialize(state.spanDataList);
+    try {
+      OUTPUT.reset();
+      MARSHALER.writeBinaryTo(OUTPUT);
+      return OUTPUT.position;
+    } finally {
+      MARSHALER.reset();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int heapByteBuffer(RequestMarshalState state) throws IOException {
+    return marshal(state, HEAP_BUFFER);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int directByteBuffer(RequestMarshalState state) throws IOException {
+    return marshal(state, DIRECT_BUFFER);
+  }
+
+  private static int marshal(RequestMarshalState state, ByteBuffer buffer) throws IOException {
+    MARSHALER.initialize(state.spanDataList);
+    try {
+      buffer.clear();
+      MARSHALER.writeBinaryTo(buffer);
+      return buffer.position();
+    } finally {
+      MARSHALER.reset();
+    }
+  }
+
+  /** Writes into a fixed array, like a sender's pooled request buffer. */
+  private static final class ArrayOutputStream extends OutputStream {
+    private final byte[] array;
+    private int position;
+
+    private ArrayOutputStream(byte[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public void write(int b) {
+      array[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      System.arraycopy(b, off, array, position, len);
+      position += len;
+    }
+
+    void reset() {
+      position = 0;
+    }
+  }
+}
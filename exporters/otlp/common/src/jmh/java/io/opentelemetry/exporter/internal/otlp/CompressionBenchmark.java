@@ -0,0 +1,283 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleCounter;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.DoubleUpDownCounter;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.exporter.internal.compression.Compressor;
+import io.opentelemetry.exporter.internal.compression.CompressorUtil;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.otlp.metrics.MetricsRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the CPU cost and compression ratio of the available {@link Compressor}s on serialized
+ * OTLP requests. The {@code compressedBytes} and {@code uncompressedBytes} secondary results give
+ * the compression ratio. zstd and lz4 require their optional libraries on the jmh classpath.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressionBenchmark {
+
+  private static final AttributeKey<Boolean> CACHE_HIT = AttributeKey.booleanKey("cache.hit");
+
+  private static final byte[] METRICS_REQUEST;
+
+  static {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder()
+            .registerMetricReader(metricReader)
+            .setResource(
+                Resource.create(
+                    Attributes.builder()
+                        .put(AttributeKey.booleanKey("key_bool"), true)
+                        .put(AttributeKey.stringKey("key_string"), "string")
+                        .put(AttributeKey.longKey("key_int"), 100L)
+                        .put(AttributeKey.doubleKey("key_double"), 100.3)
+                        .put(
+                            AttributeKey.stringArrayKey("key_string_array"),
+                            Arrays.asList("string", "string"))
+                        .put(AttributeKey.longArrayKey("key_long_array"), Arrays.asList(12L, 23L))
+                        .put(
+                            AttributeKey.doubleArrayKey("key_double_array"),
+                            Arrays.asList(12.3, 23.1))
+                        .put(
+                            AttributeKey.booleanArrayKey("key_boolean_array"),
+                            Arrays.asList(true, false))
+                        .build()))
+            .build();
+
+    Meter meter1 = meterProvider.get("longinstrumentation");
+    meter1
+        .gaugeBuilder("gauge")
+        .setDescription("gauge description")
+        .setUnit("unit")
+        .ofLongs()
+        .buildWithCallback(
+            measurement ->
+                measurement.record(5, Attributes.of(AttributeKey.stringKey("key"), "value")));
+    LongCounter longCounter =
+        meter1
+            .counterBuilder("counter")
+            .setDescription("counter description")
+            .setUnit("unit")
+            .build();
+    longCounter.add(1);
+    longCounter.add(2, Attributes.of(AttributeKey.longKey("lives"), 9L));
+    longCounter.add(3);
+    LongUpDownCounter longUpDownCounter =
+        meter1
+            .upDownCounterBuilder("updowncounter")
+            .setDescription("updowncounter description")
+            .setUnit("unit")
+            .build();
+    longUpDownCounter.add(1);
+    longUpDownCounter.add(-1, Attributes.of(AttributeKey.booleanKey("on"), true));
+    longUpDownCounter.add(1);
+
+    Meter meter2 = meterProvider.get("doubleinstrumentation");
+    meter2
+        .gaugeBuilder("doublegauge")
+        .setDescription("doublegauge")
+        .setUnit("unit")
+        .buildWithCallback(measurement -> measurement.record(5.0));
+    DoubleCounter doubleCounter = meter2.counterBuilder("doublecounter").ofDoubles().build();
+    doubleCounter.add(1.0);
+    doubleCounter.add(2.0);
+    DoubleUpDownCounter doubleUpDownCounter =
+        meter2.upDownCounterBuilder("doubleupdown").ofDoubles().build();
+    doubleUpDownCounter.add(1.0);
+    doubleUpDownCounter.add(-1.0);
+    DoubleHistogram histogram = meter2.histogramBuilder("histogram").build();
+    histogram.record(1.0);
+    histogram.record(2.0);
+    histogram.record(3.0);
+    histogram.record(4.0);
+    histogram.record(5.0);
+    Collection<MetricData> metricData = metricReader.collectAllMetrics();
+    METRICS_REQUEST = serialize(MetricsRequestMarshaler.create(metricData));
+  }
+
+  @Param({"none", "gzip", "zstd", "lz4"})
+  String compression;
+
+  @Param({"spans", "metrics"})
+  String payload;
+
+  @Param({"512"})
+  int numSpans;
+
+  private Compressor compressor;
+  private byte[] request;
+
+  @Setup
+  public void setup() {
+    compressor = CompressorUtil.validateAndResolveCompressor(compression);
+    request =
+        "metrics".equals(payload)
+            ? METRICS_REQUEST
+            : serialize(TraceRequestMarshaler.create(createSpanBatch(numSpans)));
+  }
+
+  /** Secondary results for computing the compression ratio. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Ratio {
+    public long compressedBytes;
+    public long uncompressedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      compressedBytes = 0;
+      uncompressedBytes = 0;
+    }
+  }
+
+  @Benchmark
+  public TestOutputStream compress(Ratio ratio) throws IOException {
+    TestOutputStream out = new TestOutputStream();
+    if (compressor == null) {
+      out.write(request, 0, request.length);
+    } else {
+      try (OutputStream compressed = compressor.compress(out)) {
+        compressed.write(request);
+      }
+    }
+    ratio.compressedBytes += out.getCount();
+    ratio.uncompressedBytes += request.length;
+    return out;
+  }
+
+  static byte[] serialize(Marshaler marshaler) {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try {
+      marshaler.writeBinaryTo(bos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bos.toByteArray();
+  }
+
+  /**
+   * Creates spans resembling a batch from an HTTP service: random ids and timings, a handful of
+   * routes and status codes, and a few events.
+   */
+  static List<SpanData> createSpanBatch(int numSpans) {
+    Random random = new Random(1234);
+    Resource resource =
+        Resource.create(
+            Attributes.builder()
+                .put("service.name", "checkout")
+                .put("service.version", "1.42.0")
+                .put("host.name", "checkout-7d9f8b6c5-x2x4q")
+                .put("telemetry.sdk.language", "java")
+                .build());
+    InstrumentationScopeInfo scope =
+        InstrumentationScopeInfo.builder("io.opentelemetry.servlet-5.0")
+            .setVersion("2.7.0")
+            .build();
+    String[] routes = {"/cart", "/cart/{id}", "/checkout", "/orders/{id}", "/health"};
+    long[] statusCodes = {200, 200, 200, 201, 404, 500};
+    List<SpanData> spans = new ArrayList<>(numSpans);
+    long startEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    for (int i = 0; i < numSpans; i++) {
+      String route = routes[random.nextInt(routes.length)];
+      long start = startEpochNanos + random.nextInt(1_000_000_000);
+      long end = start + random.nextInt(50_000_000);
+      spans.add(
+          TestSpanData.builder()
+              .setResource(resource)
+              .setInstrumentationScopeInfo(scope)
+              .setHasEnded(true)
+              .setSpanContext(
+                  SpanContext.create(
+                      randomHex(random, 32),
+                      randomHex(random, 16),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setParentSpanContext(SpanContext.getInvalid())
+              .setName("GET " + route)
+              .setKind(SpanKind.SERVER)
+              .setStartEpochNanos(start)
+              .setEndEpochNanos(end)
+              .setAttributes(
+                  Attributes.builder()
+                      .put("http.request.method", "GET")
+                      .put("http.route", route)
+                      .put("http.response.status_code", statusCodes[random.nextInt(6)])
+                      .put("url.path", route.replace("{id}", String.valueOf(random.nextInt())))
+                      .put("client.address", "10.0.0." + random.nextInt(256))
+                      .put("user_agent.original", "Mozilla/5.0 (X11; Linux x86_64)")
+                      .build())
+              .setTotalAttributeCount(6)
+              .setEvents(
+                  Arrays.asList(
+                      EventData.create(
+                          start + 1000,
+                          "cache.lookup",
+                          Attributes.of(CACHE_HIT, random.nextBoolean()))))
+              .setTotalRecordedEvents(1)
+              .setStatus(StatusData.unset())
+              .build());
+    }
+    return spans;
+  }
+
+  private static String randomHex(Random random, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(Character.forDigit(random.nextInt(16), 16));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.compression.GzipCompressor;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link GzipCompressor}, which pools {@link Deflater}s, with a new {@link
+ * GZIPOutputStream} per request. Run with {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class GzipCompressorBenchmark {
+
+  @Param({"16", "512"})
+  int numSpans;
+
+  private byte[] request;
+
+  @Setup
+  public void setup() {
+    request =
+        CompressionBenchmark.serialize(
+            TraceRequestMarshaler.create(CompressionBenchmark.createSpanBatch(numSpans)));
+  }
+
+  @Benchmark
+  public TestOutputStream pooledDeflater() throws IOException {
+    TestOutputStream out = new TestOutputStream();
+    try (OutputStream compressed = GzipCompressor.getInstance().compress(out)) {
+      compressed.write(request);
+    }
+    return out;
+  }
+
+  @Benchmark
+  public TestOutputStream gzipOutputStream() throws IOException {
+    TestOutputStream out = new TestOutputStream();
+    try (OutputStream compressed = new GZIPOutputStream(out)) {
+      compressed.write(request);
+    }
+    return out;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.exporter.internal.otlp.traces.LowAllocationTraceRequestMarshaler;
+import io.opentelemetry.exporter.internal.otlp.traces.TraceRequestMarshaler;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares JSON trace export through Jackson with the streaming JSON serializer. The serializer is
+ * selected once per JVM, so each runs in its own fork.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class JsonMarshalBenchmark {
+
+  private static final String STREAMING_JSON =
+      "-Dotel.experimental.otlp.streaming-json.enabled=true";
+
+  private static final LowAllocationTraceRequestMarshaler MARSHALER =
+      new LowAllocationTraceRequestMarshaler();
+  private static final TestOutputStream OUTPUT = new TestOutputStream();
+
+  @Benchmark
+  @Threads(1)
+  @Fork(1)
+  public int statefulJackson(RequestMarshalState state) throws IOException {
+    return marshalStateful(state);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @Fork(value = 1, jvmArgsAppend = STREAMING_JSON)
+  public int statefulStreaming(RequestMarshalState state) throws IOException {
+    return marshalStateful(state);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @Fork(1)
+  public int statelessJackson(RequestMarshalState state) throws IOException {
+    return marshalStateless(state);
+  }
+
+  @Benchmark
+  @Threads(1)
+  @Fork(value = 1, jvmArgsAppend = STREAMING_JSON)
+  public int statelessStreaming(RequestMarshalState state) throws IOException {
+    return marshalStateless(state);
+  }
+
+  private static int marshalStateful(RequestMarshalState state) throws IOException {
+    TraceRequestMarshaler requestMarshaler = TraceRequestMarshaler.create(state.spanDataList);
+    OUTPUT.reset();
+    requestMarshaler.writeJsonTo(OUTPUT);
+    return OUTPUT.getCount();
+  }
+
+  private static int marshalStateless(RequestMarshalState state) throws IOException {
+    MARSHALER.initialize(state.spanDataList);
+    try {
+      OUTPUT.reset();
+      MARSHALER.writeJsonTo(OUTPUT);
+      return OUTPUT.getCount();
+    } finally {
+      MARSHALER.reset();
+    }
+  }
+}
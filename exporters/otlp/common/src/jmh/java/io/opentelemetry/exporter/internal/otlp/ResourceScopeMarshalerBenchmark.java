@@ -0,0 +1,78 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-export cost of the resource and scope messages, spliced from the encoded
+ * fragment cache or encoded from scratch as every export did before the cache.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceScopeMarshalerBenchmark {
+
+  private static final TestOutputStream OUTPUT = new TestOutputStream();
+
+  @Param({"8", "32"})
+  private int resourceAttributes;
+
+  private Resource resource;
+  private InstrumentationScopeInfo scope;
+
+  @Setup
+  public void setup() {
+    AttributesBuilder attributes = Attributes.builder();
+    for (int i = 0; i < resourceAttributes; i++) {
+      attributes.put("resource.attribute." + i, "value-" + i);
+    }
+    resource = Resource.create(attributes.build());
+    scope =
+        InstrumentationScopeInfo.builder("io.opentelemetry.benchmark")
+            .setVersion("1.0.0")
+            .setSchemaUrl("https://opentelemetry.io/schemas/1.21.0")
+            .build();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int cached() throws IOException {
+    OUTPUT.reset();
+    ResourceMarshaler.create(resource).writeBinaryTo(OUTPUT);
+    InstrumentationScopeMarshaler.create(scope).writeBinaryTo(OUTPUT);
+    return OUTPUT.getCount();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int encodedPerExport() throws IOException {
+    OUTPUT.reset();
+    ResourceMarshaler.encode(resource).writeBinaryTo(OUTPUT);
+    InstrumentationScopeMarshaler.encode(scope).writeBinaryTo(OUTPUT);
+    return OUTPUT.getCount();
+  }
+}
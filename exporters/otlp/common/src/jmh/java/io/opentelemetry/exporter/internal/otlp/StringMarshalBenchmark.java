@@ -7,7 +7,10 @@ package io.opentelemetry.exporter.internal.otlp;
 
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.proto.common.v1.internal.KeyValue;
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -27,6 +30,10 @@ import org.openjdk.jmh.annotations.Warmup;
 public class StringMarshalBenchmark {
   private static final TestMarshaler MARSHALER_SAFE = new TestMarshaler(/* useUnsafe= */ false);
   private static final TestMarshaler MARSHALER_UNSAFE = new TestMarshaler(/* useUnsafe= */ true);
+  private static final RepeatedStringsMarshaler REPEATED_UNCACHED =
+      new RepeatedStringsMarshaler(/* cached= */ false);
+  private static final RepeatedStringsMarshaler REPEATED_CACHED =
+      new RepeatedStringsMarshaler(/* cached= */ true);
   private static final TestOutputStream OUTPUT = new TestOutputStream();
 
   @Benchmark
@@ -101,6 +108,94 @@ public class StringMarshalBenchmark {
     }
   }
 
+  @Benchmark
+  @Threads(1)
+  public int marshalRepeatedStringsStateful(StringMarshalState state) throws IOException {
+    OUTPUT.reset();
+    for (String string : state.repeatedStrings) {
+      byte[] utf8 = MarshalerUtil.toBytes(string);
+      OUTPUT.write(utf8, 0, utf8.length);
+    }
+    return OUTPUT.getCount();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int marshalRepeatedStringsStatefulCached(StringMarshalState state) throws IOException {
+    OUTPUT.reset();
+    for (String string : state.repeatedStrings) {
+      byte[] utf8 = MarshalerUtil.toCachedBytes(string);
+      OUTPUT.write(utf8, 0, utf8.length);
+    }
+    return OUTPUT.getCount();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int marshalRepeatedStringsStateless(StringMarshalState state) throws IOException {
+    return marshalRepeatedStrings(REPEATED_UNCACHED, state.repeatedStrings);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int marshalRepeatedStringsStatelessCached(StringMarshalState state) throws IOException {
+    return marshalRepeatedStrings(REPEATED_CACHED, state.repeatedStrings);
+  }
+
+  private static int marshalRepeatedStrings(RepeatedStringsMarshaler marshaler, String[] strings)
+      throws IOException {
+    OUTPUT.reset();
+    try {
+      marshaler.initialize(strings);
+      marshaler.writeBinaryTo(OUTPUT);
+      return OUTPUT.getCount();
+    } finally {
+      marshaler.reset();
+    }
+  }
+
+  private static class RepeatedStringsMarshaler extends Marshaler {
+    private final MarshalerContext context = new MarshalerContext();
+    private final boolean cached;
+    private int size;
+    private String[] values;
+
+    RepeatedStringsMarshaler(boolean cached) {
+      this.cached = cached;
+    }
+
+    public void initialize(String[] strings) {
+      values = strings;
+      size = 0;
+      for (String string : strings) {
+        size +=
+            cached
+                ? StatelessMarshalerUtil.sizeCachedStringWithContext(KeyValue.KEY, string, context)
+                : StatelessMarshalerUtil.sizeStringWithContext(KeyValue.KEY, string, context);
+      }
+    }
+
+    public void reset() {
+      context.reset();
+    }
+
+    @Override
+    public int getBinarySerializedSize() {
+      return size;
+    }
+
+    @Override
+    public void writeTo(Serializer output) throws IOException {
+      for (String string : values) {
+        if (cached) {
+          output.serializeCachedStringWithContext(KeyValue.KEY, string, context);
+        } else {
+          output.serializeStringWithContext(KeyValue.KEY, string, context);
+        }
+      }
+    }
+  }
+
   private static class TestMarshaler extends Marshaler {
     private final MarshalerContext context;
     private int size;
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
+import java.util.Random;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -20,11 +21,27 @@ public class StringMarshalState {
   String latin1String;
   String unicodeString;
 
+  // Attribute keys and names as they repeat across a batch: a few dozen distinct strings, with a
+  // handful of them making up most occurrences.
+  String[] repeatedStrings;
+
   @Setup
   public void setup() {
     asciiString = makeString('a', stringSize);
     latin1String = makeString('ä', stringSize);
     unicodeString = makeString('∆', stringSize);
+
+    String[] distinct = new String[32];
+    for (int i = 0; i < distinct.length; i++) {
+      distinct[i] = "service.attribute.key." + i;
+    }
+    Random random = new Random(1234);
+    repeatedStrings = new String[1024];
+    for (int i = 0; i < repeatedStrings.length; i++) {
+      // Squaring a uniform draw skews it towards the first strings.
+      double draw = random.nextDouble();
+      repeatedStrings[i] = distinct[(int) (draw * draw * distinct.length)];
+    }
   }
 
   private static String makeString(char c, int size) {
@@ -27,6 +27,14 @@ class TestOutputStream extends OutputStream {
     }
   }
 
+  @Override
+  public void write(byte[] b, int off, int len) {
+    count += len;
+    if (size > 0 && count > size) {
+      throw new IllegalStateException("max size exceeded");
+    }
+  }
+
   void reset(int size) {
     this.size = size;
     this.count = 0;
@@ -42,7 +42,7 @@ public final class AttributeKeyValueStatelessMarshaler
       byte[] keyUtf8 = ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
       output.serializeString(KeyValue.KEY, keyUtf8);
     } else {
-      output.serializeStringWithContext(KeyValue.KEY, attributeKey.getKey(), context);
+      output.serializeCachedStringWithContext(KeyValue.KEY, attributeKey.getKey(), context);
     }
     output.serializeMessageWithContext(
         KeyValue.VALUE, attributeKey, value, ValueStatelessMarshaler.INSTANCE, context);
@@ -57,8 +57,9 @@ public final class AttributeKeyValueStatelessMarshaler
         byte[] keyUtf8 = ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
         size += MarshalerUtil.sizeBytes(KeyValue.KEY, keyUtf8);
       } else {
-        return StatelessMarshalerUtil.sizeStringWithContext(
-            KeyValue.KEY, attributeKey.getKey(), context);
+        size +=
+            StatelessMarshalerUtil.sizeCachedStringWithContext(
+                KeyValue.KEY, attributeKey.getKey(), context);
       }
     }
     size +=
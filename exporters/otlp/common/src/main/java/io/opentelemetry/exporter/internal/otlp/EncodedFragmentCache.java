@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of pre-encoded messages, such as the {@link ResourceMarshaler} of a {@link
+ * io.opentelemetry.sdk.resources.Resource}, keyed by the identity of the object they encode.
+ *
+ * <p>The cache is set associative: each key maps by its identity hash code to a set of {@value
+ * #WAYS} slots, and a lookup compares the key against the references in that set. Keys are weakly
+ * referenced, so cached entries do not keep them alive, and a slot is only reused once its key is
+ * garbage collected. Live entries are never evicted, so when a set is full further keys mapping to
+ * it are encoded on every call, while the keys already cached keep hitting.
+ */
+final class EncodedFragmentCache<K, V> {
+
+  // Visible for testing
+  static final int WAYS = 8;
+
+  private final AtomicReferenceArray<Entry<K, V>> entries;
+  private final int setMask;
+
+  /**
+   * Creates a cache holding at most {@code size} entries, which must be a power of two and at least
+   * {@value #WAYS}.
+   */
+  EncodedFragmentCache(int size) {
+    if (Integer.bitCount(size) != 1 || size < WAYS) {
+      throw new IllegalArgumentException("size must be a power of two, at least " + WAYS);
+    }
+    entries = new AtomicReferenceArray<>(size);
+    setMask = size / WAYS - 1;
+  }
+
+  /**
+   * Returns the cached value for {@code key}, computing it with {@code encoder} and caching the
+   * result if absent and there is room. Racing threads may encode the same key more than once,
+   * which is harmless as the encoded values are equal.
+   */
+  V computeIfAbsent(K key, Function<K, V> encoder) {
+    int start = (System.identityHashCode(key) & setMask) * WAYS;
+    int free = -1;
+    Entry<K, V> freeEntry = null;
+    for (int i = start; i < start + WAYS; i++) {
+      Entry<K, V> entry = entries.get(i);
+      if (entry == null) {
+        // Slots are filled in order and never cleared, so the rest of the set is empty.
+        if (free < 0) {
+          free = i;
+        }
+        break;
+      }
+      K cached = entry.get();
+      if (cached == key) {
+        return entry.value;
+      }
+      if (cached == null && free < 0) {
+        free = i;
+        freeEntry = entry;
+      }
+    }
+    V value = encoder.apply(key);
+    if (free >= 0) {
+      // If another thread took the slot first, the value is simply not cached.
+      entries.compareAndSet(free, freeEntry, new Entry<>(key, value));
+    }
+    return value;
+  }
+
+  private static final class Entry<K, V> extends WeakReference<K> {
+    private final V value;
+
+    private Entry(K key, V value) {
+      super(key);
+      this.value = value;
+    }
+  }
+}
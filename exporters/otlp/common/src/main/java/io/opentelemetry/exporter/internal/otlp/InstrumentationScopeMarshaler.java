@@ -5,7 +5,6 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
-import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
@@ -23,42 +22,42 @@ import java.io.UncheckedIOException;
  */
 public final class InstrumentationScopeMarshaler extends MarshalerWithSize {
 
-  private static final WeakConcurrentMap<InstrumentationScopeInfo, InstrumentationScopeMarshaler>
-      SCOPE_MARSHALER_CACHE = new WeakConcurrentMap.WithInlinedExpunction<>();
+  // Sized well above the number of scopes of an application loading many instrumentation libraries,
+  // so that sets rarely fill up.
+  private static final EncodedFragmentCache<InstrumentationScopeInfo, InstrumentationScopeMarshaler>
+      SCOPE_MARSHALER_CACHE = new EncodedFragmentCache<>(4096);
 
   private final byte[] serializedBinary;
   private final String serializedJson;
 
   /** Returns a Marshaler for InstrumentationScopeInfo. */
   public static InstrumentationScopeMarshaler create(InstrumentationScopeInfo scopeInfo) {
-    InstrumentationScopeMarshaler cached = SCOPE_MARSHALER_CACHE.get(scopeInfo);
-    if (cached == null) {
-      // Since WeakConcurrentMap doesn't support computeIfAbsent, we may end up doing the conversion
-      // a few times until the cache gets filled which is fine.
-      byte[] name = MarshalerUtil.toBytes(scopeInfo.getName());
-      byte[] version = MarshalerUtil.toBytes(scopeInfo.getVersion());
-      KeyValueMarshaler[] attributes =
-          KeyValueMarshaler.createForAttributes(scopeInfo.getAttributes());
-
-      RealInstrumentationScopeMarshaler realMarshaler =
-          new RealInstrumentationScopeMarshaler(name, version, attributes);
-
-      ByteArrayOutputStream binaryBos =
-          new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
-
-      try {
-        realMarshaler.writeBinaryTo(binaryBos);
-      } catch (IOException e) {
-        throw new UncheckedIOException(
-            "Serialization error, this is likely a bug in OpenTelemetry.", e);
-      }
-
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
-
-      cached = new InstrumentationScopeMarshaler(binaryBos.toByteArray(), json);
-      SCOPE_MARSHALER_CACHE.put(scopeInfo, cached);
+    return SCOPE_MARSHALER_CACHE.computeIfAbsent(scopeInfo, InstrumentationScopeMarshaler::encode);
+  }
+
+  // Visible for benchmarks
+  static InstrumentationScopeMarshaler encode(InstrumentationScopeInfo scopeInfo) {
+    byte[] name = MarshalerUtil.toBytes(scopeInfo.getName());
+    byte[] version = MarshalerUtil.toBytes(scopeInfo.getVersion());
+    KeyValueMarshaler[] attributes =
+        KeyValueMarshaler.createForAttributes(scopeInfo.getAttributes());
+
+    RealInstrumentationScopeMarshaler realMarshaler =
+        new RealInstrumentationScopeMarshaler(name, version, attributes);
+
+    ByteArrayOutputStream binaryBos =
+        new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
+
+    try {
+      realMarshaler.writeBinaryTo(binaryBos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Serialization error, this is likely a bug in OpenTelemetry.", e);
     }
-    return cached;
+
+    String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+
+    return new InstrumentationScopeMarshaler(binaryBos.toByteArray(), json);
   }
 
   private InstrumentationScopeMarshaler(byte[] binary, String json) {
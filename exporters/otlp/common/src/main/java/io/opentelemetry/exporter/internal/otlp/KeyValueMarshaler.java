@@ -15,7 +15,6 @@ import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
 import io.opentelemetry.proto.common.v1.internal.KeyValue;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -42,7 +41,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
   /** Returns Marshaler for the given KeyAnyValue. */
   public static KeyValueMarshaler createForKeyAnyValue(KeyAnyValue keyAnyValue) {
     return new KeyValueMarshaler(
-        keyAnyValue.getKey().getBytes(StandardCharsets.UTF_8),
+        MarshalerUtil.toCachedBytes(keyAnyValue.getKey()),
         AnyValueMarshaler.create(keyAnyValue.getAnyValue()));
   }
 
@@ -74,7 +73,7 @@ public final class KeyValueMarshaler extends MarshalerWithSize {
     } else if (attributeKey instanceof InternalAttributeKeyImpl) {
       keyUtf8 = ((InternalAttributeKeyImpl<?>) attributeKey).getKeyUtf8();
     } else {
-      keyUtf8 = attributeKey.getKey().getBytes(StandardCharsets.UTF_8);
+      keyUtf8 = MarshalerUtil.toCachedBytes(attributeKey.getKey());
     }
     switch (attributeKey.getType()) {
       case STRING:
@@ -28,7 +28,7 @@ public final class KeyValueStatelessMarshaler implements StatelessMarshaler<KeyA
     if (key.isEmpty()) {
       output.serializeString(KeyValue.KEY, EMPTY_BYTES);
     } else {
-      output.serializeStringWithContext(KeyValue.KEY, key, context);
+      output.serializeCachedStringWithContext(KeyValue.KEY, key, context);
     }
     output.serializeMessageWithContext(
         KeyValue.VALUE, value.getAnyValue(), AnyValueStatelessMarshaler.INSTANCE, context);
@@ -39,7 +39,7 @@ public final class KeyValueStatelessMarshaler implements StatelessMarshaler<KeyA
     int size = 0;
     String key = value.getKey();
     if (!key.isEmpty()) {
-      size += StatelessMarshalerUtil.sizeStringWithContext(KeyValue.KEY, key, context);
+      size += StatelessMarshalerUtil.sizeCachedStringWithContext(KeyValue.KEY, key, context);
     }
     size +=
         StatelessMarshalerUtil.sizeMessageWithContext(
@@ -5,7 +5,6 @@
 
 package io.opentelemetry.exporter.internal.otlp;
 
-import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
 import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
 import io.opentelemetry.exporter.internal.marshal.MarshalerWithSize;
 import io.opentelemetry.exporter.internal.marshal.Serializer;
@@ -22,39 +21,37 @@ import java.io.UncheckedIOException;
  */
 public final class ResourceMarshaler extends MarshalerWithSize {
 
-  private static final WeakConcurrentMap<io.opentelemetry.sdk.resources.Resource, ResourceMarshaler>
-      RESOURCE_MARSHALER_CACHE = new WeakConcurrentMap.WithInlinedExpunction<>();
+  // Resources are shared by every span, metric and log of a provider, so few are live at a time.
+  private static final EncodedFragmentCache<
+          io.opentelemetry.sdk.resources.Resource, ResourceMarshaler>
+      RESOURCE_MARSHALER_CACHE = new EncodedFragmentCache<>(64);
 
   private final byte[] serializedBinary;
   private final String serializedJson;
 
   /** Returns a Marshaler for Resource. */
   public static ResourceMarshaler create(io.opentelemetry.sdk.resources.Resource resource) {
-    ResourceMarshaler cached = RESOURCE_MARSHALER_CACHE.get(resource);
-    if (cached == null) {
-      // Since WeakConcurrentMap doesn't support computeIfAbsent, we may end up doing the conversion
-      // a few times until the cache gets filled which is fine.
+    return RESOURCE_MARSHALER_CACHE.computeIfAbsent(resource, ResourceMarshaler::encode);
+  }
 
-      RealResourceMarshaler realMarshaler =
-          new RealResourceMarshaler(
-              KeyValueMarshaler.createForAttributes(resource.getAttributes()));
+  // Visible for benchmarks
+  static ResourceMarshaler encode(io.opentelemetry.sdk.resources.Resource resource) {
+    RealResourceMarshaler realMarshaler =
+        new RealResourceMarshaler(KeyValueMarshaler.createForAttributes(resource.getAttributes()));
 
-      ByteArrayOutputStream binaryBos =
-          new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
+    ByteArrayOutputStream binaryBos =
+        new ByteArrayOutputStream(realMarshaler.getBinarySerializedSize());
 
-      try {
-        realMarshaler.writeBinaryTo(binaryBos);
-      } catch (IOException e) {
-        throw new UncheckedIOException(
-            "Serialization error, this is likely a bug in OpenTelemetry.", e);
-      }
+    try {
+      realMarshaler.writeBinaryTo(binaryBos);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Serialization error, this is likely a bug in OpenTelemetry.", e);
+    }
 
-      String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
+    String json = MarshalerUtil.preserializeJsonFields(realMarshaler);
 
-      cached = new ResourceMarshaler(binaryBos.toByteArray(), json);
-      RESOURCE_MARSHALER_CACHE.put(resource, cached);
-    }
-    return cached;
+    return new ResourceMarshaler(binaryBos.toByteArray(), json);
   }
 
   private ResourceMarshaler(byte[] binary, String json) {
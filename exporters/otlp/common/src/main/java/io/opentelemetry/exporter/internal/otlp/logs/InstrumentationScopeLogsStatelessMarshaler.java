@@ -36,7 +36,7 @@ final class InstrumentationScopeLogsStatelessMarshaler
     output.serializeMessage(ScopeLogs.SCOPE, instrumentationScopeMarshaler);
     output.serializeRepeatedMessageWithContext(
         ScopeLogs.LOG_RECORDS, logs, LogStatelessMarshaler.INSTANCE, context);
-    output.serializeStringWithContext(
+    output.serializeCachedStringWithContext(
         ScopeLogs.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
   }
 
@@ -55,7 +55,7 @@ final class InstrumentationScopeLogsStatelessMarshaler
         StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
             ScopeLogs.LOG_RECORDS, logs, LogStatelessMarshaler.INSTANCE, context);
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ScopeLogs.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
 
     return size;
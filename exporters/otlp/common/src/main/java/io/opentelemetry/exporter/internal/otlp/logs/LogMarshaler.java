@@ -53,7 +53,7 @@ final class LogMarshaler extends MarshalerWithSize {
         logRecordData.getTimestampEpochNanos(),
         logRecordData.getObservedTimestampEpochNanos(),
         toProtoSeverityNumber(logRecordData.getSeverity()),
-        MarshalerUtil.toBytes(logRecordData.getSeverityText()),
+        MarshalerUtil.toCachedBytes(logRecordData.getSeverityText()),
         bodyMarshaler,
         attributeMarshalers,
         logRecordData.getTotalAttributeCount() - logRecordData.getAttributes().size(),
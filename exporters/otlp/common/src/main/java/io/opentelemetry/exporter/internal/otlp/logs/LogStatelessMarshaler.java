@@ -37,7 +37,8 @@ final class LogStatelessMarshaler implements StatelessMarshaler<LogRecordData> {
     output.serializeFixed64(
         LogRecord.OBSERVED_TIME_UNIX_NANO, log.getObservedTimestampEpochNanos());
     output.serializeEnum(LogRecord.SEVERITY_NUMBER, toProtoSeverityNumber(log.getSeverity()));
-    output.serializeStringWithContext(LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
+    output.serializeCachedStringWithContext(
+        LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
     output.serializeMessageWithContext(
         LogRecord.BODY, log.getBody(), BodyMarshaler.INSTANCE, context);
     output.serializeRepeatedMessageWithContext(
@@ -69,7 +70,7 @@ final class LogStatelessMarshaler implements StatelessMarshaler<LogRecordData> {
     size +=
         MarshalerUtil.sizeEnum(LogRecord.SEVERITY_NUMBER, toProtoSeverityNumber(log.getSeverity()));
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             LogRecord.SEVERITY_TEXT, log.getSeverityText(), context);
     size +=
         StatelessMarshalerUtil.sizeMessageWithContext(
@@ -50,13 +50,13 @@ public final class ResourceLogsMarshaler extends MarshalerWithSize {
         instrumentationLibrarySpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeLogsMarshaler(
                 InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                MarshalerUtil.toCachedBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceLogsMarshalers[posResource++] =
           new ResourceLogsMarshaler(
               ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              MarshalerUtil.toCachedBytes(entry.getKey().getSchemaUrl()),
               instrumentationLibrarySpansMarshalers);
     }
 
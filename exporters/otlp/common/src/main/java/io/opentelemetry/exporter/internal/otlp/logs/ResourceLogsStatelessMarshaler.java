@@ -48,7 +48,8 @@ public final class ResourceLogsStatelessMarshaler
         context,
         SCOPE_LOG_WRITER_KEY);
 
-    output.serializeStringWithContext(ResourceLogs.SCHEMA_URL, resource.getSchemaUrl(), context);
+    output.serializeCachedStringWithContext(
+        ResourceLogs.SCHEMA_URL, resource.getSchemaUrl(), context);
   }
 
   @Override
@@ -72,7 +73,7 @@ public final class ResourceLogsStatelessMarshaler
             SCOPE_LOG_SIZE_CALCULATOR_KEY);
 
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ResourceLogs.SCHEMA_URL, resource.getSchemaUrl(), context);
 
     return size;
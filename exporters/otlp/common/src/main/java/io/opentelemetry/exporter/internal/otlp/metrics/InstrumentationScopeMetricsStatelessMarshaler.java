@@ -39,7 +39,7 @@ final class InstrumentationScopeMetricsStatelessMarshaler
     output.serializeMessage(ScopeMetrics.SCOPE, instrumentationScopeMarshaler);
     output.serializeRepeatedMessageWithContext(
         ScopeMetrics.METRICS, metrics, MetricStatelessMarshaler.INSTANCE, context);
-    output.serializeStringWithContext(
+    output.serializeCachedStringWithContext(
         ScopeMetrics.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
   }
 
@@ -58,7 +58,7 @@ final class InstrumentationScopeMetricsStatelessMarshaler
         StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
             ScopeMetrics.METRICS, metrics, MetricStatelessMarshaler.INSTANCE, context);
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ScopeSpans.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
 
     return size;
@@ -23,10 +23,9 @@ final class MetricMarshaler extends MarshalerWithSize {
   private final ProtoFieldInfo dataField;
 
   static Marshaler create(MetricData metric) {
-    // TODO(anuraaga): Cache these as they should be effectively singleton.
-    byte[] name = MarshalerUtil.toBytes(metric.getName());
-    byte[] description = MarshalerUtil.toBytes(metric.getDescription());
-    byte[] unit = MarshalerUtil.toBytes(metric.getUnit());
+    byte[] name = MarshalerUtil.toCachedBytes(metric.getName());
+    byte[] description = MarshalerUtil.toCachedBytes(metric.getDescription());
+    byte[] unit = MarshalerUtil.toCachedBytes(metric.getUnit());
 
     Marshaler dataMarshaler = null;
     ProtoFieldInfo dataField = null;
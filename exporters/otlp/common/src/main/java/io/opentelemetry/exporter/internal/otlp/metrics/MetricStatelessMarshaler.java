@@ -183,9 +183,9 @@ final class MetricStatelessMarshaler implements StatelessMarshaler<MetricData> {
       return;
     }
 
-    output.serializeStringWithContext(Metric.NAME, metric.getName(), context);
-    output.serializeStringWithContext(Metric.DESCRIPTION, metric.getDescription(), context);
-    output.serializeStringWithContext(Metric.UNIT, metric.getUnit(), context);
+    output.serializeCachedStringWithContext(Metric.NAME, metric.getName(), context);
+    output.serializeCachedStringWithContext(Metric.DESCRIPTION, metric.getDescription(), context);
+    output.serializeCachedStringWithContext(Metric.UNIT, metric.getUnit(), context);
 
     metricMarshaler.writeTo(output, metric, context);
   }
@@ -199,11 +199,13 @@ final class MetricStatelessMarshaler implements StatelessMarshaler<MetricData> {
     }
 
     int size = 0;
-    size += StatelessMarshalerUtil.sizeStringWithContext(Metric.NAME, metric.getName(), context);
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(Metric.NAME, metric.getName(), context);
+    size +=
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             Metric.DESCRIPTION, metric.getDescription(), context);
-    size += StatelessMarshalerUtil.sizeStringWithContext(Metric.UNIT, metric.getUnit(), context);
+    size +=
+        StatelessMarshalerUtil.sizeCachedStringWithContext(Metric.UNIT, metric.getUnit(), context);
 
     size += metricMarshaler.getBinarySerializedSize(metric, context);
 
@@ -50,13 +50,13 @@ public final class ResourceMetricsMarshaler extends MarshalerWithSize {
         instrumentationLibrarySpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeMetricsMarshaler(
                 InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                MarshalerUtil.toCachedBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceMetricsMarshalers[posResource++] =
           new ResourceMetricsMarshaler(
               ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              MarshalerUtil.toCachedBytes(entry.getKey().getSchemaUrl()),
               instrumentationLibrarySpansMarshalers);
     }
 
@@ -51,7 +51,8 @@ public final class ResourceMetricsStatelessMarshaler
         context,
         SCOPE_METRIC_WRITER_KEY);
 
-    output.serializeStringWithContext(ResourceMetrics.SCHEMA_URL, resource.getSchemaUrl(), context);
+    output.serializeCachedStringWithContext(
+        ResourceMetrics.SCHEMA_URL, resource.getSchemaUrl(), context);
   }
 
   @Override
@@ -75,7 +76,7 @@ public final class ResourceMetricsStatelessMarshaler
             SCOPE_METRIC_SIZE_CALCULATOR_KEY);
 
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ResourceMetrics.SCHEMA_URL, resource.getSchemaUrl(), context);
 
     return size;
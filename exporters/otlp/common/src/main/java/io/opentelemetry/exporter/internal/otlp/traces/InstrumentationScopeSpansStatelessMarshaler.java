@@ -38,7 +38,7 @@ final class InstrumentationScopeSpansStatelessMarshaler
     output.serializeMessage(ScopeSpans.SCOPE, instrumentationScopeMarshaler);
     output.serializeRepeatedMessageWithContext(
         ScopeSpans.SPANS, spans, SpanStatelessMarshaler.INSTANCE, context);
-    output.serializeStringWithContext(
+    output.serializeCachedStringWithContext(
         ScopeSpans.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
   }
 
@@ -57,7 +57,7 @@ final class InstrumentationScopeSpansStatelessMarshaler
         StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
             ScopeSpans.SPANS, spans, SpanStatelessMarshaler.INSTANCE, context);
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ScopeSpans.SCHEMA_URL, instrumentationScope.getSchemaUrl(), context);
 
     return size;
@@ -49,13 +49,13 @@ public final class ResourceSpansMarshaler extends MarshalerWithSize {
         instrumentationScopeSpansMarshalers[posInstrumentation++] =
             new InstrumentationScopeSpansMarshaler(
                 InstrumentationScopeMarshaler.create(entryIs.getKey()),
-                MarshalerUtil.toBytes(entryIs.getKey().getSchemaUrl()),
+                MarshalerUtil.toCachedBytes(entryIs.getKey().getSchemaUrl()),
                 entryIs.getValue());
       }
       resourceSpansMarshalers[posResource++] =
           new ResourceSpansMarshaler(
               ResourceMarshaler.create(entry.getKey()),
-              MarshalerUtil.toBytes(entry.getKey().getSchemaUrl()),
+              MarshalerUtil.toCachedBytes(entry.getKey().getSchemaUrl()),
               instrumentationScopeSpansMarshalers);
     }
     return resourceSpansMarshalers;
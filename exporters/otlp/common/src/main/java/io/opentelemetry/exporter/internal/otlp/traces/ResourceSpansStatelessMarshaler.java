@@ -50,7 +50,8 @@ public final class ResourceSpansStatelessMarshaler
         context,
         SCOPE_SPAN_WRITER_KEY);
 
-    output.serializeStringWithContext(ResourceSpans.SCHEMA_URL, resource.getSchemaUrl(), context);
+    output.serializeCachedStringWithContext(
+        ResourceSpans.SCHEMA_URL, resource.getSchemaUrl(), context);
   }
 
   @Override
@@ -74,7 +75,7 @@ public final class ResourceSpansStatelessMarshaler
             SCOPE_SPAN_SIZE_CALCULATOR_KEY);
 
     size +=
-        StatelessMarshalerUtil.sizeStringWithContext(
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
             ResourceSpans.SCHEMA_URL, resource.getSchemaUrl(), context);
 
     return size;
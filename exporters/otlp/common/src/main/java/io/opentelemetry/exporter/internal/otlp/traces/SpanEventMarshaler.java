@@ -39,7 +39,7 @@ final class SpanEventMarshaler extends MarshalerWithSize {
   static SpanEventMarshaler create(EventData event) {
     return new SpanEventMarshaler(
         event.getEpochNanos(),
-        MarshalerUtil.toBytes(event.getName()),
+        MarshalerUtil.toCachedBytes(event.getName()),
         KeyValueMarshaler.createForAttributes(event.getAttributes()),
         event.getTotalAttributeCount() - event.getAttributes().size());
   }
@@ -25,7 +25,7 @@ final class SpanEventStatelessMarshaler implements StatelessMarshaler<EventData>
   public void writeTo(Serializer output, EventData event, MarshalerContext context)
       throws IOException {
     output.serializeFixed64(Span.Event.TIME_UNIX_NANO, event.getEpochNanos());
-    output.serializeStringWithContext(Span.Event.NAME, event.getName(), context);
+    output.serializeCachedStringWithContext(Span.Event.NAME, event.getName(), context);
     output.serializeRepeatedMessageWithContext(
         Span.Event.ATTRIBUTES,
         event.getAttributes(),
@@ -39,7 +39,9 @@ final class SpanEventStatelessMarshaler implements StatelessMarshaler<EventData>
   public int getBinarySerializedSize(EventData event, MarshalerContext context) {
     int size = 0;
     size += MarshalerUtil.sizeFixed64(Span.Event.TIME_UNIX_NANO, event.getEpochNanos());
-    size += StatelessMarshalerUtil.sizeStringWithContext(Span.Event.NAME, event.getName(), context);
+    size +=
+        StatelessMarshalerUtil.sizeCachedStringWithContext(
+            Span.Event.NAME, event.getName(), context);
     size +=
         StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
             Span.Event.ATTRIBUTES,
@@ -60,7 +60,7 @@ final class SpanMarshaler extends MarshalerWithSize {
         spanData.getSpanContext().getSpanId(),
         traceStateUtf8,
         parentSpanId,
-        MarshalerUtil.toBytes(spanData.getName()),
+        MarshalerUtil.toCachedBytes(spanData.getName()),
         toProtoSpanKind(spanData.getKind()),
         spanData.getStartEpochNanos(),
         spanData.getEndEpochNanos(),
@@ -36,7 +36,7 @@ final class SpanStatelessMarshaler implements StatelessMarshaler<SpanData> {
         span.getParentSpanContext().isValid() ? span.getParentSpanContext().getSpanId() : null;
     output.serializeSpanId(Span.PARENT_SPAN_ID, parentSpanId, context);
 
-    output.serializeStringWithContext(Span.NAME, span.getName(), context);
+    output.serializeCachedStringWithContext(Span.NAME, span.getName(), context);
     output.serializeEnum(Span.KIND, toProtoSpanKind(span.getKind()));
 
     output.serializeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
@@ -83,7 +83,7 @@ final class SpanStatelessMarshaler implements StatelessMarshaler<SpanData> {
         span.getParentSpanContext().isValid() ? span.getParentSpanContext().getSpanId() : null;
     size += MarshalerUtil.sizeSpanId(Span.PARENT_SPAN_ID, parentSpanId);
 
-    size += StatelessMarshalerUtil.sizeStringWithContext(Span.NAME, span.getName(), context);
+    size += StatelessMarshalerUtil.sizeCachedStringWithContext(Span.NAME, span.getName(), context);
     size += MarshalerUtil.sizeEnum(Span.KIND, toProtoSpanKind(span.getKind()));
 
     size += MarshalerUtil.sizeFixed64(Span.START_TIME_UNIX_NANO, span.getStartEpochNanos());
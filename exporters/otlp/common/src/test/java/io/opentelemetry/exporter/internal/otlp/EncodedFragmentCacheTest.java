@@ -0,0 +1,155 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.internal.otlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.testing.GcFinalization;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class EncodedFragmentCacheTest {
+
+  @Test
+  void invalidSize() {
+    assertThatThrownBy(() -> new EncodedFragmentCache<>(3))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void computeIfAbsent_KeyedByIdentity() {
+    EncodedFragmentCache<Resource, Integer> cache = new EncodedFragmentCache<>(16);
+    AtomicInteger encodings = new AtomicInteger();
+    Resource key = Resource.create(Attributes.builder().put("key", "value").build());
+    Resource equalKey = Resource.create(Attributes.builder().put("key", "value").build());
+
+    assertThat(cache.computeIfAbsent(key, unused -> encodings.incrementAndGet())).isEqualTo(1);
+    assertThat(cache.computeIfAbsent(key, unused -> encodings.incrementAndGet())).isEqualTo(1);
+    assertThat(cache.computeIfAbsent(equalKey, unused -> encodings.incrementAndGet()))
+        .isEqualTo(2);
+  }
+
+  @Test
+  void computeIfAbsent_MoreKeysThanSlots_HitSteadily() {
+    int size = 2 * EncodedFragmentCache.WAYS;
+    EncodedFragmentCache<Object, Object> cache = new EncodedFragmentCache<>(size);
+    List<Object> keys = new ArrayList<>();
+    for (int i = 0; i < 8 * size; i++) {
+      keys.add(new Object());
+    }
+
+    Set<Object> firstHits = null;
+    for (int round = 0; round < 5; round++) {
+      Set<Object> hits = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (Object key : keys) {
+        AtomicBoolean encoded = new AtomicBoolean();
+        cache.computeIfAbsent(
+            key,
+            unused -> {
+              encoded.set(true);
+              return key;
+            });
+        if (!encoded.get()) {
+          hits.add(key);
+        }
+      }
+      if (round == 0) {
+        assertThat(hits).isEmpty();
+      } else if (firstHits == null) {
+        // Every slot is filled, and cached keys are not evicted by the keys which don't fit.
+        assertThat(hits).hasSize(size);
+        firstHits = hits;
+      } else {
+        assertThat(hits).isEqualTo(firstHits);
+      }
+    }
+  }
+
+  @Test
+  void computeIfAbsent_ReusesSlotOfCollectedKey() {
+    EncodedFragmentCache<Object, Object> cache =
+        new EncodedFragmentCache<>(EncodedFragmentCache.WAYS);
+    List<Object> keys = new ArrayList<>();
+    for (int i = 0; i < EncodedFragmentCache.WAYS; i++) {
+      Object key = new Object();
+      keys.add(key);
+      cache.computeIfAbsent(key, unused -> "value");
+    }
+    Object late = new Object();
+    assertThat(cache.computeIfAbsent(late, unused -> "late")).isEqualTo("late");
+    assertThat(cache.computeIfAbsent(late, unused -> "late again")).isEqualTo("late again");
+
+    keys.clear();
+    GcFinalization.awaitFullGc();
+
+    assertThat(cache.computeIfAbsent(late, unused -> "late")).isEqualTo("late");
+    assertThat(cache.computeIfAbsent(late, unused -> "late again")).isEqualTo("late");
+  }
+
+  @Test
+  void instrumentationScopeMarshaler_ManyScopesCached() {
+    // More scopes than an application typically has, each cached once encoded.
+    List<InstrumentationScopeInfo> scopes = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      scopes.add(InstrumentationScopeInfo.builder("scope" + i).setVersion("1.0").build());
+    }
+    List<InstrumentationScopeMarshaler> marshalers = new ArrayList<>();
+    for (InstrumentationScopeInfo scope : scopes) {
+      marshalers.add(InstrumentationScopeMarshaler.create(scope));
+    }
+
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < scopes.size(); i++) {
+        assertThat(InstrumentationScopeMarshaler.create(scopes.get(i)))
+            .isSameAs(marshalers.get(i));
+      }
+    }
+  }
+
+  @Test
+  void resourceMarshaler_Cached() throws IOException {
+    Resource resource = Resource.create(Attributes.builder().put("service.name", "svc").build());
+
+    ResourceMarshaler marshaler = ResourceMarshaler.create(resource);
+
+    assertThat(ResourceMarshaler.create(resource)).isSameAs(marshaler);
+    assertThat(toBinary(marshaler)).isEqualTo(toBinary(ResourceMarshaler.encode(resource)));
+  }
+
+  @Test
+  void instrumentationScopeMarshaler_Cached() throws IOException {
+    InstrumentationScopeInfo scope =
+        InstrumentationScopeInfo.builder("scope")
+            .setVersion("1.0")
+            .setAttributes(Attributes.builder().put("key", "value").build())
+            .build();
+
+    InstrumentationScopeMarshaler marshaler = InstrumentationScopeMarshaler.create(scope);
+
+    assertThat(InstrumentationScopeMarshaler.create(scope)).isSameAs(marshaler);
+    assertThat(toBinary(marshaler))
+        .isEqualTo(toBinary(InstrumentationScopeMarshaler.encode(scope)));
+  }
+
+  private static byte[] toBinary(Marshaler marshaler) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    marshaler.writeBinaryTo(bos);
+    return bos.toByteArray();
+  }
+}
@@ -5,26 +5,66 @@
 
 package io.opentelemetry.exporter.sender.jdk.internal;
 
+import static java.util.Objects.requireNonNull;
+
 import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Flow;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
 final class BodyPublisher implements HttpRequest.BodyPublisher {
 
   private final int length;
-  private final byte[] content;
-  private final Supplier<ByteBuffer> bufSupplier;
+  @Nullable private final byte[] content;
+  @Nullable private final Supplier<ByteBuffer> bufSupplier;
+  // Content already encoded into a buffer, published as is instead of copied.
+  @Nullable private final ByteBuffer encoded;
+  private boolean abandoned;
 
   BodyPublisher(byte[] content, int length, Supplier<ByteBuffer> bufSupplier) {
     this.content = content;
     this.length = length;
     this.bufSupplier = bufSupplier;
+    this.encoded = null;
+  }
+
+  /**
+   * Creates a publisher of the remaining bytes of {@code encoded}, which must not be modified
+   * until the request completes.
+   */
+  BodyPublisher(ByteBuffer encoded) {
+    this.content = null;
+    this.length = encoded.remaining();
+    this.bufSupplier = null;
+    this.encoded = encoded;
+  }
+
+  /**
+   * Marks that a request publishing this body ended without a response. The client may still be
+   * reading the content, so it must not be reused.
+   */
+  void abandon() {
+    abandoned = true;
+  }
+
+  /** Returns whether a request publishing this body ended without a response. */
+  boolean isAbandoned() {
+    return abandoned;
+  }
+
+  private List<ByteBuffer> toBuffers() {
+    if (encoded != null) {
+      // Each subscription, such as a retry, reads its own view of the content.
+      return Collections.singletonList(encoded.asReadOnlyBuffer());
+    }
+    return copyToBuffers(requireNonNull(content), requireNonNull(bufSupplier));
   }
 
-  private List<ByteBuffer> copyToBuffers() {
+  private List<ByteBuffer> copyToBuffers(byte[] content, Supplier<ByteBuffer> bufSupplier) {
     int offset = 0;
     int length = this.length;
 
@@ -49,7 +89,7 @@ final class BodyPublisher implements HttpRequest.BodyPublisher {
 
   @Override
   public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
-    Subscription subscription = new Subscription(copyToBuffers(), subscriber);
+    Subscription subscription = new Subscription(toBuffers(), subscriber);
     subscriber.onSubscribe(subscription);
   }
 
@@ -7,13 +7,14 @@ package io.opentelemetry.exporter.sender.jdk.internal;
 
 import static java.util.stream.Collectors.joining;
 
+import io.opentelemetry.exporter.internal.ExportBufferPool;
+import io.opentelemetry.exporter.internal.PooledByteArrayOutputStream;
 import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.http.HttpSender;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.export.ProxyOptions;
 import io.opentelemetry.sdk.common.export.RetryPolicy;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
@@ -52,14 +53,13 @@ public final class JdkHttpSender implements HttpSender {
 
   private static final Set<Integer> retryableStatusCodes = Set.of(429, 502, 503, 504);
 
-  private static final ThreadLocal<NoCopyByteArrayOutputStream> threadLocalBaos =
-      ThreadLocal.withInitial(NoCopyByteArrayOutputStream::new);
   private static final ThreadLocal<ByteBufferPool> threadLocalByteBufPool =
       ThreadLocal.withInitial(ByteBufferPool::new);
 
   private static final Logger logger = Logger.getLogger(JdkHttpSender.class.getName());
 
   private final ExecutorService executorService = Executors.newFixedThreadPool(5);
+  private final ExportBufferPool bufferPool = ExportBufferPool.create();
   private final HttpClient client;
   private final URI uri;
   @Nullable private final Compressor compressor;
@@ -167,8 +167,44 @@ public final class JdkHttpSender implements HttpSender {
     }
     requestBuilder.header("Content-Type", contentType);
 
-    NoCopyByteArrayOutputStream os = threadLocalBaos.get();
-    os.reset();
+    int size = marshaler.getBinarySerializedSize();
+    if (compressor == null && !exportAsJson) {
+      // Encode straight into the pooled array and publish it without further copies.
+      byte[] buffer = bufferPool.acquire(size);
+      BodyPublisher publisher = null;
+      try {
+        ByteBuffer body = ByteBuffer.wrap(buffer, 0, size);
+        marshaler.writeBinaryTo(body);
+        body.flip();
+        publisher = new BodyPublisher(body);
+        requestBuilder.POST(publisher);
+        return send(requestBuilder, publisher, threadLocalByteBufPool.get(), startTimeNanos);
+      } finally {
+        // A buffer the client may still be reading is left to the garbage collector.
+        if (publisher == null || !publisher.isAbandoned()) {
+          bufferPool.release(buffer);
+        }
+      }
+    }
+
+    PooledByteArrayOutputStream os = new PooledByteArrayOutputStream(bufferPool, size);
+    BodyPublisher publisher = null;
+    try {
+      writeBody(requestBuilder, marshaler, os);
+      ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
+      publisher = new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer);
+      requestBuilder.POST(publisher);
+      return send(requestBuilder, publisher, byteBufferPool, startTimeNanos);
+    } finally {
+      if (publisher == null || !publisher.isAbandoned()) {
+        os.release();
+      }
+    }
+  }
+
+  private void writeBody(
+      HttpRequest.Builder requestBuilder, Marshaler marshaler, PooledByteArrayOutputStream os)
+      throws IOException {
     if (compressor != null) {
       requestBuilder.header("Content-Encoding", compressor.getEncoding());
       try (OutputStream compressed = compressor.compress(os)) {
@@ -179,13 +215,17 @@ public final class JdkHttpSender implements HttpSender {
     } else {
       write(marshaler, os);
     }
+  }
 
-    ByteBufferPool byteBufferPool = threadLocalByteBufPool.get();
-    requestBuilder.POST(new BodyPublisher(os.buf(), os.size(), byteBufferPool::getBuffer));
-
+  private HttpResponse<byte[]> send(
+      HttpRequest.Builder requestBuilder,
+      BodyPublisher publisher,
+      ByteBufferPool byteBufferPool,
+      long startTimeNanos)
+      throws IOException {
     // If no retry policy, short circuit
     if (retryPolicy == null) {
-      return sendRequest(requestBuilder, byteBufferPool);
+      return sendRequest(requestBuilder, publisher, byteBufferPool);
     }
 
     long attempt = 0;
@@ -213,7 +253,7 @@ public final class JdkHttpSender implements HttpSender {
       attempt++;
       requestBuilder.timeout(Duration.ofNanos(timeoutNanos - (System.nanoTime() - startTimeNanos)));
       try {
-        httpResponse = sendRequest(requestBuilder, byteBufferPool);
+        httpResponse = sendRequest(requestBuilder, publisher, byteBufferPool);
       } catch (IOException e) {
         exception = e;
       }
@@ -278,14 +318,26 @@ public final class JdkHttpSender implements HttpSender {
   }
 
   private HttpResponse<byte[]> sendRequest(
-      HttpRequest.Builder requestBuilder, ByteBufferPool byteBufferPool) throws IOException {
+      HttpRequest.Builder requestBuilder, BodyPublisher publisher, ByteBufferPool byteBufferPool)
+      throws IOException {
+    boolean responded = false;
     try {
-      return client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+      HttpResponse<byte[]> response =
+          client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofByteArray());
+      responded = true;
+      return response;
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new IllegalStateException(e);
     } finally {
-      byteBufferPool.resetPool();
+      if (responded) {
+        byteBufferPool.resetPool();
+      } else {
+        // The request failed, timed out or was interrupted, but the client may still be reading
+        // the body, so none of its buffers can be reused.
+        publisher.abandon();
+        byteBufferPool.dropBuffers();
+      }
     }
   }
 
@@ -299,16 +351,6 @@ public final class JdkHttpSender implements HttpSender {
     return !(throwable instanceof SSLException);
   }
 
-  private static class NoCopyByteArrayOutputStream extends ByteArrayOutputStream {
-    NoCopyByteArrayOutputStream() {
-      super(retryableStatusCodes.size());
-    }
-
-    private byte[] buf() {
-      return buf;
-    }
-  }
-
   private static Response toHttpResponse(HttpResponse<byte[]> response) {
     return new Response() {
       @Override
@@ -345,6 +387,10 @@ public final class JdkHttpSender implements HttpSender {
       return buffer;
     }
 
+    private void dropBuffers() {
+      out.clear();
+    }
+
     private void resetPool() {
       ByteBuffer buf = out.poll();
       while (buf != null) {
@@ -359,4 +405,9 @@ public final class JdkHttpSender implements HttpSender {
     executorService.shutdown();
     return CompletableResultCode.ofSuccess();
   }
+
+  @Override
+  public ExportBufferPool getBufferPool() {
+    return bufferPool;
+  }
 }
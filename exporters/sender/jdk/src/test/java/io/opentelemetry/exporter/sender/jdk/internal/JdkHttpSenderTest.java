@@ -9,7 +9,9 @@ import static org.assertj.core.api.Assertions.as;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,6 +24,8 @@ import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.net.http.HttpClient;
 import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
@@ -136,6 +140,44 @@ class JdkHttpSenderTest {
     verify(mockHttpClient, times(1)).send(any(), any());
   }
 
+  @Test
+  void sendInternal_ResponseReleasesBuffer() throws IOException, InterruptedException {
+    HttpResponse<?> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(200);
+    doReturn(response).when(mockHttpClient).send(any(), any());
+
+    assertThat(sender.sendInternal(new NoOpMarshaler())).isSameAs(response);
+
+    assertThat(sender.getBufferPool().getPooledBytes()).isPositive();
+  }
+
+  @Test
+  void sendInternal_TimeoutDropsBuffer() throws IOException, InterruptedException {
+    doThrow(new HttpTimeoutException("request timed out"))
+        .when(mockHttpClient)
+        .send(any(), any());
+
+    assertThatThrownBy(() -> sender.sendInternal(new NoOpMarshaler()))
+        .isInstanceOf(HttpTimeoutException.class);
+
+    // The client may still be reading the request body, so its buffer is not reused.
+    assertThat(sender.getBufferPool().getPooledBytes()).isZero();
+  }
+
+  @Test
+  void sendInternal_RetryAfterTimeoutDropsBuffer() throws IOException, InterruptedException {
+    HttpResponse<?> response = mock(HttpResponse.class);
+    when(response.statusCode()).thenReturn(200);
+    doThrow(new HttpTimeoutException("request timed out"))
+        .doReturn(response)
+        .when(mockHttpClient)
+        .send(any(), any());
+
+    assertThat(sender.sendInternal(new NoOpMarshaler())).isSameAs(response);
+
+    assertThat(sender.getBufferPool().getPooledBytes()).isZero();
+  }
+
   @Test
   void connectTimeout() {
     sender =
@@ -5,9 +5,12 @@
 
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
+import io.opentelemetry.exporter.internal.ExportBufferPool;
+import io.opentelemetry.exporter.internal.PooledByteArrayOutputStream;
 import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.marshal.Marshaler;
 import java.io.IOException;
+import java.io.OutputStream;
 import javax.annotation.Nullable;
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -34,11 +37,22 @@ public final class GrpcRequestBody extends RequestBody {
   private final int messageSize;
   private final int contentLength;
   @Nullable private final Compressor compressor;
+  @Nullable private final ExportBufferPool bufferPool;
 
   /** Creates a new {@link GrpcRequestBody}. */
   public GrpcRequestBody(Marshaler marshaler, @Nullable Compressor compressor) {
+    this(marshaler, compressor, null);
+  }
+
+  /**
+   * Creates a new {@link GrpcRequestBody} which compresses into buffers from {@code bufferPool}
+   * instead of allocating a new buffer for each request.
+   */
+  public GrpcRequestBody(
+      Marshaler marshaler, @Nullable Compressor compressor, @Nullable ExportBufferPool bufferPool) {
     this.marshaler = marshaler;
     this.compressor = compressor;
+    this.bufferPool = bufferPool;
 
     messageSize = marshaler.getBinarySerializedSize();
     if (compressor != null) {
@@ -66,6 +80,19 @@ public final class GrpcRequestBody extends RequestBody {
       sink.writeByte(UNCOMPRESSED_FLAG);
       sink.writeInt(messageSize);
       marshaler.writeBinaryTo(sink.outputStream());
+    } else if (bufferPool != null) {
+      PooledByteArrayOutputStream compressedBody =
+          new PooledByteArrayOutputStream(bufferPool, messageSize);
+      try {
+        try (OutputStream compressed = compressor.compress(compressedBody)) {
+          marshaler.writeBinaryTo(compressed);
+        }
+        sink.writeByte(COMPRESSED_FLAG);
+        sink.writeInt(compressedBody.size());
+        sink.write(compressedBody.buf(), 0, compressedBody.size());
+      } finally {
+        compressedBody.release();
+      }
     } else {
       try (Buffer compressedBody = new Buffer()) {
         try (BufferedSink compressedSink =
@@ -24,6 +24,7 @@
 package io.opentelemetry.exporter.sender.okhttp.internal;
 
 import io.opentelemetry.api.internal.InstrumentationUtil;
+import io.opentelemetry.exporter.internal.ExportBufferPool;
 import io.opentelemetry.exporter.internal.RetryUtil;
 import io.opentelemetry.exporter.internal.compression.Compressor;
 import io.opentelemetry.exporter.internal.grpc.GrpcExporterUtil;
@@ -70,6 +71,7 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
   private final HttpUrl url;
   private final Supplier<Map<String, List<String>>> headersSupplier;
   @Nullable private final Compressor compressor;
+  private final ExportBufferPool bufferPool = ExportBufferPool.create();
 
   /** Creates a new {@link OkHttpGrpcSender}. */
   public OkHttpGrpcSender(
@@ -121,7 +123,7 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
     if (compressor != null) {
       requestBuilder.addHeader("grpc-encoding", compressor.getEncoding());
     }
-    RequestBody requestBody = new GrpcRequestBody(request, compressor);
+    RequestBody requestBody = new GrpcRequestBody(request, compressor, bufferPool);
     requestBuilder.post(requestBody);
 
     InstrumentationUtil.suppressInstrumentation(
@@ -214,6 +216,11 @@ public final class OkHttpGrpcSender<T extends Marshaler> implements GrpcSender<T
     return CompletableResultCode.ofSuccess();
   }
 
+  @Override
+  public ExportBufferPool getBufferPool() {
+    return bufferPool;
+  }
+
   /** Whether response is retriable or not. */
   public static boolean isRetryable(Response response) {
     // Only retry on gRPC codes which will always come with an HTTP success
@@ -2,6 +2,7 @@ plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
 
+  id("otel.jmh-conventions")
   id("otel.animalsniffer-conventions")
 }
 
@@ -20,6 +21,8 @@ dependencies {
 
   testImplementation(project(":sdk:testing"))
 
+  jmhImplementation(project(":sdk:testing"))
+
   testImplementation("com.linecorp.armeria:armeria")
   testImplementation("org.testcontainers:junit-jupiter")
 }
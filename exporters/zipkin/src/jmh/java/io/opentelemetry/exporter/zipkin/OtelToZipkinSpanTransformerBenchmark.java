@@ -0,0 +1,130 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.zipkin;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import zipkin2.reporter.SpanBytesEncoder;
+
+/**
+ * Measures converting a batch of spans from a few resources and scopes, with and without caching
+ * the fields derived from each resource and scope.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OtelToZipkinSpanTransformerBenchmark {
+
+  private static final int BATCH_SIZE = 512;
+
+  @Param({"0", "64"})
+  public int cacheSize;
+
+  private final List<SpanData> spans = new ArrayList<>(BATCH_SIZE);
+  private OtelToZipkinSpanTransformer transformer;
+  private ZipkinSpanWriter jsonWriter;
+  private ZipkinSpanWriter protoWriter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    transformer =
+        OtelToZipkinSpanTransformer.create(LocalInetAddressSupplier.getInstance(), cacheSize);
+    jsonWriter =
+        Objects.requireNonNull(ZipkinSpanWriter.create(transformer, SpanBytesEncoder.JSON_V2));
+    protoWriter =
+        Objects.requireNonNull(ZipkinSpanWriter.create(transformer, SpanBytesEncoder.PROTO3));
+
+    List<Resource> resources = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      resources.add(
+          Resource.getDefault()
+              .merge(
+                  Resource.create(
+                      Attributes.of(AttributeKey.stringKey("service.name"), "service-" + i))));
+    }
+    List<InstrumentationScopeInfo> scopes = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      scopes.add(InstrumentationScopeInfo.builder("scope-" + i).setVersion("1.0." + i).build());
+    }
+    Attributes attributes =
+        Attributes.builder()
+            .put("http.request.method", "GET")
+            .put("http.response.status_code", 200L)
+            .build();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setSpanContext(
+                  SpanContext.create(
+                      String.format("%032x", i + 1),
+                      String.format("%016x", i + 1),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setResource(resources.get(i % resources.size()))
+              .setInstrumentationScopeInfo(scopes.get(i % scopes.size()))
+              .setKind(SpanKind.SERVER)
+              .setName("GET /items")
+              .setStartEpochNanos(1_700_000_000_000_000_000L + i)
+              .setEndEpochNanos(1_700_000_000_001_000_000L + i)
+              .setAttributes(attributes)
+              .setTotalAttributeCount(attributes.size())
+              .setEvents(Collections.emptyList())
+              .setTotalRecordedEvents(0)
+              .setLinks(Collections.emptyList())
+              .setStatus(StatusData.unset())
+              .setHasEnded(true)
+              .build());
+    }
+  }
+
+  @Benchmark
+  public void generateSpan(Blackhole blackhole) {
+    for (SpanData span : spans) {
+      blackhole.consume(transformer.generateSpan(span));
+    }
+  }
+
+  @Benchmark
+  public byte[] writeJson() {
+    return jsonWriter.write(spans);
+  }
+
+  @Benchmark
+  public byte[] writeProto() {
+    return protoWriter.write(spans);
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.zipkin;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.trace.TestSpanData;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import zipkin2.Span;
+import zipkin2.reporter.BytesEncoder;
+import zipkin2.reporter.BytesMessageSender;
+import zipkin2.reporter.Encoding;
+import zipkin2.reporter.SpanBytesEncoder;
+
+/**
+ * Compares exporting a batch of spans by writing it directly in the Zipkin format with the
+ * previous conversion to {@link Span}s which are encoded one by one. The sender only counts the
+ * bytes it is given. Run with {@code -prof gc} to compare allocation per batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ZipkinSpanExporterBenchmark {
+
+  private static final int BATCH_SIZE = 2048;
+
+  @Param({"JSON_V2", "PROTO3"})
+  public String encoding;
+
+  @Param({"true", "false"})
+  public boolean streaming;
+
+  private final List<SpanData> spans = new ArrayList<>(BATCH_SIZE);
+  private final CountingSender sender = new CountingSender();
+  private ZipkinSpanExporter exporter;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    SpanBytesEncoder spanBytesEncoder = SpanBytesEncoder.valueOf(encoding);
+    sender.encoding = spanBytesEncoder.encoding();
+    // Any encoder other than the standard instances uses the per-span path.
+    BytesEncoder<Span> encoder =
+        streaming ? spanBytesEncoder : new DelegatingEncoder(spanBytesEncoder);
+    exporter =
+        ZipkinSpanExporter.builder()
+            .setSender(sender)
+            .setEncoder(encoder)
+            .setLocalIpAddressSupplier(InetAddress::getLoopbackAddress)
+            .build();
+
+    Resource resource =
+        Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "svc"));
+    InstrumentationScopeInfo scope =
+        InstrumentationScopeInfo.builder("io.opentelemetry.benchmark").setVersion("1.0").build();
+    Attributes attributes =
+        Attributes.builder()
+            .put("http.request.method", "GET")
+            .put("url.path", "/api/v1/items")
+            .put("http.response.status_code", 200L)
+            .put("server.address", "example.com")
+            .build();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      spans.add(
+          TestSpanData.builder()
+              .setSpanContext(
+                  SpanContext.create(
+                      String.format("%032x", i + 1),
+                      String.format("%016x", i + 1),
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setResource(resource)
+              .setInstrumentationScopeInfo(scope)
+              .setKind(SpanKind.SERVER)
+              .setName("GET /api/v1/items")
+              .setStartEpochNanos(1_700_000_000_000_000_000L + i)
+              .setEndEpochNanos(1_700_000_000_001_000_000L + i)
+              .setAttributes(attributes)
+              .setTotalAttributeCount(attributes.size())
+              .setEvents(
+                  Collections.singletonList(
+                      EventData.create(
+                          1_700_000_000_000_500_000L, "cache.miss", Attributes.empty())))
+              .setTotalRecordedEvents(1)
+              .setLinks(Collections.emptyList())
+              .setStatus(StatusData.ok())
+              .setHasEnded(true)
+              .build());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    exporter.shutdown();
+  }
+
+  @Benchmark
+  public long export() {
+    exporter.export(spans);
+    return sender.bytesSent;
+  }
+
+  private static final class DelegatingEncoder implements BytesEncoder<Span> {
+    private final BytesEncoder<Span> delegate;
+
+    private DelegatingEncoder(BytesEncoder<Span> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Encoding encoding() {
+      return delegate.encoding();
+    }
+
+    @Override
+    public int sizeInBytes(Span span) {
+      return delegate.sizeInBytes(span);
+    }
+
+    @Override
+    public byte[] encode(Span span) {
+      return delegate.encode(span);
+    }
+  }
+
+  /** A stand-in for an HTTP sender, which only counts the bytes it would send. */
+  private static final class CountingSender implements BytesMessageSender {
+    private Encoding encoding = Encoding.JSON;
+    private long bytesSent;
+
+    @Override
+    public Encoding encoding() {
+      return encoding;
+    }
+
+    @Override
+    public int messageMaxBytes() {
+      return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int messageSizeInBytes(List<byte[]> encodedSpans) {
+      return encoding.listSizeInBytes(encodedSpans);
+    }
+
+    @Override
+    public int messageSizeInBytes(int encodedSizeInBytes) {
+      return encoding.listSizeInBytes(encodedSizeInBytes);
+    }
+
+    @Override
+    public void send(List<byte[]> encodedSpans) {
+      bytesSent += messageSizeInBytes(encodedSpans);
+    }
+
+    @Override
+    public void close() {}
+  }
+}
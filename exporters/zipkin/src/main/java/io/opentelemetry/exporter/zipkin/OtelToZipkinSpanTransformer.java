@@ -18,8 +18,9 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.SpanData;
-import io.opentelemetry.sdk.trace.data.StatusData;
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -47,8 +48,19 @@ final class OtelToZipkinSpanTransformer {
   static final String OTEL_DROPPED_EVENTS_COUNT = "otel.dropped_events_count";
   static final String OTEL_STATUS_CODE = "otel.status_code";
   static final AttributeKey<String> STATUS_ERROR = stringKey("error");
+
+  static final int DEFAULT_CACHE_SIZE = 64;
+
   private final Supplier<InetAddress> ipAddressSupplier;
 
+  /**
+   * Fields derived from a {@link Resource} and {@link InstrumentationScopeInfo}, which are the same
+   * for every span they produce. Slots are chosen by identity hash, and a colliding pair replaces
+   * the previous entry, which bounds the cache at its length. Entries are immutable apart from
+   * lazily computed fragments, so slots can be read and replaced without locking.
+   */
+  @Nullable private final ResourceScopeFields[] cache;
+
   /**
    * Creates an instance of an OtelToZipkinSpanTransformer with the given Supplier that can produce
    * an InetAddress, which may be null. This value from this Supplier will be used when creating the
@@ -58,7 +70,17 @@ final class OtelToZipkinSpanTransformer {
    * @param ipAddressSupplier - A Supplier of an InetAddress.
    */
   static OtelToZipkinSpanTransformer create(Supplier<InetAddress> ipAddressSupplier) {
-    return new OtelToZipkinSpanTransformer(ipAddressSupplier);
+    return create(ipAddressSupplier, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Creates an instance of an OtelToZipkinSpanTransformer which caches the fields derived from up
+   * to {@code cacheSize} pairs of resource and instrumentation scope, rounded up to a power of two.
+   * A {@code cacheSize} of zero disables caching.
+   */
+  static OtelToZipkinSpanTransformer create(
+      Supplier<InetAddress> ipAddressSupplier, int cacheSize) {
+    return new OtelToZipkinSpanTransformer(ipAddressSupplier, cacheSize);
   }
 
   /**
@@ -68,8 +90,12 @@ final class OtelToZipkinSpanTransformer {
    *
    * @param ipAddressSupplier - A Supplier of an InetAddress, which can be null
    */
-  private OtelToZipkinSpanTransformer(Supplier<InetAddress> ipAddressSupplier) {
+  private OtelToZipkinSpanTransformer(Supplier<InetAddress> ipAddressSupplier, int cacheSize) {
     this.ipAddressSupplier = ipAddressSupplier;
+    this.cache =
+        cacheSize > 0
+            ? new ResourceScopeFields[Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1]
+            : null;
   }
 
   /**
@@ -97,61 +123,133 @@ final class OtelToZipkinSpanTransformer {
       spanBuilder.parentId(spanData.getParentSpanId());
     }
 
+    List<String> tags = new ArrayList<>();
+    addTags(spanData, tags);
+    for (int i = 0; i < tags.size(); i += 2) {
+      spanBuilder.putTag(tags.get(i), tags.get(i + 1));
+    }
+
+    for (EventData eventData : spanData.getEvents()) {
+      String annotation = EventDataToAnnotation.apply(eventData);
+      spanBuilder.addAnnotation(toEpochMicros(eventData.getEpochNanos()), annotation);
+    }
+
+    return spanBuilder.build();
+  }
+
+  /**
+   * Appends the Zipkin tags of {@code spanData} to {@code keysAndValues} as alternating keys and
+   * values. Attributes which would be replaced by a tag derived from other span data are skipped,
+   * so each key appears at most once.
+   */
+  void addTags(SpanData spanData, List<String> keysAndValues) {
     Attributes spanAttributes = spanData.getAttributes();
-    spanAttributes.forEach(
-        (key, value) -> spanBuilder.putTag(key.getKey(), valueToString(key, value)));
     int droppedAttributes = spanData.getTotalAttributeCount() - spanAttributes.size();
+    int droppedEvents = spanData.getTotalRecordedEvents() - spanData.getEvents().size();
+    StatusCode statusCode = spanData.getStatus().getStatusCode();
+    boolean addErrorTag =
+        statusCode == StatusCode.ERROR && spanAttributes.get(STATUS_ERROR) == null;
+    InstrumentationScopeInfo instrumentationScopeInfo = spanData.getInstrumentationScopeInfo();
+
+    spanAttributes.forEach(
+        (key, value) -> {
+          String name = key.getKey();
+          if (!isReplaced(
+              name,
+              droppedAttributes,
+              droppedEvents,
+              statusCode,
+              addErrorTag,
+              instrumentationScopeInfo)) {
+            keysAndValues.add(name);
+            keysAndValues.add(valueToString(key, value));
+          }
+        });
     if (droppedAttributes > 0) {
-      spanBuilder.putTag(OTEL_DROPPED_ATTRIBUTES_COUNT, String.valueOf(droppedAttributes));
+      keysAndValues.add(OTEL_DROPPED_ATTRIBUTES_COUNT);
+      keysAndValues.add(String.valueOf(droppedAttributes));
     }
 
-    StatusData status = spanData.getStatus();
-
     // include status code & error.
-    if (status.getStatusCode() != StatusCode.UNSET) {
-      spanBuilder.putTag(OTEL_STATUS_CODE, status.getStatusCode().toString());
+    if (statusCode != StatusCode.UNSET) {
+      keysAndValues.add(OTEL_STATUS_CODE);
+      keysAndValues.add(statusCode.toString());
 
       // add the error tag, if it isn't already in the source span.
-      if (status.getStatusCode() == StatusCode.ERROR && spanAttributes.get(STATUS_ERROR) == null) {
-        spanBuilder.putTag(STATUS_ERROR.getKey(), nullToEmpty(status.getDescription()));
+      if (addErrorTag) {
+        keysAndValues.add(STATUS_ERROR.getKey());
+        keysAndValues.add(nullToEmpty(spanData.getStatus().getDescription()));
       }
     }
 
-    InstrumentationScopeInfo instrumentationScopeInfo = spanData.getInstrumentationScopeInfo();
+    Collections.addAll(keysAndValues, getResourceScopeFields(spanData).scopeTags);
 
-    if (!instrumentationScopeInfo.getName().isEmpty()) {
-      spanBuilder.putTag(KEY_INSTRUMENTATION_SCOPE_NAME, instrumentationScopeInfo.getName());
-      // Include instrumentation library name for backwards compatibility
-      spanBuilder.putTag(KEY_INSTRUMENTATION_LIBRARY_NAME, instrumentationScopeInfo.getName());
-    }
-    if (instrumentationScopeInfo.getVersion() != null) {
-      spanBuilder.putTag(KEY_INSTRUMENTATION_SCOPE_VERSION, instrumentationScopeInfo.getVersion());
-      // Include instrumentation library name for backwards compatibility
-      spanBuilder.putTag(
-          KEY_INSTRUMENTATION_LIBRARY_VERSION, instrumentationScopeInfo.getVersion());
-    }
-
-    for (EventData eventData : spanData.getEvents()) {
-      String annotation = EventDataToAnnotation.apply(eventData);
-      spanBuilder.addAnnotation(toEpochMicros(eventData.getEpochNanos()), annotation);
-    }
-    int droppedEvents = spanData.getTotalRecordedEvents() - spanData.getEvents().size();
     if (droppedEvents > 0) {
-      spanBuilder.putTag(OTEL_DROPPED_EVENTS_COUNT, String.valueOf(droppedEvents));
+      keysAndValues.add(OTEL_DROPPED_EVENTS_COUNT);
+      keysAndValues.add(String.valueOf(droppedEvents));
     }
+  }
 
-    return spanBuilder.build();
+  private static boolean isReplaced(
+      String name,
+      int droppedAttributes,
+      int droppedEvents,
+      StatusCode statusCode,
+      boolean addErrorTag,
+      InstrumentationScopeInfo instrumentationScopeInfo) {
+    switch (name) {
+      case OTEL_DROPPED_ATTRIBUTES_COUNT:
+        return droppedAttributes > 0;
+      case OTEL_DROPPED_EVENTS_COUNT:
+        return droppedEvents > 0;
+      case OTEL_STATUS_CODE:
+        return statusCode != StatusCode.UNSET;
+      case "error":
+        return addErrorTag;
+      case KEY_INSTRUMENTATION_SCOPE_NAME:
+      case KEY_INSTRUMENTATION_LIBRARY_NAME:
+        return !instrumentationScopeInfo.getName().isEmpty();
+      case KEY_INSTRUMENTATION_SCOPE_VERSION:
+      case KEY_INSTRUMENTATION_LIBRARY_VERSION:
+        return instrumentationScopeInfo.getVersion() != null;
+      default:
+        return false;
+    }
   }
 
   private static String nullToEmpty(@Nullable String value) {
     return value != null ? value : "";
   }
 
-  private Endpoint getLocalEndpoint(SpanData spanData) {
-    Attributes resourceAttributes = spanData.getResource().getAttributes();
+  Endpoint getLocalEndpoint(SpanData spanData) {
+    return getResourceScopeFields(spanData).localEndpoint;
+  }
+
+  /** Returns the fields derived from the resource and scope of {@code spanData}. */
+  ResourceScopeFields getResourceScopeFields(SpanData spanData) {
+    Resource resource = spanData.getResource();
+    InstrumentationScopeInfo scope = spanData.getInstrumentationScopeInfo();
+    InetAddress ip = ipAddressSupplier.get();
+    ResourceScopeFields[] cache = this.cache;
+    if (cache == null) {
+      return new ResourceScopeFields(resource, scope, ip);
+    }
+    int slot =
+        (31 * System.identityHashCode(resource) + System.identityHashCode(scope))
+            & (cache.length - 1);
+    ResourceScopeFields fields = cache[slot];
+    if (fields == null || !fields.matches(resource, scope, ip)) {
+      fields = new ResourceScopeFields(resource, scope, ip);
+      cache[slot] = fields;
+    }
+    return fields;
+  }
+
+  private static Endpoint createLocalEndpoint(Resource resource, @Nullable InetAddress ip) {
+    Attributes resourceAttributes = resource.getAttributes();
 
     Endpoint.Builder endpoint = Endpoint.newBuilder();
-    endpoint.ip(ipAddressSupplier.get());
+    endpoint.ip(ip);
 
     // use the service.name from the Resource, if it's been set.
     String serviceNameValue = resourceAttributes.get(SERVICE_NAME);
@@ -165,8 +263,28 @@ final class OtelToZipkinSpanTransformer {
     return endpoint.build();
   }
 
+  private static String[] createScopeTags(InstrumentationScopeInfo instrumentationScopeInfo) {
+    List<String> tags = new ArrayList<>(8);
+    if (!instrumentationScopeInfo.getName().isEmpty()) {
+      tags.add(KEY_INSTRUMENTATION_SCOPE_NAME);
+      tags.add(instrumentationScopeInfo.getName());
+      // Include instrumentation library name for backwards compatibility
+      tags.add(KEY_INSTRUMENTATION_LIBRARY_NAME);
+      tags.add(instrumentationScopeInfo.getName());
+    }
+    String version = instrumentationScopeInfo.getVersion();
+    if (version != null) {
+      tags.add(KEY_INSTRUMENTATION_SCOPE_VERSION);
+      tags.add(version);
+      // Include instrumentation library name for backwards compatibility
+      tags.add(KEY_INSTRUMENTATION_LIBRARY_VERSION);
+      tags.add(version);
+    }
+    return tags.toArray(new String[0]);
+  }
+
   @Nullable
-  private static Endpoint getRemoteEndpoint(SpanData spanData) {
+  static Endpoint getRemoteEndpoint(SpanData spanData) {
     if (spanData.getKind() == SpanKind.CLIENT || spanData.getKind() == SpanKind.PRODUCER) {
       // TODO: Implement fallback mechanism:
       // https://opentelemetry.io/docs/reference/specification/trace/sdk_exporters/zipkin/#otlp---zipkin
@@ -190,7 +308,7 @@ final class OtelToZipkinSpanTransformer {
   }
 
   @Nullable
-  private static Span.Kind toSpanKind(SpanData spanData) {
+  static Span.Kind toSpanKind(SpanData spanData) {
     switch (spanData.getKind()) {
       case SERVER:
         return Span.Kind.SERVER;
@@ -206,7 +324,7 @@ final class OtelToZipkinSpanTransformer {
     return null;
   }
 
-  private static long toEpochMicros(long epochNanos) {
+  static long toEpochMicros(long epochNanos) {
     return NANOSECONDS.toMicros(epochNanos);
   }
 
@@ -237,4 +355,39 @@ final class OtelToZipkinSpanTransformer {
     }
     return builder.toString();
   }
+
+  /**
+   * The Zipkin fields of a span which only depend on its {@link Resource} and {@link
+   * InstrumentationScopeInfo}, and on the local IP address.
+   */
+  static final class ResourceScopeFields {
+    private final Resource resource;
+    private final InstrumentationScopeInfo scope;
+    @Nullable private final InetAddress ip;
+
+    final Endpoint localEndpoint;
+    /** Alternating keys and values of the tags derived from the scope. */
+    final String[] scopeTags;
+
+    // Encoded forms of the local endpoint, computed on first use by ZipkinSpanWriter and only
+    // accessed while holding its lock.
+    @Nullable byte[] localEndpointJson;
+    @Nullable byte[] localEndpointProto;
+
+    private ResourceScopeFields(
+        Resource resource, InstrumentationScopeInfo scope, @Nullable InetAddress ip) {
+      this.resource = resource;
+      this.scope = scope;
+      this.ip = ip;
+      this.localEndpoint = createLocalEndpoint(resource, ip);
+      this.scopeTags = createScopeTags(scope);
+    }
+
+    // Identity comparisons, cached fields are only reused for the same instances.
+    @SuppressWarnings("ReferenceEquality")
+    private boolean matches(
+        Resource resource, InstrumentationScopeInfo scope, @Nullable InetAddress ip) {
+      return this.resource == resource && this.scope == scope && this.ip == ip;
+    }
+  }
 }
@@ -15,11 +15,13 @@ import io.opentelemetry.sdk.trace.export.SpanExporter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import zipkin2.Span;
 import zipkin2.reporter.BytesEncoder;
 import zipkin2.reporter.BytesMessageSender;
@@ -44,6 +46,7 @@ public final class ZipkinSpanExporter implements SpanExporter {
   private final ExporterMetrics exporterMetrics;
 
   private final OtelToZipkinSpanTransformer transformer;
+  @Nullable private final ZipkinSpanWriter spanWriter;
 
   ZipkinSpanExporter(
       ZipkinSpanExporterBuilder builder,
@@ -59,6 +62,7 @@ public final class ZipkinSpanExporter implements SpanExporter {
             ? ExporterMetrics.createHttpJson("zipkin", "span", meterProviderSupplier)
             : ExporterMetrics.createHttpProtobuf("zipkin", "span", meterProviderSupplier);
     this.transformer = transformer;
+    this.spanWriter = ZipkinSpanWriter.create(transformer, encoder);
   }
 
   @Override
@@ -70,11 +74,7 @@ public final class ZipkinSpanExporter implements SpanExporter {
     int numItems = spanDataList.size();
     exporterMetrics.addSeen(numItems);
 
-    List<byte[]> encodedSpans = new ArrayList<>(numItems);
-    for (SpanData spanData : spanDataList) {
-      Span zipkinSpan = transformer.generateSpan(spanData);
-      encodedSpans.add(encoder.encode(zipkinSpan));
-    }
+    List<byte[]> encodedSpans = encode(spanDataList);
 
     CompletableResultCode resultCode = new CompletableResultCode();
     InstrumentationUtil.suppressInstrumentation(
@@ -92,6 +92,20 @@ public final class ZipkinSpanExporter implements SpanExporter {
     return resultCode;
   }
 
+  private List<byte[]> encode(Collection<SpanData> spanDataList) {
+    // The standard encoders are written directly from the span data, as one element holding the
+    // whole batch, which the sender frames in the same way as a list of individually encoded spans.
+    if (spanWriter != null && !spanDataList.isEmpty()) {
+      return Collections.singletonList(spanWriter.write(spanDataList));
+    }
+    List<byte[]> encodedSpans = new ArrayList<>(spanDataList.size());
+    for (SpanData spanData : spanDataList) {
+      Span zipkinSpan = transformer.generateSpan(spanData);
+      encodedSpans.add(encoder.encode(zipkinSpan));
+    }
+    return encodedSpans;
+  }
+
   @Override
   public CompletableResultCode flush() {
     // nothing required here
@@ -0,0 +1,737 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.zipkin;
+
+import io.opentelemetry.exporter.internal.marshal.Marshaler;
+import io.opentelemetry.exporter.internal.marshal.MarshalerContext;
+import io.opentelemetry.exporter.internal.marshal.MarshalerUtil;
+import io.opentelemetry.exporter.internal.marshal.ProtoEnumInfo;
+import io.opentelemetry.exporter.internal.marshal.ProtoFieldInfo;
+import io.opentelemetry.exporter.internal.marshal.Serializer;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshaler2;
+import io.opentelemetry.exporter.internal.marshal.StatelessMarshalerUtil;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import javax.annotation.Nullable;
+import zipkin2.Endpoint;
+import zipkin2.Span;
+import zipkin2.reporter.BytesEncoder;
+import zipkin2.reporter.SpanBytesEncoder;
+
+/**
+ * Writes batches of {@link SpanData} in the Zipkin v2 JSON or proto3 format directly, without
+ * creating a {@link Span} and a separate byte array for each span.
+ *
+ * <p>A batch is written into a buffer which is reused across exports and returned as a single
+ * message element in the form expected by {@link zipkin2.reporter.BytesMessageSender#send(List)}:
+ * for JSON, the comma separated spans, which the sender encloses in brackets, and for proto3, the
+ * concatenated {@code ListOfSpans} entries.
+ */
+final class ZipkinSpanWriter {
+
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private final OtelToZipkinSpanTransformer transformer;
+  private final boolean json;
+  private final OutputBuffer buffer = new OutputBuffer();
+  private final List<String> tags = new ArrayList<>();
+  private final ProtoSpansMarshaler protoSpansMarshaler;
+
+  /**
+   * Returns a {@link ZipkinSpanWriter} producing the same encoding as {@code encoder}, or {@code
+   * null} if {@code encoder} is not one of the standard JSON or proto3 encoders.
+   */
+  @Nullable
+  static ZipkinSpanWriter create(
+      OtelToZipkinSpanTransformer transformer, BytesEncoder<Span> encoder) {
+    if (encoder == SpanBytesEncoder.JSON_V2) {
+      return new ZipkinSpanWriter(transformer, /* json= */ true);
+    }
+    if (encoder == SpanBytesEncoder.PROTO3) {
+      return new ZipkinSpanWriter(transformer, /* json= */ false);
+    }
+    return null;
+  }
+
+  private ZipkinSpanWriter(OtelToZipkinSpanTransformer transformer, boolean json) {
+    this.transformer = transformer;
+    this.json = json;
+    this.protoSpansMarshaler = new ProtoSpansMarshaler(transformer);
+  }
+
+  /** Returns {@code spans} encoded as a single message element. */
+  synchronized byte[] write(Collection<SpanData> spans) {
+    try {
+      if (json) {
+        boolean first = true;
+        for (SpanData span : spans) {
+          if (!first) {
+            buffer.write(',');
+          }
+          first = false;
+          writeJsonSpan(span);
+        }
+      } else {
+        protoSpansMarshaler.initialize(spans);
+        try {
+          protoSpansMarshaler.writeBinaryTo(buffer);
+        } finally {
+          protoSpansMarshaler.reset();
+        }
+      }
+      return buffer.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      buffer.reset(MAX_RETAINED_BUFFER_SIZE);
+    }
+  }
+
+  private void writeJsonSpan(SpanData span) {
+    buffer.writeAscii("{\"traceId\":\"");
+    buffer.writeAscii(normalizeTraceId(span.getTraceId()));
+    if (span.getParentSpanContext().isValid()) {
+      buffer.writeAscii("\",\"parentId\":\"");
+      buffer.writeAscii(span.getParentSpanId());
+    }
+    buffer.writeAscii("\",\"id\":\"");
+    buffer.writeAscii(span.getSpanId());
+    buffer.write('"');
+    Span.Kind kind = OtelToZipkinSpanTransformer.toSpanKind(span);
+    if (kind != null) {
+      buffer.writeAscii(",\"kind\":\"");
+      buffer.writeAscii(kind.name());
+      buffer.write('"');
+    }
+    String name = normalizeName(span.getName());
+    if (name != null) {
+      buffer.writeAscii(",\"name\":");
+      buffer.writeJsonString(name);
+    }
+    long timestamp = OtelToZipkinSpanTransformer.toEpochMicros(span.getStartEpochNanos());
+    buffer.writeAscii(",\"timestamp\":");
+    buffer.writeLong(timestamp);
+    buffer.writeAscii(",\"duration\":");
+    buffer.writeLong(duration(span, timestamp));
+    byte[] localEndpoint = localEndpointJson(transformer.getResourceScopeFields(span));
+    if (localEndpoint.length > 0) {
+      buffer.writeAscii(",\"localEndpoint\":");
+      buffer.write(localEndpoint, 0, localEndpoint.length);
+    }
+    Endpoint remoteEndpoint = OtelToZipkinSpanTransformer.getRemoteEndpoint(span);
+    if (remoteEndpoint != null && !isEmpty(remoteEndpoint)) {
+      buffer.writeAscii(",\"remoteEndpoint\":");
+      writeJsonEndpoint(buffer, remoteEndpoint);
+    }
+    List<EventData> events = span.getEvents();
+    if (!events.isEmpty()) {
+      buffer.writeAscii(",\"annotations\":[");
+      for (int i = 0; i < events.size(); i++) {
+        EventData event = events.get(i);
+        if (i > 0) {
+          buffer.write(',');
+        }
+        buffer.writeAscii("{\"timestamp\":");
+        buffer.writeLong(OtelToZipkinSpanTransformer.toEpochMicros(event.getEpochNanos()));
+        buffer.writeAscii(",\"value\":");
+        buffer.writeJsonString(EventDataToAnnotation.apply(event));
+        buffer.write('}');
+      }
+      buffer.write(']');
+    }
+    tags.clear();
+    transformer.addTags(span, tags);
+    if (!tags.isEmpty()) {
+      buffer.writeAscii(",\"tags\":{");
+      for (int i = 0; i < tags.size(); i += 2) {
+        if (i > 0) {
+          buffer.write(',');
+        }
+        buffer.writeJsonString(tags.get(i));
+        buffer.write(':');
+        buffer.writeJsonString(tags.get(i + 1));
+      }
+      buffer.write('}');
+    }
+    buffer.write('}');
+  }
+
+  private static void writeJsonEndpoint(OutputBuffer buffer, Endpoint endpoint) {
+    char separator = '{';
+    String serviceName = endpoint.serviceName();
+    if (serviceName != null) {
+      buffer.write(separator);
+      buffer.writeAscii("\"serviceName\":");
+      buffer.writeJsonString(serviceName);
+      separator = ',';
+    }
+    String ipv4 = endpoint.ipv4();
+    if (ipv4 != null) {
+      buffer.write(separator);
+      buffer.writeAscii("\"ipv4\":\"");
+      buffer.writeAscii(ipv4);
+      buffer.write('"');
+      separator = ',';
+    }
+    String ipv6 = endpoint.ipv6();
+    if (ipv6 != null) {
+      buffer.write(separator);
+      buffer.writeAscii("\"ipv6\":\"");
+      buffer.writeAscii(ipv6);
+      buffer.write('"');
+      separator = ',';
+    }
+    int port = endpoint.portAsInt();
+    if (port != 0) {
+      buffer.write(separator);
+      buffer.writeAscii("\"port\":");
+      buffer.writeLong(port);
+    }
+    buffer.write('}');
+  }
+
+  /**
+   * Returns the JSON encoding of the local endpoint, or an empty array if the endpoint is empty.
+   * The encoding is computed once per resource and scope.
+   */
+  private byte[] localEndpointJson(OtelToZipkinSpanTransformer.ResourceScopeFields fields) {
+    byte[] json = fields.localEndpointJson;
+    if (json == null) {
+      if (isEmpty(fields.localEndpoint)) {
+        json = new byte[0];
+      } else {
+        OutputBuffer endpointBuffer = new OutputBuffer();
+        writeJsonEndpoint(endpointBuffer, fields.localEndpoint);
+        json = endpointBuffer.toByteArray();
+      }
+      fields.localEndpointJson = json;
+    }
+    return json;
+  }
+
+  /** Trace IDs with a zero high half are written as 64-bit IDs, as {@link Span} does. */
+  private static String normalizeTraceId(String traceId) {
+    for (int i = 0; i < 16; i++) {
+      if (traceId.charAt(i) != '0') {
+        return traceId;
+      }
+    }
+    return traceId.substring(16);
+  }
+
+  /** Span names are written in lowercase, and omitted if empty, as {@link Span} does. */
+  @Nullable
+  private static String normalizeName(String name) {
+    return name.isEmpty() ? null : name.toLowerCase(Locale.ROOT);
+  }
+
+  private static long duration(SpanData span, long startTimestamp) {
+    long endTimestamp = OtelToZipkinSpanTransformer.toEpochMicros(span.getEndEpochNanos());
+    return Math.max(1, endTimestamp - startTimestamp);
+  }
+
+  private static boolean isEmpty(Endpoint endpoint) {
+    return endpoint.serviceName() == null
+        && endpoint.ipv4() == null
+        && endpoint.ipv6() == null
+        && endpoint.portAsInt() == 0;
+  }
+
+  /** Fields of the Zipkin proto3 model, see zipkin2/proto3/zipkin.proto. */
+  private static final class Proto {
+    static final ProtoFieldInfo LIST_OF_SPANS_SPANS = ProtoFieldInfo.create(1, 10, "spans");
+
+    static final ProtoFieldInfo SPAN_TRACE_ID = ProtoFieldInfo.create(1, 10, "traceId");
+    static final ProtoFieldInfo SPAN_PARENT_ID = ProtoFieldInfo.create(2, 18, "parentId");
+    static final ProtoFieldInfo SPAN_ID = ProtoFieldInfo.create(3, 26, "id");
+    static final ProtoFieldInfo SPAN_KIND = ProtoFieldInfo.create(4, 32, "kind");
+    static final ProtoFieldInfo SPAN_NAME = ProtoFieldInfo.create(5, 42, "name");
+    static final ProtoFieldInfo SPAN_TIMESTAMP = ProtoFieldInfo.create(6, 49, "timestamp");
+    static final ProtoFieldInfo SPAN_DURATION = ProtoFieldInfo.create(7, 56, "duration");
+    static final ProtoFieldInfo SPAN_LOCAL_ENDPOINT =
+        ProtoFieldInfo.create(8, 66, "localEndpoint");
+    static final ProtoFieldInfo SPAN_REMOTE_ENDPOINT =
+        ProtoFieldInfo.create(9, 74, "remoteEndpoint");
+    static final ProtoFieldInfo SPAN_ANNOTATIONS = ProtoFieldInfo.create(10, 82, "annotations");
+    static final ProtoFieldInfo SPAN_TAGS = ProtoFieldInfo.create(11, 90, "tags");
+
+    static final ProtoFieldInfo ENDPOINT_SERVICE_NAME =
+        ProtoFieldInfo.create(1, 10, "serviceName");
+    static final ProtoFieldInfo ENDPOINT_IPV4 = ProtoFieldInfo.create(2, 18, "ipv4");
+    static final ProtoFieldInfo ENDPOINT_IPV6 = ProtoFieldInfo.create(3, 26, "ipv6");
+    static final ProtoFieldInfo ENDPOINT_PORT = ProtoFieldInfo.create(4, 32, "port");
+
+    static final ProtoFieldInfo ANNOTATION_TIMESTAMP = ProtoFieldInfo.create(1, 9, "timestamp");
+    static final ProtoFieldInfo ANNOTATION_VALUE = ProtoFieldInfo.create(2, 18, "value");
+
+    static final ProtoFieldInfo TAG_KEY = ProtoFieldInfo.create(1, 10, "key");
+    static final ProtoFieldInfo TAG_VALUE = ProtoFieldInfo.create(2, 18, "value");
+
+    static final ProtoEnumInfo KIND_CLIENT = ProtoEnumInfo.create(1, "CLIENT");
+    static final ProtoEnumInfo KIND_SERVER = ProtoEnumInfo.create(2, "SERVER");
+    static final ProtoEnumInfo KIND_PRODUCER = ProtoEnumInfo.create(3, "PRODUCER");
+    static final ProtoEnumInfo KIND_CONSUMER = ProtoEnumInfo.create(4, "CONSUMER");
+
+    private Proto() {}
+  }
+
+  /** Marshals a batch of spans to the entries of a Zipkin proto3 {@code ListOfSpans}. */
+  private static final class ProtoSpansMarshaler extends Marshaler {
+    private static final MarshalerContext.Key SPANS_SIZE_CALCULATOR_KEY = MarshalerContext.key();
+    private static final MarshalerContext.Key SPANS_WRITER_KEY = MarshalerContext.key();
+
+    private final MarshalerContext context = new MarshalerContext();
+    private final ProtoSpanMarshaler spanMarshaler;
+
+    @SuppressWarnings("NullAway")
+    private Collection<SpanData> spans;
+
+    private int size;
+
+    private ProtoSpansMarshaler(OtelToZipkinSpanTransformer transformer) {
+      this.spanMarshaler = new ProtoSpanMarshaler(transformer);
+    }
+
+    void initialize(Collection<SpanData> spans) {
+      this.spans = spans;
+      this.size =
+          StatelessMarshalerUtil.sizeRepeatedMessageWithContext(
+              Proto.LIST_OF_SPANS_SPANS, spans, spanMarshaler, context, SPANS_SIZE_CALCULATOR_KEY);
+    }
+
+    void reset() {
+      context.reset();
+    }
+
+    @Override
+    public int getBinarySerializedSize() {
+      return size;
+    }
+
+    @Override
+    protected void writeTo(Serializer output) throws IOException {
+      context.resetReadIndex();
+      output.serializeRepeatedMessageWithContext(
+          Proto.LIST_OF_SPANS_SPANS, spans, spanMarshaler, context, SPANS_WRITER_KEY);
+    }
+  }
+
+  private static final class ProtoSpanMarshaler implements StatelessMarshaler<SpanData> {
+
+    private final OtelToZipkinSpanTransformer transformer;
+
+    private ProtoSpanMarshaler(OtelToZipkinSpanTransformer transformer) {
+      this.transformer = transformer;
+    }
+
+    @Override
+    public void writeTo(Serializer output, SpanData span, MarshalerContext context)
+        throws IOException {
+      String traceId = span.getTraceId();
+      String normalizedTraceId = normalizeTraceId(traceId);
+      if (normalizedTraceId.length() == traceId.length()) {
+        output.serializeTraceId(Proto.SPAN_TRACE_ID, traceId, context);
+      } else {
+        output.serializeSpanId(Proto.SPAN_TRACE_ID, normalizedTraceId, context);
+      }
+      if (span.getParentSpanContext().isValid()) {
+        output.serializeSpanId(Proto.SPAN_PARENT_ID, span.getParentSpanId(), context);
+      }
+      output.serializeSpanId(Proto.SPAN_ID, span.getSpanId(), context);
+      ProtoEnumInfo kind = toProtoKind(span);
+      if (kind != null) {
+        output.serializeEnum(Proto.SPAN_KIND, kind);
+      }
+      output.serializeStringWithContext(
+          Proto.SPAN_NAME, context.getData(String.class), context);
+      long timestamp = OtelToZipkinSpanTransformer.toEpochMicros(span.getStartEpochNanos());
+      output.serializeFixed64(Proto.SPAN_TIMESTAMP, timestamp);
+      output.serializeUInt64(Proto.SPAN_DURATION, duration(span, timestamp));
+      // Written as a bytes field, which has the same encoding as the embedded message.
+      output.serializeBytes(Proto.SPAN_LOCAL_ENDPOINT, context.getData(byte[].class));
+      Endpoint remoteEndpoint = context.getData(Endpoint.class);
+      if (remoteEndpoint != null) {
+        output.serializeMessageWithContext(
+            Proto.SPAN_REMOTE_ENDPOINT, remoteEndpoint, ProtoEndpointMarshaler.INSTANCE, context);
+      }
+      List<EventData> events = span.getEvents();
+      for (int i = 0; i < events.size(); i++) {
+        output.serializeMessageWithContext(
+            Proto.SPAN_ANNOTATIONS,
+            events.get(i),
+            context.getData(String.class),
+            ProtoAnnotationMarshaler.INSTANCE,
+            context);
+      }
+      @SuppressWarnings("unchecked")
+      List<String> tags = context.getData(List.class);
+      for (int i = 0; i < tags.size(); i += 2) {
+        output.serializeMessageWithContext(
+            Proto.SPAN_TAGS, tags.get(i), tags.get(i + 1), ProtoTagMarshaler.INSTANCE, context);
+      }
+    }
+
+    @Override
+    public int getBinarySerializedSize(SpanData span, MarshalerContext context) {
+      int size = 0;
+      String normalizedTraceId = normalizeTraceId(span.getTraceId());
+      if (normalizedTraceId.length() == span.getTraceId().length()) {
+        size += MarshalerUtil.sizeTraceId(Proto.SPAN_TRACE_ID, normalizedTraceId);
+      } else {
+        size += MarshalerUtil.sizeSpanId(Proto.SPAN_TRACE_ID, normalizedTraceId);
+      }
+      if (span.getParentSpanContext().isValid()) {
+        size += MarshalerUtil.sizeSpanId(Proto.SPAN_PARENT_ID, span.getParentSpanId());
+      }
+      size += MarshalerUtil.sizeSpanId(Proto.SPAN_ID, span.getSpanId());
+      ProtoEnumInfo kind = toProtoKind(span);
+      if (kind != null) {
+        size += MarshalerUtil.sizeEnum(Proto.SPAN_KIND, kind);
+      }
+
+      String name = normalizeName(span.getName());
+      context.addData(name);
+      size += StatelessMarshalerUtil.sizeStringWithContext(Proto.SPAN_NAME, name, context);
+
+      long timestamp = OtelToZipkinSpanTransformer.toEpochMicros(span.getStartEpochNanos());
+      size += MarshalerUtil.sizeFixed64(Proto.SPAN_TIMESTAMP, timestamp);
+      size += MarshalerUtil.sizeUInt64(Proto.SPAN_DURATION, duration(span, timestamp));
+
+      byte[] localEndpoint = localEndpointProto(transformer.getResourceScopeFields(span));
+      context.addData(localEndpoint);
+      if (localEndpoint.length > 0) {
+        size += MarshalerUtil.sizeBytes(Proto.SPAN_LOCAL_ENDPOINT, localEndpoint);
+      }
+      Endpoint remoteEndpoint = OtelToZipkinSpanTransformer.getRemoteEndpoint(span);
+      if (remoteEndpoint == null || isEmpty(remoteEndpoint)) {
+        context.addData(null);
+      } else {
+        context.addData(remoteEndpoint);
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Proto.SPAN_REMOTE_ENDPOINT,
+                remoteEndpoint,
+                ProtoEndpointMarshaler.INSTANCE,
+                context);
+      }
+
+      List<EventData> events = span.getEvents();
+      for (int i = 0; i < events.size(); i++) {
+        String annotation = EventDataToAnnotation.apply(events.get(i));
+        context.addData(annotation);
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Proto.SPAN_ANNOTATIONS,
+                events.get(i),
+                annotation,
+                ProtoAnnotationMarshaler.INSTANCE,
+                context);
+      }
+
+      List<String> tags = context.getList();
+      transformer.addTags(span, tags);
+      context.addData(tags);
+      for (int i = 0; i < tags.size(); i += 2) {
+        size +=
+            StatelessMarshalerUtil.sizeMessageWithContext(
+                Proto.SPAN_TAGS, tags.get(i), tags.get(i + 1), ProtoTagMarshaler.INSTANCE, context);
+      }
+      return size;
+    }
+
+    /**
+     * Returns the encoded {@code Endpoint} message of the local endpoint, or an empty array if the
+     * endpoint is empty. The encoding is computed once per resource and scope.
+     */
+    private static byte[] localEndpointProto(
+        OtelToZipkinSpanTransformer.ResourceScopeFields fields) {
+      byte[] proto = fields.localEndpointProto;
+      if (proto == null) {
+        proto = isEmpty(fields.localEndpoint) ? new byte[0] : encode(fields.localEndpoint);
+        fields.localEndpointProto = proto;
+      }
+      return proto;
+    }
+
+    private static byte[] encode(Endpoint endpoint) {
+      MarshalerContext context = new MarshalerContext();
+      int size = ProtoEndpointMarshaler.INSTANCE.getBinarySerializedSize(endpoint, context);
+      Marshaler marshaler =
+          new Marshaler() {
+            @Override
+            public int getBinarySerializedSize() {
+              return size;
+            }
+
+            @Override
+            protected void writeTo(Serializer output) throws IOException {
+              context.resetReadIndex();
+              ProtoEndpointMarshaler.INSTANCE.writeTo(output, endpoint, context);
+            }
+          };
+      OutputBuffer output = new OutputBuffer();
+      try {
+        marshaler.writeBinaryTo(output);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      return output.toByteArray();
+    }
+
+    @Nullable
+    private static ProtoEnumInfo toProtoKind(SpanData span) {
+      Span.Kind kind = OtelToZipkinSpanTransformer.toSpanKind(span);
+      if (kind == null) {
+        return null;
+      }
+      switch (kind) {
+        case CLIENT:
+          return Proto.KIND_CLIENT;
+        case SERVER:
+          return Proto.KIND_SERVER;
+        case PRODUCER:
+          return Proto.KIND_PRODUCER;
+        case CONSUMER:
+          return Proto.KIND_CONSUMER;
+      }
+      return null;
+    }
+  }
+
+  private static final class ProtoEndpointMarshaler implements StatelessMarshaler<Endpoint> {
+    static final ProtoEndpointMarshaler INSTANCE = new ProtoEndpointMarshaler();
+
+    @Override
+    public void writeTo(Serializer output, Endpoint endpoint, MarshalerContext context)
+        throws IOException {
+      output.serializeStringWithContext(
+          Proto.ENDPOINT_SERVICE_NAME, endpoint.serviceName(), context);
+      byte[] ipv4 = endpoint.ipv4Bytes();
+      if (ipv4 != null) {
+        output.serializeBytes(Proto.ENDPOINT_IPV4, ipv4);
+      }
+      byte[] ipv6 = endpoint.ipv6Bytes();
+      if (ipv6 != null) {
+        output.serializeBytes(Proto.ENDPOINT_IPV6, ipv6);
+      }
+      output.serializeInt32(Proto.ENDPOINT_PORT, endpoint.portAsInt());
+    }
+
+    @Override
+    public int getBinarySerializedSize(Endpoint endpoint, MarshalerContext context) {
+      int size = 0;
+      size +=
+          StatelessMarshalerUtil.sizeStringWithContext(
+              Proto.ENDPOINT_SERVICE_NAME, endpoint.serviceName(), context);
+      byte[] ipv4 = endpoint.ipv4Bytes();
+      if (ipv4 != null) {
+        size += MarshalerUtil.sizeBytes(Proto.ENDPOINT_IPV4, ipv4);
+      }
+      byte[] ipv6 = endpoint.ipv6Bytes();
+      if (ipv6 != null) {
+        size += MarshalerUtil.sizeBytes(Proto.ENDPOINT_IPV6, ipv6);
+      }
+      size += MarshalerUtil.sizeInt32(Proto.ENDPOINT_PORT, endpoint.portAsInt());
+      return size;
+    }
+  }
+
+  private static final class ProtoAnnotationMarshaler
+      implements StatelessMarshaler2<EventData, String> {
+    static final ProtoAnnotationMarshaler INSTANCE = new ProtoAnnotationMarshaler();
+
+    @Override
+    public void writeTo(
+        Serializer output, EventData event, String value, MarshalerContext context)
+        throws IOException {
+      output.serializeFixed64(
+          Proto.ANNOTATION_TIMESTAMP,
+          OtelToZipkinSpanTransformer.toEpochMicros(event.getEpochNanos()));
+      output.serializeStringWithContext(Proto.ANNOTATION_VALUE, value, context);
+    }
+
+    @Override
+    public int getBinarySerializedSize(EventData event, String value, MarshalerContext context) {
+      return MarshalerUtil.sizeFixed64(
+              Proto.ANNOTATION_TIMESTAMP,
+              OtelToZipkinSpanTransformer.toEpochMicros(event.getEpochNanos()))
+          + StatelessMarshalerUtil.sizeStringWithContext(Proto.ANNOTATION_VALUE, value, context);
+    }
+  }
+
+  private static final class ProtoTagMarshaler implements StatelessMarshaler2<String, String> {
+    static final ProtoTagMarshaler INSTANCE = new ProtoTagMarshaler();
+
+    @Override
+    public void writeTo(Serializer output, String key, String value, MarshalerContext context)
+        throws IOException {
+      output.serializeStringWithContext(Proto.TAG_KEY, key, context);
+      output.serializeStringWithContext(Proto.TAG_VALUE, value, context);
+    }
+
+    @Override
+    public int getBinarySerializedSize(String key, String value, MarshalerContext context) {
+      return StatelessMarshalerUtil.sizeStringWithContext(Proto.TAG_KEY, key, context)
+          + StatelessMarshalerUtil.sizeStringWithContext(Proto.TAG_VALUE, value, context);
+    }
+  }
+
+  /** A growable byte buffer with helpers for writing JSON. */
+  private static final class OutputBuffer extends OutputStream {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes = new byte[4096];
+    private int count;
+
+    @Override
+    public void write(int b) {
+      ensureCapacity(count + 1);
+      bytes[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      ensureCapacity(count + len);
+      System.arraycopy(b, off, bytes, count, len);
+      count += len;
+    }
+
+    /** Writes a string known to only contain ASCII characters which need no escaping. */
+    void writeAscii(String value) {
+      int length = value.length();
+      ensureCapacity(count + length);
+      for (int i = 0; i < length; i++) {
+        bytes[count++] = (byte) value.charAt(i);
+      }
+    }
+
+    void writeLong(long value) {
+      if (value < 0) {
+        // Only reachable for timestamps before the epoch.
+        writeAscii(Long.toString(value));
+        return;
+      }
+      ensureCapacity(count + 19);
+      int start = count;
+      do {
+        bytes[count++] = (byte) ('0' + (value % 10));
+        value /= 10;
+      } while (value != 0);
+      // Digits were written least significant first.
+      for (int i = start, j = count - 1; i < j; i++, j--) {
+        byte tmp = bytes[i];
+        bytes[i] = bytes[j];
+        bytes[j] = tmp;
+      }
+    }
+
+    /** Writes {@code value} as a quoted, escaped, UTF-8 encoded JSON string. */
+    void writeJsonString(String value) {
+      int length = value.length();
+      // Worst case is six bytes per char, for \\uXXXX escapes.
+      ensureCapacity(count + 2 + 6 * length);
+      bytes[count++] = '"';
+      for (int i = 0; i < length; i++) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+          writeAsciiChar(c);
+        } else if (c < 0x800) {
+          bytes[count++] = (byte) (0xC0 | (c >> 6));
+          bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, value.charAt(++i));
+          bytes[count++] = (byte) (0xF0 | (codePoint >> 18));
+          bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+          bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+          bytes[count++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+          // Unpaired surrogate, replaced as String.getBytes(UTF_8) does.
+          bytes[count++] = '?';
+        } else if (c == '\u2028' || c == '\u2029') {
+          // Valid JSON, but escaped so the output can also be embedded in JavaScript.
+          writeUnicodeEscape(c);
+        } else {
+          bytes[count++] = (byte) (0xE0 | (c >> 12));
+          bytes[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+          bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+      }
+      bytes[count++] = '"';
+    }
+
+    private void writeAsciiChar(char c) {
+      switch (c) {
+        case '"':
+          bytes[count++] = '\\';
+          bytes[count++] = '"';
+          return;
+        case '\\':
+          bytes[count++] = '\\';
+          bytes[count++] = '\\';
+          return;
+        case '\n':
+          bytes[count++] = '\\';
+          bytes[count++] = 'n';
+          return;
+        case '\r':
+          bytes[count++] = '\\';
+          bytes[count++] = 'r';
+          return;
+        case '\t':
+          bytes[count++] = '\\';
+          bytes[count++] = 't';
+          return;
+        default:
+          if (c < 0x20) {
+            writeUnicodeEscape(c);
+          } else {
+            bytes[count++] = (byte) c;
+          }
+      }
+    }
+
+    private void writeUnicodeEscape(char c) {
+      bytes[count++] = '\\';
+      bytes[count++] = 'u';
+      bytes[count++] = HEX[(c >> 12) & 0xF];
+      bytes[count++] = HEX[(c >> 8) & 0xF];
+      bytes[count++] = HEX[(c >> 4) & 0xF];
+      bytes[count++] = HEX[c & 0xF];
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, count);
+    }
+
+    /** Empties the buffer, dropping it if it grew beyond {@code maxRetainedSize}. */
+    void reset(int maxRetainedSize) {
+      count = 0;
+      if (bytes.length > maxRetainedSize) {
+        bytes = new byte[4096];
+      }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+      if (minCapacity > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(minCapacity, bytes.length * 2));
+      }
+    }
+
+  }
+}
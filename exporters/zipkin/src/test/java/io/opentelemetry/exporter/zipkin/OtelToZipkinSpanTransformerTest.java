@@ -497,6 +497,43 @@ class OtelToZipkinSpanTransformerTest {
                 .build());
   }
 
+  @Test
+  void resourceScopeFields_Cached() {
+    SpanData data = spanBuilder().build();
+    SpanData sameResource = spanBuilder().setResource(data.getResource()).build();
+    SpanData otherScope =
+        spanBuilder()
+            .setResource(data.getResource())
+            .setInstrumentationScopeInfo(InstrumentationScopeInfo.create("other"))
+            .build();
+
+    Endpoint localEndpoint = transformer.getLocalEndpoint(data);
+    assertThat(transformer.getLocalEndpoint(sameResource)).isSameAs(localEndpoint);
+    assertThat(transformer.getLocalEndpoint(otherScope))
+        .isNotSameAs(localEndpoint)
+        .isEqualTo(localEndpoint);
+
+    // A change of local address is picked up.
+    InetAddress previousIp = localIp;
+    localIp = mock(InetAddress.class);
+    assertThat(transformer.getLocalEndpoint(data)).isNotSameAs(localEndpoint);
+    localIp = previousIp;
+  }
+
+  @Test
+  void generateSpan_CacheDisabled() {
+    OtelToZipkinSpanTransformer uncached =
+        OtelToZipkinSpanTransformer.create(() -> localIp, /* cacheSize= */ 0);
+    SpanData data =
+        spanBuilder()
+            .setInstrumentationScopeInfo(
+                InstrumentationScopeInfo.builder("scope").setVersion("1.0").build())
+            .build();
+
+    assertThat(uncached.generateSpan(data)).isEqualTo(transformer.generateSpan(data));
+    assertThat(uncached.getLocalEndpoint(data)).isNotSameAs(uncached.getLocalEndpoint(data));
+  }
+
   @Nullable
   private static Span.Kind toZipkinSpanKind(SpanKind spanKind) {
     return spanKind != SpanKind.INTERNAL ? Span.Kind.valueOf(spanKind.name()) : null;
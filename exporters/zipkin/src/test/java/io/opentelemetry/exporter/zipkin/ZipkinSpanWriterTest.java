@@ -0,0 +1,117 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.exporter.zipkin;
+
+import static io.opentelemetry.exporter.zipkin.ZipkinTestUtil.spanBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import zipkin2.Span;
+import zipkin2.codec.SpanBytesDecoder;
+import zipkin2.reporter.SpanBytesEncoder;
+
+class ZipkinSpanWriterTest {
+
+  private static final OtelToZipkinSpanTransformer transformer =
+      OtelToZipkinSpanTransformer.create(InetAddress::getLoopbackAddress);
+
+  private static final List<SpanData> SPANS =
+      Arrays.asList(
+          spanBuilder().build(),
+          spanBuilder()
+              .setSpanContext(
+                  SpanContext.create(
+                      "0000000000000000" + ZipkinTestUtil.SPAN_ID,
+                      ZipkinTestUtil.PARENT_SPAN_ID,
+                      TraceFlags.getSampled(),
+                      TraceState.getDefault()))
+              .setParentSpanContext(SpanContext.getInvalid())
+              .setKind(SpanKind.CLIENT)
+              .setName("Ünïcödé \"quoted\"\n😀")
+              .setStatus(StatusData.create(StatusCode.ERROR, "boom"))
+              .setInstrumentationScopeInfo(
+                  InstrumentationScopeInfo.builder("scope").setVersion("1.0").build())
+              .setAttributes(
+                  Attributes.builder()
+                      .put("peer.service", "remote-service")
+                      .put("server.socket.address", "8.8.8.8")
+                      .put("server.socket.port", 42L)
+                      .put("otel.status_code", "replaced")
+                      .put(AttributeKey.booleanKey("error"), true)
+                      .put(AttributeKey.longArrayKey("numbers"), Arrays.asList(1L, 2L))
+                      .build())
+              .setTotalAttributeCount(10)
+              .setEvents(
+                  Collections.singletonList(
+                      EventData.create(
+                          1505855799_433901068L,
+                          "event",
+                          Attributes.of(AttributeKey.stringKey("key"), "value"))))
+              .setTotalRecordedEvents(3)
+              .build(),
+          spanBuilder()
+              .setKind(SpanKind.INTERNAL)
+              .setName("")
+              .setEvents(Collections.emptyList())
+              .setTotalRecordedEvents(0)
+              .build());
+
+  @Test
+  void json() {
+    ZipkinSpanWriter writer = ZipkinSpanWriter.create(transformer, SpanBytesEncoder.JSON_V2);
+    assertThat(writer).isNotNull();
+
+    byte[] encoded = writer.write(SPANS);
+    // The sender encloses the comma separated spans in brackets.
+    byte[] message =
+        ("[" + new String(encoded, StandardCharsets.UTF_8) + "]").getBytes(StandardCharsets.UTF_8);
+
+    assertThat(SpanBytesDecoder.JSON_V2.decodeList(message)).isEqualTo(expectedSpans());
+    // The buffer is reused across writes.
+    assertThat(writer.write(SPANS)).isEqualTo(encoded);
+  }
+
+  @Test
+  void proto3() {
+    ZipkinSpanWriter writer = ZipkinSpanWriter.create(transformer, SpanBytesEncoder.PROTO3);
+    assertThat(writer).isNotNull();
+
+    byte[] encoded = writer.write(SPANS);
+
+    assertThat(SpanBytesDecoder.PROTO3.decodeList(encoded)).isEqualTo(expectedSpans());
+    assertThat(writer.write(SPANS)).isEqualTo(encoded);
+  }
+
+  @Test
+  void otherEncodersUnsupported() {
+    assertThat(ZipkinSpanWriter.create(transformer, SpanBytesEncoder.JSON_V1)).isNull();
+  }
+
+  private static List<Span> expectedSpans() {
+    List<Span> spans = new ArrayList<>();
+    for (SpanData span : SPANS) {
+      spans.add(transformer.generateSpan(span));
+    }
+    return spans;
+  }
+}
@@ -3,6 +3,8 @@ import io.opentelemetry.gradle.OtelVersionClassPlugin
 plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
+
+  id("otel.jmh-conventions")
 }
 apply<OtelVersionClassPlugin>()
 
@@ -23,6 +25,8 @@ dependencies {
 
   testImplementation("io.opencensus:opencensus-impl")
   testImplementation("io.opencensus:opencensus-contrib-exemplar-util")
+
+  jmhImplementation("io.opencensus:opencensus-impl")
 }
 
 tasks.named<Test>("test") {
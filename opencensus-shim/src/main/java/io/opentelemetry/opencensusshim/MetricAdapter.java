@@ -24,26 +24,24 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
 import io.opentelemetry.sdk.metrics.data.DoublePointData;
-import io.opentelemetry.sdk.metrics.data.GaugeData;
-import io.opentelemetry.sdk.metrics.data.HistogramData;
 import io.opentelemetry.sdk.metrics.data.HistogramPointData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
 import io.opentelemetry.sdk.metrics.data.MetricData;
-import io.opentelemetry.sdk.metrics.data.SumData;
-import io.opentelemetry.sdk.metrics.data.SummaryData;
 import io.opentelemetry.sdk.metrics.data.SummaryPointData;
 import io.opentelemetry.sdk.metrics.data.ValueAtQuantile;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoublePointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableGaugeData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramData;
-import io.opentelemetry.sdk.metrics.internal.data.ImmutableHistogramPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableLongPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableMetricData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableSumData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableSummaryPointData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableValueAtQuantile;
+import io.opentelemetry.sdk.metrics.internal.data.MutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableLongPointData;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -77,181 +75,205 @@ final class MetricAdapter {
    * @param censusMetric The OpenCensus metric to convert.
    */
   static MetricData convert(Resource otelResource, Metric censusMetric) {
+    return convert(otelResource, censusMetric, null);
+  }
+
+  /**
+   * Converts an open-census metric into the OTLP format.
+   *
+   * @param otelResource The resource associated with the opentelemetry SDK.
+   * @param censusMetric The OpenCensus metric to convert.
+   * @param reusablePoints The points to fill in instead of allocating new ones, or {@code null}.
+   */
+  static MetricData convert(
+      Resource otelResource, Metric censusMetric, @Nullable ReusablePoints reusablePoints) {
     // Note: we can't just adapt interfaces, we need to do full copy because OTel data API uses
     // auto-value vs. pure interfaces.
-    switch (censusMetric.getMetricDescriptor().getType()) {
+    MetricDescriptor descriptor = censusMetric.getMetricDescriptor();
+    switch (descriptor.getType()) {
       case GAUGE_INT64:
         return ImmutableMetricData.createLongGauge(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertLongGauge(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableGaugeData.create(convertLongPoints(censusMetric, reusablePoints)));
       case GAUGE_DOUBLE:
         return ImmutableMetricData.createDoubleGauge(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertDoubleGauge(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableGaugeData.create(convertDoublePoints(censusMetric, reusablePoints)));
       case CUMULATIVE_INT64:
         return ImmutableMetricData.createLongSum(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertLongSum(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableSumData.create(
+                true,
+                AggregationTemporality.CUMULATIVE,
+                convertLongPoints(censusMetric, reusablePoints)));
       case CUMULATIVE_DOUBLE:
         return ImmutableMetricData.createDoubleSum(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertDoubleSum(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableSumData.create(
+                true,
+                AggregationTemporality.CUMULATIVE,
+                convertDoublePoints(censusMetric, reusablePoints)));
       case CUMULATIVE_DISTRIBUTION:
         return ImmutableMetricData.createDoubleHistogram(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertHistogram(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableHistogramData.create(
+                AggregationTemporality.CUMULATIVE,
+                convertHistogramPoints(censusMetric, reusablePoints)));
       case SUMMARY:
         return ImmutableMetricData.createDoubleSummary(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertSummary(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableSummaryData.create(convertSummaryPoints(censusMetric)));
       case GAUGE_DISTRIBUTION:
         return ImmutableMetricData.createDoubleHistogram(
             otelResource,
             INSTRUMENTATION_SCOPE_INFO,
-            censusMetric.getMetricDescriptor().getName(),
-            censusMetric.getMetricDescriptor().getDescription(),
-            censusMetric.getMetricDescriptor().getUnit(),
-            convertGaugeHistogram(censusMetric));
+            descriptor.getName(),
+            descriptor.getDescription(),
+            descriptor.getUnit(),
+            ImmutableHistogramData.create(
+                AggregationTemporality.DELTA,
+                convertHistogramPoints(censusMetric, reusablePoints)));
     }
     // Should be unreachable....
     throw new IllegalArgumentException(
         "Unknown OpenCensus metric type: " + censusMetric.getMetricDescriptor().getType());
   }
 
-  static GaugeData<LongPointData> convertLongGauge(Metric censusMetric) {
-    return ImmutableGaugeData.create(convertLongPoints(censusMetric));
-  }
-
-  static GaugeData<DoublePointData> convertDoubleGauge(Metric censusMetric) {
-    return ImmutableGaugeData.create(convertDoublePoints(censusMetric));
-  }
-
-  static SumData<LongPointData> convertLongSum(Metric censusMetric) {
-    return ImmutableSumData.create(
-        true, AggregationTemporality.CUMULATIVE, convertLongPoints(censusMetric));
-  }
-
-  static SumData<DoublePointData> convertDoubleSum(Metric censusMetric) {
-    return ImmutableSumData.create(
-        true, AggregationTemporality.CUMULATIVE, convertDoublePoints(censusMetric));
-  }
-
-  static HistogramData convertHistogram(Metric censusMetric) {
-    return ImmutableHistogramData.create(
-        AggregationTemporality.CUMULATIVE, convertHistogramPoints(censusMetric));
-  }
-
-  static HistogramData convertGaugeHistogram(Metric censusMetric) {
-    return ImmutableHistogramData.create(
-        AggregationTemporality.DELTA, convertHistogramPoints(censusMetric));
-  }
-
-  static SummaryData convertSummary(Metric censusMetric) {
-    return ImmutableSummaryData.create(convertSummaryPoints(censusMetric));
-  }
-
-  static Collection<LongPointData> convertLongPoints(Metric censusMetric) {
-    // TODO - preallocate array to correct size.
-    List<LongPointData> result = new ArrayList<>();
+  private static Collection<LongPointData> convertLongPoints(
+      Metric censusMetric, @Nullable ReusablePoints reusablePoints) {
+    List<LongPointData> result = new ArrayList<>(countPoints(censusMetric));
     for (TimeSeries ts : censusMetric.getTimeSeriesList()) {
       long startTimestamp = mapTimestamp(ts.getStartTimestamp());
       Attributes attributes =
           mapAttributes(censusMetric.getMetricDescriptor().getLabelKeys(), ts.getLabelValues());
       for (Point point : ts.getPoints()) {
-        result.add(
-            ImmutableLongPointData.create(
-                startTimestamp, mapTimestamp(point.getTimestamp()), attributes, longValue(point)));
+        long epochNanos = mapTimestamp(point.getTimestamp());
+        long value = longValue(point);
+        if (reusablePoints == null) {
+          result.add(ImmutableLongPointData.create(startTimestamp, epochNanos, attributes, value));
+        } else {
+          MutableLongPointData otelPoint = reusablePoints.nextLongPoint();
+          otelPoint.set(startTimestamp, epochNanos, attributes, value);
+          result.add(otelPoint);
+        }
       }
     }
     return result;
   }
 
-  static Collection<DoublePointData> convertDoublePoints(Metric censusMetric) {
-    // TODO - preallocate array to correct size.
-    List<DoublePointData> result = new ArrayList<>();
+  private static Collection<DoublePointData> convertDoublePoints(
+      Metric censusMetric, @Nullable ReusablePoints reusablePoints) {
+    List<DoublePointData> result = new ArrayList<>(countPoints(censusMetric));
     for (TimeSeries ts : censusMetric.getTimeSeriesList()) {
       long startTimestamp = mapTimestamp(ts.getStartTimestamp());
       Attributes attributes =
           mapAttributes(censusMetric.getMetricDescriptor().getLabelKeys(), ts.getLabelValues());
       for (Point point : ts.getPoints()) {
-        result.add(
-            ImmutableDoublePointData.create(
-                startTimestamp,
-                mapTimestamp(point.getTimestamp()),
-                attributes,
-                doubleValue(point)));
+        long epochNanos = mapTimestamp(point.getTimestamp());
+        double value = doubleValue(point);
+        if (reusablePoints == null) {
+          result.add(
+              ImmutableDoublePointData.create(startTimestamp, epochNanos, attributes, value));
+        } else {
+          MutableDoublePointData otelPoint = reusablePoints.nextDoublePoint();
+          otelPoint.set(startTimestamp, epochNanos, attributes, value);
+          result.add(otelPoint);
+        }
       }
     }
     return result;
   }
 
-  static Collection<HistogramPointData> convertHistogramPoints(Metric censusMetric) {
+  private static Collection<HistogramPointData> convertHistogramPoints(
+      Metric censusMetric, @Nullable ReusablePoints reusablePoints) {
     boolean isGauge =
         censusMetric.getMetricDescriptor().getType() == MetricDescriptor.Type.GAUGE_DISTRIBUTION;
-    // TODO - preallocate array to correct size.
-    List<HistogramPointData> result = new ArrayList<>();
+    List<HistogramPointData> result = new ArrayList<>(countPoints(censusMetric));
     for (TimeSeries ts : censusMetric.getTimeSeriesList()) {
       long startTimestamp = mapTimestamp(ts.getStartTimestamp());
       Attributes attributes =
           mapAttributes(censusMetric.getMetricDescriptor().getLabelKeys(), ts.getLabelValues());
       for (Point point : ts.getPoints()) {
-        long endTimestamp = mapTimestamp(point.getTimestamp());
-        HistogramPointData otelPoint =
+        Distribution distribution =
             point
                 .getValue()
                 .match(
                     doubleValue -> null,
                     longValue -> null,
-                    distribution ->
-                        ImmutableHistogramPointData.create(
-                            // Report Gauge histograms as DELTA with "instantaneous" time window.
-                            isGauge ? endTimestamp : startTimestamp,
-                            endTimestamp,
-                            attributes,
-                            distribution.getSum(),
-                            /* hasMin= */ false,
-                            0,
-                            /* hasMax= */ false,
-                            0,
-                            mapBoundaries(distribution.getBucketOptions()),
-                            mapCounts(distribution.getBuckets()),
-                            mapExemplars(distribution.getBuckets())),
+                    d -> d,
                     summary -> null,
                     defaultValue -> null);
-        if (otelPoint != null) {
-          result.add(otelPoint);
+        if (distribution == null) {
+          continue;
+        }
+        long endTimestamp = mapTimestamp(point.getTimestamp());
+        List<Distribution.Bucket> buckets = distribution.getBuckets();
+        List<Double> boundaries = mapBoundaries(distribution.getBucketOptions());
+        if (buckets.size() != boundaries.size() + 1) {
+          throw new IllegalArgumentException(
+              "invalid counts: size should be "
+                  + (boundaries.size() + 1)
+                  + " instead of "
+                  + buckets.size());
+        }
+        long[] counts =
+            reusablePoints == null
+                ? new long[buckets.size()]
+                : reusablePoints.bucketCounts(buckets.size());
+        for (int i = 0; i < counts.length; i++) {
+          counts[i] = buckets.get(i).getCount();
         }
+        // The counts are copied into primitive storage, unlike ImmutableHistogramPointData which
+        // boxes each of them.
+        MutableHistogramPointData otelPoint =
+            reusablePoints == null
+                ? new MutableHistogramPointData(counts.length)
+                : reusablePoints.nextHistogramPoint(counts.length);
+        otelPoint.set(
+            // Report Gauge histograms as DELTA with "instantaneous" time window.
+            isGauge ? endTimestamp : startTimestamp,
+            endTimestamp,
+            attributes,
+            distribution.getSum(),
+            /* hasMin= */ false,
+            0,
+            /* hasMax= */ false,
+            0,
+            boundaries,
+            counts,
+            mapExemplars(buckets));
+        result.add(otelPoint);
       }
     }
     return result;
   }
 
-  static Collection<SummaryPointData> convertSummaryPoints(Metric censusMetric) {
-    List<SummaryPointData> result = new ArrayList<>();
+  private static Collection<SummaryPointData> convertSummaryPoints(Metric censusMetric) {
+    List<SummaryPointData> result = new ArrayList<>(countPoints(censusMetric));
     for (TimeSeries ts : censusMetric.getTimeSeriesList()) {
       long startTimestamp = mapTimestamp(ts.getStartTimestamp());
       Attributes attributes =
@@ -281,6 +303,14 @@ final class MetricAdapter {
     return result;
   }
 
+  private static int countPoints(Metric censusMetric) {
+    int count = 0;
+    for (TimeSeries ts : censusMetric.getTimeSeriesList()) {
+      count += ts.getPoints().size();
+    }
+    return count;
+  }
+
   static Attributes mapAttributes(List<LabelKey> labels, List<LabelValue> values) {
     AttributesBuilder result = Attributes.builder();
     for (int i = 0; i < labels.size(); i++) {
@@ -320,23 +350,18 @@ final class MetricAdapter {
         explicit -> explicit.getBucketBoundaries(), defaultOption -> Collections.emptyList());
   }
 
-  static List<Long> mapCounts(List<Distribution.Bucket> buckets) {
-    List<Long> result = new ArrayList<>(buckets.size());
-    for (Distribution.Bucket bucket : buckets) {
-      result.add(bucket.getCount());
-    }
-    return result;
-  }
-
   static List<DoubleExemplarData> mapExemplars(List<Distribution.Bucket> buckets) {
-    List<DoubleExemplarData> result = new ArrayList<>();
-    for (Distribution.Bucket bucket : buckets) {
-      Exemplar exemplar = bucket.getExemplar();
+    List<DoubleExemplarData> result = null;
+    for (int i = 0; i < buckets.size(); i++) {
+      Exemplar exemplar = buckets.get(i).getExemplar();
       if (exemplar != null) {
+        if (result == null) {
+          result = new ArrayList<>(buckets.size() - i);
+        }
         result.add(mapExemplar(exemplar));
       }
     }
-    return result;
+    return result == null ? Collections.emptyList() : result;
   }
 
   private static DoubleExemplarData mapExemplar(Exemplar exemplar) {
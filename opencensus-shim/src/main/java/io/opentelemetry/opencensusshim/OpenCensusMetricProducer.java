@@ -6,15 +6,19 @@
 package io.opentelemetry.opencensusshim;
 
 import io.opencensus.metrics.Metrics;
+import io.opencensus.metrics.export.Metric;
 import io.opencensus.metrics.export.MetricProducerManager;
+import io.opentelemetry.sdk.common.export.MemoryMode;
 import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
 import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.export.MetricProducer;
 import io.opentelemetry.sdk.metrics.export.MetricReader;
+import io.opentelemetry.sdk.metrics.internal.export.PerReaderMetricProducer;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import javax.annotation.Nullable;
 
 /**
  * {@link MetricProducer} for OpenCensus metrics, which allows {@link MetricReader}s to read from
@@ -22,11 +26,14 @@ import java.util.List;
  *
  * <p>To use, register with {@link SdkMeterProviderBuilder#registerMetricProducer(MetricProducer)}.
  */
-public final class OpenCensusMetricProducer implements MetricProducer {
+public final class OpenCensusMetricProducer implements PerReaderMetricProducer {
   private final MetricProducerManager openCensusMetricStorage;
+  @Nullable private final ReusablePoints reusablePoints;
 
-  private OpenCensusMetricProducer(MetricProducerManager openCensusMetricStorage) {
+  private OpenCensusMetricProducer(
+      MetricProducerManager openCensusMetricStorage, MemoryMode memoryMode) {
     this.openCensusMetricStorage = openCensusMetricStorage;
+    this.reusablePoints = memoryMode == MemoryMode.REUSABLE_DATA ? new ReusablePoints() : null;
   }
 
   /**
@@ -34,19 +41,56 @@ public final class OpenCensusMetricProducer implements MetricProducer {
    * Resource}.
    */
   public static MetricProducer create() {
-    return new OpenCensusMetricProducer(Metrics.getExportComponent().getMetricProducerManager());
+    return create(MemoryMode.IMMUTABLE_DATA);
+  }
+
+  /**
+   * Constructs a new {@link OpenCensusMetricProducer} with the given {@link MemoryMode}.
+   *
+   * <p>With {@link MemoryMode#REUSABLE_DATA} the returned collection and the points of the produced
+   * {@link MetricData} are reused, and overwritten, by the next call to {@link #produce(Resource)}.
+   * When registered with
+   * an {@link io.opentelemetry.sdk.metrics.SdkMeterProvider}, each of its {@link MetricReader}s
+   * reads from its own copy of the producer, so the data is only overwritten by the next collection
+   * of the same reader. Only use it with readers which are themselves configured with {@link
+   * MemoryMode#REUSABLE_DATA}.
+   */
+  public static MetricProducer create(MemoryMode memoryMode) {
+    return new OpenCensusMetricProducer(
+        Metrics.getExportComponent().getMetricProducerManager(), memoryMode);
+  }
+
+  @Override
+  public MetricProducer createForReader() {
+    if (reusablePoints == null) {
+      // Nothing is reused, so readers can share this producer.
+      return this;
+    }
+    return new OpenCensusMetricProducer(openCensusMetricStorage, MemoryMode.REUSABLE_DATA);
   }
 
   @Override
   public Collection<MetricData> produce(Resource resource) {
-    List<MetricData> result = new ArrayList<>();
-    openCensusMetricStorage
-        .getAllMetricProducer()
-        .forEach(
-            producer ->
-                producer
-                    .getMetrics()
-                    .forEach(metric -> result.add(MetricAdapter.convert(resource, metric))));
-    return result;
+    if (reusablePoints == null) {
+      List<MetricData> result = new ArrayList<>();
+      collectInto(resource, result, null);
+      return result;
+    }
+    synchronized (reusablePoints) {
+      reusablePoints.reset();
+      List<MetricData> result = reusablePoints.metrics();
+      collectInto(resource, result, reusablePoints);
+      return result;
+    }
+  }
+
+  private void collectInto(
+      Resource resource, List<MetricData> result, @Nullable ReusablePoints reusablePoints) {
+    for (io.opencensus.metrics.export.MetricProducer producer :
+        openCensusMetricStorage.getAllMetricProducer()) {
+      for (Metric metric : producer.getMetrics()) {
+        result.add(MetricAdapter.convert(resource, metric, reusablePoints));
+      }
+    }
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.opencensusshim;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableDoublePointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableHistogramPointData;
+import io.opentelemetry.sdk.metrics.internal.data.MutableLongPointData;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The point objects which {@link MetricAdapter} fills in when {@link OpenCensusMetricProducer} is
+ * configured with {@link MemoryMode#REUSABLE_DATA}. Each collection hands out the points of the
+ * previous one again, so only the first collection, or one with more time series than any before
+ * it, allocates points.
+ *
+ * <p>This class is not thread-safe.
+ */
+final class ReusablePoints {
+
+  private final List<MutableLongPointData> longPoints = new ArrayList<>();
+  private final List<MutableDoublePointData> doublePoints = new ArrayList<>();
+  private final List<MutableHistogramPointData> histogramPoints = new ArrayList<>();
+  private final List<MetricData> metrics = new ArrayList<>();
+  private int longPointIndex;
+  private int doublePointIndex;
+  private int histogramPointIndex;
+  private long[] bucketCounts = new long[0];
+
+  /** Starts a new collection, handing out the points returned by the previous one again. */
+  void reset() {
+    longPointIndex = 0;
+    doublePointIndex = 0;
+    histogramPointIndex = 0;
+    metrics.clear();
+  }
+
+  /** Returns the list to collect the converted metrics into, empty since the last reset. */
+  List<MetricData> metrics() {
+    return metrics;
+  }
+
+  MutableLongPointData nextLongPoint() {
+    if (longPointIndex == longPoints.size()) {
+      longPoints.add(new MutableLongPointData());
+    }
+    return longPoints.get(longPointIndex++);
+  }
+
+  MutableDoublePointData nextDoublePoint() {
+    if (doublePointIndex == doublePoints.size()) {
+      doublePoints.add(new MutableDoublePointData());
+    }
+    return doublePoints.get(doublePointIndex++);
+  }
+
+  MutableHistogramPointData nextHistogramPoint(int buckets) {
+    if (histogramPointIndex == histogramPoints.size()) {
+      histogramPoints.add(new MutableHistogramPointData(buckets));
+    } else if (histogramPoints.get(histogramPointIndex).getCounts().size() != buckets) {
+      // The number of buckets of a point is fixed, so replace it if the time series it was used
+      // for last time had a different layout.
+      histogramPoints.set(histogramPointIndex, new MutableHistogramPointData(buckets));
+    }
+    return histogramPoints.get(histogramPointIndex++);
+  }
+
+  /**
+   * Returns a scratch array for {@code buckets} bucket counts, which is only valid until the next
+   * call.
+   */
+  long[] bucketCounts(int buckets) {
+    if (bucketCounts.length != buckets) {
+      bucketCounts = new long[buckets];
+    }
+    return bucketCounts;
+  }
+}
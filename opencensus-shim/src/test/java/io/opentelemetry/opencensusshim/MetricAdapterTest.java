@@ -25,6 +25,9 @@ import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.TraceFlags;
 import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.internal.data.ImmutableDoubleExemplarData;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.Arrays;
@@ -379,4 +382,125 @@ class MetricAdapterTest {
                                             TraceState.getDefault()),
                                         4.0))));
   }
+
+  @Test
+  void reusesPoints() {
+    ReusablePoints reusablePoints = new ReusablePoints();
+    MetricDescriptor gaugeDescriptor =
+        MetricDescriptor.create(
+            "gauge",
+            "description",
+            "unit",
+            MetricDescriptor.Type.GAUGE_INT64,
+            Collections.singletonList(LabelKey.create("key1", "desc1")));
+    MetricDescriptor histogramDescriptor =
+        MetricDescriptor.create(
+            "histogram",
+            "description",
+            "unit",
+            MetricDescriptor.Type.CUMULATIVE_DISTRIBUTION,
+            Collections.singletonList(LabelKey.create("key1", "desc1")));
+
+    reusablePoints.reset();
+    LongPointData longPoint =
+        MetricAdapter.convert(
+                RESOURCE,
+                Metric.createWithOneTimeSeries(
+                    gaugeDescriptor,
+                    TimeSeries.create(
+                        Collections.singletonList(LabelValue.create("value1")),
+                        Collections.singletonList(
+                            Point.create(Value.longValue(4), Timestamp.fromMillis(2000))),
+                        Timestamp.fromMillis(1000))),
+                reusablePoints)
+            .getLongGaugeData()
+            .getPoints()
+            .iterator()
+            .next();
+    HistogramPointData histogramPoint =
+        MetricAdapter.convert(
+                RESOURCE,
+                Metric.createWithOneTimeSeries(
+                    histogramDescriptor,
+                    TimeSeries.create(
+                        Collections.singletonList(LabelValue.create("value1")),
+                        Collections.singletonList(
+                            Point.create(
+                                Value.distributionValue(
+                                    Distribution.create(
+                                        3,
+                                        5,
+                                        2,
+                                        Distribution.BucketOptions.explicitOptions(
+                                            Collections.singletonList(2.0)),
+                                        Arrays.asList(
+                                            Distribution.Bucket.create(1),
+                                            Distribution.Bucket.create(2)))),
+                                Timestamp.fromMillis(2000))),
+                        Timestamp.fromMillis(1000))),
+                reusablePoints)
+            .getHistogramData()
+            .getPoints()
+            .iterator()
+            .next();
+
+    reusablePoints.reset();
+    MetricData gauge =
+        MetricAdapter.convert(
+            RESOURCE,
+            Metric.createWithOneTimeSeries(
+                gaugeDescriptor,
+                TimeSeries.create(
+                    Collections.singletonList(LabelValue.create("value2")),
+                    Collections.singletonList(
+                        Point.create(Value.longValue(7), Timestamp.fromMillis(3000))),
+                    Timestamp.fromMillis(1000))),
+            reusablePoints);
+    MetricData histogram =
+        MetricAdapter.convert(
+            RESOURCE,
+            Metric.createWithOneTimeSeries(
+                histogramDescriptor,
+                TimeSeries.create(
+                    Collections.singletonList(LabelValue.create("value2")),
+                    Collections.singletonList(
+                        Point.create(
+                            Value.distributionValue(
+                                Distribution.create(
+                                    6,
+                                    9,
+                                    2,
+                                    Distribution.BucketOptions.explicitOptions(
+                                        Collections.singletonList(2.0)),
+                                    Arrays.asList(
+                                        Distribution.Bucket.create(4),
+                                        Distribution.Bucket.create(2)))),
+                            Timestamp.fromMillis(3000))),
+                    Timestamp.fromMillis(1000))),
+            reusablePoints);
+
+    assertThat(gauge.getLongGaugeData().getPoints()).containsExactly(longPoint);
+    assertThat(gauge)
+        .hasLongGaugeSatisfying(
+            g ->
+                g.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasValue(7)
+                            .hasStartEpochNanos(1000000000)
+                            .hasEpochNanos(3000000000L)
+                            .hasAttributes(attributeEntry("key1", "value2"))));
+    assertThat(histogram.getHistogramData().getPoints()).containsExactly(histogramPoint);
+    assertThat(histogram)
+        .hasHistogramSatisfying(
+            h ->
+                h.hasPointsSatisfying(
+                    point ->
+                        point
+                            .hasSum(9)
+                            .hasCount(6)
+                            .hasBucketBoundaries(2.0)
+                            .hasBucketCounts(4, 2)
+                            .hasAttributes(attributeEntry("key1", "value2"))));
+  }
 }
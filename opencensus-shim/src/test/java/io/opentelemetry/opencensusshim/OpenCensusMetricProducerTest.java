@@ -7,7 +7,14 @@ package io.opentelemetry.opencensusshim;
 
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 
+import io.opencensus.common.Timestamp;
 import io.opencensus.contrib.exemplar.util.ExemplarUtils;
+import io.opencensus.metrics.Metrics;
+import io.opencensus.metrics.export.Metric;
+import io.opencensus.metrics.export.MetricDescriptor;
+import io.opencensus.metrics.export.Point;
+import io.opencensus.metrics.export.TimeSeries;
+import io.opencensus.metrics.export.Value;
 import io.opencensus.stats.Aggregation;
 import io.opencensus.stats.BucketBoundaries;
 import io.opencensus.stats.Measure;
@@ -21,12 +28,18 @@ import io.opencensus.trace.TraceId;
 import io.opencensus.trace.TraceOptions;
 import io.opencensus.trace.Tracestate;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
 import io.opentelemetry.sdk.metrics.export.MetricProducer;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
@@ -99,4 +112,63 @@ class OpenCensusMetricProducerTest {
                                                                         SPAN_ID
                                                                             .toLowerBase16()))))));
   }
+
+  @Test
+  void reusableData_ReadersDoNotOverwriteEachOther() {
+    AtomicLong queueSize = new AtomicLong();
+    io.opencensus.metrics.export.MetricProducer censusProducer =
+        new io.opencensus.metrics.export.MetricProducer() {
+          @Override
+          public Collection<Metric> getMetrics() {
+            return Collections.singletonList(
+                Metric.createWithOneTimeSeries(
+                    MetricDescriptor.create(
+                        "queue_size",
+                        "Queue size",
+                        "1",
+                        MetricDescriptor.Type.GAUGE_INT64,
+                        Collections.emptyList()),
+                    TimeSeries.createWithOnePoint(
+                        Collections.emptyList(),
+                        Point.create(
+                            Value.longValue(queueSize.incrementAndGet()),
+                            Timestamp.fromMillis(1000)),
+                        null)));
+          }
+        };
+    Metrics.getExportComponent().getMetricProducerManager().add(censusProducer);
+    InMemoryMetricReader first =
+        InMemoryMetricReader.builder().setMemoryMode(MemoryMode.REUSABLE_DATA).build();
+    InMemoryMetricReader second =
+        InMemoryMetricReader.builder().setMemoryMode(MemoryMode.REUSABLE_DATA).build();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder()
+            .registerMetricReader(first)
+            .registerMetricReader(second)
+            .registerMetricProducer(OpenCensusMetricProducer.create(MemoryMode.REUSABLE_DATA))
+            .build();
+    try {
+      Collection<MetricData> firstMetrics = first.collectAllMetrics();
+      Collection<MetricData> secondMetrics = second.collectAllMetrics();
+
+      // Collecting the second reader does not overwrite the points collected by the first.
+      assertThat(firstMetrics)
+          .filteredOn(metric -> metric.getName().equals("queue_size"))
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasLongGaugeSatisfying(
+                          gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(1))));
+      assertThat(secondMetrics)
+          .filteredOn(metric -> metric.getName().equals("queue_size"))
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasLongGaugeSatisfying(
+                          gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(2))));
+    } finally {
+      meterProvider.close();
+      Metrics.getExportComponent().getMetricProducerManager().remove(censusProducer);
+    }
+  }
 }
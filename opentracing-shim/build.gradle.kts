@@ -3,6 +3,8 @@ import io.opentelemetry.gradle.OtelVersionClassPlugin
 plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
+
+  id("otel.jmh-conventions")
 }
 apply<OtelVersionClassPlugin>()
 
@@ -18,6 +20,8 @@ dependencies {
   annotationProcessor("com.google.auto.value:auto-value")
 
   testImplementation(project(":sdk:testing"))
+
+  jmhImplementation(project(":sdk:testing"))
 }
 
 tasks {
@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.opentracingshim;
+
+import io.opentelemetry.api.baggage.propagation.W3CBaggagePropagator;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentracing.Span;
+import io.opentracing.SpanContext;
+import io.opentracing.Tracer;
+import io.opentracing.propagation.Format;
+import io.opentracing.propagation.TextMapAdapter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the OpenTracing shim's hot paths: starting and finishing a span with tags, injecting a
+ * span context with baggage into HTTP headers, extracting it from a realistic set of HTTP headers
+ * and reading its baggage items. Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpenTracingShimBenchmark {
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+  private SpanContext spanContext;
+  private final Map<String, String> injectCarrier = new HashMap<>();
+  private final Map<String, String> extractCarrier = new HashMap<>();
+
+  @Setup(Level.Trial)
+  public void setup() {
+    tracerProvider = SdkTracerProvider.builder().build();
+    TextMapPropagator propagator =
+        TextMapPropagator.composite(
+            W3CTraceContextPropagator.getInstance(), W3CBaggagePropagator.getInstance());
+    tracer = OpenTracingShim.createTracerShim(tracerProvider, propagator, propagator);
+
+    Span span = tracer.buildSpan("parent").start();
+    span.setBaggageItem("user.id", "usr_1234");
+    span.setBaggageItem("tenant.name", "acme");
+    span.setBaggageItem("deployment.region", "eu-west-1");
+    spanContext = span.context();
+    span.finish();
+
+    extractCarrier.put("Host", "api.example.com");
+    extractCarrier.put("User-Agent", "Mozilla/5.0 (X11; Linux x86_64)");
+    extractCarrier.put("Accept", "application/json");
+    extractCarrier.put("Accept-Encoding", "gzip, deflate, br");
+    extractCarrier.put("Accept-Language", "en-US,en;q=0.9");
+    extractCarrier.put("Connection", "keep-alive");
+    extractCarrier.put("Content-Type", "application/json");
+    extractCarrier.put("Content-Length", "348");
+    extractCarrier.put("Cookie", "session=2f4c1b7e9a0d4e3c8b6a5f1e0d9c8b7a");
+    extractCarrier.put("X-Forwarded-For", "203.0.113.7");
+    extractCarrier.put("X-Request-Id", "c0a80101-0000-4000-8000-00000000abcd");
+    tracer.inject(spanContext, Format.Builtin.HTTP_HEADERS, new TextMapAdapter(extractCarrier));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  public Span startFinish() {
+    Span span =
+        tracer
+            .buildSpan("GET /api/v1/items")
+            .asChildOf(spanContext)
+            .withTag("http.method", "GET")
+            .withTag("http.status_code", 200)
+            .withTag("span.kind", "server")
+            .start();
+    span.finish();
+    return span;
+  }
+
+  @Benchmark
+  public Map<String, String> inject() {
+    injectCarrier.clear();
+    tracer.inject(spanContext, Format.Builtin.HTTP_HEADERS, new TextMapAdapter(injectCarrier));
+    return injectCarrier;
+  }
+
+  @Benchmark
+  public SpanContext extract() {
+    return tracer.extract(Format.Builtin.HTTP_HEADERS, new TextMapAdapter(extractCarrier));
+  }
+
+  @Benchmark
+  public int baggageItems() {
+    int count = 0;
+    for (Map.Entry<String, String> item : spanContext.baggageItems()) {
+      count += item.getValue().length();
+    }
+    return count;
+  }
+}
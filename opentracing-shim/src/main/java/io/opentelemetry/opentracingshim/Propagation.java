@@ -12,7 +12,9 @@ import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentracing.propagation.Format;
 import io.opentracing.propagation.TextMapExtract;
 import io.opentracing.propagation.TextMapInject;
-import java.util.HashMap;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 
@@ -37,12 +39,9 @@ final class Propagation {
 
   @Nullable
   <C> SpanContextShim extractTextMap(Format<C> format, TextMapExtract carrier) {
-    Map<String, String> carrierMap = new HashMap<>();
-    for (Map.Entry<String, String> entry : carrier) {
-      carrierMap.put(entry.getKey(), entry.getValue());
-    }
-
-    Context context = getPropagator(format).extract(Context.current(), carrierMap, GETTER_INSTANCE);
+    Context context =
+        getPropagator(format)
+            .extract(Context.current(), CarrierEntries.copyOf(carrier), GETTER_INSTANCE);
 
     Span span = Span.fromContext(context);
     Baggage baggage = Baggage.fromContext(context);
@@ -73,29 +72,90 @@ final class Propagation {
     }
   }
 
-  // We use Map<> instead of TextMap as we need to query a specified key, and iterating over
-  // *all* values per key-query *might* be a bad idea.
+  // We use CarrierEntries instead of TextMap as we need to query a specified key, and the
+  // carrier's iterator may be costly, e.g. create an entry per header.
   static final class TextMapGetter
-      implements io.opentelemetry.context.propagation.TextMapGetter<Map<String, String>> {
+      implements io.opentelemetry.context.propagation.TextMapGetter<CarrierEntries> {
     private TextMapGetter() {}
 
     @Override
-    public Iterable<String> keys(Map<String, String> carrier) {
-      return carrier.keySet();
+    public Iterable<String> keys(CarrierEntries carrier) {
+      return carrier.keys();
     }
 
     @Override
     @Nullable
-    public String get(@Nullable Map<String, String> carrier, String key) {
+    public String get(@Nullable CarrierEntries carrier, String key) {
       if (carrier == null) {
         return null;
       }
-      for (Map.Entry<String, String> entry : carrier.entrySet()) {
-        if (key.equalsIgnoreCase(entry.getKey())) {
-          return entry.getValue();
+      return carrier.get(key);
+    }
+  }
+
+  /**
+   * The entries of a {@link TextMapExtract}, copied once into a flat array of keys and values.
+   * Carriers hold few entries, so a case-insensitive scan of the array is as fast as the map which
+   * was previously copied into, without allocating a node per entry.
+   */
+  static final class CarrierEntries {
+    private String[] keysAndValues;
+    private int size;
+
+    static CarrierEntries copyOf(TextMapExtract carrier) {
+      CarrierEntries entries = new CarrierEntries();
+      for (Map.Entry<String, String> entry : carrier) {
+        if (entry.getKey() != null) {
+          entries.add(entry.getKey(), entry.getValue());
+        }
+      }
+      return entries;
+    }
+
+    private CarrierEntries() {
+      keysAndValues = new String[16];
+    }
+
+    private void add(String key, String value) {
+      // Later entries replace earlier ones with the same key, as when copying into a map.
+      for (int i = 0; i < size; i += 2) {
+        if (keysAndValues[i].equals(key)) {
+          keysAndValues[i + 1] = value;
+          return;
+        }
+      }
+      if (size == keysAndValues.length) {
+        keysAndValues = Arrays.copyOf(keysAndValues, size * 2);
+      }
+      keysAndValues[size++] = key;
+      keysAndValues[size++] = value;
+    }
+
+    @Nullable
+    String get(String key) {
+      for (int i = 0; i < size; i += 2) {
+        if (key.equalsIgnoreCase(keysAndValues[i])) {
+          return keysAndValues[i + 1];
         }
       }
       return null;
     }
+
+    List<String> keys() {
+      return new AbstractList<String>() {
+        @Override
+        public String get(int index) {
+          if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+          }
+          return keysAndValues[index * 2];
+        }
+
+        @Override
+        public int size() {
+          return size / 2;
+        }
+      };
+    }
   }
 }
@@ -5,9 +5,6 @@
 
 package io.opentelemetry.opentracingshim;
 
-import static io.opentelemetry.api.common.AttributeKey.booleanKey;
-import static io.opentelemetry.api.common.AttributeKey.doubleKey;
-import static io.opentelemetry.api.common.AttributeKey.longKey;
 import static io.opentelemetry.api.common.AttributeKey.stringKey;
 
 import com.google.auto.value.AutoValue;
@@ -43,22 +40,18 @@ final class SpanBuilderShim implements SpanBuilder {
   private static final Attributes FOLLOWS_FROM_ATTR =
       Attributes.of(OPENTRACING_REF_TYPE, OPEN_TRACING_REF_TYPE_FOLLOWS_FROM);
 
-  private final Tracer tracer;
-  private final String spanName;
+  // Tags are set on the builder as they are added, instead of being collected and boxed first.
+  private final io.opentelemetry.api.trace.SpanBuilder builder;
 
   // *All* parents are saved in this list.
   private List<SpanParentInfo> allParents = Collections.emptyList();
   private boolean ignoreActiveSpan;
 
-  private final List<AttributeKey<?>> spanBuilderAttributeKeys = new ArrayList<>();
-  private final List<Object> spanBuilderAttributeValues = new ArrayList<>();
-
   @Nullable private Boolean error;
   private long startTimestampMicros;
 
   SpanBuilderShim(Tracer tracer, String spanName) {
-    this.tracer = tracer;
-    this.spanName = spanName;
+    this.builder = tracer.spanBuilder(spanName);
   }
 
   @Override
@@ -121,8 +114,7 @@ final class SpanBuilderShim implements SpanBuilder {
     if (Tags.ERROR.getKey().equals(key)) {
       error = Boolean.parseBoolean(value);
     } else {
-      this.spanBuilderAttributeKeys.add(stringKey(key));
-      this.spanBuilderAttributeValues.add(value);
+      builder.setAttribute(key, value);
     }
 
     return this;
@@ -133,8 +125,7 @@ final class SpanBuilderShim implements SpanBuilder {
     if (Tags.ERROR.getKey().equals(key)) {
       error = value;
     } else {
-      this.spanBuilderAttributeKeys.add(booleanKey(key));
-      this.spanBuilderAttributeValues.add(value);
+      builder.setAttribute(key, value);
     }
     return this;
   }
@@ -149,14 +140,11 @@ final class SpanBuilderShim implements SpanBuilder {
         || value instanceof Long
         || value instanceof Short
         || value instanceof Byte) {
-      this.spanBuilderAttributeKeys.add(longKey(key));
-      this.spanBuilderAttributeValues.add(value.longValue());
+      builder.setAttribute(key, value.longValue());
     } else if (value instanceof Float || value instanceof Double) {
-      this.spanBuilderAttributeKeys.add(doubleKey(key));
-      this.spanBuilderAttributeValues.add(value.doubleValue());
+      builder.setAttribute(key, value.doubleValue());
     } else {
-      this.spanBuilderAttributeKeys.add(stringKey(key));
-      this.spanBuilderAttributeValues.add(value.toString());
+      builder.setAttribute(key, value.toString());
     }
 
     return this;
@@ -186,11 +174,9 @@ final class SpanBuilderShim implements SpanBuilder {
     return this;
   }
 
-  @SuppressWarnings({"rawtypes", "unchecked"})
   @Override
   public Span start() {
     Baggage baggage;
-    io.opentelemetry.api.trace.SpanBuilder builder = tracer.spanBuilder(spanName);
     io.opentelemetry.api.trace.SpanContext mainParent = getMainParent(allParents);
 
     if (ignoreActiveSpan && mainParent == null) {
@@ -215,15 +201,8 @@ final class SpanBuilderShim implements SpanBuilder {
       builder.setStartTimestamp(startTimestampMicros, TimeUnit.MICROSECONDS);
     }
 
-    // Attributes passed to the OT SpanBuilder MUST
-    // be set before the OTel Span is created,
-    // so those attributes are available to the Sampling API.
-    for (int i = 0; i < this.spanBuilderAttributeKeys.size(); i++) {
-      AttributeKey key = this.spanBuilderAttributeKeys.get(i);
-      Object value = this.spanBuilderAttributeValues.get(i);
-      builder.setAttribute(key, value);
-    }
-
+    // Attributes passed to the OT SpanBuilder were already set on the OTel SpanBuilder, so they are
+    // available to the Sampling API.
     io.opentelemetry.api.trace.Span span = builder.startSpan();
     if (error != null) {
       span.setStatus(error ? StatusCode.ERROR : StatusCode.OK);
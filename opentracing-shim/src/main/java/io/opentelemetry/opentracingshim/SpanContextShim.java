@@ -11,6 +11,7 @@ import io.opentelemetry.api.baggage.BaggageEntryMetadata;
 import io.opentracing.SpanContext;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
@@ -19,6 +20,8 @@ final class SpanContextShim implements SpanContext {
 
   private final io.opentelemetry.api.trace.SpanContext context;
   private final Baggage baggage;
+  // The baggage is immutable, so its items are only collected once.
+  @Nullable private volatile List<Map.Entry<String, String>> baggageItems;
 
   SpanContextShim(io.opentelemetry.api.trace.SpanContext context, Baggage baggage) {
     this.context = context;
@@ -52,10 +55,20 @@ final class SpanContextShim implements SpanContext {
 
   @Override
   public Iterable<Map.Entry<String, String>> baggageItems() {
-    List<Map.Entry<String, String>> items = new ArrayList<>(baggage.size());
-    baggage.forEach(
-        (key, baggageEntry) ->
-            items.add(new AbstractMap.SimpleImmutableEntry<>(key, baggageEntry.getValue())));
+    List<Map.Entry<String, String>> items = baggageItems;
+    if (items == null) {
+      if (baggage.isEmpty()) {
+        items = Collections.emptyList();
+      } else {
+        List<Map.Entry<String, String>> collected = new ArrayList<>(baggage.size());
+        baggage.forEach(
+            (key, baggageEntry) ->
+                collected.add(
+                    new AbstractMap.SimpleImmutableEntry<>(key, baggageEntry.getValue())));
+        items = Collections.unmodifiableList(collected);
+      }
+      baggageItems = items;
+    }
     return items;
   }
 
@@ -25,6 +25,7 @@ import io.opentracing.tag.Tag;
 import io.opentracing.tag.Tags;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import javax.annotation.Nullable;
 
 /*
@@ -47,8 +48,13 @@ final class SpanShim implements Span, ImplicitContextKeyed {
   private static final ContextKey<SpanShim> SPAN_SHIM_KEY =
       ContextKey.named("opentracing-shim-key");
 
+  // Updated with compare-and-set rather than under a lock, which would be allocated for every span
+  // even though baggage is rarely set on spans.
+  private static final AtomicReferenceFieldUpdater<SpanShim, SpanContextShim> SPAN_CONTEXT_SHIM =
+      AtomicReferenceFieldUpdater.newUpdater(
+          SpanShim.class, SpanContextShim.class, "spanContextShim");
+
   private final io.opentelemetry.api.trace.Span span;
-  private final Object spanContextShimLock;
   private volatile SpanContextShim spanContextShim;
 
   SpanShim(io.opentelemetry.api.trace.Span span) {
@@ -57,7 +63,6 @@ final class SpanShim implements Span, ImplicitContextKeyed {
 
   SpanShim(io.opentelemetry.api.trace.Span span, Baggage baggage) {
     this.span = span;
-    this.spanContextShimLock = new Object();
     this.spanContextShim = new SpanContextShim(span.getSpanContext(), baggage);
   }
 
@@ -170,9 +175,12 @@ final class SpanShim implements Span, ImplicitContextKeyed {
       return this;
     }
 
-    synchronized (spanContextShimLock) {
-      spanContextShim = spanContextShim.newWithKeyValue(key, value);
-    }
+    SpanContextShim current;
+    SpanContextShim updated;
+    do {
+      current = spanContextShim;
+      updated = current.newWithKeyValue(key, value);
+    } while (!SPAN_CONTEXT_SHIM.compareAndSet(this, current, updated));
 
     return this;
   }
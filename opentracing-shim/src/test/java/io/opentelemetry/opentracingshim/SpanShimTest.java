@@ -8,6 +8,7 @@ package io.opentelemetry.opentracingshim;
 import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.opentracingshim.TestUtils.getBaggageMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
@@ -125,6 +126,16 @@ class SpanShimTest {
     assertThat(contextShim2.baggageItems().iterator()).hasNext(); /* updated, with values */
   }
 
+  @Test
+  void baggage_itemsCollectedOnce() {
+    SpanShim spanShim = new SpanShim(span);
+    spanShim.setBaggageItem("key1", "value1");
+
+    SpanContextShim contextShim = (SpanContextShim) spanShim.context();
+    assertThat(contextShim.baggageItems()).isSameAs(contextShim.baggageItems());
+    assertThat(getBaggageMap(contextShim.baggageItems())).containsOnly(entry("key1", "value1"));
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   @Test
   void baggage_multipleThreads() throws Exception {
@@ -32,6 +32,7 @@ import io.opentracing.tag.Tag;
 import io.opentracing.tag.Tags;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -341,6 +342,23 @@ class TracerShimTest {
     assertThat(httpHeadersPropagator.isExtracted()).isTrue();
   }
 
+  @Test
+  void extract_manyHeaders_caseInsensitive() {
+    W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
+    tracerShim = new TracerShim(provider, TextMapPropagator.noop(), propagator);
+
+    Map<String, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < 20; i++) {
+      map.put("X-Header-" + i, "value" + i);
+    }
+    map.put("Baggage", "foo=bar");
+
+    SpanContext spanContext =
+        tracerShim.extract(Format.Builtin.HTTP_HEADERS, new TextMapAdapter(map));
+    SpanContextShim spanContextShim = (SpanContextShim) spanContext;
+    assertThat(spanContextShim.getBaggage().getEntryValue("foo")).isEqualTo("bar");
+  }
+
   @Test
   void extract_onlyBaggage() {
     W3CBaggagePropagator propagator = W3CBaggagePropagator.getInstance();
@@ -1,6 +1,8 @@
 plugins {
   id("otel.java-conventions")
   id("otel.publish-conventions")
+
+  id("otel.jmh-conventions")
 }
 
 description = "OpenTelemetry SDK Auto-configuration"
@@ -19,6 +21,13 @@ dependencies {
 
   testImplementation("com.google.guava:guava")
   testImplementation("edu.berkeley.cs.jqf:jqf-fuzz")
+
+  jmhImplementation(project(":extensions:trace-propagators"))
+  jmhImplementation(project(":exporters:logging"))
+  jmhImplementation(project(":exporters:logging-otlp"))
+  jmhImplementation(project(":exporters:otlp:all"))
+  jmhImplementation(project(":exporters:zipkin"))
+  jmhImplementation(project(":sdk-extensions:jaeger-remote-sampler"))
 }
 
 testing {
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.autoconfigure;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.autoconfigure.internal.SpiIndexGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the SDK startup of {@link AutoConfiguredOpenTelemetrySdk#initialize()} in a cold JVM, as
+ * in a serverless cold start, with the exporters, propagators and samplers of this repository on
+ * the class path. Each fork initializes the SDK once. With {@link #indexed} the SPI index is
+ * generated up front by {@link SpiIndexGenerator}, in a separate process to keep this JVM cold, so
+ * only the configured providers are instantiated.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class AutoConfiguredOpenTelemetrySdkStartupBenchmark {
+
+  @Param({"true", "false"})
+  public boolean indexed;
+
+  private Path indexDirectory;
+  private ClassLoader classLoader;
+  private OpenTelemetrySdk sdk;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, InterruptedException {
+    classLoader = AutoConfiguredOpenTelemetrySdkStartupBenchmark.class.getClassLoader();
+    if (!indexed) {
+      return;
+    }
+    indexDirectory = Files.createTempDirectory("otel-spi-index");
+    Process process =
+        new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                SpiIndexGenerator.class.getName(),
+                indexDirectory.toString())
+            .inheritIO()
+            .start();
+    if (process.waitFor() != 0) {
+      throw new IllegalStateException("Failed to generate the SPI index");
+    }
+    classLoader = new URLClassLoader(new URL[] {indexDirectory.toUri().toURL()}, classLoader);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (sdk != null) {
+      sdk.close();
+    }
+    if (indexDirectory != null) {
+      try (Stream<Path> files = Files.walk(indexDirectory)) {
+        files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+      }
+    }
+  }
+
+  @Benchmark
+  public OpenTelemetrySdk initialize() {
+    Map<String, String> properties = new HashMap<>();
+    properties.put("otel.traces.exporter", "console");
+    properties.put("otel.metrics.exporter", "none");
+    properties.put("otel.logs.exporter", "none");
+    properties.put("otel.propagators", "tracecontext,baggage");
+    sdk =
+        AutoConfiguredOpenTelemetrySdk.builder()
+            .setServiceClassLoader(classLoader)
+            .addPropertiesSupplier(() -> properties)
+            .disableShutdownHook()
+            .build()
+            .getOpenTelemetrySdk();
+    return sdk;
+  }
+}
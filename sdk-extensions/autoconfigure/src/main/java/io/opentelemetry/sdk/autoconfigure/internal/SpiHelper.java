@@ -5,6 +5,8 @@
 
 package io.opentelemetry.sdk.autoconfigure.internal;
 
+import static java.util.Objects.requireNonNull;
+
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
 import io.opentelemetry.sdk.autoconfigure.spi.Ordered;
@@ -24,6 +26,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * This class is internal and is hence not for public use. Its APIs are unstable and can change at
@@ -32,21 +35,26 @@ import java.util.stream.Collectors;
 public final class SpiHelper {
 
   private final ComponentLoader componentLoader;
+  @Nullable private final SpiIndex spiIndex;
   private final Set<AutoConfigureListener> listeners =
       Collections.newSetFromMap(new IdentityHashMap<>());
 
-  private SpiHelper(ComponentLoader componentLoader) {
+  private SpiHelper(ComponentLoader componentLoader, @Nullable SpiIndex spiIndex) {
     this.componentLoader = componentLoader;
+    this.spiIndex = spiIndex;
   }
 
-  /** Create a {@link SpiHelper} which loads SPIs using the {@code classLoader}. */
+  /**
+   * Create a {@link SpiHelper} which loads SPIs using the {@code classLoader}, consulting the index
+   * generated by {@link SpiIndexGenerator} if the {@code classLoader} finds one.
+   */
   public static SpiHelper create(ClassLoader classLoader) {
-    return new SpiHelper(new ServiceLoaderComponentLoader(classLoader));
+    return new SpiHelper(new ServiceLoaderComponentLoader(classLoader), new SpiIndex(classLoader));
   }
 
   /** Create a {@link SpiHelper} which loads SPIs using the {@code componentLoader}. */
   public static SpiHelper create(ComponentLoader componentLoader) {
-    return new SpiHelper(componentLoader);
+    return new SpiHelper(componentLoader, null);
   }
 
   /**
@@ -67,11 +75,38 @@ public final class SpiHelper {
       BiFunction<S, ConfigProperties, T> getConfigurable,
       ConfigProperties config) {
     Map<String, Supplier<T>> nameToProvider = new HashMap<>();
-    for (S provider : load(spiClass)) {
-      String name = getName.apply(provider);
+    List<SpiIndex.Entry<S>> entries = spiIndex == null ? null : spiIndex.load(spiClass);
+    if (entries == null) {
+      for (S provider : load(spiClass)) {
+        String name = getName.apply(provider);
+        nameToProvider.put(
+            name,
+            () -> {
+              T result = getConfigurable.apply(provider, config);
+              maybeAddListener(result);
+              return result;
+            });
+      }
+      return NamedSpiManager.create(nameToProvider);
+    }
+
+    for (SpiIndex.Entry<S> entry : entries) {
+      String indexedName = entry.getIndexedName();
+      String name;
+      if (indexedName == null) {
+        S provider = entry.get();
+        maybeAddListener(provider);
+        name = getName.apply(provider);
+      } else {
+        name = indexedName;
+      }
       nameToProvider.put(
           name,
           () -> {
+            S provider = entry.get();
+            if (indexedName != null && !indexedName.equals(getName.apply(provider))) {
+              throw staleIndex(entry.getClassName(), indexedName);
+            }
             T result = getConfigurable.apply(provider, config);
             maybeAddListener(result);
             return result;
@@ -91,7 +126,7 @@ public final class SpiHelper {
   @SuppressWarnings({"unchecked", "rawtypes"})
   public <T> T loadComponent(Class<T> type, String name, StructuredConfigProperties config) {
     // TODO(jack-berg): cache loaded component providers
-    List<ComponentProvider> componentProviders = load(ComponentProvider.class);
+    List<ComponentProvider> componentProviders = loadComponentProviders(type, name);
     List<ComponentProvider<?>> matchedProviders =
         componentProviders.stream()
             .map(
@@ -127,6 +162,64 @@ public final class SpiHelper {
     }
   }
 
+  /**
+   * Load the {@link ComponentProvider}s which may match {@code type} and {@code name}. With an
+   * index, this skips instantiating the providers which are indexed with a different type or name.
+   *
+   * @throws ConfigurationException if the index is out of date for a provider, i.e. a provider
+   *     indexed with {@code type} and {@code name} no longer has them, or none matches but a
+   *     provider indexed with another type or name now does
+   */
+  @SuppressWarnings("rawtypes")
+  private List<ComponentProvider> loadComponentProviders(Class<?> type, String name) {
+    List<SpiIndex.Entry<ComponentProvider>> entries =
+        spiIndex == null ? null : spiIndex.load(ComponentProvider.class);
+    if (entries == null) {
+      return load(ComponentProvider.class);
+    }
+    String componentName = SpiIndex.componentName(type, name);
+    List<ComponentProvider> result = new ArrayList<>();
+    List<SpiIndex.Entry<ComponentProvider>> skipped = new ArrayList<>();
+    boolean matched = false;
+    for (SpiIndex.Entry<ComponentProvider> entry : entries) {
+      String indexedName = entry.getIndexedName();
+      if (indexedName != null && !indexedName.equals(componentName)) {
+        skipped.add(entry);
+        continue;
+      }
+      ComponentProvider provider = entry.get();
+      String providerName = componentName(provider);
+      if (indexedName != null && !indexedName.equals(providerName)) {
+        throw staleIndex(entry.getClassName(), indexedName);
+      }
+      matched |= providerName.equals(componentName);
+      maybeAddListener(provider);
+      result.add(provider);
+    }
+    if (!matched) {
+      // Only pay for instantiating the skipped providers when the lookup is about to fail.
+      for (SpiIndex.Entry<ComponentProvider> entry : skipped) {
+        if (componentName(entry.get()).equals(componentName)) {
+          throw staleIndex(entry.getClassName(), requireNonNull(entry.getIndexedName()));
+        }
+      }
+    }
+    return result;
+  }
+
+  private static String componentName(ComponentProvider<?> provider) {
+    return SpiIndex.componentName(provider.getType(), provider.getName());
+  }
+
+  private static ConfigurationException staleIndex(String className, String indexedName) {
+    return new ConfigurationException(
+        "SPI index is out of date, "
+            + className
+            + " is no longer named \""
+            + indexedName
+            + "\". Regenerate the index.");
+  }
+
   /**
    * Load implementations of an ordered SPI (i.e. implements {@link Ordered}).
    *
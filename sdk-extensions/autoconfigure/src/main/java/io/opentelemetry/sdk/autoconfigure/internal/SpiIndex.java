@@ -0,0 +1,212 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.autoconfigure.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigurablePropagatorProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.internal.ConfigurableMetricReaderProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.logs.ConfigurableLogRecordExporterProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.metrics.ConfigurableMetricExporterProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSpanExporterProvider;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+/**
+ * An index of the names of the SPI implementations registered in {@code META-INF/services}, which
+ * is generated at build time by {@link SpiIndexGenerator}. It lets {@link SpiHelper} instantiate
+ * only the implementations which are named in the configuration, instead of every implementation
+ * on the class path.
+ *
+ * <p>For each {@link #INDEXED_SPIS indexed SPI} the index is a properties file mapping the class
+ * name of each implementation to its name. Implementations which are registered but missing from
+ * the index, e.g. because they were added to the class path after the index was generated, are
+ * still discovered, but they are instantiated up front like without an index.
+ */
+final class SpiIndex {
+
+  static final String RESOURCE_PREFIX = "META-INF/io.opentelemetry/autoconfigure-spi-index/";
+  private static final String SERVICES_PREFIX = "META-INF/services/";
+
+  @SuppressWarnings("rawtypes")
+  static final List<IndexedSpi<?>> INDEXED_SPIS =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              IndexedSpi.create(
+                  ConfigurableSpanExporterProvider.class,
+                  ConfigurableSpanExporterProvider::getName),
+              IndexedSpi.create(
+                  ConfigurableMetricExporterProvider.class,
+                  ConfigurableMetricExporterProvider::getName),
+              IndexedSpi.create(
+                  ConfigurableMetricReaderProvider.class,
+                  ConfigurableMetricReaderProvider::getName),
+              IndexedSpi.create(
+                  ConfigurableLogRecordExporterProvider.class,
+                  ConfigurableLogRecordExporterProvider::getName),
+              IndexedSpi.create(
+                  ConfigurablePropagatorProvider.class, ConfigurablePropagatorProvider::getName),
+              IndexedSpi.create(
+                  ConfigurableSamplerProvider.class, ConfigurableSamplerProvider::getName),
+              IndexedSpi.create(
+                  ComponentProvider.class,
+                  provider -> componentName(provider.getType(), provider.getName()))));
+
+  private final ClassLoader classLoader;
+
+  SpiIndex(ClassLoader classLoader) {
+    this.classLoader = classLoader;
+  }
+
+  /** Returns the name of a {@link ComponentProvider} with the given type and name in the index. */
+  static String componentName(Class<?> type, String name) {
+    return type.getName() + "#" + name;
+  }
+
+  /**
+   * Returns the implementations of {@code spiClass} registered in {@code META-INF/services}, in
+   * class path order and none of them instantiated yet, or {@code null} if there is no index for
+   * {@code spiClass}.
+   */
+  @Nullable
+  <S> List<Entry<S>> load(Class<S> spiClass) {
+    Properties index = new Properties();
+    forEachResource(
+        RESOURCE_PREFIX + spiClass.getName(),
+        url -> {
+          try (InputStream in = url.openStream()) {
+            index.load(new InputStreamReader(in, UTF_8));
+          }
+        });
+    if (index.isEmpty()) {
+      return null;
+    }
+
+    Set<String> classNames = new LinkedHashSet<>();
+    forEachResource(
+        SERVICES_PREFIX + spiClass.getName(),
+        url -> {
+          try (BufferedReader reader =
+              new BufferedReader(new InputStreamReader(url.openStream(), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+              int comment = line.indexOf('#');
+              String className = (comment >= 0 ? line.substring(0, comment) : line).trim();
+              if (!className.isEmpty()) {
+                classNames.add(className);
+              }
+            }
+          }
+        });
+
+    List<Entry<S>> result = new ArrayList<>(classNames.size());
+    for (String className : classNames) {
+      result.add(new Entry<>(spiClass, className, index.getProperty(className), classLoader));
+    }
+    return result;
+  }
+
+  private void forEachResource(String name, ResourceConsumer consumer) {
+    try {
+      Enumeration<URL> urls = classLoader.getResources(name);
+      while (urls.hasMoreElements()) {
+        consumer.accept(urls.nextElement());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Error reading " + name, e);
+    }
+  }
+
+  private interface ResourceConsumer {
+    void accept(URL url) throws IOException;
+  }
+
+  /** An implementation of an SPI, which is instantiated on first access. */
+  static final class Entry<S> {
+    private final Class<S> spiClass;
+    private final String className;
+    @Nullable private final String indexedName;
+    private final ClassLoader classLoader;
+    @Nullable private S instance;
+
+    private Entry(
+        Class<S> spiClass, String className, @Nullable String indexedName, ClassLoader loader) {
+      this.spiClass = spiClass;
+      this.className = className;
+      this.indexedName = indexedName;
+      this.classLoader = loader;
+    }
+
+    String getClassName() {
+      return className;
+    }
+
+    /**
+     * Returns the name of the implementation recorded in the index, or {@code null} if it is not
+     * indexed and has to be instantiated to find its name.
+     */
+    @Nullable
+    String getIndexedName() {
+      return indexedName;
+    }
+
+    /** Returns the implementation, instantiating it like {@link java.util.ServiceLoader} would. */
+    S get() {
+      S instance = this.instance;
+      if (instance == null) {
+        try {
+          Class<?> clazz = Class.forName(className, true, classLoader);
+          instance = spiClass.cast(clazz.getConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+          throw new ServiceConfigurationError(
+              spiClass.getName() + ": Provider " + className + " could not be instantiated", e);
+        }
+        this.instance = instance;
+      }
+      return instance;
+    }
+  }
+
+  /** An SPI which is indexed, with the function returning the name of an implementation. */
+  static final class IndexedSpi<S> {
+    private final Class<S> spiClass;
+    private final Function<S, String> getName;
+
+    static <S> IndexedSpi<S> create(Class<S> spiClass, Function<S, String> getName) {
+      return new IndexedSpi<>(spiClass, getName);
+    }
+
+    private IndexedSpi(Class<S> spiClass, Function<S, String> getName) {
+      this.spiClass = spiClass;
+      this.getName = getName;
+    }
+
+    Class<S> getSpiClass() {
+      return spiClass;
+    }
+
+    String getName(S provider) {
+      return getName.apply(provider);
+    }
+  }
+}
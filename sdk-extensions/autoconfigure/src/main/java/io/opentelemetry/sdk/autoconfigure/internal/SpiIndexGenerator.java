@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.autoconfigure.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.sdk.autoconfigure.spi.internal.AutoConfigureListener;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.ServiceLoader;
+
+/**
+ * Generates the index of SPI implementations which lets autoconfigure instantiate only the
+ * implementations named in the configuration. Run it at build time with the application's runtime
+ * class path, and with the output directory as the only argument, and package the generated files
+ * with the application.
+ *
+ * <p>Implementations of {@link AutoConfigureListener} are left out of the index, as they must be
+ * instantiated to be notified even when they are not configured.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class SpiIndexGenerator {
+
+  private SpiIndexGenerator() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: SpiIndexGenerator <output directory>");
+    }
+    generate(Paths.get(args[0]), SpiIndexGenerator.class.getClassLoader());
+  }
+
+  /**
+   * Writes the index of the SPI implementations which {@code classLoader} finds to the {@code
+   * outputDirectory}, returning the files written.
+   */
+  public static List<Path> generate(Path outputDirectory, ClassLoader classLoader)
+      throws IOException {
+    List<Path> written = new ArrayList<>();
+    for (SpiIndex.IndexedSpi<?> spi : SpiIndex.INDEXED_SPIS) {
+      Properties index = index(spi, classLoader);
+      if (index.isEmpty()) {
+        continue;
+      }
+      Path file =
+          outputDirectory.resolve(SpiIndex.RESOURCE_PREFIX + spi.getSpiClass().getName());
+      Files.createDirectories(file.getParent());
+      try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+        writer.write(toSortedString(index));
+      }
+      written.add(file);
+    }
+    return written;
+  }
+
+  private static <S> Properties index(SpiIndex.IndexedSpi<S> spi, ClassLoader classLoader) {
+    Properties index = new Properties();
+    for (S provider : ServiceLoader.load(spi.getSpiClass(), classLoader)) {
+      if (provider instanceof AutoConfigureListener) {
+        continue;
+      }
+      index.setProperty(provider.getClass().getName(), spi.getName(provider));
+    }
+    return index;
+  }
+
+  // Properties.store writes a timestamp and entries in hash order, so drop the former and sort the
+  // latter to generate the same file from the same class path.
+  private static String toSortedString(Properties index) throws IOException {
+    StringWriter writer = new StringWriter();
+    index.store(writer, null);
+    List<String> lines = new ArrayList<>();
+    for (String line : writer.toString().split("\\R")) {
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        lines.add(line);
+      }
+    }
+    Collections.sort(lines);
+    StringBuilder result = new StringBuilder();
+    for (String line : lines) {
+      result.append(line).append('\n');
+    }
+    return result.toString();
+  }
+}
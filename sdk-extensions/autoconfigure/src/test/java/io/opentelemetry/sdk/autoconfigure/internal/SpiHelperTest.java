@@ -5,6 +5,7 @@
 
 package io.opentelemetry.sdk.autoconfigure.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -16,11 +17,26 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigurationException;
 import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
+import io.opentelemetry.sdk.autoconfigure.spi.internal.ComponentProvider;
 import io.opentelemetry.sdk.autoconfigure.spi.internal.DefaultConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.internal.StructuredConfigProperties;
+import io.opentelemetry.sdk.autoconfigure.spi.traces.ConfigurableSamplerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class SpiHelperTest {
 
@@ -131,6 +147,183 @@ public class SpiHelperTest {
     assertThat(loadedSpi).containsExactly(spi2, spi3, spi1);
   }
 
+  @Test
+  void indexedProvidersInstantiatedOnRequest(@TempDir Path tempDir) throws IOException {
+    writeServices(tempDir, FirstSamplerProvider.class, SecondSamplerProvider.class);
+    try (URLClassLoader classLoader = classLoader(tempDir)) {
+      assertThat(SpiIndexGenerator.generate(tempDir, classLoader)).hasSize(1);
+      FirstSamplerProvider.instances.set(0);
+      SecondSamplerProvider.instances.set(0);
+
+      NamedSpiManager<Sampler> samplers =
+          SpiHelper.create(classLoader)
+              .loadConfigurable(
+                  ConfigurableSamplerProvider.class,
+                  ConfigurableSamplerProvider::getName,
+                  ConfigurableSamplerProvider::createSampler,
+                  EMPTY);
+      assertThat(FirstSamplerProvider.instances).hasValue(0);
+      assertThat(SecondSamplerProvider.instances).hasValue(0);
+
+      assertThat(samplers.getByName("second")).isSameAs(Sampler.alwaysOff());
+      assertThat(samplers.getByName("invalid-provider")).isNull();
+      assertThat(FirstSamplerProvider.instances).hasValue(0);
+      assertThat(SecondSamplerProvider.instances).hasValue(1);
+    }
+  }
+
+  @Test
+  void providersMissingFromIndexInstantiatedUpFront(@TempDir Path tempDir) throws IOException {
+    writeServices(tempDir, FirstSamplerProvider.class);
+    try (URLClassLoader classLoader = classLoader(tempDir)) {
+      SpiIndexGenerator.generate(tempDir, classLoader);
+      // Registered after the index was generated
+      writeServices(tempDir, FirstSamplerProvider.class, SecondSamplerProvider.class);
+      FirstSamplerProvider.instances.set(0);
+      SecondSamplerProvider.instances.set(0);
+
+      NamedSpiManager<Sampler> samplers =
+          SpiHelper.create(classLoader)
+              .loadConfigurable(
+                  ConfigurableSamplerProvider.class,
+                  ConfigurableSamplerProvider::getName,
+                  ConfigurableSamplerProvider::createSampler,
+                  EMPTY);
+      assertThat(FirstSamplerProvider.instances).hasValue(0);
+      assertThat(SecondSamplerProvider.instances).hasValue(1);
+
+      assertThat(samplers.getByName("first")).isSameAs(Sampler.alwaysOn());
+      assertThat(samplers.getByName("second")).isSameAs(Sampler.alwaysOff());
+      assertThat(FirstSamplerProvider.instances).hasValue(1);
+      assertThat(SecondSamplerProvider.instances).hasValue(1);
+    }
+  }
+
+  @Test
+  void indexedComponentProviderLoaded(@TempDir Path tempDir) throws IOException {
+    writeComponentProvider(tempDir, "component");
+    try (URLClassLoader classLoader = classLoader(tempDir)) {
+      assertThat(
+              SpiHelper.create(classLoader)
+                  .loadComponent(
+                      Sampler.class, "component", mock(StructuredConfigProperties.class)))
+          .isSameAs(Sampler.alwaysOn());
+    }
+  }
+
+  @Test
+  void componentProviderRenamedSinceIndexed(@TempDir Path tempDir) throws IOException {
+    writeComponentProvider(tempDir, "renamed");
+    try (URLClassLoader classLoader = classLoader(tempDir)) {
+      SpiHelper spiHelper = SpiHelper.create(classLoader);
+      StructuredConfigProperties config = mock(StructuredConfigProperties.class);
+
+      // Indexed with a name the provider no longer has
+      assertThatThrownBy(() -> spiHelper.loadComponent(Sampler.class, "renamed", config))
+          .isInstanceOf(ConfigurationException.class)
+          .hasMessage(
+              "SPI index is out of date, "
+                  + SamplerComponentProvider.class.getName()
+                  + " is no longer named \""
+                  + Sampler.class.getName()
+                  + "#renamed\". Regenerate the index.");
+      // Has the requested name, but is indexed with another one
+      assertThatThrownBy(() -> spiHelper.loadComponent(Sampler.class, "component", config))
+          .isInstanceOf(ConfigurationException.class)
+          .hasMessageContaining("SPI index is out of date");
+    }
+  }
+
+  // Registers SamplerComponentProvider, and indexes it with indexedName.
+  private static void writeComponentProvider(Path root, String indexedName) throws IOException {
+    Path services = root.resolve("META-INF/services/" + ComponentProvider.class.getName());
+    Files.createDirectories(services.getParent());
+    Files.write(
+        services, Collections.singletonList(SamplerComponentProvider.class.getName()), UTF_8);
+    Path index = root.resolve(SpiIndex.RESOURCE_PREFIX + ComponentProvider.class.getName());
+    Files.createDirectories(index.getParent());
+    Properties properties = new Properties();
+    properties.setProperty(
+        SamplerComponentProvider.class.getName(),
+        SpiIndex.componentName(Sampler.class, indexedName));
+    try (Writer writer = Files.newBufferedWriter(index, UTF_8)) {
+      properties.store(writer, null);
+    }
+  }
+
+  private static void writeServices(Path root, Class<?>... providers) throws IOException {
+    Path services =
+        root.resolve("META-INF/services/" + ConfigurableSamplerProvider.class.getName());
+    Files.createDirectories(services.getParent());
+    List<String> lines = new ArrayList<>();
+    for (Class<?> provider : providers) {
+      lines.add(provider.getName());
+    }
+    Files.write(services, lines, UTF_8);
+  }
+
+  private static URLClassLoader classLoader(Path root) throws IOException {
+    return new URLClassLoader(
+        new URL[] {root.toUri().toURL()}, SpiHelperTest.class.getClassLoader());
+  }
+
+  /** Registered in a temporary directory, so it must be public. */
+  public static class FirstSamplerProvider implements ConfigurableSamplerProvider {
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public FirstSamplerProvider() {
+      instances.incrementAndGet();
+    }
+
+    @Override
+    public Sampler createSampler(ConfigProperties config) {
+      return Sampler.alwaysOn();
+    }
+
+    @Override
+    public String getName() {
+      return "first";
+    }
+  }
+
+  /** Registered in a temporary directory, so it must be public. */
+  public static class SecondSamplerProvider implements ConfigurableSamplerProvider {
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public SecondSamplerProvider() {
+      instances.incrementAndGet();
+    }
+
+    @Override
+    public Sampler createSampler(ConfigProperties config) {
+      return Sampler.alwaysOff();
+    }
+
+    @Override
+    public String getName() {
+      return "second";
+    }
+  }
+
+  /** Registered in a temporary directory, so it must be public. */
+  public static class SamplerComponentProvider implements ComponentProvider<Sampler> {
+
+    @Override
+    public Class<Sampler> getType() {
+      return Sampler.class;
+    }
+
+    @Override
+    public String getName() {
+      return "component";
+    }
+
+    @Override
+    public Sampler create(StructuredConfigProperties config) {
+      return Sampler.alwaysOn();
+    }
+  }
+
   private interface SpiExampleProvider {
 
     String getName();
@@ -83,6 +83,9 @@ public final class AttributeUtil {
     }
     if (value instanceof List) {
       List<?> values = (List<?>) value;
+      if (isValidLength(values, lengthLimit)) {
+        return values;
+      }
       List<Object> response = new ArrayList<>(values.size());
       for (Object entry : values) {
         response.add(applyAttributeLengthLimit(entry, lengthLimit));
@@ -8,8 +8,9 @@ package io.opentelemetry.sdk.internal;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
-import java.util.Collections;
-import java.util.HashMap;
+import io.opentelemetry.api.internal.ImmutableKeyValuePairs;
+import io.opentelemetry.api.internal.ReadOnlyArrayMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import javax.annotation.Nullable;
@@ -18,17 +19,52 @@ import javax.annotation.Nullable;
  * A map with a fixed capacity that drops attributes when the map gets full, and which truncates
  * string and array string attribute values to the {@link #lengthLimit}.
  *
+ * <p>Entries are stored as alternating keys and values in a single array, in insertion order. Once
+ * the map holds more than a few entries, lookups go through an open-addressing index of the key
+ * names. As with {@link Attributes#builder()}, keys with the same name replace each other
+ * regardless of their type.
+ *
+ * <p>{@link #immutableCopy()} freezes the map instead of copying it: the entries are sorted by key
+ * name in place, as {@link Attributes#builder()} would store them, and the array is shared with
+ * the returned {@link Attributes}. The next modification of the map copies the array first.
+ *
+ * <p>An {@link AttributesMap} is only equal to another {@link AttributesMap} with the same
+ * entries. Use {@link #immutableCopy()} to compare against other {@link Attributes}.
+ *
  * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
  * at any time.
  */
-public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implements Attributes {
+public final class AttributesMap implements Attributes {
 
-  private static final long serialVersionUID = -5072696312123632376L;
+  private static final Object[] EMPTY_DATA = new Object[0];
+
+  // Maps of up to this many entries are searched linearly, without an index.
+  private static final int MAX_LINEAR_SCAN_SIZE = 8;
+
+  private static final int INITIAL_CAPACITY = 8;
 
   private final long capacity;
   private final int lengthLimit;
   private int totalAddedValues = 0;
 
+  private Object[] data = EMPTY_DATA;
+  private int size = 0;
+
+  /**
+   * Open-addressing index from key name to entry position, storing the entry position plus one so
+   * zero marks an empty slot. {@code null} while the map is small enough to scan, or frozen.
+   */
+  @Nullable private int[] index;
+
+  /**
+   * Whether {@link #data} is sorted by key name and shared with {@link #immutableCopy}, so must be
+   * copied before it is modified.
+   */
+  private boolean frozen;
+
+  /** The last result of {@link #immutableCopy()}, cleared when the map is modified. */
+  @Nullable private Attributes immutableCopy;
+
   private AttributesMap(long capacity, int lengthLimit) {
     this.capacity = capacity;
     this.lengthLimit = lengthLimit;
@@ -47,10 +83,37 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
   /** Add the attribute key value pair, applying capacity and length limits. */
   public <T> void put(AttributeKey<T> key, T value) {
     totalAddedValues++;
-    if (size() >= capacity && !containsKey(key)) {
+    // Attributes.builder() drops empty key names too, so a frozen map holds the same entries.
+    if (value == null || key.getKey().isEmpty()) {
+      return;
+    }
+    int position = find(key.getKey());
+    if (position < 0 && size >= capacity) {
+      return;
+    }
+    Object limitedValue = AttributeUtil.applyAttributeLengthLimit(value, lengthLimit);
+    if (frozen) {
+      unfreeze();
+    }
+    immutableCopy = null;
+    if (position >= 0) {
+      data[2 * position] = key;
+      data[2 * position + 1] = limitedValue;
       return;
     }
-    super.put(key, AttributeUtil.applyAttributeLengthLimit(value, lengthLimit));
+    if (2 * size == data.length) {
+      grow();
+    }
+    data[2 * size] = key;
+    data[2 * size + 1] = limitedValue;
+    int[] index = this.index;
+    if (index != null) {
+      insertIntoIndex(index, key.getKey(), size);
+    }
+    size++;
+    if (index == null && size > MAX_LINEAR_SCAN_SIZE) {
+      this.index = buildIndex(data, size);
+    }
   }
 
   /** Get the total number of attributes added, including those dropped for capcity limits. */
@@ -62,17 +125,36 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
   @Override
   @Nullable
   public <T> T get(AttributeKey<T> key) {
-    return (T) super.get(key);
+    if (key == null) {
+      return null;
+    }
+    int position = find(key.getKey());
+    if (position < 0 || !key.equals(data[2 * position])) {
+      return null;
+    }
+    return (T) data[2 * position + 1];
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> action) {
+    for (int i = 0; i < size; i++) {
+      action.accept((AttributeKey<?>) data[2 * i], data[2 * i + 1]);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
   }
 
   @Override
   public Map<AttributeKey<?>, Object> asMap() {
-    // Because Attributes is marked Immutable, IDEs may recognize this as redundant usage. However,
-    // this class is private and is actually mutable, so we need to wrap with unmodifiableMap
-    // anyways. We implement the immutable Attributes for this class to support the
-    // Attributes.builder().putAll usage - it is tricky but an implementation detail of this private
-    // class.
-    return Collections.unmodifiableMap(this);
+    return ReadOnlyArrayMap.wrap(Arrays.asList(data).subList(0, 2 * size));
   }
 
   @Override
@@ -81,18 +163,22 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
   }
 
   @Override
-  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> action) {
-    // https://github.com/open-telemetry/opentelemetry-java/issues/4161
-    // Help out android desugaring by having an explicit call to HashMap.forEach, when forEach is
-    // just called through Attributes.forEach desugaring is unable to correctly handle it.
-    super.forEach(action);
+  public boolean equals(@Nullable Object o) {
+    // Restricted to AttributesMap, since the Attributes returned by Attributes.builder() are only
+    // equal to each other.
+    return o instanceof AttributesMap && asMap().equals(((AttributesMap) o).asMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return asMap().hashCode();
   }
 
   @Override
   public String toString() {
     return "AttributesMap{"
         + "data="
-        + super.toString()
+        + dataToString()
         + ", capacity="
         + capacity
         + ", totalAddedValues="
@@ -100,8 +186,199 @@ public final class AttributesMap extends HashMap<AttributeKey<?>, Object> implem
         + '}';
   }
 
-  /** Create an immutable copy of the attributes in this map. */
+  /**
+   * Returns an immutable view of the attributes in this map, equal to the same attributes built
+   * with {@link Attributes#builder()}. The map is frozen rather than copied, and the view is reused
+   * by later calls until the map is next modified.
+   */
   public Attributes immutableCopy() {
-    return Attributes.builder().putAll(this).build();
+    Attributes immutableCopy = this.immutableCopy;
+    if (immutableCopy == null) {
+      if (size == 0) {
+        immutableCopy = Attributes.empty();
+      } else {
+        freeze();
+        immutableCopy = new FrozenAttributes(data);
+      }
+      this.immutableCopy = immutableCopy;
+    }
+    return immutableCopy;
+  }
+
+  private void freeze() {
+    if (frozen) {
+      return;
+    }
+    // The view's array must hold exactly the entries. This is the only copy, and is skipped when
+    // the map is full.
+    if (data.length != 2 * size) {
+      data = Arrays.copyOf(data, 2 * size);
+    }
+    sortByKeyName(data, size);
+    // Positions changed, lookups binary search the sorted entries instead.
+    index = null;
+    frozen = true;
+  }
+
+  private void unfreeze() {
+    data = Arrays.copyOf(data, Math.max(2 * INITIAL_CAPACITY, 4 * size));
+    if (size > MAX_LINEAR_SCAN_SIZE) {
+      index = buildIndex(data, size);
+    }
+    frozen = false;
+  }
+
+  private int find(String name) {
+    if (frozen) {
+      return binarySearch(data, size, name);
+    }
+    int[] index = this.index;
+    if (index == null) {
+      for (int i = 0; i < size; i++) {
+        if (name.equals(((AttributeKey<?>) data[2 * i]).getKey())) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    return findInIndex(data, index, name);
+  }
+
+  private void grow() {
+    int newCapacity = data.length == 0 ? INITIAL_CAPACITY : size * 2;
+    data = Arrays.copyOf(data, 2 * newCapacity);
+    // Keep the index below half full.
+    if (index != null) {
+      index = buildIndex(data, size);
+    }
+  }
+
+  private static int[] buildIndex(Object[] data, int size) {
+    // Sized for the entry capacity of data so it stays at most half full until data grows.
+    int[] index = new int[Integer.highestOneBit(data.length - 1) << 1];
+    for (int i = 0; i < size; i++) {
+      insertIntoIndex(index, ((AttributeKey<?>) data[2 * i]).getKey(), i);
+    }
+    return index;
+  }
+
+  private static void insertIntoIndex(int[] index, String name, int position) {
+    int mask = index.length - 1;
+    int slot = spread(name.hashCode()) & mask;
+    while (index[slot] != 0) {
+      slot = (slot + 1) & mask;
+    }
+    index[slot] = position + 1;
+  }
+
+  private static int findInIndex(Object[] data, int[] index, String name) {
+    int mask = index.length - 1;
+    int slot = spread(name.hashCode()) & mask;
+    int entry;
+    while ((entry = index[slot]) != 0) {
+      int position = entry - 1;
+      if (name.equals(((AttributeKey<?>) data[2 * position]).getKey())) {
+        return position;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static int binarySearch(Object[] data, int size, String name) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = keyName(data, mid).compareTo(name);
+      if (cmp < 0) {
+        low = mid + 1;
+      } else if (cmp > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  // Heapsort of the entries by key name, in place. Key names are distinct.
+  private static void sortByKeyName(Object[] data, int size) {
+    for (int i = size / 2 - 1; i >= 0; i--) {
+      siftDown(data, i, size);
+    }
+    for (int end = size - 1; end > 0; end--) {
+      swap(data, 0, end);
+      siftDown(data, 0, end);
+    }
+  }
+
+  private static void siftDown(Object[] data, int position, int size) {
+    while (true) {
+      int child = 2 * position + 1;
+      if (child >= size) {
+        return;
+      }
+      if (child + 1 < size && keyName(data, child + 1).compareTo(keyName(data, child)) > 0) {
+        child++;
+      }
+      if (keyName(data, position).compareTo(keyName(data, child)) >= 0) {
+        return;
+      }
+      swap(data, position, child);
+      position = child;
+    }
+  }
+
+  private static void swap(Object[] data, int i, int j) {
+    Object key = data[2 * i];
+    Object value = data[2 * i + 1];
+    data[2 * i] = data[2 * j];
+    data[2 * i + 1] = data[2 * j + 1];
+    data[2 * j] = key;
+    data[2 * j + 1] = value;
+  }
+
+  private static String keyName(Object[] data, int position) {
+    return ((AttributeKey<?>) data[2 * position]).getKey();
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private String dataToString() {
+    StringBuilder sb = new StringBuilder("{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(data[2 * i]).append('=').append(data[2 * i + 1]);
+    }
+    return sb.append('}').toString();
+  }
+
+  /**
+   * The view returned by {@link #immutableCopy()}. Shares the {@link ImmutableKeyValuePairs} layout
+   * of the attributes built by {@link Attributes#builder()}, so they are equal to each other.
+   */
+  private static final class FrozenAttributes
+      extends ImmutableKeyValuePairs<AttributeKey<?>, Object> implements Attributes {
+
+    private FrozenAttributes(Object[] data) {
+      super(data);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    @Nullable
+    public <T> T get(AttributeKey<T> key) {
+      return (T) super.get(key);
+    }
+
+    @Override
+    public AttributesBuilder toBuilder() {
+      return Attributes.builder().putAll(this);
+    }
   }
 }
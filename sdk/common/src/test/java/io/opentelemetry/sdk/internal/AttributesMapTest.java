@@ -6,9 +6,15 @@
 package io.opentelemetry.sdk.internal;
 
 import static io.opentelemetry.api.common.AttributeKey.longKey;
+import static io.opentelemetry.api.common.AttributeKey.stringArrayKey;
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class AttributesMapTest {
@@ -22,4 +28,179 @@ class AttributesMapTest {
     assertThat(attributesMap.asMap())
         .containsOnly(entry(longKey("one"), 1L), entry(longKey("two"), 2L));
   }
+
+  @Test
+  void put_DropsOverCapacity() {
+    AttributesMap attributesMap = AttributesMap.create(2, Integer.MAX_VALUE);
+    attributesMap.put(longKey("one"), 1L);
+    attributesMap.put(longKey("two"), 2L);
+    attributesMap.put(longKey("three"), 3L);
+    // Replacing an existing key is still allowed when full.
+    attributesMap.put(longKey("one"), 10L);
+
+    assertThat(attributesMap.size()).isEqualTo(2);
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(4);
+    assertThat(attributesMap.get(longKey("one"))).isEqualTo(10L);
+    assertThat(attributesMap.get(longKey("three"))).isNull();
+  }
+
+  @Test
+  void put_ReplacesKeyWithSameName() {
+    AttributesMap attributesMap = AttributesMap.create(10, Integer.MAX_VALUE);
+    attributesMap.put(longKey("key"), 1L);
+    attributesMap.put(stringKey("key"), "value");
+
+    assertThat(attributesMap.size()).isEqualTo(1);
+    assertThat(attributesMap.get(longKey("key"))).isNull();
+    assertThat(attributesMap.get(stringKey("key"))).isEqualTo("value");
+    assertThat(attributesMap.immutableCopy())
+        .isEqualTo(Attributes.builder().put("key", 1L).put("key", "value").build());
+  }
+
+  @Test
+  void put_IgnoresNullValues() {
+    AttributesMap attributesMap = AttributesMap.create(10, Integer.MAX_VALUE);
+    attributesMap.put(stringKey("key"), null);
+
+    assertThat(attributesMap.isEmpty()).isTrue();
+    assertThat(attributesMap.getTotalAddedValues()).isEqualTo(1);
+  }
+
+  @Test
+  void put_AppliesLengthLimit() {
+    AttributesMap attributesMap = AttributesMap.create(10, 3);
+    List<String> shortValues = Arrays.asList("a", "bc");
+    attributesMap.put(stringKey("string"), "abcdef");
+    attributesMap.put(stringArrayKey("long"), Arrays.asList("abcdef", "g"));
+    attributesMap.put(stringArrayKey("short"), shortValues);
+
+    assertThat(attributesMap.get(stringKey("string"))).isEqualTo("abc");
+    assertThat(attributesMap.get(stringArrayKey("long"))).containsExactly("abc", "g");
+    // Values within the limit are stored without copying.
+    assertThat(attributesMap.get(stringArrayKey("short"))).isSameAs(shortValues);
+  }
+
+  @Test
+  void manyAttributes() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+    AttributesBuilder expected = Attributes.builder();
+    for (int i = 0; i < 50; i++) {
+      attributesMap.put(longKey("key" + i), (long) i);
+      expected.put(longKey("key" + i), (long) i);
+    }
+    for (int i = 0; i < 50; i += 5) {
+      attributesMap.put(longKey("key" + i), i * 100L);
+      expected.put(longKey("key" + i), i * 100L);
+    }
+
+    assertThat(attributesMap.size()).isEqualTo(50);
+    assertThat(attributesMap.get(longKey("key10"))).isEqualTo(1000L);
+    assertThat(attributesMap.get(longKey("key11"))).isEqualTo(11L);
+    assertThat(attributesMap.get(longKey("missing"))).isNull();
+    assertThat(attributesMap.immutableCopy()).isEqualTo(expected.build());
+  }
+
+  @Test
+  void immutableCopy_NotAffectedByLaterPuts() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+    for (int i = 0; i < 10; i++) {
+      attributesMap.put(longKey("key" + i), (long) i);
+    }
+
+    Attributes copy = attributesMap.immutableCopy();
+    attributesMap.put(longKey("key0"), 100L);
+    attributesMap.put(longKey("key10"), 10L);
+
+    assertThat(copy.size()).isEqualTo(10);
+    assertThat(copy.get(longKey("key0"))).isEqualTo(0L);
+    assertThat(copy.get(longKey("key10"))).isNull();
+    assertThat(attributesMap.get(longKey("key0"))).isEqualTo(100L);
+    assertThat(attributesMap.size()).isEqualTo(11);
+    assertThat(copy.toBuilder().build()).isEqualTo(copy);
+  }
+
+  @Test
+  void immutableCopy_ReusedUntilModified() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+    attributesMap.put(longKey("one"), 1L);
+
+    Attributes copy = attributesMap.immutableCopy();
+    assertThat(attributesMap.immutableCopy()).isSameAs(copy);
+
+    attributesMap.put(longKey("two"), 2L);
+    assertThat(attributesMap.immutableCopy()).isNotSameAs(copy);
+  }
+
+  @Test
+  void equals_SymmetricWithAttributes() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+    attributesMap.put(stringKey("b"), "2");
+    attributesMap.put(longKey("a"), 1L);
+    Attributes attributes = Attributes.of(longKey("a"), 1L, stringKey("b"), "2");
+
+    Attributes copy = attributesMap.immutableCopy();
+    assertThat(copy).isEqualTo(attributes);
+    assertThat(attributes).isEqualTo(copy);
+    assertThat(copy.hashCode()).isEqualTo(attributes.hashCode());
+
+    // The mutable map is never equal to other Attributes, in either direction.
+    assertThat(attributesMap).isNotEqualTo(attributes);
+    assertThat(attributes).isNotEqualTo(attributesMap);
+
+    AttributesMap other = AttributesMap.create(128, Integer.MAX_VALUE);
+    other.put(longKey("a"), 1L);
+    other.put(stringKey("b"), "2");
+    assertThat(attributesMap).isEqualTo(other);
+    assertThat(other).isEqualTo(attributesMap);
+    assertThat(attributesMap.hashCode()).isEqualTo(other.hashCode());
+  }
+
+  @Test
+  void immutableCopy_FrozenMapStillUsable() {
+    for (int count : new int[] {3, 20}) {
+      AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+      AttributesBuilder expected = Attributes.builder();
+      for (int i = count - 1; i >= 0; i--) {
+        attributesMap.put(longKey("key" + i), (long) i);
+        expected.put(longKey("key" + i), (long) i);
+      }
+
+      Attributes copy = attributesMap.immutableCopy();
+      assertThat(copy).isEqualTo(expected.build());
+      assertThat(expected.build()).isEqualTo(copy);
+      for (int i = 0; i < count; i++) {
+        assertThat(attributesMap.get(longKey("key" + i))).isEqualTo((long) i);
+        assertThat(copy.get(longKey("key" + i))).isEqualTo((long) i);
+      }
+      assertThat(attributesMap.get(stringKey("key0"))).isNull();
+      assertThat(attributesMap.get(longKey("missing"))).isNull();
+
+      // Modifying the frozen map leaves the copy unchanged.
+      attributesMap.put(longKey("key0"), 100L);
+      attributesMap.put(longKey("new"), 1L);
+      assertThat(copy).isEqualTo(expected.build());
+      assertThat(attributesMap.get(longKey("key0"))).isEqualTo(100L);
+      assertThat(attributesMap.get(longKey("new"))).isEqualTo(1L);
+      assertThat(attributesMap.size()).isEqualTo(count + 1);
+      assertThat(attributesMap.immutableCopy())
+          .isEqualTo(expected.put(longKey("key0"), 100L).put(longKey("new"), 1L).build());
+    }
+  }
+
+  @Test
+  void put_IgnoresEmptyKeyName() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+    attributesMap.put(stringKey(""), "value");
+    attributesMap.put(stringKey("key"), "value");
+
+    assertThat(attributesMap.size()).isEqualTo(1);
+    assertThat(attributesMap.immutableCopy()).isEqualTo(Attributes.of(stringKey("key"), "value"));
+  }
+
+  @Test
+  void immutableCopy_Empty() {
+    AttributesMap attributesMap = AttributesMap.create(128, Integer.MAX_VALUE);
+
+    assertThat(attributesMap.immutableCopy()).isSameAs(Attributes.empty());
+  }
 }
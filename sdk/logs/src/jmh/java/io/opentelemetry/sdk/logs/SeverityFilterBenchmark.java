@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs;
+
+import static io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder.nameEquals;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.incubator.logs.ExtendedLogger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.logs.internal.LoggerConfig;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures emitting DEBUG logs which are dropped, by a processor, by the logger's minimum severity,
+ * or by the appender checking {@link ExtendedLogger#isEnabled(Severity)} first. Run with {@code
+ * -prof gc} to compare allocations.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SeverityFilterBenchmark {
+
+  private static final AttributeKey<String> THREAD_KEY = AttributeKey.stringKey("thread.name");
+  private static final AttributeKey<Long> LINE_KEY = AttributeKey.longKey("code.lineno");
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    ExtendedLogger processorFiltered;
+    ExtendedLogger configFiltered;
+
+    @Setup
+    public void setup() {
+      SdkLoggerProviderBuilder builder =
+          SdkLoggerProvider.builder()
+              .addLogRecordProcessor(
+                  new SeverityFilteringProcessor(
+                      (context, logRecord) -> {
+                        // Do nothing
+                      }));
+      SdkLoggerProviderUtil.addLoggerConfiguratorCondition(
+          builder,
+          nameEquals("configFiltered"),
+          LoggerConfig.enabledWithMinimumSeverity(Severity.INFO));
+      SdkLoggerProvider loggerProvider = builder.build();
+      processorFiltered = (ExtendedLogger) loggerProvider.get("processorFiltered");
+      configFiltered = (ExtendedLogger) loggerProvider.get("configFiltered");
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void droppedByProcessor(BenchmarkState state) {
+    emitDebug(state.processorFiltered);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void droppedByMinimumSeverity(BenchmarkState state) {
+    emitDebug(state.configFiltered);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void skippedByIsEnabled(BenchmarkState state) {
+    if (state.configFiltered.isEnabled(Severity.DEBUG)) {
+      emitDebug(state.configFiltered);
+    }
+  }
+
+  private static void emitDebug(ExtendedLogger logger) {
+    logger
+        .logRecordBuilder()
+        .setSeverity(Severity.DEBUG)
+        .setBody("debug message body")
+        .setAttribute(THREAD_KEY, "main")
+        .setAttribute(LINE_KEY, 42L)
+        .emit();
+  }
+
+  /** Forwards records at INFO or above, as a processor filtering by severity would. */
+  private static final class SeverityFilteringProcessor implements LogRecordProcessor {
+
+    private final LogRecordProcessor delegate;
+
+    private SeverityFilteringProcessor(LogRecordProcessor delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onEmit(Context context, ReadWriteLogRecord logRecord) {
+      if (logRecord.toLogRecordData().getSeverity().getSeverityNumber()
+          >= Severity.INFO.getSeverityNumber()) {
+        delegate.onEmit(context, logRecord);
+      }
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.logs.export;
+
+import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Emits bursts of logs through a {@link BatchLogRecordProcessor} whose exporter takes a few
+ * milliseconds to complete each export, and reports how many logs were exported and dropped.
+ */
+public class BatchLogRecordProcessorBurstBenchmark {
+
+  private static final int BURST_SIZE = 1_000;
+  private static final long EXPORT_LATENCY_MILLIS = 5;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"default", "adaptive", "concurrent", "adaptive_concurrent"})
+    String mode;
+
+    private final LongAdder emitted = new LongAdder();
+    private SlowLogRecordExporter exporter;
+    private SdkLoggerProvider loggerProvider;
+    private Logger logger;
+    private long exportedLogs;
+    private long droppedLogs;
+
+    @Setup(Level.Iteration)
+    public final void setup() {
+      emitted.reset();
+      exporter = new SlowLogRecordExporter();
+      BatchLogRecordProcessorBuilder builder =
+          BatchLogRecordProcessor.builder(exporter).setScheduleDelay(Duration.ofMillis(200));
+      if (mode.startsWith("adaptive")) {
+        SdkLoggerProviderUtil.setAdaptiveBatching(builder, 32, Duration.ofMillis(5));
+      }
+      if (mode.endsWith("concurrent")) {
+        SdkLoggerProviderUtil.setMaxConcurrentExports(builder, 4);
+      }
+      loggerProvider = SdkLoggerProvider.builder().addLogRecordProcessor(builder.build()).build();
+      logger = loggerProvider.get("benchmark");
+    }
+
+    @TearDown(Level.Iteration)
+    public final void tearDown() {
+      loggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+      exportedLogs = exporter.exported.sum();
+      droppedLogs = emitted.sum() - exportedLogs;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ThreadState {
+    BenchmarkState benchmarkState;
+
+    @TearDown(Level.Iteration)
+    public final void recordMetrics(BenchmarkState benchmarkState) {
+      this.benchmarkState = benchmarkState;
+    }
+
+    public long exportedLogs() {
+      return benchmarkState.exportedLogs;
+    }
+
+    public long droppedLogs() {
+      return benchmarkState.droppedLogs;
+    }
+  }
+
+  /** Emits a burst of logs, then pauses briefly as a bursty service would. */
+  @Benchmark
+  @Fork(1)
+  @Threads(4)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 5)
+  @BenchmarkMode(Mode.Throughput)
+  public void burst(
+      BenchmarkState benchmarkState, @SuppressWarnings("unused") ThreadState threadState)
+      throws InterruptedException {
+    for (int i = 0; i < BURST_SIZE; i++) {
+      benchmarkState
+          .logger
+          .logRecordBuilder()
+          .setSeverity(Severity.INFO)
+          .setBody("log message body")
+          .emit();
+    }
+    benchmarkState.emitted.add(BURST_SIZE);
+    Thread.sleep(10);
+  }
+
+  /** A {@link LogRecordExporter} which completes each export asynchronously after a delay. */
+  private static final class SlowLogRecordExporter implements LogRecordExporter {
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final LongAdder exported = new LongAdder();
+
+    @Override
+    public CompletableResultCode export(Collection<LogRecordData> logs) {
+      CompletableResultCode result = new CompletableResultCode();
+      int size = logs.size();
+      executor.schedule(
+          () -> {
+            exported.add(size);
+            result.succeed();
+          },
+          EXPORT_LATENCY_MILLIS,
+          TimeUnit.MILLISECONDS);
+      return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      executor.shutdown();
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
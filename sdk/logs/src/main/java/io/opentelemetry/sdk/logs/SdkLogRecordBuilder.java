@@ -16,6 +16,7 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.logs.data.Body;
 import io.opentelemetry.sdk.logs.internal.AnyValueBody;
+import io.opentelemetry.sdk.logs.internal.LoggerConfig;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
@@ -27,6 +28,8 @@ final class SdkLogRecordBuilder implements ExtendedLogRecordBuilder {
   private final LogLimits logLimits;
 
   private final InstrumentationScopeInfo instrumentationScopeInfo;
+  // Checked against the final severity in emit(), so the result doesn't depend on call order.
+  private final int minimumSeverityNumber;
   private long timestampEpochNanos;
   private long observedTimestampEpochNanos;
   @Nullable private Context context;
@@ -37,9 +40,20 @@ final class SdkLogRecordBuilder implements ExtendedLogRecordBuilder {
 
   SdkLogRecordBuilder(
       LoggerSharedState loggerSharedState, InstrumentationScopeInfo instrumentationScopeInfo) {
+    this(
+        loggerSharedState,
+        instrumentationScopeInfo,
+        Severity.UNDEFINED_SEVERITY_NUMBER.getSeverityNumber());
+  }
+
+  SdkLogRecordBuilder(
+      LoggerSharedState loggerSharedState,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      int minimumSeverityNumber) {
     this.loggerSharedState = loggerSharedState;
     this.logLimits = loggerSharedState.getLogLimits();
     this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.minimumSeverityNumber = minimumSeverityNumber;
   }
 
   @Override
@@ -76,7 +90,8 @@ final class SdkLogRecordBuilder implements ExtendedLogRecordBuilder {
 
   @Override
   public SdkLogRecordBuilder setSeverity(Severity severity) {
-    this.severity = severity;
+    // Treat null as unset rather than failing later in emit() or toLogRecordData().
+    this.severity = severity == null ? Severity.UNDEFINED_SEVERITY_NUMBER : severity;
     return this;
   }
 
@@ -114,7 +129,8 @@ final class SdkLogRecordBuilder implements ExtendedLogRecordBuilder {
 
   @Override
   public void emit() {
-    if (loggerSharedState.hasBeenShutdown()) {
+    if (loggerSharedState.hasBeenShutdown()
+        || !LoggerConfig.isSeverityEnabled(severity, minimumSeverityNumber)) {
       return;
     }
     Context context = this.context == null ? Context.current() : this.context;
@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.logs.export;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterProvider;
@@ -16,6 +17,7 @@ import io.opentelemetry.sdk.internal.DaemonThreadFactory;
 import io.opentelemetry.sdk.logs.LogRecordProcessor;
 import io.opentelemetry.sdk.logs.ReadWriteLogRecord;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +40,18 @@ import java.util.logging.Logger;
  * when there are {@code maxExportBatchSize} pending logs or {@code scheduleDelayNanos} has passed
  * since the last export finished.
  *
+ * <p>Two experimental options, set through {@link
+ * io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil}, help with bursty log volumes:
+ *
+ * <ul>
+ *   <li>Adaptive batching. The batch size and the delay start at configured minimums. Both double
+ *       whenever a batch fills before the delay passes. Both halve whenever the delay passes first.
+ *       They stay between the minimums and {@code maxExportBatchSize} and {@code
+ *       scheduleDelayNanos}.
+ *   <li>Concurrent exports. Up to {@code maxConcurrentExports} exports may be in flight at once.
+ *       The worker only waits for an export when that many are outstanding.
+ * </ul>
+ *
  * @since 1.27.0
  */
 public final class BatchLogRecordProcessor implements LogRecordProcessor {
@@ -71,7 +85,10 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       long scheduleDelayNanos,
       int maxQueueSize,
       int maxExportBatchSize,
-      long exporterTimeoutNanos) {
+      long exporterTimeoutNanos,
+      long minScheduleDelayNanos,
+      int minExportBatchSize,
+      int maxConcurrentExports) {
     this.worker =
         new Worker(
             logRecordExporter,
@@ -79,6 +96,9 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
             scheduleDelayNanos,
             maxExportBatchSize,
             exporterTimeoutNanos,
+            minScheduleDelayNanos,
+            minExportBatchSize,
+            maxConcurrentExports,
             new ArrayBlockingQueue<>(maxQueueSize)); // TODO: use JcTools.newFixedSizeQueue(..)
     Thread workerThread = new DaemonThreadFactory(WORKER_THREAD_NAME).newThread(worker);
     workerThread.start();
@@ -141,6 +161,8 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private static final Logger logger = Logger.getLogger(Worker.class.getName());
 
     private final LongCounter processedLogsCounter;
+    private final DoubleHistogram queueLatencyHistogram;
+    private final Attributes processorAttrs;
     private final Attributes droppedAttrs;
     private final Attributes exportedAttrs;
 
@@ -148,10 +170,20 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final long scheduleDelayNanos;
     private final int maxExportBatchSize;
     private final long exporterTimeoutNanos;
+    private final long minScheduleDelayNanos;
+    private final int minExportBatchSize;
+    private final int maxConcurrentExports;
+
+    // The current delay and batch size, adapted between their minimums and maximums to the load.
+    private long currentScheduleDelayNanos;
+    private int currentExportBatchSize;
 
     private long nextExportTime;
 
-    private final Queue<ReadWriteLogRecord> queue;
+    // Exports which have been started but not yet completed, oldest first.
+    private final ArrayDeque<PendingExport> pendingExports = new ArrayDeque<>();
+
+    private final Queue<QueuedLogRecord> queue;
     // When waiting on the logs queue, exporter thread sets this atomic to the number of more
     // logs it needs before doing an export. Writer threads would then wait for the queue to reach
     // logsNeeded size before notifying the exporter thread about new entries.
@@ -162,33 +194,49 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private final BlockingQueue<Boolean> signal;
     private final AtomicReference<CompletableResultCode> flushRequested = new AtomicReference<>();
     private volatile boolean continueWork = true;
-    private final ArrayList<LogRecordData> batch;
+    private ArrayList<LogRecordData> batch;
+    // The System.nanoTime() at which the oldest log in the batch was queued.
+    private long batchQueuedNanos;
 
+    @SuppressWarnings("TooManyParameters")
     private Worker(
         LogRecordExporter logRecordExporter,
         MeterProvider meterProvider,
         long scheduleDelayNanos,
         int maxExportBatchSize,
         long exporterTimeoutNanos,
-        Queue<ReadWriteLogRecord> queue) {
+        long minScheduleDelayNanos,
+        int minExportBatchSize,
+        int maxConcurrentExports,
+        Queue<QueuedLogRecord> queue) {
       this.logRecordExporter = logRecordExporter;
       this.scheduleDelayNanos = scheduleDelayNanos;
       this.maxExportBatchSize = maxExportBatchSize;
       this.exporterTimeoutNanos = exporterTimeoutNanos;
+      this.minScheduleDelayNanos = minScheduleDelayNanos;
+      this.minExportBatchSize = minExportBatchSize;
+      this.maxConcurrentExports = maxConcurrentExports;
+      this.currentScheduleDelayNanos = minScheduleDelayNanos;
+      this.currentExportBatchSize = minExportBatchSize;
       this.queue = queue;
       this.signal = new ArrayBlockingQueue<>(1);
       Meter meter = meterProvider.meterBuilder("io.opentelemetry.sdk.logs").build();
+      processorAttrs =
+          Attributes.of(LOG_RECORD_PROCESSOR_TYPE_LABEL, LOG_RECORD_PROCESSOR_TYPE_VALUE);
       meter
           .gaugeBuilder("queueSize")
           .ofLongs()
           .setDescription("The number of items queued")
           .setUnit("1")
-          .buildWithCallback(
-              result ->
-                  result.record(
-                      queue.size(),
-                      Attributes.of(
-                          LOG_RECORD_PROCESSOR_TYPE_LABEL, LOG_RECORD_PROCESSOR_TYPE_VALUE)));
+          .buildWithCallback(result -> result.record(queue.size(), processorAttrs));
+      queueLatencyHistogram =
+          meter
+              .histogramBuilder("queueLatency")
+              .setUnit("s")
+              .setDescription(
+                  "The time from when the oldest log in a batch was queued until the batch "
+                      + "was exported by the BatchLogRecordProcessor.")
+              .build();
       processedLogsCounter =
           meter
               .counterBuilder("processedLogs")
@@ -214,7 +262,7 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     }
 
     private void addLog(ReadWriteLogRecord logData) {
-      if (!queue.offer(logData)) {
+      if (!queue.offer(new QueuedLogRecord(logData, System.nanoTime()))) {
         processedLogsCounter.add(1, droppedAttrs);
       } else {
         if (queue.size() >= logsNeeded.get()) {
@@ -231,18 +279,31 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         if (flushRequested.get() != null) {
           flush();
         }
-        while (!queue.isEmpty() && batch.size() < maxExportBatchSize) {
-          batch.add(queue.poll().toLogRecordData());
+        while (!queue.isEmpty() && batch.size() < currentExportBatchSize) {
+          addToBatch(queue.poll());
         }
-        if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
+        if (batch.size() >= currentExportBatchSize) {
+          exportCurrentBatch();
+          // The batch filled up before the delay passed, so export larger batches less often.
+          currentExportBatchSize = (int) Math.min(maxExportBatchSize, 2L * currentExportBatchSize);
+          // Never double from zero, or the delay could not grow again and the worker would spin.
+          currentScheduleDelayNanos =
+              currentScheduleDelayNanos > scheduleDelayNanos / 2
+                  ? scheduleDelayNanos
+                  : Math.max(Math.max(1, minScheduleDelayNanos), 2 * currentScheduleDelayNanos);
+          updateNextExportTime();
+        } else if (System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
+          currentExportBatchSize = Math.max(minExportBatchSize, currentExportBatchSize / 2);
+          currentScheduleDelayNanos =
+              Math.max(minScheduleDelayNanos, currentScheduleDelayNanos / 2);
           updateNextExportTime();
         }
         if (queue.isEmpty()) {
           try {
             long pollWaitTime = nextExportTime - System.nanoTime();
             if (pollWaitTime > 0) {
-              logsNeeded.set(maxExportBatchSize - batch.size());
+              logsNeeded.set(currentExportBatchSize - batch.size());
               signal.poll(pollWaitTime, TimeUnit.NANOSECONDS);
               logsNeeded.set(Integer.MAX_VALUE);
             }
@@ -257,15 +318,18 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
     private void flush() {
       int logsToFlush = queue.size();
       while (logsToFlush > 0) {
-        ReadWriteLogRecord logRecord = queue.poll();
-        assert logRecord != null;
-        batch.add(logRecord.toLogRecordData());
+        QueuedLogRecord queued = queue.poll();
+        assert queued != null;
+        addToBatch(queued);
         logsToFlush--;
         if (batch.size() >= maxExportBatchSize) {
           exportCurrentBatch();
         }
       }
       exportCurrentBatch();
+      while (!pendingExports.isEmpty()) {
+        awaitOldestExport();
+      }
       CompletableResultCode flushResult = flushRequested.get();
       if (flushResult != null) {
         flushResult.succeed();
@@ -273,8 +337,15 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
       }
     }
 
+    private void addToBatch(QueuedLogRecord queued) {
+      if (batch.isEmpty()) {
+        batchQueuedNanos = queued.queuedNanos;
+      }
+      batch.add(queued.logRecord.toLogRecordData());
+    }
+
     private void updateNextExportTime() {
-      nextExportTime = System.nanoTime() + scheduleDelayNanos;
+      nextExportTime = System.nanoTime() + currentScheduleDelayNanos;
     }
 
     private CompletableResultCode shutdown() {
@@ -316,20 +387,75 @@ public final class BatchLogRecordProcessor implements LogRecordProcessor {
         return;
       }
 
+      queueLatencyHistogram.record((System.nanoTime() - batchQueuedNanos) / 1e9, processorAttrs);
+
+      // Hand the batch to the exporter and start a new one if other exports may run while this one
+      // is in flight, otherwise reuse it once the export completes.
+      ArrayList<LogRecordData> exporting = batch;
+      if (maxConcurrentExports > 1) {
+        batch = new ArrayList<>(maxExportBatchSize);
+      }
+      int exportingSize = exporting.size();
       try {
         CompletableResultCode result =
-            logRecordExporter.export(Collections.unmodifiableList(batch));
-        result.join(exporterTimeoutNanos, TimeUnit.NANOSECONDS);
-        if (result.isSuccess()) {
-          processedLogsCounter.add(batch.size(), exportedAttrs);
-        } else {
-          logger.log(Level.FINE, "Exporter failed");
-        }
+            logRecordExporter.export(Collections.unmodifiableList(exporting));
+        result.whenComplete(
+            () -> {
+              if (result.isSuccess()) {
+                processedLogsCounter.add(exportingSize, exportedAttrs);
+              } else {
+                logger.log(Level.FINE, "Exporter failed");
+              }
+            });
+        pendingExports.add(new PendingExport(result, System.nanoTime() + exporterTimeoutNanos));
       } catch (RuntimeException e) {
         logger.log(Level.WARNING, "Exporter threw an Exception", e);
-      } finally {
+      }
+
+      pendingExports.removeIf(PendingExport::isDone);
+      while (pendingExports.size() >= maxConcurrentExports) {
+        awaitOldestExport();
+      }
+      if (exporting == batch) {
         batch.clear();
       }
     }
+
+    // Waits for the oldest pending export to complete, giving up on it once it times out.
+    private void awaitOldestExport() {
+      PendingExport export = pendingExports.poll();
+      if (export == null) {
+        return;
+      }
+      long remainingNanos = export.deadlineNanos - System.nanoTime();
+      if (remainingNanos > 0) {
+        export.result.join(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  // A queued log, with the System.nanoTime() at which it was queued.
+  private static final class QueuedLogRecord {
+    private final ReadWriteLogRecord logRecord;
+    private final long queuedNanos;
+
+    private QueuedLogRecord(ReadWriteLogRecord logRecord, long queuedNanos) {
+      this.logRecord = logRecord;
+      this.queuedNanos = queuedNanos;
+    }
+  }
+
+  private static final class PendingExport {
+    private final CompletableResultCode result;
+    private final long deadlineNanos;
+
+    private PendingExport(CompletableResultCode result, long deadlineNanos) {
+      this.result = result;
+      this.deadlineNanos = deadlineNanos;
+    }
+
+    private boolean isDone() {
+      return result.isDone();
+    }
   }
 }
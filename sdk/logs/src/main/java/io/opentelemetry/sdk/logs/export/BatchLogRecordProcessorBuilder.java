@@ -9,6 +9,7 @@ import static io.opentelemetry.api.internal.Utils.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import io.opentelemetry.api.metrics.MeterProvider;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
@@ -34,6 +35,10 @@ public final class BatchLogRecordProcessorBuilder {
   private int maxExportBatchSize = DEFAULT_MAX_EXPORT_BATCH_SIZE;
   private long exporterTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_EXPORT_TIMEOUT_MILLIS);
   private MeterProvider meterProvider = MeterProvider.noop();
+  // Negative until adaptive batching is enabled, in which case the maximums are used.
+  private long minScheduleDelayNanos = -1;
+  private int minExportBatchSize = -1;
+  private int maxConcurrentExports = 1;
 
   BatchLogRecordProcessorBuilder(LogRecordExporter logRecordExporter) {
     this.logRecordExporter = requireNonNull(logRecordExporter, "logRecordExporter");
@@ -141,6 +146,38 @@ public final class BatchLogRecordProcessorBuilder {
     return maxExportBatchSize;
   }
 
+  /**
+   * Enables adaptive batching. The batch size and the delay between exports start at the given
+   * minimums. They grow toward the maximums set with {@link #setMaxExportBatchSize(int)} and {@link
+   * #setScheduleDelay(Duration)} while batches fill before the delay passes. They shrink back when
+   * the load drops.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setAdaptiveBatching(BatchLogRecordProcessorBuilder, int, Duration)}.
+   */
+  BatchLogRecordProcessorBuilder setAdaptiveBatching(
+      int minExportBatchSize, Duration minScheduleDelay) {
+    requireNonNull(minScheduleDelay, "minScheduleDelay");
+    checkArgument(minExportBatchSize > 0, "minExportBatchSize must be positive.");
+    checkArgument(minScheduleDelay.toNanos() > 0, "minScheduleDelay must be positive.");
+    this.minExportBatchSize = minExportBatchSize;
+    this.minScheduleDelayNanos = minScheduleDelay.toNanos();
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of exports which may be in flight at once. If unset, defaults to
+   * {@code 1}, and each export completes before the next batch is exported.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkLoggerProviderUtil#setMaxConcurrentExports(BatchLogRecordProcessorBuilder, int)}.
+   */
+  BatchLogRecordProcessorBuilder setMaxConcurrentExports(int maxConcurrentExports) {
+    checkArgument(maxConcurrentExports > 0, "maxConcurrentExports must be positive.");
+    this.maxConcurrentExports = maxConcurrentExports;
+    return this;
+  }
+
   /**
    * Returns a new {@link BatchLogRecordProcessor} that batches, then forwards them to the given
    * {@code logRecordExporter}.
@@ -154,6 +191,13 @@ public final class BatchLogRecordProcessorBuilder {
         scheduleDelayNanos,
         maxQueueSize,
         maxExportBatchSize,
-        exporterTimeoutNanos);
+        exporterTimeoutNanos,
+        minScheduleDelayNanos < 0
+            ? scheduleDelayNanos
+            : Math.min(minScheduleDelayNanos, scheduleDelayNanos),
+        minExportBatchSize < 0
+            ? maxExportBatchSize
+            : Math.min(minExportBatchSize, maxExportBatchSize),
+        maxConcurrentExports);
   }
 }
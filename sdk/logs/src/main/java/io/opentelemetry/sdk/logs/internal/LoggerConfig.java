@@ -7,11 +7,13 @@ package io.opentelemetry.sdk.logs.internal;
 
 import com.google.auto.value.AutoValue;
 import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder;
 import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -26,9 +28,9 @@ import javax.annotation.concurrent.Immutable;
 public abstract class LoggerConfig {
 
   private static final LoggerConfig DEFAULT_CONFIG =
-      new AutoValue_LoggerConfig(/* enabled= */ true);
+      new AutoValue_LoggerConfig(/* enabled= */ true, Severity.UNDEFINED_SEVERITY_NUMBER);
   private static final LoggerConfig DISABLED_CONFIG =
-      new AutoValue_LoggerConfig(/* enabled= */ false);
+      new AutoValue_LoggerConfig(/* enabled= */ false, Severity.UNDEFINED_SEVERITY_NUMBER);
 
   /** Returns a disabled {@link LoggerConfig}. */
   public static LoggerConfig disabled() {
@@ -40,6 +42,17 @@ public abstract class LoggerConfig {
     return DEFAULT_CONFIG;
   }
 
+  /**
+   * Returns an enabled {@link LoggerConfig} which drops log records with a severity below {@code
+   * minimumSeverity}. Log records without a severity are not dropped.
+   */
+  public static LoggerConfig enabledWithMinimumSeverity(Severity minimumSeverity) {
+    if (minimumSeverity == Severity.UNDEFINED_SEVERITY_NUMBER) {
+      return DEFAULT_CONFIG;
+    }
+    return new AutoValue_LoggerConfig(/* enabled= */ true, minimumSeverity);
+  }
+
   /**
    * Returns the default {@link LoggerConfig}, which is used when no configurator is set or when the
    * logger configurator returns {@code null} for a {@link InstrumentationScopeInfo}.
@@ -60,4 +73,28 @@ public abstract class LoggerConfig {
 
   /** Returns {@code true} if this logger is enabled. Defaults to {@code true}. */
   public abstract boolean isEnabled();
+
+  /**
+   * Returns the minimum severity of log records emitted by this logger. Defaults to {@link
+   * Severity#UNDEFINED_SEVERITY_NUMBER}, meaning no minimum.
+   */
+  public abstract Severity getMinimumSeverity();
+
+  /** Returns {@code true} if this logger emits log records with the given {@code severity}. */
+  public boolean isEnabled(Severity severity) {
+    return isEnabled() && isSeverityEnabled(severity, getMinimumSeverity().getSeverityNumber());
+  }
+
+  /**
+   * Returns {@code true} if log records with {@code severity} pass the minimum severity number.
+   * Log records without a severity, including a {@code null} severity, always pass.
+   */
+  public static boolean isSeverityEnabled(@Nullable Severity severity, int minimumSeverityNumber) {
+    if (severity == null) {
+      return true;
+    }
+    int severityNumber = severity.getSeverityNumber();
+    return severityNumber >= minimumSeverityNumber
+        || severityNumber == Severity.UNDEFINED_SEVERITY_NUMBER.getSeverityNumber();
+  }
 }
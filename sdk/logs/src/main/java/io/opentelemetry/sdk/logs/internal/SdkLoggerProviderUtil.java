@@ -8,8 +8,10 @@ package io.opentelemetry.sdk.logs.internal;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessorBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -55,4 +57,39 @@ public final class SdkLoggerProviderUtil {
           "Error calling addLoggerConfiguratorCondition on SdkLoggerProviderBuilder", e);
     }
   }
+
+  /** Reflectively enable adaptive batching on the {@link BatchLogRecordProcessorBuilder}. */
+  public static void setAdaptiveBatching(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder,
+      int minExportBatchSize,
+      Duration minScheduleDelay) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setAdaptiveBatching", int.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, minExportBatchSize, minScheduleDelay);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setAdaptiveBatching on BatchLogRecordProcessorBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively set the maximum number of concurrent exports on the {@link
+   * BatchLogRecordProcessorBuilder}.
+   */
+  public static void setMaxConcurrentExports(
+      BatchLogRecordProcessorBuilder batchLogRecordProcessorBuilder, int maxConcurrentExports) {
+    try {
+      Method method =
+          BatchLogRecordProcessorBuilder.class.getDeclaredMethod(
+              "setMaxConcurrentExports", int.class);
+      method.setAccessible(true);
+      method.invoke(batchLogRecordProcessorBuilder, maxConcurrentExports);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setMaxConcurrentExports on BatchLogRecordProcessorBuilder", e);
+    }
+  }
 }
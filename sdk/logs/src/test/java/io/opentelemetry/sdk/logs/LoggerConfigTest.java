@@ -5,14 +5,17 @@
 
 package io.opentelemetry.sdk.logs;
 
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
 import static io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder.nameEquals;
 import static io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder.nameMatchesGlob;
 import static io.opentelemetry.sdk.logs.internal.LoggerConfig.defaultConfig;
 import static io.opentelemetry.sdk.logs.internal.LoggerConfig.enabled;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.incubator.logs.ExtendedLogger;
 import io.opentelemetry.api.logs.Logger;
+import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
@@ -66,6 +69,132 @@ class LoggerConfigTest {
     assertThat(((ExtendedLogger) loggerC).isEnabled()).isTrue();
   }
 
+  @Test
+  void minimumSeverity() {
+    InMemoryLogRecordExporter exporter = InMemoryLogRecordExporter.create();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLoggerConfiguratorCondition(
+                nameEquals("loggerB"), LoggerConfig.enabledWithMinimumSeverity(Severity.INFO))
+            .addLogRecordProcessor(SimpleLogRecordProcessor.create(exporter))
+            .build();
+
+    ExtendedLogger loggerA = (ExtendedLogger) loggerProvider.get("loggerA");
+    ExtendedLogger loggerB = (ExtendedLogger) loggerProvider.get("loggerB");
+
+    assertThat(loggerA.isEnabled(Severity.DEBUG)).isTrue();
+    assertThat(loggerB.isEnabled()).isTrue();
+    assertThat(loggerB.isEnabled(Severity.DEBUG)).isFalse();
+    assertThat(loggerB.isEnabled(Severity.INFO)).isTrue();
+    assertThat(loggerB.isEnabled(Severity.ERROR)).isTrue();
+    assertThat(loggerB.isEnabled(Severity.UNDEFINED_SEVERITY_NUMBER)).isTrue();
+
+    loggerA.logRecordBuilder().setSeverity(Severity.DEBUG).setBody("debugA").emit();
+    loggerB
+        .logRecordBuilder()
+        .setSeverity(Severity.DEBUG)
+        .setBody("debugB")
+        .setAttribute(stringKey("key"), "value")
+        .emit();
+    loggerB.logRecordBuilder().setSeverity(Severity.WARN).setBody("warnB").emit();
+    loggerB.logRecordBuilder().setBody("noSeverityB").emit();
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .satisfiesExactly(
+            logRecordData -> assertThat(logRecordData).hasBody("debugA"),
+            logRecordData -> assertThat(logRecordData).hasBody("warnB"),
+            logRecordData -> assertThat(logRecordData).hasBody("noSeverityB"));
+  }
+
+  @Test
+  void minimumSeverity_UsesFinalSeverity() {
+    InMemoryLogRecordExporter exporter = InMemoryLogRecordExporter.create();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLoggerConfiguratorCondition(
+                nameEquals("logger"), LoggerConfig.enabledWithMinimumSeverity(Severity.INFO))
+            .addLogRecordProcessor(SimpleLogRecordProcessor.create(exporter))
+            .build();
+    Logger logger = loggerProvider.get("logger");
+
+    // Severity set after the body and attributes.
+    logger
+        .logRecordBuilder()
+        .setBody("severityLast")
+        .setAttribute(stringKey("key"), "value")
+        .setSeverity(Severity.WARN)
+        .emit();
+    logger.logRecordBuilder().setBody("droppedSeverityLast").setSeverity(Severity.DEBUG).emit();
+    // Severity raised after a severity below the minimum.
+    logger
+        .logRecordBuilder()
+        .setSeverity(Severity.DEBUG)
+        .setBody("raised")
+        .setAttribute(stringKey("key"), "value")
+        .setSeverity(Severity.ERROR)
+        .emit();
+    // Severity lowered after a severity above the minimum.
+    logger
+        .logRecordBuilder()
+        .setSeverity(Severity.ERROR)
+        .setBody("lowered")
+        .setSeverity(Severity.DEBUG)
+        .emit();
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .satisfiesExactly(
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("severityLast")
+                    .hasSeverity(Severity.WARN)
+                    .hasAttributes(Attributes.of(stringKey("key"), "value")),
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("raised")
+                    .hasSeverity(Severity.ERROR)
+                    .hasAttributes(Attributes.of(stringKey("key"), "value")));
+  }
+
+  @Test
+  void minimumSeverity_NullSeverity() {
+    InMemoryLogRecordExporter exporter = InMemoryLogRecordExporter.create();
+    SdkLoggerProvider loggerProvider =
+        SdkLoggerProvider.builder()
+            .addLoggerConfiguratorCondition(
+                nameEquals("logger"), LoggerConfig.enabledWithMinimumSeverity(Severity.INFO))
+            .addLogRecordProcessor(SimpleLogRecordProcessor.create(exporter))
+            .build();
+    Logger logger = loggerProvider.get("logger");
+
+    // A null severity is treated like no severity, which always passes the minimum.
+    logger.logRecordBuilder().setSeverity(null).setBody("null").emit();
+    logger.logRecordBuilder().setSeverity(Severity.DEBUG).setSeverity(null).setBody("reset").emit();
+
+    assertThat(exporter.getFinishedLogRecordItems())
+        .satisfiesExactly(
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("null")
+                    .hasSeverity(Severity.UNDEFINED_SEVERITY_NUMBER),
+            logRecordData ->
+                assertThat(logRecordData)
+                    .hasBody("reset")
+                    .hasSeverity(Severity.UNDEFINED_SEVERITY_NUMBER));
+    assertThat(LoggerConfig.isSeverityEnabled(null, Severity.INFO.getSeverityNumber())).isTrue();
+  }
+
+  @Test
+  void enabledWithMinimumSeverity() {
+    assertThat(LoggerConfig.enabledWithMinimumSeverity(Severity.UNDEFINED_SEVERITY_NUMBER))
+        .isSameAs(defaultConfig());
+    LoggerConfig config = LoggerConfig.enabledWithMinimumSeverity(Severity.WARN);
+    assertThat(config.isEnabled()).isTrue();
+    assertThat(config.getMinimumSeverity()).isEqualTo(Severity.WARN);
+    assertThat(config.isEnabled(Severity.INFO4)).isFalse();
+    assertThat(config.isEnabled(Severity.WARN)).isTrue();
+    assertThat(LoggerConfig.disabled().isEnabled(Severity.FATAL)).isFalse();
+  }
+
   @ParameterizedTest
   @MethodSource("loggerConfiguratorArgs")
   void loggerConfigurator(
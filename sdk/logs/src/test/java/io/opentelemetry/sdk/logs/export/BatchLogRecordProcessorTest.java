@@ -21,10 +21,13 @@ import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.internal.SdkLoggerProviderUtil;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -113,6 +116,26 @@ class BatchLogRecordProcessorTest {
         .hasMessage("timeout");
   }
 
+  @Test
+  void builderInvalidExperimentalConfig() {
+    BatchLogRecordProcessorBuilder builder = BatchLogRecordProcessor.builder(mockLogRecordExporter);
+    assertThatThrownBy(() -> builder.setMaxConcurrentExports(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maxConcurrentExports must be positive.");
+    assertThatThrownBy(() -> builder.setAdaptiveBatching(0, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minExportBatchSize must be positive.");
+    assertThatThrownBy(() -> builder.setAdaptiveBatching(1, Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minScheduleDelay must be positive.");
+    assertThatThrownBy(() -> builder.setAdaptiveBatching(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("minScheduleDelay must be positive.");
+    assertThatThrownBy(() -> builder.setAdaptiveBatching(1, null))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("minScheduleDelay");
+  }
+
   @Test
   void emitMultipleLogs() {
     WaitingLogRecordExporter waitingLogRecordExporter =
@@ -286,6 +309,60 @@ class BatchLogRecordProcessorTest {
     assertThat(exported).hasSize(maxQueuedLogs);
   }
 
+  @Test
+  @Timeout(10)
+  void concurrentExports() {
+    List<CompletableResultCode> results = new CopyOnWriteArrayList<>();
+    when(mockLogRecordExporter.export(anyList()))
+        .thenAnswer(
+            invocation -> {
+              CompletableResultCode result = new CompletableResultCode();
+              results.add(result);
+              return result;
+            });
+    BatchLogRecordProcessorBuilder builder =
+        BatchLogRecordProcessor.builder(mockLogRecordExporter)
+            .setMaxExportBatchSize(1)
+            .setScheduleDelay(10, TimeUnit.SECONDS);
+    SdkLoggerProviderUtil.setMaxConcurrentExports(builder, 2);
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(builder.build()).build();
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_2);
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+
+    // Two exports run at once, and the third waits for one of them to complete.
+    await().untilAsserted(() -> assertThat(results).hasSize(2));
+    assertThat(results).allSatisfy(result -> assertThat(result.isDone()).isFalse());
+    results.get(0).succeed();
+    await().untilAsserted(() -> assertThat(results).hasSize(3));
+
+    results.forEach(CompletableResultCode::succeed);
+    sdkLoggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @Timeout(10)
+  void adaptiveBatching_exportsPromptlyWhenIdle() {
+    WaitingLogRecordExporter waitingLogRecordExporter =
+        new WaitingLogRecordExporter(1, CompletableResultCode.ofSuccess());
+    // The configured delay is far longer than the test timeout, but an idle processor starts at
+    // the minimum delay.
+    BatchLogRecordProcessorBuilder builder =
+        BatchLogRecordProcessor.builder(waitingLogRecordExporter)
+            .setScheduleDelay(1, TimeUnit.HOURS);
+    SdkLoggerProviderUtil.setAdaptiveBatching(builder, 1, Duration.ofMillis(1));
+    SdkLoggerProvider sdkLoggerProvider =
+        SdkLoggerProvider.builder().addLogRecordProcessor(builder.build()).build();
+
+    emitLog(sdkLoggerProvider, LOG_MESSAGE_1);
+
+    assertThat(waitingLogRecordExporter.waitForExport())
+        .satisfiesExactly(logRecordData -> assertThat(logRecordData).hasBody(LOG_MESSAGE_1));
+    sdkLoggerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
   @Test
   void ignoresNullLogs() {
     BatchLogRecordProcessor processor =
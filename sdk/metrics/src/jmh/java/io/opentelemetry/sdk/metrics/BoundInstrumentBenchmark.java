@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
+import io.opentelemetry.context.Context;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares recording to a {@link ExtendedLongCounter} with attributes on each call against
+ * recording to a {@link BoundLongCounter} obtained from {@link
+ * ExtendedLongCounter#bind(Attributes)}.
+ */
+@BenchmarkMode({Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class BoundInstrumentBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    @Param({"SDK_CUMULATIVE", "SDK_DELTA"})
+    TestSdk sdk;
+
+    final Attributes attributes =
+        Attributes.builder()
+            .put("http.request.method", "GET")
+            .put("http.response.status_code", 200)
+            .put("http.route", "/api/v1/users/{id}")
+            .build();
+
+    ExtendedLongCounter counter;
+    BoundLongCounter boundCounter;
+
+    @Setup
+    public void setup() {
+      counter = (ExtendedLongCounter) sdk.getMeter().counterBuilder("counter").build();
+      boundCounter = counter.bind(attributes);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void unbound_oneThread(BenchmarkState state) {
+    state.counter.add(1, state.attributes, Context.root());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void bound_oneThread(BenchmarkState state) {
+    state.boundCounter.add(1, Context.root());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void unbound_eightThreads(BenchmarkState state) {
+    state.counter.add(1, state.attributes, Context.root());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void bound_eightThreads(BenchmarkState state) {
+    state.boundCounter.add(1, Context.root());
+  }
+}
@@ -22,6 +22,7 @@ import io.opentelemetry.sdk.metrics.internal.MeterConfig;
 import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
+import io.opentelemetry.sdk.metrics.internal.export.PerReaderMetricProducer;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.state.MeterProviderSharedState;
 import io.opentelemetry.sdk.metrics.internal.view.RegisteredView;
@@ -91,7 +92,13 @@ public final class SdkMeterProvider implements MeterProvider, Closeable {
                     getMeterConfig(instrumentationLibraryInfo)));
     this.meterConfigurator = meterConfigurator;
     for (RegisteredReader registeredReader : registeredReaders) {
-      List<MetricProducer> readerMetricProducers = new ArrayList<>(metricProducers);
+      List<MetricProducer> readerMetricProducers = new ArrayList<>(metricProducers.size() + 1);
+      for (MetricProducer metricProducer : metricProducers) {
+        readerMetricProducers.add(
+            metricProducer instanceof PerReaderMetricProducer
+                ? ((PerReaderMetricProducer) metricProducer).createForReader()
+                : metricProducer);
+      }
       readerMetricProducers.add(new LeasedMetricProducer(registry, sharedState, registeredReader));
       registeredReader
           .getReader()
@@ -124,6 +124,7 @@ public final class SdkMeterProviderBuilder {
             view,
             view.getAttributesProcessor(),
             view.getCardinalityLimit(),
+            view.getCardinalityOverflowPolicy(),
             SourceInfo.fromCurrentStack()));
     return this;
   }
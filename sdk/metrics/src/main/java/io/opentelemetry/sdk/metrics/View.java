@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics;
 
 import com.google.auto.value.AutoValue;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import java.util.StringJoiner;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -33,9 +34,15 @@ public abstract class View {
       @Nullable String description,
       Aggregation aggregation,
       AttributesProcessor attributesProcessor,
-      int cardinalityLimit) {
+      int cardinalityLimit,
+      CardinalityOverflowPolicy cardinalityOverflowPolicy) {
     return new AutoValue_View(
-        name, description, aggregation, attributesProcessor, cardinalityLimit);
+        name,
+        description,
+        aggregation,
+        attributesProcessor,
+        cardinalityLimit,
+        cardinalityOverflowPolicy);
   }
 
   View() {}
@@ -63,6 +70,9 @@ public abstract class View {
   /** Returns the cardinality limit for this view. */
   abstract int getCardinalityLimit();
 
+  /** Returns the policy applied when the cardinality limit is reached. */
+  abstract CardinalityOverflowPolicy getCardinalityOverflowPolicy();
+
   @Override
   public final String toString() {
     StringJoiner joiner = new StringJoiner(", ", "View{", "}");
@@ -12,6 +12,7 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregatorFactory;
 import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -29,6 +30,8 @@ public final class ViewBuilder {
   private Aggregation aggregation = Aggregation.defaultAggregation();
   private AttributesProcessor processor = AttributesProcessor.noop();
   private int cardinalityLimit = MetricStorage.DEFAULT_MAX_CARDINALITY;
+  private CardinalityOverflowPolicy cardinalityOverflowPolicy =
+      CardinalityOverflowPolicy.FIRST_COME;
 
   ViewBuilder() {}
 
@@ -129,8 +132,23 @@ public final class ViewBuilder {
     return this;
   }
 
+  /**
+   * Set the policy applied when the cardinality limit is reached.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkMeterProviderUtil#setCardinalityOverflowPolicy(ViewBuilder, CardinalityOverflowPolicy)}.
+   *
+   * @param cardinalityOverflowPolicy the policy deciding which series keep their slot
+   */
+  ViewBuilder setCardinalityOverflowPolicy(CardinalityOverflowPolicy cardinalityOverflowPolicy) {
+    Objects.requireNonNull(cardinalityOverflowPolicy, "cardinalityOverflowPolicy");
+    this.cardinalityOverflowPolicy = cardinalityOverflowPolicy;
+    return this;
+  }
+
   /** Returns a {@link View} with the configuration of this builder. */
   public View build() {
-    return View.create(name, description, aggregation, processor, cardinalityLimit);
+    return View.create(
+        name, description, aggregation, processor, cardinalityLimit, cardinalityOverflowPolicy);
   }
 }
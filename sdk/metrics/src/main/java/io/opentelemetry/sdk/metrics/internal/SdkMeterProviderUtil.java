@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.metrics.export.MetricReader;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import io.opentelemetry.sdk.metrics.internal.view.StringPredicates;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -158,6 +159,24 @@ public final class SdkMeterProviderUtil {
     }
   }
 
+  /**
+   * Reflectively set the {@link CardinalityOverflowPolicy} on the {@link ViewBuilder}.
+   *
+   * @param viewBuilder the builder
+   */
+  public static void setCardinalityOverflowPolicy(
+      ViewBuilder viewBuilder, CardinalityOverflowPolicy cardinalityOverflowPolicy) {
+    try {
+      Method method =
+          ViewBuilder.class.getDeclaredMethod(
+              "setCardinalityOverflowPolicy", CardinalityOverflowPolicy.class);
+      method.setAccessible(true);
+      method.invoke(viewBuilder, cardinalityOverflowPolicy);
+    } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
+      throw new IllegalStateException("Error setting cardinalityOverflowPolicy on ViewBuilder", e);
+    }
+  }
+
   /** Reflectively reset the {@link SdkMeterProvider}, clearing all registered instruments. */
   public static void resetForTest(SdkMeterProvider sdkMeterProvider) {
     try {
@@ -0,0 +1,26 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.export;
+
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.metrics.export.MetricReader;
+
+/**
+ * A {@link MetricProducer} which keeps separate state for each {@link MetricReader} reading it,
+ * such as the data reused across collections with {@link MemoryMode#REUSABLE_DATA}. When it is
+ * registered with an {@link SdkMeterProvider}, each reader of the provider produces from its own
+ * instance returned by {@link #createForReader()}, so readers cannot overwrite each other's data.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface PerReaderMetricProducer extends MetricProducer {
+
+  /** Returns the {@link MetricProducer} to be read by a single {@link MetricReader}. */
+  MetricProducer createForReader();
+}
@@ -24,16 +24,21 @@ import io.opentelemetry.sdk.metrics.internal.aggregator.EmptyMetricData;
 import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import io.opentelemetry.sdk.resources.Resource;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 
 /**
  * Stores aggregated {@link MetricData} for synchronous instruments.
@@ -74,12 +79,32 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
   private final ConcurrentLinkedQueue<AggregatorHandle<T, U>> aggregatorHandlePool =
       new ConcurrentLinkedQueue<>();
 
+  // Only populated if the cardinality overflow policy is HEAVY_HITTERS and aggregationTemporality
+  // is DELTA
+  @Nullable private final HeavyHitterTracker heavyHitterTracker;
+
   DefaultSynchronousMetricStorage(
       RegisteredReader registeredReader,
       MetricDescriptor metricDescriptor,
       Aggregator<T, U> aggregator,
       AttributesProcessor attributesProcessor,
       int maxCardinality) {
+    this(
+        registeredReader,
+        metricDescriptor,
+        aggregator,
+        attributesProcessor,
+        maxCardinality,
+        CardinalityOverflowPolicy.FIRST_COME);
+  }
+
+  DefaultSynchronousMetricStorage(
+      RegisteredReader registeredReader,
+      MetricDescriptor metricDescriptor,
+      Aggregator<T, U> aggregator,
+      AttributesProcessor attributesProcessor,
+      int maxCardinality,
+      CardinalityOverflowPolicy cardinalityOverflowPolicy) {
     this.registeredReader = registeredReader;
     this.metricDescriptor = metricDescriptor;
     this.aggregationTemporality =
@@ -90,6 +115,13 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     this.attributesProcessor = attributesProcessor;
     this.maxCardinality = maxCardinality - 1;
     this.memoryMode = registeredReader.getReader().getMemoryMode();
+    // Slots are only reassigned between DELTA intervals. In CUMULATIVE, evicting a series would
+    // drop its accumulated value, so series keep the slot they were first assigned.
+    this.heavyHitterTracker =
+        cardinalityOverflowPolicy == CardinalityOverflowPolicy.HEAVY_HITTERS
+                && aggregationTemporality == DELTA
+            ? new HeavyHitterTracker(this.maxCardinality)
+            : null;
   }
 
   // Visible for testing
@@ -97,6 +129,17 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     return aggregatorHandlePool;
   }
 
+  // Visible for testing
+  @Nullable
+  HeavyHitterTracker getHeavyHitterTracker() {
+    return heavyHitterTracker;
+  }
+
+  // Visible for testing
+  int getAggregatorHandleCount() {
+    return aggregatorHolder.aggregatorHandles.size();
+  }
+
   @Override
   public void recordLong(long value, Attributes attributes, Context context) {
     AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
@@ -136,6 +179,12 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     return true;
   }
 
+  @Override
+  public BoundWriteableMetricStorage bind(Attributes attributes) {
+    Objects.requireNonNull(attributes, "attributes");
+    return new BoundStorage(attributes);
+  }
+
   /**
    * Obtain the AggregatorHolder for recording measurements, re-reading the volatile
    * this.aggregatorHolder until we access one where recordsInProgress is even. Collect sets
@@ -174,9 +223,15 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     attributes = attributesProcessor.process(attributes, context);
     AggregatorHandle<T, U> handle = aggregatorHandles.get(attributes);
     if (handle != null) {
+      if (heavyHitterTracker != null) {
+        heavyHitterTracker.recordSeries(attributes);
+      }
       return handle;
     }
     if (aggregatorHandles.size() >= maxCardinality) {
+      if (heavyHitterTracker != null) {
+        heavyHitterTracker.recordOverflow(attributes);
+      }
       logger.log(
           Level.WARNING,
           "Instrument "
@@ -190,16 +245,20 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
       if (handle != null) {
         return handle;
       }
+    } else if (heavyHitterTracker != null) {
+      heavyHitterTracker.recordSeries(attributes);
     }
-    // Get handle from pool if available, else create a new one.
-    AggregatorHandle<T, U> newHandle = aggregatorHandlePool.poll();
-    if (newHandle == null) {
-      newHandle = aggregator.createHandle();
-    }
+    AggregatorHandle<T, U> newHandle = newAggregatorHandle();
     handle = aggregatorHandles.putIfAbsent(attributes, newHandle);
     return handle != null ? handle : newHandle;
   }
 
+  /** Get handle from pool if available, else create a new one. */
+  private AggregatorHandle<T, U> newAggregatorHandle() {
+    AggregatorHandle<T, U> handle = aggregatorHandlePool.poll();
+    return handle != null ? handle : aggregator.createHandle();
+  }
+
   @Override
   public MetricData collect(
       Resource resource,
@@ -215,10 +274,15 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
     ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles;
     if (reset) {
       AggregatorHolder<T, U> holder = this.aggregatorHolder;
-      this.aggregatorHolder =
+      ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> nextAggregatorHandles =
           (memoryMode == REUSABLE_DATA)
-              ? new AggregatorHolder<>(previousCollectionAggregatorHandles)
-              : new AggregatorHolder<>();
+              ? previousCollectionAggregatorHandles
+              : new ConcurrentHashMap<>();
+      if (heavyHitterTracker != null) {
+        // Done before the map is published, while no record operation can reference it
+        retainHeavyHitters(heavyHitterTracker, holder.aggregatorHandles, nextAggregatorHandles);
+      }
+      this.aggregatorHolder = new AggregatorHolder<>(nextAggregatorHandles);
 
       // Increment recordsInProgress by 1, which produces an odd number acting as a signal that
       // record operations should re-read the volatile this.aggregatorHolder.
@@ -307,11 +371,147 @@ public final class DefaultSynchronousMetricStorage<T extends PointData, U extend
         resource, instrumentationScopeInfo, metricDescriptor, points, aggregationTemporality);
   }
 
+  /**
+   * Reassigns the slots of {@code nextAggregatorHandles}, the map which will receive the next
+   * interval's recordings, to the most frequently recorded series of the interval being collected.
+   * Series which overflowed are promoted in place of series which were recorded less frequently.
+   * The number of series never exceeds {@link #maxCardinality}.
+   *
+   * <p>Must only be called before {@code nextAggregatorHandles} is published to record operations.
+   * Since slots are only reassigned in DELTA temporality, the handles removed from it hold no
+   * values.
+   */
+  private void retainHeavyHitters(
+      HeavyHitterTracker heavyHitterTracker,
+      ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> collectingAggregatorHandles,
+      ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> nextAggregatorHandles) {
+    List<HeavyHitterTracker.SeriesCount> ranked = new ArrayList<>();
+    collectingAggregatorHandles.forEach(
+        (attributes, unused) -> {
+          if (!attributes.equals(MetricStorage.CARDINALITY_OVERFLOW)) {
+            ranked.add(
+                new HeavyHitterTracker.SeriesCount(
+                    attributes, heavyHitterTracker.estimate(attributes)));
+          }
+        });
+    ranked.addAll(heavyHitterTracker.getCandidates());
+    heavyHitterTracker.reset();
+    ranked.sort(
+        Comparator.comparingLong((HeavyHitterTracker.SeriesCount seriesCount) -> seriesCount.count)
+            .reversed());
+
+    Set<Attributes> retained = new HashSet<>();
+    List<Attributes> missing = new ArrayList<>();
+    for (int i = 0; i < ranked.size() && retained.size() < maxCardinality; i++) {
+      Attributes attributes = ranked.get(i).attributes;
+      if (retained.add(attributes) && !nextAggregatorHandles.containsKey(attributes)) {
+        missing.add(attributes);
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+
+    // The overflow series doesn't count towards maxCardinality
+    int seriesCount =
+        nextAggregatorHandles.size()
+            - (nextAggregatorHandles.containsKey(MetricStorage.CARDINALITY_OVERFLOW) ? 1 : 0);
+    // Evict series which weren't retained to make room, reusing their handles
+    int toEvict = seriesCount + missing.size() - maxCardinality;
+    List<AggregatorHandle<T, U>> evicted = new ArrayList<>();
+    for (Attributes attributes : nextAggregatorHandles.keySet()) {
+      if (toEvict <= 0) {
+        break;
+      }
+      if (!retained.contains(attributes)
+          && !attributes.equals(MetricStorage.CARDINALITY_OVERFLOW)) {
+        AggregatorHandle<T, U> handle = nextAggregatorHandles.remove(attributes);
+        if (handle != null) {
+          evicted.add(handle);
+          toEvict--;
+        }
+      }
+    }
+    for (Attributes attributes : missing) {
+      AggregatorHandle<T, U> handle =
+          evicted.isEmpty() ? newAggregatorHandle() : evicted.remove(evicted.size() - 1);
+      nextAggregatorHandles.put(attributes, handle);
+    }
+  }
+
   @Override
   public MetricDescriptor getMetricDescriptor() {
     return metricDescriptor;
   }
 
+  /**
+   * Records against a fixed set of attributes, caching the {@link AggregatorHandle} resolved for
+   * them. The cached handle is only valid for the {@link AggregatorHolder} it was resolved from:
+   * DELTA collections swap in a new holder (and may return the handle to {@link
+   * #aggregatorHandlePool}), so the handle is re-resolved once after each such collection. If the
+   * {@link AttributesProcessor} depends on {@link Context}, or series may be evicted by {@link
+   * CardinalityOverflowPolicy#HEAVY_HITTERS}, the handle can't be cached and every measurement is
+   * resolved as if unbound.
+   */
+  private final class BoundStorage implements BoundWriteableMetricStorage {
+    private final Attributes attributes;
+    @Nullable private volatile ResolvedHandle<T, U> resolvedHandle;
+
+    private BoundStorage(Attributes attributes) {
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+      try {
+        getHandle(aggregatorHolder, context).recordLong(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      if (Double.isNaN(value)) {
+        // Delegate to the unbound path, which logs and drops the measurement
+        DefaultSynchronousMetricStorage.this.recordDouble(value, attributes, context);
+        return;
+      }
+      AggregatorHolder<T, U> aggregatorHolder = getHolderForRecord();
+      try {
+        getHandle(aggregatorHolder, context).recordDouble(value, attributes, context);
+      } finally {
+        releaseHolderForRecord(aggregatorHolder);
+      }
+    }
+
+    private AggregatorHandle<T, U> getHandle(
+        AggregatorHolder<T, U> aggregatorHolder, Context context) {
+      if (attributesProcessor.usesContext() || heavyHitterTracker != null) {
+        return getAggregatorHandle(aggregatorHolder.aggregatorHandles, attributes, context);
+      }
+      ResolvedHandle<T, U> resolved = this.resolvedHandle;
+      if (resolved != null && resolved.aggregatorHolder == aggregatorHolder) {
+        return resolved.handle;
+      }
+      AggregatorHandle<T, U> handle =
+          getAggregatorHandle(aggregatorHolder.aggregatorHandles, attributes, context);
+      this.resolvedHandle = new ResolvedHandle<>(aggregatorHolder, handle);
+      return handle;
+    }
+  }
+
+  private static final class ResolvedHandle<T extends PointData, U extends ExemplarData> {
+    private final AggregatorHolder<T, U> aggregatorHolder;
+    private final AggregatorHandle<T, U> handle;
+
+    private ResolvedHandle(AggregatorHolder<T, U> aggregatorHolder, AggregatorHandle<T, U> handle) {
+      this.aggregatorHolder = aggregatorHolder;
+      this.handle = handle;
+    }
+  }
+
   private static class AggregatorHolder<T extends PointData, U extends ExemplarData> {
     private final ConcurrentHashMap<Attributes, AggregatorHandle<T, U>> aggregatorHandles;
     // Recording threads grab the current interval (AggregatorHolder) and atomically increment
@@ -44,4 +44,19 @@ final class EmptyMetricStorage implements SynchronousMetricStorage {
   public boolean isEnabled() {
     return false;
   }
+
+  @Override
+  public BoundWriteableMetricStorage bind(Attributes attributes) {
+    return EmptyBoundStorage.INSTANCE;
+  }
+
+  private static final class EmptyBoundStorage implements BoundWriteableMetricStorage {
+    private static final EmptyBoundStorage INSTANCE = new EmptyBoundStorage();
+
+    @Override
+    public void recordLong(long value, Context context) {}
+
+    @Override
+    public void recordDouble(double value, Context context) {}
+  }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.GuardedBy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximately tracks how frequently each series of a {@link DefaultSynchronousMetricStorage} is
+ * recorded between collections, to support {@link
+ * io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy#HEAVY_HITTERS}.
+ *
+ * <p>Recordings to series which hold a slot in the storage are counted in a count-min sketch.
+ * Recordings to series which overflowed are counted with the space-saving algorithm, which retains
+ * the identity of at most {@link #getCandidateCapacity()} of the most frequent overflowed series.
+ * Both structures have a fixed size, so memory usage does not depend on the number of distinct
+ * series recorded.
+ */
+final class HeavyHitterTracker {
+
+  // Visible for testing
+  static final int MAX_CANDIDATES = 128;
+  private static final int DEPTH = 3;
+  private static final int MIN_WIDTH = 64;
+  private static final int MAX_WIDTH = 4096;
+
+  private final AtomicLongArray sketch;
+  private final int widthMask;
+  private final int widthBits;
+
+  private final Object lock = new Object();
+
+  @GuardedBy("lock")
+  private final Map<Attributes, Candidate> candidates;
+
+  // Min-heap of candidates ordered by count, so the least frequent candidate can be replaced in
+  // O(log n)
+  @GuardedBy("lock")
+  private final Candidate[] heap;
+
+  @GuardedBy("lock")
+  private int size;
+
+  HeavyHitterTracker(int maxCardinality) {
+    int width =
+        Integer.highestOneBit(Math.max(MIN_WIDTH, Math.min(MAX_WIDTH / 2, maxCardinality) * 2));
+    this.widthBits = Integer.numberOfTrailingZeros(width);
+    this.widthMask = width - 1;
+    this.sketch = new AtomicLongArray(DEPTH * width);
+    int candidateCapacity = Math.max(1, Math.min(MAX_CANDIDATES, maxCardinality));
+    this.heap = new Candidate[candidateCapacity];
+    this.candidates = new HashMap<>(candidateCapacity * 2);
+  }
+
+  /** Returns the maximum number of overflowed series tracked. */
+  int getCandidateCapacity() {
+    return heap.length;
+  }
+
+  /** Returns the number of overflowed series currently tracked. */
+  int getCandidateCount() {
+    synchronized (lock) {
+      return size;
+    }
+  }
+
+  /** Count a recording to a series which holds a slot in the storage. */
+  void recordSeries(Attributes attributes) {
+    int hash = attributes.hashCode();
+    for (int row = 0; row < DEPTH; row++) {
+      sketch.incrementAndGet(index(hash, row));
+    }
+  }
+
+  /** Returns the estimated number of recordings to a series since the last {@link #reset()}. */
+  long estimate(Attributes attributes) {
+    int hash = attributes.hashCode();
+    long min = Long.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      min = Math.min(min, sketch.get(index(hash, row)));
+    }
+    return min;
+  }
+
+  /** Count a recording to a series which overflowed the cardinality limit. */
+  void recordOverflow(Attributes attributes) {
+    synchronized (lock) {
+      Candidate candidate = candidates.get(attributes);
+      if (candidate != null) {
+        candidate.count++;
+        siftDown(candidate.heapIndex);
+        return;
+      }
+      if (size < heap.length) {
+        candidate = new Candidate(attributes, 1, 0);
+        candidate.heapIndex = size;
+        heap[size++] = candidate;
+        candidates.put(attributes, candidate);
+        siftUp(candidate.heapIndex);
+        return;
+      }
+      // Replace the least frequent candidate, inheriting its count as the error bound
+      candidate = heap[0];
+      candidates.remove(candidate.attributes);
+      candidate.attributes = attributes;
+      candidate.error = candidate.count;
+      candidate.count++;
+      candidates.put(attributes, candidate);
+      siftDown(0);
+    }
+  }
+
+  /**
+   * Returns the tracked overflowed series, most frequent first. The count of each is a lower bound
+   * of the number of recordings since the last {@link #reset()}.
+   */
+  List<SeriesCount> getCandidates() {
+    List<SeriesCount> result;
+    synchronized (lock) {
+      result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        Candidate candidate = heap[i];
+        result.add(new SeriesCount(candidate.attributes, candidate.count - candidate.error));
+      }
+    }
+    result.sort((a, b) -> Long.compare(b.count, a.count));
+    return result;
+  }
+
+  /** Clears all counts, starting a new interval. */
+  void reset() {
+    synchronized (lock) {
+      for (int i = 0; i < size; i++) {
+        heap[i] = null;
+      }
+      size = 0;
+      candidates.clear();
+    }
+    for (int i = 0; i < sketch.length(); i++) {
+      sketch.set(i, 0);
+    }
+  }
+
+  private int index(int hash, int row) {
+    // Murmur3 finalizer over a per-row seed to derive independent hashes
+    int h = hash + row * 0x9E3779B9;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return (row << widthBits) | (h & widthMask);
+  }
+
+  @GuardedBy("lock")
+  private void siftUp(int index) {
+    Candidate candidate = heap[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (heap[parent].count <= candidate.count) {
+        break;
+      }
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(candidate, index);
+  }
+
+  @GuardedBy("lock")
+  private void siftDown(int index) {
+    Candidate candidate = heap[index];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+        child++;
+      }
+      if (candidate.count <= heap[child].count) {
+        break;
+      }
+      place(heap[child], index);
+      index = child;
+    }
+    place(candidate, index);
+  }
+
+  @GuardedBy("lock")
+  private void place(Candidate candidate, int index) {
+    heap[index] = candidate;
+    candidate.heapIndex = index;
+  }
+
+  /** A series and its recording count. */
+  static final class SeriesCount {
+    final Attributes attributes;
+    final long count;
+
+    SeriesCount(Attributes attributes, long count) {
+      this.attributes = attributes;
+      this.count = count;
+    }
+  }
+
+  private static final class Candidate {
+    private Attributes attributes;
+    private long count;
+    private long error;
+    private int heapIndex;
+
+    private Candidate(Attributes attributes, long count, long error) {
+      this.attributes = attributes;
+      this.count = count;
+      this.error = error;
+    }
+  }
+}
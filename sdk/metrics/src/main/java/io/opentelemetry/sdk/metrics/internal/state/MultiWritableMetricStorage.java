@@ -7,6 +7,7 @@ package io.opentelemetry.sdk.metrics.internal.state;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
+import java.util.ArrayList;
 import java.util.List;
 
 class MultiWritableMetricStorage implements WriteableMetricStorage {
@@ -39,4 +40,36 @@ class MultiWritableMetricStorage implements WriteableMetricStorage {
     }
     return false;
   }
+
+  @Override
+  public BoundWriteableMetricStorage bind(Attributes attributes) {
+    List<BoundWriteableMetricStorage> boundStorages = new ArrayList<>(storages.size());
+    for (WriteableMetricStorage storage : storages) {
+      boundStorages.add(storage.bind(attributes));
+    }
+    return new MultiBoundWritableMetricStorage(boundStorages);
+  }
+
+  private static final class MultiBoundWritableMetricStorage
+      implements BoundWriteableMetricStorage {
+    private final BoundWriteableMetricStorage[] storages;
+
+    private MultiBoundWritableMetricStorage(List<BoundWriteableMetricStorage> storages) {
+      this.storages = storages.toArray(new BoundWriteableMetricStorage[0]);
+    }
+
+    @Override
+    public void recordLong(long value, Context context) {
+      for (BoundWriteableMetricStorage storage : storages) {
+        storage.recordLong(value, context);
+      }
+    }
+
+    @Override
+    public void recordDouble(double value, Context context) {
+      for (BoundWriteableMetricStorage storage : storages) {
+        storage.recordDouble(value, context);
+      }
+    }
+  }
 }
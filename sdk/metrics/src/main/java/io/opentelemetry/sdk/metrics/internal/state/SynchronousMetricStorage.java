@@ -57,6 +57,7 @@ public interface SynchronousMetricStorage extends MetricStorage, WriteableMetric
         metricDescriptor,
         aggregator,
         registeredView.getViewAttributesProcessor(),
-        registeredView.getCardinalityLimit());
+        registeredView.getCardinalityLimit(),
+        registeredView.getCardinalityOverflowPolicy());
   }
 }
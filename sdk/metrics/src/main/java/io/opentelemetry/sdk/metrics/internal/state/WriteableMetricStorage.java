@@ -28,4 +28,11 @@ public interface WriteableMetricStorage {
    * otherwise (i.e. noop / empty metric storage is installed).
    */
   boolean isEnabled();
+
+  /**
+   * Returns a storage which records measurements with {@code attributes}. Implementations should
+   * resolve as much per-series state as possible up front, so that recording against the returned
+   * storage is cheaper than calling {@link #recordLong(long, Attributes, Context)} repeatedly.
+   */
+  BoundWriteableMetricStorage bind(Attributes attributes);
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.view;
+
+import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
+
+/**
+ * Determines which series keep their slot when a synchronous metric reaches its cardinality limit.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public enum CardinalityOverflowPolicy {
+  /**
+   * Series are assigned slots in the order they are first recorded. Once the limit is reached, all
+   * new series are recorded to {@link MetricStorage#CARDINALITY_OVERFLOW}. This is the default.
+   */
+  FIRST_COME,
+
+  /**
+   * With delta temporality, the most frequently recorded series are approximately tracked, and at
+   * each collection the slots of the next interval are reserved for the most frequently recorded
+   * series of the interval collected, including series which overflowed. The number of retained
+   * series remains bounded by the cardinality limit.
+   *
+   * <p>With cumulative temporality, evicting a series would drop its accumulated value, so this
+   * behaves as {@link #FIRST_COME}.
+   */
+  HEAVY_HITTERS
+}
@@ -27,8 +27,29 @@ public abstract class RegisteredView {
       AttributesProcessor viewAttributesProcessor,
       int cardinalityLimit,
       SourceInfo viewSourceInfo) {
+    return create(
+        selector,
+        view,
+        viewAttributesProcessor,
+        cardinalityLimit,
+        CardinalityOverflowPolicy.FIRST_COME,
+        viewSourceInfo);
+  }
+
+  public static RegisteredView create(
+      InstrumentSelector selector,
+      View view,
+      AttributesProcessor viewAttributesProcessor,
+      int cardinalityLimit,
+      CardinalityOverflowPolicy cardinalityOverflowPolicy,
+      SourceInfo viewSourceInfo) {
     return new AutoValue_RegisteredView(
-        selector, view, viewAttributesProcessor, cardinalityLimit, viewSourceInfo);
+        selector,
+        view,
+        viewAttributesProcessor,
+        cardinalityLimit,
+        cardinalityOverflowPolicy,
+        viewSourceInfo);
   }
 
   RegisteredView() {}
@@ -45,6 +66,9 @@ public abstract class RegisteredView {
   /** The view's cardinality limit. */
   public abstract int getCardinalityLimit();
 
+  /** The policy applied when the view's cardinality limit is reached. */
+  public abstract CardinalityOverflowPolicy getCardinalityOverflowPolicy();
+
   /** The {@link SourceInfo} from where the view was registered. */
   public abstract SourceInfo getViewSourceInfo();
 
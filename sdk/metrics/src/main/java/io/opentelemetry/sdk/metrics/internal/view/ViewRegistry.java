@@ -197,6 +197,7 @@ public final class ViewRegistry {
         instrumentDefaultView.getView(),
         new AdviceAttributesProcessor(requireNonNull(advice.getAttributes())),
         instrumentDefaultView.getCardinalityLimit(),
+        instrumentDefaultView.getCardinalityOverflowPolicy(),
         instrumentDefaultView.getViewSourceInfo());
   }
 }
@@ -25,6 +25,7 @@ import io.opentelemetry.sdk.metrics.internal.SdkMeterProviderUtil;
 import io.opentelemetry.sdk.metrics.internal.export.CardinalityLimitSelector;
 import io.opentelemetry.sdk.metrics.internal.state.DefaultSynchronousMetricStorage;
 import io.opentelemetry.sdk.metrics.internal.state.MetricStorage;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -633,6 +634,72 @@ class CardinalityTest {
                                             1))));
   }
 
+  /**
+   * Validate that with {@link CardinalityOverflowPolicy#HEAVY_HITTERS}, a series which is recorded
+   * frequently after the limit is reached replaces a series recorded infrequently in delta
+   * temporality, while cumulative temporality keeps the series first recorded and loses no data.
+   */
+  @Test
+  void heavyHittersOverflowPolicy() {
+    int limit = 10;
+    ViewBuilder viewBuilder = View.builder();
+    SdkMeterProviderUtil.setCardinalityLimit(viewBuilder, limit);
+    SdkMeterProviderUtil.setCardinalityOverflowPolicy(
+        viewBuilder, CardinalityOverflowPolicy.HEAVY_HITTERS);
+    SdkMeterProvider sdkMeterProvider =
+        SdkMeterProvider.builder()
+            .registerMetricReader(deltaReader)
+            .registerMetricReader(cumulativeReader)
+            .registerView(InstrumentSelector.builder().setName("*").build(), viewBuilder.build())
+            .build();
+    LongCounter counter =
+        sdkMeterProvider.get(CardinalityTest.class.getName()).counterBuilder("counter").build();
+
+    // A burst of infrequent series fills all slots before the frequent series is recorded
+    for (int i = 0; i < limit - 1; i++) {
+      counter.add(1, Attributes.builder().put("key", "burst_" + i).build());
+    }
+    Attributes frequent = Attributes.builder().put("key", "frequent").build();
+    for (int i = 0; i < 100; i++) {
+      counter.add(1, frequent);
+    }
+    deltaReader.collectAllMetrics();
+    cumulativeReader.collectAllMetrics();
+
+    counter.add(1, frequent);
+    assertThat(deltaReader.collectAllMetrics())
+        .satisfiesExactly(
+            metricData ->
+                assertThat(metricData)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.hasPointsSatisfying(
+                                point -> point.hasAttributes(frequent).hasValue(1))));
+    assertThat(cumulativeReader.collectAllMetrics())
+        .satisfiesExactly(
+            metricData ->
+                assertThat(metricData)
+                    .hasLongSumSatisfying(
+                        sum ->
+                            sum.satisfies(
+                                data -> {
+                                  assertThat(data.getPoints())
+                                      .hasSize(limit)
+                                      .noneMatch(point -> point.getAttributes().equals(frequent))
+                                      .anySatisfy(
+                                          point -> {
+                                            assertThat(point.getAttributes())
+                                                .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW);
+                                            assertThat(point.getValue()).isEqualTo(101);
+                                          });
+                                  assertThat(
+                                          data.getPoints().stream()
+                                              .mapToLong(LongPointData::getValue)
+                                              .sum())
+                                      .isEqualTo(limit - 1 + 101);
+                                })));
+  }
+
   /**
    * Helper function for {@link #readerAndViewCardinalityConfiguration()}. Asserts that the {@code
    * data} contains the {@code expectedNumPoints}, and has the attribute "key" values in the range
@@ -12,10 +12,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.netmikey.logunit.api.LogCapturer;
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.incubator.metrics.BoundLongCounter;
+import io.opentelemetry.api.incubator.metrics.ExtendedLongCounter;
 import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.internal.testing.slf4j.SuppressLogger;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.common.export.MemoryMode;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
 import io.opentelemetry.sdk.testing.time.TestClock;
@@ -23,6 +27,8 @@ import java.time.Duration;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 /** Unit tests for {@link SdkLongCounter}. */
 class SdkLongCounterTest {
@@ -154,6 +160,94 @@ class SdkLongCounterTest {
                                             .hasValue(777))));
   }
 
+  @Test
+  void bind_Cumulative() {
+    ExtendedLongCounter longCounter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    BoundLongCounter bound = longCounter.bind(Attributes.builder().put("K", "V").build());
+    bound.add(12);
+    longCounter.add(3, Attributes.builder().put("K", "V").build());
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName("testCounter")
+                    .hasLongSumSatisfying(
+                        longSum ->
+                            longSum
+                                .isCumulative()
+                                .hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasAttributes(attributeEntry("K", "V"))
+                                            .hasValue(15))));
+
+    bound.add(5);
+    assertThat(sdkMeterReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasLongSumSatisfying(
+                        longSum ->
+                            longSum.hasPointsSatisfying(
+                                point ->
+                                    point.hasAttributes(attributeEntry("K", "V")).hasValue(20))));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void bind_DeltaSurvivesCollection(MemoryMode memoryMode) {
+    InMemoryMetricReader deltaReader =
+        InMemoryMetricReader.builder()
+            .setAggregationTemporalitySelector(unused -> AggregationTemporality.DELTA)
+            .setMemoryMode(memoryMode)
+            .build();
+    ExtendedLongCounter longCounter =
+        (ExtendedLongCounter)
+            SdkMeterProvider.builder()
+                .setClock(testClock)
+                .registerMetricReader(deltaReader)
+                .build()
+                .get(getClass().getName())
+                .counterBuilder("testCounter")
+                .build();
+    BoundLongCounter bound = longCounter.bind(Attributes.builder().put("K", "V").build());
+
+    for (int i = 1; i <= 3; i++) {
+      bound.add(i);
+      longCounter.add(10, Attributes.builder().put("K", "other").build());
+      long expected = i;
+      assertThat(deltaReader.collectAllMetrics())
+          .satisfiesExactly(
+              metric ->
+                  assertThat(metric)
+                      .hasLongSumSatisfying(
+                          longSum ->
+                              longSum
+                                  .isDelta()
+                                  .hasPointsSatisfying(
+                                      point ->
+                                          point
+                                              .hasAttributes(attributeEntry("K", "V"))
+                                              .hasValue(expected),
+                                      point ->
+                                          point
+                                              .hasAttributes(attributeEntry("K", "other"))
+                                              .hasValue(10))));
+    }
+  }
+
+  @Test
+  @SuppressLogger(SdkLongCounter.class)
+  void bind_Monotonicity() {
+    ExtendedLongCounter longCounter =
+        (ExtendedLongCounter) sdkMeter.counterBuilder("testCounter").build();
+    longCounter.bind(Attributes.empty()).add(-45);
+    assertThat(sdkMeterReader.collectAllMetrics()).hasSize(0);
+    logs.assertContains(
+        "Counters can only increase. Instrument testCounter has recorded a negative value.");
+  }
+
   @Test
   @SuppressLogger(SdkLongCounter.class)
   void longCounterAdd_Monotonicity() {
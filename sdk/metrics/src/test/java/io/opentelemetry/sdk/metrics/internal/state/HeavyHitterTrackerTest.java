@@ -0,0 +1,77 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.metrics.internal.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HeavyHitterTrackerTest {
+
+  private static Attributes series(String value) {
+    return Attributes.builder().put("key", value).build();
+  }
+
+  @Test
+  void candidateCapacity() {
+    assertThat(new HeavyHitterTracker(10).getCandidateCapacity()).isEqualTo(10);
+    assertThat(new HeavyHitterTracker(100_000).getCandidateCapacity())
+        .isEqualTo(HeavyHitterTracker.MAX_CANDIDATES);
+  }
+
+  @Test
+  void recordOverflow_RetainsMostFrequent() {
+    HeavyHitterTracker tracker = new HeavyHitterTracker(8);
+
+    // Interleave frequent series with a stream of distinct series recorded once
+    for (int i = 0; i < 1_000; i++) {
+      tracker.recordOverflow(series("junk" + i));
+      tracker.recordOverflow(series("hot1"));
+      if (i % 2 == 0) {
+        tracker.recordOverflow(series("hot2"));
+      }
+      assertThat(tracker.getCandidateCount()).isLessThanOrEqualTo(8);
+    }
+
+    List<HeavyHitterTracker.SeriesCount> candidates = tracker.getCandidates();
+    assertThat(candidates).hasSizeLessThanOrEqualTo(8);
+    assertThat(candidates.get(0).attributes).isEqualTo(series("hot1"));
+    assertThat(candidates.get(1).attributes).isEqualTo(series("hot2"));
+    // Counts are lower bounds
+    assertThat(candidates.get(0).count).isBetween(1L, 1_000L);
+    assertThat(candidates.get(1).count).isBetween(1L, 500L);
+    assertThat(candidates.subList(2, candidates.size()))
+        .allSatisfy(candidate -> assertThat(candidate.count).isLessThan(candidates.get(1).count));
+  }
+
+  @Test
+  void estimate_NeverUnderestimates() {
+    HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+    for (int i = 0; i < 100; i++) {
+      for (int j = 0; j <= i % 10; j++) {
+        tracker.recordSeries(series("value" + (i % 10)));
+      }
+    }
+    for (int i = 0; i < 10; i++) {
+      assertThat(tracker.estimate(series("value" + i))).isGreaterThanOrEqualTo(10L * (i + 1));
+    }
+  }
+
+  @Test
+  void reset() {
+    HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+    tracker.recordSeries(series("a"));
+    tracker.recordOverflow(series("b"));
+
+    tracker.reset();
+
+    assertThat(tracker.estimate(series("a"))).isZero();
+    assertThat(tracker.getCandidateCount()).isZero();
+    assertThat(tracker.getCandidates()).isEmpty();
+  }
+}
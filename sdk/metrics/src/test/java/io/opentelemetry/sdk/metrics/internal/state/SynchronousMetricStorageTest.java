@@ -26,6 +26,7 @@ import io.opentelemetry.sdk.metrics.Aggregation;
 import io.opentelemetry.sdk.metrics.InstrumentType;
 import io.opentelemetry.sdk.metrics.InstrumentValueType;
 import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.DoublePointData;
 import io.opentelemetry.sdk.metrics.data.ExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongExemplarData;
 import io.opentelemetry.sdk.metrics.data.LongPointData;
@@ -40,6 +41,7 @@ import io.opentelemetry.sdk.metrics.internal.descriptor.MetricDescriptor;
 import io.opentelemetry.sdk.metrics.internal.exemplar.ExemplarFilter;
 import io.opentelemetry.sdk.metrics.internal.export.RegisteredReader;
 import io.opentelemetry.sdk.metrics.internal.view.AttributesProcessor;
+import io.opentelemetry.sdk.metrics.internal.view.CardinalityOverflowPolicy;
 import io.opentelemetry.sdk.metrics.internal.view.ViewRegistry;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.testing.assertj.DoubleSumAssert;
@@ -681,6 +683,139 @@ public class SynchronousMetricStorageTest {
     assertOverflowDoesNotExists(metricData);
   }
 
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_CumulativeAtLimit_HeavyHittersKeepsFirstCome(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            cumulativeReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            CardinalityOverflowPolicy.HEAVY_HITTERS);
+    assertThat(storage.getHeavyHitterTracker()).isNull();
+
+    // Fill all slots with series recorded once
+    for (int i = 0; i < CARDINALITY_LIMIT - 1; i++) {
+      storage.recordDouble(
+          1, Attributes.builder().put("key", "value" + i).build(), Context.current());
+    }
+    // A frequently recorded series arriving after the limit is reached overflows
+    Attributes hot = Attributes.builder().put("key", "hot").build();
+    for (int i = 0; i < 100; i++) {
+      storage.recordDouble(1, hot, Context.current());
+    }
+    storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    cumulativeReader.setLastCollectEpochNanos(10);
+
+    // No series is evicted, so no recorded value is lost
+    storage.recordDouble(1, hot, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.satisfies(
+                    sumData -> {
+                      assertThat(sumData.getPoints())
+                          .hasSize(CARDINALITY_LIMIT)
+                          .noneMatch(point -> point.getAttributes().equals(hot))
+                          .allSatisfy(point -> assertThat(point.getStartEpochNanos()).isZero())
+                          .satisfiesOnlyOnce(
+                              point -> {
+                                assertThat(point.getAttributes())
+                                    .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW);
+                                assertThat(point.getValue()).isEqualTo(101);
+                              });
+                      assertThat(
+                              sumData.getPoints().stream()
+                                  .mapToDouble(DoublePointData::getValue)
+                                  .sum())
+                          .isEqualTo(CARDINALITY_LIMIT - 1 + 101);
+                    }));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_DeltaAtLimit_HeavyHittersRetained(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    DefaultSynchronousMetricStorage<?, ?> storage =
+        new DefaultSynchronousMetricStorage<>(
+            deltaReader,
+            METRIC_DESCRIPTOR,
+            aggregator,
+            attributesProcessor,
+            CARDINALITY_LIMIT,
+            CardinalityOverflowPolicy.HEAVY_HITTERS);
+
+    for (int i = 0; i < CARDINALITY_LIMIT - 1; i++) {
+      storage.recordDouble(
+          1, Attributes.builder().put("key", "value" + i).build(), Context.current());
+    }
+    Attributes hot = Attributes.builder().put("key", "hot").build();
+    for (int i = 0; i < 100; i++) {
+      storage.recordDouble(1, hot, Context.current());
+    }
+    storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10);
+    deltaReader.setLastCollectEpochNanos(10);
+
+    // Slots are reserved for the most frequent series of the previous interval, so a new series
+    // recorded first doesn't take the slot of the frequently recorded series
+    storage.recordDouble(1, Attributes.builder().put("key", "late").build(), Context.current());
+    storage.recordDouble(1, hot, Context.current());
+    assertThat(storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 20))
+        .hasDoubleSumSatisfying(
+            sum ->
+                sum.satisfies(
+                    sumData ->
+                        assertThat(sumData.getPoints())
+                            .satisfiesExactlyInAnyOrder(
+                                point -> assertThat(point.getAttributes()).isEqualTo(hot),
+                                point ->
+                                    assertThat(point.getAttributes())
+                                        .isEqualTo(MetricStorage.CARDINALITY_OVERFLOW))));
+  }
+
+  @ParameterizedTest
+  @EnumSource(MemoryMode.class)
+  void recordAndCollect_HeavyHitters_MemoryBounded(MemoryMode memoryMode) {
+    initialize(memoryMode);
+
+    for (RegisteredReader reader : new RegisteredReader[] {cumulativeReader, deltaReader}) {
+      DefaultSynchronousMetricStorage<?, ?> storage =
+          new DefaultSynchronousMetricStorage<>(
+              reader,
+              METRIC_DESCRIPTOR,
+              aggregator,
+              attributesProcessor,
+              CARDINALITY_LIMIT,
+              CardinalityOverflowPolicy.HEAVY_HITTERS);
+      HeavyHitterTracker tracker = storage.getHeavyHitterTracker();
+      // Only DELTA reassigns slots
+      assertThat(tracker == null).isEqualTo(reader == cumulativeReader);
+
+      for (int collection = 0; collection < 5; collection++) {
+        for (int i = 0; i < 10_000; i++) {
+          storage.recordDouble(
+              1,
+              Attributes.builder().put("key", "value" + collection + "-" + i).build(),
+              Context.current());
+          assertThat(storage.getAggregatorHandleCount()).isLessThanOrEqualTo(CARDINALITY_LIMIT);
+          if (tracker != null) {
+            assertThat(tracker.getCandidateCount())
+                .isLessThanOrEqualTo(tracker.getCandidateCapacity());
+          }
+        }
+        storage.collect(RESOURCE, INSTRUMENTATION_SCOPE_INFO, 0, 10L * (collection + 1));
+        assertThat(storage.getAggregatorHandleCount()).isLessThanOrEqualTo(CARDINALITY_LIMIT);
+        assertThat(storage.getAggregatorHandlePool().size())
+            .isLessThanOrEqualTo(CARDINALITY_LIMIT);
+      }
+    }
+  }
+
   @SuppressWarnings("SameParameterValue")
   private static void assertOnlyOverflowWasRecorded(
       MetricData metricData, long startTime, long endTime, double value) {
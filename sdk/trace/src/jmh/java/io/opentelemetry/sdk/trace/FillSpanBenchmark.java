@@ -6,7 +6,9 @@
 package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
@@ -15,6 +17,10 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Benchmarks filling spans with attributes. Run with {@code -prof gc} to compare the allocation
+ * rate of the attribute storage.
+ */
 @Threads(value = 1)
 @Fork(3)
 @Warmup(iterations = 10, time = 1)
@@ -30,6 +36,25 @@ public class FillSpanBenchmark {
   private static final AttributeKey<String> KEY3 = AttributeKey.stringKey("key3");
   private static final AttributeKey<String> KEY4 = AttributeKey.stringKey("key4");
 
+  private static final int MANY_ATTRIBUTES = 20;
+  private static final AttributeKey<?>[] MANY_KEYS = new AttributeKey<?>[MANY_ATTRIBUTES];
+
+  static {
+    for (int i = 0; i < MANY_ATTRIBUTES; i++) {
+      switch (i % 3) {
+        case 0:
+          MANY_KEYS[i] = AttributeKey.stringKey("string" + i);
+          break;
+        case 1:
+          MANY_KEYS[i] = AttributeKey.longKey("long" + i);
+          break;
+        default:
+          MANY_KEYS[i] = AttributeKey.booleanKey("boolean" + i);
+          break;
+      }
+    }
+  }
+
   @Benchmark
   public void setFourAttributes() {
     spanBuilder
@@ -39,4 +64,35 @@ public class FillSpanBenchmark {
         .setAttribute(KEY3, "value3")
         .setAttribute(KEY4, "value4");
   }
+
+  @Benchmark
+  public Span setTwentyAttributes() {
+    return fillMany(spanBuilder.startSpan());
+  }
+
+  /** Fills a span and snapshots it the way an exporter would on end. */
+  @Benchmark
+  public SpanData setTwentyAttributesAndSnapshot() {
+    ReadableSpan span = (ReadableSpan) fillMany(spanBuilder.startSpan());
+    return span.toSpanData();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Span fillMany(Span span) {
+    for (int i = 0; i < MANY_ATTRIBUTES; i++) {
+      AttributeKey<?> key = MANY_KEYS[i];
+      switch (key.getType()) {
+        case STRING:
+          span.setAttribute((AttributeKey<String>) key, "value");
+          break;
+        case LONG:
+          span.setAttribute((AttributeKey<Long>) key, (long) i);
+          break;
+        default:
+          span.setAttribute((AttributeKey<Boolean>) key, true);
+          break;
+      }
+    }
+    return span;
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.ConsistentProbabilitySampler;
+import io.opentelemetry.sdk.trace.internal.TraceIdRandomPartSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Compares the cost per span of sampling from the hex trace ID and from its random part. */
+@Threads(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SamplerBenchmark {
+
+  private static final int TRACE_ID_COUNT = 1024;
+  private static final List<LinkData> NO_LINKS = Collections.emptyList();
+
+  @Param({"traceIdRatioBased", "parentBased", "consistentProbability"})
+  private String samplerName;
+
+  private TraceIdRandomPartSampler sampler;
+  private Tracer tracer;
+  private final String[] traceIds = new String[TRACE_ID_COUNT];
+  private final long[] randomParts = new long[TRACE_ID_COUNT];
+  private int index;
+
+  @Setup
+  public void setup() {
+    switch (samplerName) {
+      case "traceIdRatioBased":
+        sampler = (TraceIdRandomPartSampler) Sampler.traceIdRatioBased(0.5);
+        break;
+      case "parentBased":
+        sampler = (TraceIdRandomPartSampler) Sampler.parentBased(Sampler.traceIdRatioBased(0.5));
+        break;
+      case "consistentProbability":
+        sampler = ConsistentProbabilitySampler.create(0.3);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown sampler: " + samplerName);
+    }
+    IdGenerator idGenerator = IdGenerator.random();
+    for (int i = 0; i < TRACE_ID_COUNT; i++) {
+      traceIds[i] = idGenerator.generateTraceId();
+      randomParts[i] = OtelEncodingUtils.longFromBase16String(traceIds[i], 16);
+    }
+    tracer = SdkTracerProvider.builder().setSampler(sampler).build().get("benchmark");
+  }
+
+  @Benchmark
+  public SamplingResult shouldSample_traceId() {
+    int i = index++ & (TRACE_ID_COUNT - 1);
+    return sampler.shouldSample(
+        Context.root(), traceIds[i], "span", SpanKind.INTERNAL, Attributes.empty(), NO_LINKS);
+  }
+
+  @Benchmark
+  public SamplingResult shouldSample_randomPart() {
+    int i = index++ & (TRACE_ID_COUNT - 1);
+    return sampler.shouldSample(
+        Context.root(),
+        traceIds[i],
+        randomParts[i],
+        "span",
+        SpanKind.INTERNAL,
+        Attributes.empty(),
+        NO_LINKS);
+  }
+
+  @Benchmark
+  public Span startRootSpan() {
+    return tracer.spanBuilder("span").setNoParent().startSpan();
+  }
+}
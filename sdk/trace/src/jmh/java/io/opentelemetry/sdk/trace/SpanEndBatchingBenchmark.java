@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures ending spans with three {@link BatchSpanProcessor}s configured, with spans delivered
+ * one at a time or in per-thread batches.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpanEndBatchingBenchmark {
+
+  private static final int PROCESSOR_COUNT = 3;
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+
+    // Zero disables batching.
+    @Param({"0", "64"})
+    int batchSize;
+
+    SdkTracerProvider tracerProvider;
+    Tracer tracer;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      SdkTracerProviderBuilder builder = SdkTracerProvider.builder();
+      for (int i = 0; i < PROCESSOR_COUNT; i++) {
+        builder.addSpanProcessor(
+            BatchSpanProcessor.builder(SpanExporter.composite())
+                .setMaxQueueSize(1 << 16)
+                .setMaxExportBatchSize(512)
+                .build());
+      }
+      if (batchSize > 0) {
+        SdkTracerProviderUtil.setSpanEndBatching(builder, batchSize, Duration.ofMillis(10));
+      }
+      tracerProvider = builder.build();
+      tracer = tracerProvider.get("benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void endSpan_01Thread(BenchmarkState state) {
+    state.tracer.spanBuilder("span").startSpan().end();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void endSpan_04Threads(BenchmarkState state) {
+    state.tracer.spanBuilder("span").startSpan().end();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void endSpan_08Threads(BenchmarkState state) {
+    state.tracer.spanBuilder("span").startSpan().end();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures setting attributes on spans which are only accessed by the thread that started them,
+ * and on a span shared by several threads, which must lock.
+ */
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpanMutationBenchmark {
+
+  private static final int ATTRIBUTE_COUNT = 16;
+  private static final AttributeKey<Long>[] KEYS = createKeys();
+
+  @SuppressWarnings("unchecked")
+  private static AttributeKey<Long>[] createKeys() {
+    AttributeKey<Long>[] keys = new AttributeKey[ATTRIBUTE_COUNT];
+    for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+      keys[i] = AttributeKey.longKey("key" + i);
+    }
+    return keys;
+  }
+
+  @State(Scope.Benchmark)
+  public static class BenchmarkState {
+    Tracer tracer;
+    // Started by the setup thread, so benchmark threads always take the locking path.
+    Span sharedSpan;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      tracer = SdkTracerProvider.builder().build().get("benchmark");
+      sharedSpan = tracer.spanBuilder("shared").startSpan();
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void ownedSpan_01Thread(BenchmarkState state) {
+    fillAndEnd(state.tracer.spanBuilder("span").startSpan());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void ownedSpan_04Threads(BenchmarkState state) {
+    fillAndEnd(state.tracer.spanBuilder("span").startSpan());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void sharedSpan_01Thread(BenchmarkState state) {
+    fill(state.sharedSpan);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void sharedSpan_04Threads(BenchmarkState state) {
+    fill(state.sharedSpan);
+  }
+
+  private static void fillAndEnd(Span span) {
+    fill(span);
+    span.end();
+  }
+
+  private static void fill(Span span) {
+    for (int i = 0; i < ATTRIBUTE_COUNT; i++) {
+      span.setAttribute(KEYS[i], (long) i);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import io.opentelemetry.sdk.trace.internal.SpanRecyclingMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures sustained span throughput through a {@link BatchSpanProcessor}, with and without span
+ * recycling. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SpanRecyclingBenchmark {
+
+  private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+  private static final AttributeKey<Long> HTTP_STATUS = AttributeKey.longKey("http.status_code");
+
+  @Param({"DISABLED", "ENABLED"})
+  private SpanRecyclingMode mode;
+
+  private SdkTracerProvider tracerProvider;
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder()
+            .addSpanProcessor(
+                // The composite of no exporters discards spans, isolating the cost of the SDK.
+                BatchSpanProcessor.builder(SpanExporter.composite())
+                    .setMaxQueueSize(100_000)
+                    .build());
+    SdkTracerProviderUtil.setSpanRecyclingMode(builder, mode);
+    tracerProvider = builder.build();
+    tracer = tracerProvider.get("benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void startEnd_01Thread() {
+    doSpanWork();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void startEnd_04Threads() {
+    doSpanWork();
+  }
+
+  private void doSpanWork() {
+    Span span = tracer.spanBuilder("span").setAttribute(HTTP_METHOD, "GET").startSpan();
+    span.setAttribute(HTTP_STATUS, 200L);
+    span.addEvent("event");
+    span.end();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Adapts a {@link BatchSpanProcessor} to {@link BatchingSpanProcessor} so that it receives ended
+ * spans in batches, without exposing the internal interface on the public class.
+ */
+final class BatchSpanProcessorAdapter implements BatchingSpanProcessor {
+
+  @Nullable private static final Method ON_END_BATCH = findOnEndBatch();
+
+  private final BatchSpanProcessor delegate;
+
+  private BatchSpanProcessorAdapter(BatchSpanProcessor delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Returns the {@code spanProcessor} wrapped in an adapter if it is a {@link BatchSpanProcessor},
+   * or the {@code spanProcessor} itself otherwise.
+   */
+  static SpanProcessor wrapIfSupported(SpanProcessor spanProcessor) {
+    if (ON_END_BATCH != null && spanProcessor instanceof BatchSpanProcessor) {
+      return new BatchSpanProcessorAdapter((BatchSpanProcessor) spanProcessor);
+    }
+    return spanProcessor;
+  }
+
+  @Override
+  public void onStart(Context parentContext, ReadWriteSpan span) {
+    delegate.onStart(parentContext, span);
+  }
+
+  @Override
+  public boolean isStartRequired() {
+    return delegate.isStartRequired();
+  }
+
+  @Override
+  public void onEnd(ReadableSpan span) {
+    delegate.onEnd(span);
+  }
+
+  @Override
+  public boolean isEndRequired() {
+    return delegate.isEndRequired();
+  }
+
+  @Override
+  public void onEndBatch(List<ReadableSpan> spans) {
+    // Only constructed when the method was found.
+    Method onEndBatch = ON_END_BATCH;
+    if (onEndBatch == null) {
+      throw new IllegalStateException("BatchSpanProcessor.onEndBatch not found");
+    }
+    try {
+      onEndBatch.invoke(delegate, spans);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Error calling onEndBatch on BatchSpanProcessor", e);
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("Error calling onEndBatch on BatchSpanProcessor", cause);
+    }
+  }
+
+  @Override
+  public CompletableResultCode shutdown() {
+    return delegate.shutdown();
+  }
+
+  @Override
+  public CompletableResultCode forceFlush() {
+    return delegate.forceFlush();
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+
+  @Nullable
+  private static Method findOnEndBatch() {
+    try {
+      Method method = BatchSpanProcessor.class.getDeclaredMethod("onEndBatch", List.class);
+      method.setAccessible(true);
+      return method;
+    } catch (NoSuchMethodException | RuntimeException e) {
+      // Fall back to delivering spans to the processor one at a time.
+      return null;
+    }
+  }
+}
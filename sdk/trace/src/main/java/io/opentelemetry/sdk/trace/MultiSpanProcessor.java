@@ -7,19 +7,25 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the {@code SpanProcessor} that simply forwards all received events to a list of
  * {@code SpanProcessor}s.
+ *
+ * <p>When span end batching is enabled, ended spans are delivered to {@link BatchingSpanProcessor}s
+ * in batches through a {@link SpanEndBatcher} instead of one at a time.
  */
 final class MultiSpanProcessor implements SpanProcessor {
   private final List<SpanProcessor> spanProcessorsStart;
   private final List<SpanProcessor> spanProcessorsEnd;
   private final List<SpanProcessor> spanProcessorsAll;
+  @Nullable private final SpanEndBatcher spanEndBatcher;
   private final AtomicBoolean isShutdown = new AtomicBoolean(false);
 
   /**
@@ -31,7 +37,22 @@ final class MultiSpanProcessor implements SpanProcessor {
    */
   static SpanProcessor create(List<SpanProcessor> spanProcessorList) {
     return new MultiSpanProcessor(
-        new ArrayList<>(Objects.requireNonNull(spanProcessorList, "spanProcessorList")));
+        new ArrayList<>(Objects.requireNonNull(spanProcessorList, "spanProcessorList")),
+        /* maxEndBatchSize= */ 0,
+        /* endBatchFlushIntervalNanos= */ 0);
+  }
+
+  /**
+   * Creates a new {@code MultiSpanProcessor} which delivers ended spans to {@link
+   * BatchingSpanProcessor}s in batches of up to {@code maxEndBatchSize}, buffered for at most about
+   * {@code endBatchFlushIntervalNanos}.
+   */
+  static SpanProcessor createBatching(
+      List<SpanProcessor> spanProcessorList, int maxEndBatchSize, long endBatchFlushIntervalNanos) {
+    return new MultiSpanProcessor(
+        new ArrayList<>(Objects.requireNonNull(spanProcessorList, "spanProcessorList")),
+        maxEndBatchSize,
+        endBatchFlushIntervalNanos);
   }
 
   @Override
@@ -51,11 +72,14 @@ final class MultiSpanProcessor implements SpanProcessor {
     for (SpanProcessor spanProcessor : spanProcessorsEnd) {
       spanProcessor.onEnd(readableSpan);
     }
+    if (spanEndBatcher != null) {
+      spanEndBatcher.add(readableSpan);
+    }
   }
 
   @Override
   public boolean isEndRequired() {
-    return !spanProcessorsEnd.isEmpty();
+    return !spanProcessorsEnd.isEmpty() || spanEndBatcher != null;
   }
 
   @Override
@@ -63,6 +87,9 @@ final class MultiSpanProcessor implements SpanProcessor {
     if (isShutdown.getAndSet(true)) {
       return CompletableResultCode.ofSuccess();
     }
+    if (spanEndBatcher != null) {
+      spanEndBatcher.shutdown();
+    }
     List<CompletableResultCode> results = new ArrayList<>(spanProcessorsAll.size());
     for (SpanProcessor spanProcessor : spanProcessorsAll) {
       results.add(spanProcessor.shutdown());
@@ -72,6 +99,9 @@ final class MultiSpanProcessor implements SpanProcessor {
 
   @Override
   public CompletableResultCode forceFlush() {
+    if (spanEndBatcher != null) {
+      spanEndBatcher.flushAll();
+    }
     List<CompletableResultCode> results = new ArrayList<>(spanProcessorsAll.size());
     for (SpanProcessor spanProcessor : spanProcessorsAll) {
       results.add(spanProcessor.forceFlush());
@@ -79,18 +109,29 @@ final class MultiSpanProcessor implements SpanProcessor {
     return CompletableResultCode.ofAll(results);
   }
 
-  private MultiSpanProcessor(List<SpanProcessor> spanProcessors) {
+  private MultiSpanProcessor(
+      List<SpanProcessor> spanProcessors, int maxEndBatchSize, long endBatchFlushIntervalNanos) {
     this.spanProcessorsAll = spanProcessors;
     this.spanProcessorsStart = new ArrayList<>(spanProcessorsAll.size());
     this.spanProcessorsEnd = new ArrayList<>(spanProcessorsAll.size());
+    List<BatchingSpanProcessor> spanProcessorsEndBatch = new ArrayList<>();
     for (SpanProcessor spanProcessor : spanProcessorsAll) {
       if (spanProcessor.isStartRequired()) {
         spanProcessorsStart.add(spanProcessor);
       }
       if (spanProcessor.isEndRequired()) {
-        spanProcessorsEnd.add(spanProcessor);
+        if (maxEndBatchSize > 0 && spanProcessor instanceof BatchingSpanProcessor) {
+          spanProcessorsEndBatch.add((BatchingSpanProcessor) spanProcessor);
+        } else {
+          spanProcessorsEnd.add(spanProcessor);
+        }
       }
     }
+    this.spanEndBatcher =
+        spanProcessorsEndBatch.isEmpty()
+            ? null
+            : new SpanEndBatcher(
+                spanProcessorsEndBatch, maxEndBatchSize, endBatchFlushIntervalNanos);
   }
 
   @Override
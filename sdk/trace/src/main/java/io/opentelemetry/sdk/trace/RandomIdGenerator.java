@@ -29,13 +29,25 @@ enum RandomIdGenerator implements IdGenerator {
 
   @Override
   public String generateTraceId() {
+    return generateTraceId(generateTraceIdRandomPart());
+  }
+
+  /**
+   * Generates the low 64 bits of a trace ID, the part samplers draw their randomness from. Never
+   * returns zero.
+   */
+  long generateTraceIdRandomPart() {
     Random random = randomSupplier.get();
-    long idHi = random.nextLong();
     long idLo;
     do {
       idLo = random.nextLong();
     } while (idLo == INVALID_ID);
-    return TraceId.fromLongs(idHi, idLo);
+    return idLo;
+  }
+
+  /** Generates a trace ID whose low 64 bits are {@code idLo}. */
+  String generateTraceId(long idLo) {
+    return TraceId.fromLongs(randomSupplier.get().nextLong(), idLo);
   }
 
   @Override
@@ -7,7 +7,6 @@ package io.opentelemetry.sdk.trace;
 
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
-import io.opentelemetry.api.internal.GuardedBy;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
@@ -23,80 +22,115 @@ import io.opentelemetry.sdk.trace.data.EventData;
 import io.opentelemetry.sdk.trace.data.LinkData;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import io.opentelemetry.sdk.trace.internal.data.ExceptionEventData;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
-/** Implementation for the {@link Span} class that records trace events. */
+/**
+ * Implementation for the {@link Span} class that records trace events.
+ *
+ * <p>When span recycling is enabled, instances are obtained from a {@link SpanPool} and returned to
+ * it once released by all their owners, see {@link RecyclableSpan}. The fields describing the span
+ * are then reassigned for the next span, so they are not final. In their place, the constructor and
+ * {@link #init} write them before setting {@link #state}, and every access to them first reads a
+ * state other than {@link #UNINITIALIZED}, see {@link #awaitInitialized()}. Like final fields, this
+ * makes them visible to a thread which obtained the span through a data race.
+ *
+ * <p>Most spans are only ever accessed by the thread which started them, so mutable state is not
+ * guarded by a lock until another thread accesses the span, see {@link #enterUnlocked()}.
+ */
 @ThreadSafe
-final class SdkSpan implements ReadWriteSpan {
+final class SdkSpan implements ReadWriteSpan, RecyclableSpan {
 
   private static final Logger logger = Logger.getLogger(SdkSpan.class.getName());
 
+  private static final AtomicIntegerFieldUpdater<SdkSpan> REF_COUNT =
+      AtomicIntegerFieldUpdater.newUpdater(SdkSpan.class, "refCount");
+  private static final AtomicIntegerFieldUpdater<SdkSpan> STATE =
+      AtomicIntegerFieldUpdater.newUpdater(SdkSpan.class, "state");
+
+  // The constructor or init() has not yet published the fields describing the span.
+  private static final int UNINITIALIZED = 0;
+  // Only the owner thread has accessed the span, and it is not currently doing so.
+  private static final int OWNED = 1;
+  // The owner thread is accessing the span without holding the lock.
+  private static final int OWNER_ACTIVE = 2;
+  // Another thread has accessed the span, so all access holds the lock.
+  private static final int SHARED = 3;
+  // The span has ended, so its state no longer changes and can be read without the lock.
+  private static final int ENDED = 4;
+
   // The config used when constructing this Span.
-  private final SpanLimits spanLimits;
+  private SpanLimits spanLimits;
   // Contains the identifiers associated with this Span.
-  private final SpanContext context;
+  private SpanContext context;
   // The parent SpanContext of this span. Invalid if this is a root span.
-  private final SpanContext parentSpanContext;
+  private SpanContext parentSpanContext;
   // Handler called when the span starts and ends.
-  private final SpanProcessor spanProcessor;
+  private SpanProcessor spanProcessor;
   // The kind of the span.
-  private final SpanKind kind;
+  private SpanKind kind;
   // The clock used to get the time.
-  private final AnchoredClock clock;
+  private AnchoredClock clock;
   // The resource associated with this span.
-  private final Resource resource;
+  private Resource resource;
   // instrumentation scope of the named tracer which created this span
-  private final InstrumentationScopeInfo instrumentationScopeInfo;
+  private InstrumentationScopeInfo instrumentationScopeInfo;
   // The start time of the span.
-  private final long startEpochNanos;
-  // Lock used to internally guard the mutable state of this instance
+  private long startEpochNanos;
+  // Lock used to internally guard the mutable state of this instance once it is shared
   private final Object lock = new Object();
+  // The thread which started this span, which accesses it without locking until it is shared.
+  @Nullable private Thread owner;
+  // One of UNINITIALIZED, OWNED, OWNER_ACTIVE, SHARED or ENDED.
+  private volatile int state;
+
+  // The pool this span is returned to once released, or null if recycling is disabled.
+  @Nullable private final SpanPool pool;
+  // The number of owners of this span while recycling is enabled.
+  private volatile int refCount;
+  // Where this span was recycled. Only recorded when recycling in debug mode.
+  @Nullable private volatile Throwable recycledAt;
+
+  // The fields below are guarded by lock, except while the span is owned by a single thread or has
+  // ended, see enterUnlocked().
 
-  @GuardedBy("lock")
   private String name;
 
   // Set of recorded attributes. DO NOT CALL any other method that changes the ordering of events.
-  @GuardedBy("lock")
   @Nullable
   private AttributesMap attributes;
 
   // List of recorded events.
-  @GuardedBy("lock")
   @Nullable
   private List<EventData> events;
 
   // Number of events recorded.
-  @GuardedBy("lock")
   private int totalRecordedEvents = 0;
 
   // The displayed name of the span.
   // List of recorded links to parent and child spans.
-  @GuardedBy("lock")
   @Nullable
   List<LinkData> links;
 
   // Number of links recorded.
-  @GuardedBy("lock")
   private int totalRecordedLinks;
 
   // The status of the span.
-  @GuardedBy("lock")
   private StatusData status = StatusData.unset();
 
   // The end time of the span.
-  @GuardedBy("lock")
   private long endEpochNanos;
 
   // True if the span is ended.
-  @GuardedBy("lock")
   private boolean hasEnded;
 
   private SdkSpan(
@@ -127,6 +161,56 @@ final class SdkSpan implements ReadWriteSpan {
     this.startEpochNanos = startEpochNanos;
     this.attributes = attributes;
     this.spanLimits = spanLimits;
+    this.pool = null;
+    this.owner = Thread.currentThread();
+    // Publishes the fields above, see awaitInitialized().
+    state = OWNED;
+  }
+
+  /** Creates an uninitialized span owned by {@code pool}, to be initialized with {@link #init}. */
+  @SuppressWarnings("NullAway") // Fields are assigned by init before the span is used.
+  SdkSpan(SpanPool pool) {
+    this.pool = pool;
+  }
+
+  // Reinitializes a span obtained from the pool, mirroring the constructor above.
+  private void init(
+      SpanContext context,
+      String name,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      SpanKind kind,
+      SpanContext parentSpanContext,
+      SpanLimits spanLimits,
+      SpanProcessor spanProcessor,
+      AnchoredClock clock,
+      Resource resource,
+      @Nullable AttributesMap attributes,
+      @Nullable List<LinkData> links,
+      int totalRecordedLinks,
+      long startEpochNanos) {
+    this.context = context;
+    this.instrumentationScopeInfo = instrumentationScopeInfo;
+    this.parentSpanContext = parentSpanContext;
+    this.kind = kind;
+    this.spanProcessor = spanProcessor;
+    this.resource = resource;
+    this.clock = clock;
+    this.startEpochNanos = startEpochNanos;
+    this.spanLimits = spanLimits;
+    this.name = name;
+    this.attributes = attributes;
+    this.events = null;
+    this.totalRecordedEvents = 0;
+    this.links = links;
+    this.totalRecordedLinks = totalRecordedLinks;
+    this.status = StatusData.unset();
+    this.endEpochNanos = 0;
+    this.hasEnded = false;
+    this.owner = Thread.currentThread();
+    // The application owns the first reference, released when the span is ended.
+    refCount = 1;
+    // Publishes the fields above, see awaitInitialized().
+    state = OWNED;
   }
 
   /**
@@ -159,11 +243,49 @@ final class SdkSpan implements ReadWriteSpan {
       @Nullable List<LinkData> links,
       int totalRecordedLinks,
       long userStartEpochNanos) {
+    return startSpan(
+        context,
+        name,
+        instrumentationScopeInfo,
+        kind,
+        parentSpan,
+        parentContext,
+        spanLimits,
+        spanProcessor,
+        tracerClock,
+        resource,
+        attributes,
+        links,
+        totalRecordedLinks,
+        userStartEpochNanos,
+        /* spanPool= */ null);
+  }
+
+  /**
+   * Creates and starts a span with the given configuration, reusing a span from {@code spanPool} if
+   * it is not null.
+   */
+  static SdkSpan startSpan(
+      SpanContext context,
+      String name,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      SpanKind kind,
+      Span parentSpan,
+      Context parentContext,
+      SpanLimits spanLimits,
+      SpanProcessor spanProcessor,
+      Clock tracerClock,
+      Resource resource,
+      @Nullable AttributesMap attributes,
+      @Nullable List<LinkData> links,
+      int totalRecordedLinks,
+      long userStartEpochNanos,
+      @Nullable SpanPool spanPool) {
     boolean createdAnchoredClock;
     AnchoredClock clock;
     if (parentSpan instanceof SdkSpan) {
       SdkSpan parentRecordEventsSpan = (SdkSpan) parentSpan;
-      clock = parentRecordEventsSpan.clock;
+      clock = parentRecordEventsSpan.getClock();
       createdAnchoredClock = false;
     } else {
       clock = AnchoredClock.create(tracerClock);
@@ -182,21 +304,40 @@ final class SdkSpan implements ReadWriteSpan {
       startEpochNanos = clock.now();
     }
 
-    SdkSpan span =
-        new SdkSpan(
-            context,
-            name,
-            instrumentationScopeInfo,
-            kind,
-            parentSpan.getSpanContext(),
-            spanLimits,
-            spanProcessor,
-            clock,
-            resource,
-            attributes,
-            links,
-            totalRecordedLinks,
-            startEpochNanos);
+    SdkSpan span;
+    if (spanPool == null) {
+      span =
+          new SdkSpan(
+              context,
+              name,
+              instrumentationScopeInfo,
+              kind,
+              parentSpan.getSpanContext(),
+              spanLimits,
+              spanProcessor,
+              clock,
+              resource,
+              attributes,
+              links,
+              totalRecordedLinks,
+              startEpochNanos);
+    } else {
+      span = spanPool.acquire();
+      span.init(
+          context,
+          name,
+          instrumentationScopeInfo,
+          kind,
+          parentSpan.getSpanContext(),
+          spanLimits,
+          spanProcessor,
+          clock,
+          resource,
+          attributes,
+          links,
+          totalRecordedLinks,
+          startEpochNanos);
+    }
     // Call onStart here instead of calling in the constructor to make sure the span is completely
     // initialized.
     if (spanProcessor.isStartRequired()) {
@@ -207,10 +348,31 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public SpanData toSpanData() {
+    checkNotRecycled("toSpanData()");
+    if (enterUnlocked()) {
+      try {
+        return snapshot();
+      } finally {
+        exitUnlocked();
+      }
+    }
     // Copy within synchronized context
     synchronized (lock) {
-      return SpanWrapper.create(
-          this,
+      return snapshot();
+    }
+  }
+
+  // Must be called while the state of this span may be accessed, see enterUnlocked().
+  private SpanData snapshot() {
+    if (pool != null) {
+      // A recyclable span is reused once released, so the snapshot cannot reference it.
+      return SpanSnapshot.create(
+          context,
+          parentSpanContext,
+          resource,
+          instrumentationScopeInfo,
+          kind,
+          startEpochNanos,
           getImmutableLinks(),
           getImmutableTimedEvents(),
           getImmutableAttributes(),
@@ -222,11 +384,31 @@ final class SdkSpan implements ReadWriteSpan {
           endEpochNanos,
           hasEnded);
     }
+    return SpanWrapper.create(
+        this,
+        getImmutableLinks(),
+        getImmutableTimedEvents(),
+        getImmutableAttributes(),
+        (attributes == null) ? 0 : attributes.getTotalAddedValues(),
+        totalRecordedEvents,
+        totalRecordedLinks,
+        status,
+        name,
+        endEpochNanos,
+        hasEnded);
   }
 
   @Override
   @Nullable
   public <T> T getAttribute(AttributeKey<T> key) {
+    checkNotRecycled("getAttribute()");
+    if (enterUnlocked()) {
+      try {
+        return attributes == null ? null : attributes.get(key);
+      } finally {
+        exitUnlocked();
+      }
+    }
     synchronized (lock) {
       return attributes == null ? null : attributes.get(key);
     }
@@ -234,6 +416,14 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public Attributes getAttributes() {
+    checkNotRecycled("getAttributes()");
+    if (enterUnlocked()) {
+      try {
+        return attributes == null ? Attributes.empty() : attributes.immutableCopy();
+      } finally {
+        exitUnlocked();
+      }
+    }
     synchronized (lock) {
       return attributes == null ? Attributes.empty() : attributes.immutableCopy();
     }
@@ -241,18 +431,21 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public boolean hasEnded() {
-    synchronized (lock) {
-      return hasEnded;
-    }
+    checkNotRecycled("hasEnded()");
+    return state == ENDED;
   }
 
   @Override
   public SpanContext getSpanContext() {
+    checkNotRecycled("getSpanContext()");
+    awaitInitialized();
     return context;
   }
 
   @Override
   public SpanContext getParentSpanContext() {
+    checkNotRecycled("getParentSpanContext()");
+    awaitInitialized();
     return parentSpanContext;
   }
 
@@ -263,6 +456,14 @@ final class SdkSpan implements ReadWriteSpan {
    */
   @Override
   public String getName() {
+    checkNotRecycled("getName()");
+    if (enterUnlocked()) {
+      try {
+        return name;
+      } finally {
+        exitUnlocked();
+      }
+    }
     synchronized (lock) {
       return name;
     }
@@ -276,6 +477,7 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    awaitInitialized();
     return instrumentationScopeInfo;
   }
 
@@ -287,6 +489,14 @@ final class SdkSpan implements ReadWriteSpan {
    */
   @Override
   public long getLatencyNanos() {
+    checkNotRecycled("getLatencyNanos()");
+    if (enterUnlocked()) {
+      try {
+        return (hasEnded ? endEpochNanos : clock.now()) - startEpochNanos;
+      } finally {
+        exitUnlocked();
+      }
+    }
     synchronized (lock) {
       return (hasEnded ? endEpochNanos : clock.now()) - startEpochNanos;
     }
@@ -294,6 +504,7 @@ final class SdkSpan implements ReadWriteSpan {
 
   /** Returns the {@link AnchoredClock} used by this {@link Span}. */
   AnchoredClock getClock() {
+    awaitInitialized();
     return clock;
   }
 
@@ -302,28 +513,41 @@ final class SdkSpan implements ReadWriteSpan {
     if (key == null || key.getKey().isEmpty() || value == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling setAttribute() on an ended Span.");
-        return this;
+    checkNotRecycled("setAttribute()");
+    if (enterUnlocked()) {
+      try {
+        doSetAttribute(key, value);
+      } finally {
+        exitUnlocked();
       }
-      if (attributes == null) {
-        attributes =
-            AttributesMap.create(
-                spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+    } else {
+      synchronized (lock) {
+        doSetAttribute(key, value);
       }
-
-      attributes.put(key, value);
     }
     return this;
   }
 
+  private <T> void doSetAttribute(AttributeKey<T> key, T value) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling setAttribute() on an ended Span.");
+      return;
+    }
+    if (attributes == null) {
+      attributes =
+          AttributesMap.create(
+              spanLimits.getMaxNumberOfAttributes(), spanLimits.getMaxAttributeValueLength());
+    }
+
+    attributes.put(key, value);
+  }
+
   @Override
   public ReadWriteSpan addEvent(String name) {
     if (name == null) {
       return this;
     }
-    addTimedEvent(EventData.create(clock.now(), name, Attributes.empty(), 0));
+    addTimedEvent(EventData.create(getClock().now(), name, Attributes.empty(), 0));
     return this;
   }
 
@@ -345,6 +569,7 @@ final class SdkSpan implements ReadWriteSpan {
       attributes = Attributes.empty();
     }
     int totalAttributeCount = attributes.size();
+    awaitInitialized();
     addTimedEvent(
         EventData.create(
             clock.now(),
@@ -366,6 +591,7 @@ final class SdkSpan implements ReadWriteSpan {
       attributes = Attributes.empty();
     }
     int totalAttributeCount = attributes.size();
+    awaitInitialized();
     addTimedEvent(
         EventData.create(
             unit.toNanos(timestamp),
@@ -379,39 +605,65 @@ final class SdkSpan implements ReadWriteSpan {
   }
 
   private void addTimedEvent(EventData timedEvent) {
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
-        return;
+    checkNotRecycled("addEvent()");
+    if (enterUnlocked()) {
+      try {
+        doAddTimedEvent(timedEvent);
+      } finally {
+        exitUnlocked();
       }
-      if (events == null) {
-        events = new ArrayList<>();
-      }
-      if (events.size() < spanLimits.getMaxNumberOfEvents()) {
-        events.add(timedEvent);
+    } else {
+      synchronized (lock) {
+        doAddTimedEvent(timedEvent);
       }
-      totalRecordedEvents++;
     }
   }
 
+  private void doAddTimedEvent(EventData timedEvent) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling addEvent() on an ended Span.");
+      return;
+    }
+    if (events == null) {
+      events = new ArrayList<>();
+    }
+    if (events.size() < spanLimits.getMaxNumberOfEvents()) {
+      events.add(timedEvent);
+    }
+    totalRecordedEvents++;
+  }
+
   @Override
   public ReadWriteSpan setStatus(StatusCode statusCode, @Nullable String description) {
     if (statusCode == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling setStatus() on an ended Span.");
-        return this;
-      } else if (this.status.getStatusCode() == StatusCode.OK) {
-        logger.log(Level.FINE, "Calling setStatus() on a Span that is already set to OK.");
-        return this;
+    checkNotRecycled("setStatus()");
+    if (enterUnlocked()) {
+      try {
+        doSetStatus(statusCode, description);
+      } finally {
+        exitUnlocked();
+      }
+    } else {
+      synchronized (lock) {
+        doSetStatus(statusCode, description);
       }
-      this.status = StatusData.create(statusCode, description);
     }
     return this;
   }
 
+  private void doSetStatus(StatusCode statusCode, @Nullable String description) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling setStatus() on an ended Span.");
+      return;
+    } else if (this.status.getStatusCode() == StatusCode.OK) {
+      logger.log(Level.FINE, "Calling setStatus() on a Span that is already set to OK.");
+      return;
+    }
+    this.status = StatusData.create(statusCode, description);
+  }
+
   @Override
   public ReadWriteSpan recordException(Throwable exception) {
     recordException(exception, Attributes.empty());
@@ -426,7 +678,7 @@ final class SdkSpan implements ReadWriteSpan {
     if (additionalAttributes == null) {
       additionalAttributes = Attributes.empty();
     }
-
+    awaitInitialized();
     addTimedEvent(
         ExceptionEventData.create(spanLimits, clock.now(), exception, additionalAttributes));
     return this;
@@ -437,16 +689,29 @@ final class SdkSpan implements ReadWriteSpan {
     if (name == null) {
       return this;
     }
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling updateName() on an ended Span.");
-        return this;
+    checkNotRecycled("updateName()");
+    if (enterUnlocked()) {
+      try {
+        doUpdateName(name);
+      } finally {
+        exitUnlocked();
+      }
+    } else {
+      synchronized (lock) {
+        doUpdateName(name);
       }
-      this.name = name;
     }
     return this;
   }
 
+  private void doUpdateName(String name) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling updateName() on an ended Span.");
+      return;
+    }
+    this.name = name;
+  }
+
   @Override
   public Span addLink(SpanContext spanContext, Attributes attributes) {
     if (spanContext == null || !spanContext.isValid()) {
@@ -455,6 +720,7 @@ final class SdkSpan implements ReadWriteSpan {
     if (attributes == null) {
       attributes = Attributes.empty();
     }
+    awaitInitialized();
     LinkData link =
         LinkData.create(
             spanContext,
@@ -462,25 +728,38 @@ final class SdkSpan implements ReadWriteSpan {
                 attributes,
                 spanLimits.getMaxNumberOfAttributesPerLink(),
                 spanLimits.getMaxAttributeValueLength()));
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling addLink() on an ended Span.");
-        return this;
+    checkNotRecycled("addLink()");
+    if (enterUnlocked()) {
+      try {
+        doAddLink(link);
+      } finally {
+        exitUnlocked();
       }
-      if (links == null) {
-        links = new ArrayList<>();
-      }
-      if (links.size() < spanLimits.getMaxNumberOfLinks()) {
-        links.add(link);
+    } else {
+      synchronized (lock) {
+        doAddLink(link);
       }
-      totalRecordedLinks++;
     }
     return this;
   }
 
+  private void doAddLink(LinkData link) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling addLink() on an ended Span.");
+      return;
+    }
+    if (links == null) {
+      links = new ArrayList<>();
+    }
+    if (links.size() < spanLimits.getMaxNumberOfLinks()) {
+      links.add(link);
+    }
+    totalRecordedLinks++;
+  }
+
   @Override
   public void end() {
-    endInternal(clock.now());
+    endInternal(getClock().now());
   }
 
   @Override
@@ -488,44 +767,181 @@ final class SdkSpan implements ReadWriteSpan {
     if (unit == null) {
       unit = TimeUnit.NANOSECONDS;
     }
-    endInternal(timestamp == 0 ? clock.now() : unit.toNanos(timestamp));
+    endInternal(timestamp == 0 ? getClock().now() : unit.toNanos(timestamp));
   }
 
   private void endInternal(long endEpochNanos) {
-    synchronized (lock) {
-      if (hasEnded) {
-        logger.log(Level.FINE, "Calling end() on an ended Span.");
-        return;
+    checkNotRecycled("end()");
+    boolean ended;
+    if (enterUnlocked()) {
+      ended = doEnd(endEpochNanos);
+      // Leave the section, publishing the final state to threads which read it without locking.
+      STATE.lazySet(this, ENDED);
+    } else {
+      synchronized (lock) {
+        ended = doEnd(endEpochNanos);
+        state = ENDED;
       }
-      this.endEpochNanos = endEpochNanos;
-      hasEnded = true;
+    }
+    if (!ended) {
+      return;
     }
     if (spanProcessor.isEndRequired()) {
       spanProcessor.onEnd(this);
     }
+    // Release the application's reference now that processors have had a chance to retain it.
+    release();
+  }
+
+  private boolean doEnd(long endEpochNanos) {
+    if (hasEnded) {
+      logger.log(Level.FINE, "Calling end() on an ended Span.");
+      return false;
+    }
+    this.endEpochNanos = endEpochNanos;
+    hasEnded = true;
+    return true;
+  }
+
+  /**
+   * Enters a section which accesses the mutable state of this span. Returns {@code true} if the
+   * caller may access the state without holding {@link #lock}, in which case it must call {@link
+   * #exitUnlocked()} afterwards, or {@code false} if it must synchronize on {@link #lock}.
+   *
+   * <p>The thread which started the span, its owner, accesses the state without locking while no
+   * other thread has accessed the span, marking itself active with a CAS for the duration of each
+   * section. The first access from another thread waits for the owner to leave its section and then
+   * permanently switches the span to locking. Sections never call out of the span, so the wait is
+   * short. Once the span has ended its state no longer changes, so it is read without locking.
+   */
+  private boolean enterUnlocked() {
+    int state = this.state;
+    if (state == ENDED) {
+      return true;
+    }
+    if (state == OWNED
+        && owner == Thread.currentThread()
+        && STATE.compareAndSet(this, OWNED, OWNER_ACTIVE)) {
+      return true;
+    }
+    share();
+    return false;
+  }
+
+  private void exitUnlocked() {
+    // Only the owner can observe OWNER_ACTIVE here, other threads see SHARED or ENDED.
+    if (state == OWNER_ACTIVE) {
+      // The write releases the state accessed in the section to a thread which shares the span.
+      STATE.lazySet(this, OWNED);
+    }
+  }
+
+  // Switches the span to locking, waiting for the owner to leave any unlocked section.
+  private void share() {
+    while (true) {
+      int state = this.state;
+      if (state == OWNED) {
+        if (STATE.compareAndSet(this, OWNED, SHARED)) {
+          return;
+        }
+      } else if (state == UNINITIALIZED
+          || (state == OWNER_ACTIVE && owner != Thread.currentThread())) {
+        Thread.yield();
+      } else {
+        return;
+      }
+    }
   }
 
   @Override
-  public boolean isRecording() {
-    synchronized (lock) {
-      return !hasEnded;
+  public void retain() {
+    SpanPool pool = this.pool;
+    if (pool == null) {
+      return;
+    }
+    while (true) {
+      int refCount = this.refCount;
+      if (refCount <= 0) {
+        // Every owner has released the span, so it may already be reused for another span.
+        checkNotRecycled("retain()");
+        return;
+      }
+      if (REF_COUNT.compareAndSet(this, refCount, refCount + 1)) {
+        return;
+      }
     }
   }
 
+  @Override
+  public void release() {
+    SpanPool pool = this.pool;
+    if (pool == null) {
+      return;
+    }
+    int refCount = REF_COUNT.decrementAndGet(this);
+    if (refCount > 0) {
+      return;
+    }
+    if (refCount < 0) {
+      checkNotRecycled("release()");
+      return;
+    }
+    if (pool.isDebug()) {
+      recycledAt = new Throwable("Span recycled");
+      return;
+    }
+    // Drop references to state which may still be referenced by snapshots of this span, which
+    // is why it is not cleared for reuse. No other thread accesses the span at this point.
+    attributes = null;
+    events = null;
+    links = null;
+    owner = null;
+    pool.recycle(this);
+  }
+
+  /**
+   * Waits until the fields describing the span are visible to the calling thread. Reading a state
+   * other than {@link #UNINITIALIZED} orders this thread after the write of the state which ends
+   * the constructor or {@link #init}, so the fields written before it are visible. The wait is only
+   * entered when the span was obtained through a data race before that write became visible.
+   */
+  private void awaitInitialized() {
+    while (state == UNINITIALIZED) {
+      Thread.yield();
+    }
+  }
+
+  // Reports a use of this span after it was recycled. Only detected when recycling in debug mode.
+  private void checkNotRecycled(String operation) {
+    Throwable recycledAt = this.recycledAt;
+    SpanPool pool = this.pool;
+    if (recycledAt != null && pool != null) {
+      pool.reportUseAfterRecycle(operation, recycledAt);
+    }
+  }
+
+  @Override
+  public boolean isRecording() {
+    checkNotRecycled("isRecording()");
+    return state != ENDED;
+  }
+
   Resource getResource() {
+    awaitInitialized();
     return resource;
   }
 
   @Override
   public SpanKind getKind() {
+    awaitInitialized();
     return kind;
   }
 
   long getStartEpochNanos() {
+    awaitInitialized();
     return startEpochNanos;
   }
 
-  @GuardedBy("lock")
   private List<EventData> getImmutableTimedEvents() {
     if (events == null) {
       return Collections.emptyList();
@@ -540,7 +956,6 @@ final class SdkSpan implements ReadWriteSpan {
     return Collections.unmodifiableList(new ArrayList<>(events));
   }
 
-  @GuardedBy("lock")
   private Attributes getImmutableAttributes() {
     if (attributes == null || attributes.isEmpty()) {
       return Attributes.empty();
@@ -554,7 +969,6 @@ final class SdkSpan implements ReadWriteSpan {
     return attributes.immutableCopy();
   }
 
-  @GuardedBy("lock")
   private List<LinkData> getImmutableLinks() {
     if (links == null || links.isEmpty()) {
       return Collections.emptyList();
@@ -564,20 +978,19 @@ final class SdkSpan implements ReadWriteSpan {
 
   @Override
   public String toString() {
-    String name;
-    String attributes;
-    String status;
-    long totalRecordedEvents;
-    long endEpochNanos;
-    long totalRecordedLinks;
+    if (enterUnlocked()) {
+      try {
+        return describe();
+      } finally {
+        exitUnlocked();
+      }
+    }
     synchronized (lock) {
-      name = this.name;
-      attributes = String.valueOf(this.attributes);
-      status = String.valueOf(this.status);
-      totalRecordedEvents = this.totalRecordedEvents;
-      endEpochNanos = this.endEpochNanos;
-      totalRecordedLinks = this.totalRecordedLinks;
+      return describe();
     }
+  }
+
+  private String describe() {
     return "SdkSpan{traceId="
         + context.getTraceId()
         + ", spanId="
@@ -31,6 +31,8 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.AttributeUtil;
 import io.opentelemetry.sdk.internal.AttributesMap;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.TraceIdRandomPartSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
 import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
 import io.opentelemetry.sdk.trace.samplers.SamplingResult;
 import java.util.ArrayList;
@@ -186,11 +188,18 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
     Span parentSpan = Span.fromContext(parentContext);
     SpanContext parentSpanContext = parentSpan.getSpanContext();
     String traceId;
+    // The low 64 bits of the trace ID when generated here, zero when unknown.
+    long traceIdRandomPart = 0;
     IdGenerator idGenerator = tracerSharedState.getIdGenerator();
     String spanId = idGenerator.generateSpanId();
     if (!parentSpanContext.isValid()) {
       // New root span.
-      traceId = idGenerator.generateTraceId();
+      if (idGenerator == RandomIdGenerator.INSTANCE) {
+        traceIdRandomPart = RandomIdGenerator.INSTANCE.generateTraceIdRandomPart();
+        traceId = RandomIdGenerator.INSTANCE.generateTraceId(traceIdRandomPart);
+      } else {
+        traceId = idGenerator.generateTraceId();
+      }
     } else {
       // New child span.
       traceId = parentSpanContext.getTraceId();
@@ -202,10 +211,19 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
     // startSpan is called. If that happens all the links will be added in a new list.
     links = null;
     Attributes immutableAttributes = attributes == null ? Attributes.empty() : attributes;
+    Sampler sampler = tracerSharedState.getSampler();
     SamplingResult samplingResult =
-        tracerSharedState
-            .getSampler()
-            .shouldSample(
+        traceIdRandomPart != 0 && sampler instanceof TraceIdRandomPartSampler
+            ? ((TraceIdRandomPartSampler) sampler)
+                .shouldSample(
+                    parentContext,
+                    traceId,
+                    traceIdRandomPart,
+                    spanName,
+                    spanKind,
+                    immutableAttributes,
+                    immutableLinks)
+            : sampler.shouldSample(
                 parentContext, traceId, spanName, spanKind, immutableAttributes, immutableLinks);
     SamplingDecision samplingDecision = samplingResult.getDecision();
 
@@ -247,7 +265,8 @@ final class SdkSpanBuilder implements ExtendedSpanBuilder {
         recordedAttributes,
         currentLinks,
         totalNumberOfLinksAdded,
-        startEpochNanos);
+        startEpochNanos,
+        tracerSharedState.getSpanPool());
   }
 
   @Override
@@ -14,6 +14,7 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ComponentRegistry;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.internal.SpanRecyclingMode;
 import io.opentelemetry.sdk.trace.internal.TracerConfig;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.io.Closeable;
@@ -49,10 +50,21 @@ public final class SdkTracerProvider implements TracerProvider, Closeable {
       Supplier<SpanLimits> spanLimitsSupplier,
       Sampler sampler,
       List<SpanProcessor> spanProcessors,
-      ScopeConfigurator<TracerConfig> tracerConfigurator) {
+      ScopeConfigurator<TracerConfig> tracerConfigurator,
+      SpanRecyclingMode spanRecyclingMode,
+      int spanEndBatchSize,
+      long spanEndFlushIntervalNanos) {
     this.sharedState =
         new TracerSharedState(
-            clock, idsGenerator, resource, spanLimitsSupplier, sampler, spanProcessors);
+            clock,
+            idsGenerator,
+            resource,
+            spanLimitsSupplier,
+            sampler,
+            spanProcessors,
+            SpanPool.create(spanRecyclingMode),
+            spanEndBatchSize,
+            spanEndFlushIntervalNanos);
     this.tracerSdkComponentRegistry =
         new ComponentRegistry<>(
             instrumentationScopeInfo ->
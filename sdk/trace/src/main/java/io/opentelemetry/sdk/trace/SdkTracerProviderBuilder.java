@@ -12,9 +12,13 @@ import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.internal.ScopeConfiguratorBuilder;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import io.opentelemetry.sdk.trace.internal.SpanRecyclingMode;
 import io.opentelemetry.sdk.trace.internal.TracerConfig;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -34,6 +38,10 @@ public final class SdkTracerProviderBuilder {
   private Sampler sampler = DEFAULT_SAMPLER;
   private ScopeConfiguratorBuilder<TracerConfig> tracerConfiguratorBuilder =
       TracerConfig.configuratorBuilder();
+  private SpanRecyclingMode spanRecyclingMode = SpanRecyclingMode.DISABLED;
+  // Zero when span end batching is disabled.
+  private int spanEndBatchSize = 0;
+  private long spanEndFlushIntervalNanos = 0;
 
   /**
    * Assign a {@link Clock}. {@link Clock} will be used each time a {@link
@@ -196,12 +204,57 @@ public final class SdkTracerProviderBuilder {
     return this;
   }
 
+  /**
+   * Set whether ended spans are recycled for new spans. Defaults to {@link
+   * SpanRecyclingMode#DISABLED}.
+   *
+   * <p>Recycling requires that instrumentation does not use spans after ending them, and that span
+   * processors follow the {@link RecyclableSpan} contract.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setSpanRecyclingMode(SdkTracerProviderBuilder, SpanRecyclingMode)}.
+   */
+  SdkTracerProviderBuilder setSpanRecyclingMode(SpanRecyclingMode spanRecyclingMode) {
+    requireNonNull(spanRecyclingMode, "spanRecyclingMode");
+    this.spanRecyclingMode = spanRecyclingMode;
+    return this;
+  }
+
+  /**
+   * Enable delivering ended spans to {@link BatchingSpanProcessor}s and {@link
+   * io.opentelemetry.sdk.trace.export.BatchSpanProcessor}s in batches. Spans are buffered per
+   * thread, and delivered once a thread has buffered {@code maxBatchSize} spans or after at most
+   * about {@code flushInterval}.
+   *
+   * <p>This method is experimental so not public. You may reflectively call it using {@link
+   * SdkTracerProviderUtil#setSpanEndBatching(SdkTracerProviderBuilder, int, Duration)}.
+   */
+  SdkTracerProviderBuilder setSpanEndBatching(int maxBatchSize, Duration flushInterval) {
+    requireNonNull(flushInterval, "flushInterval");
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be positive");
+    }
+    if (flushInterval.isNegative() || flushInterval.isZero()) {
+      throw new IllegalArgumentException("flushInterval must be positive");
+    }
+    this.spanEndBatchSize = maxBatchSize;
+    this.spanEndFlushIntervalNanos = flushInterval.toNanos();
+    return this;
+  }
+
   /**
    * Create a new {@link SdkTracerProvider} instance with the configuration.
    *
    * @return The instance.
    */
   public SdkTracerProvider build() {
+    List<SpanProcessor> spanProcessors = this.spanProcessors;
+    if (spanEndBatchSize > 0) {
+      spanProcessors = new ArrayList<>(this.spanProcessors.size());
+      for (SpanProcessor spanProcessor : this.spanProcessors) {
+        spanProcessors.add(BatchSpanProcessorAdapter.wrapIfSupported(spanProcessor));
+      }
+    }
     return new SdkTracerProvider(
         clock,
         idsGenerator,
@@ -209,7 +262,10 @@ public final class SdkTracerProviderBuilder {
         spanLimitsSupplier,
         sampler,
         spanProcessors,
-        tracerConfiguratorBuilder.build());
+        tracerConfiguratorBuilder.build(),
+        spanRecyclingMode,
+        spanEndBatchSize,
+        spanEndFlushIntervalNanos);
   }
 
   SdkTracerProviderBuilder() {}
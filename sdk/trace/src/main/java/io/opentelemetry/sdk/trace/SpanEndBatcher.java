@@ -0,0 +1,179 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.internal.DaemonThreadFactory;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Buffers ended spans per thread and delivers them in batches to {@link BatchingSpanProcessor}s.
+ *
+ * <p>A thread's buffer is delivered on the ending thread once it holds {@code maxBatchSize} spans.
+ * A background thread delivers all buffers every {@code flushIntervalNanos}, so that spans ended on
+ * threads which become idle are not held indefinitely.
+ *
+ * <p>{@link #flushAll()} returns only once every span buffered before the call has been delivered,
+ * including spans which another thread is delivering concurrently, so that processors can be
+ * flushed or shut down afterwards without losing spans.
+ */
+final class SpanEndBatcher {
+
+  private static final Logger logger = Logger.getLogger(SpanEndBatcher.class.getName());
+
+  private static final String WORKER_THREAD_NAME = "OtelSpanEndBatcher";
+
+  private final List<BatchingSpanProcessor> processors;
+  private final int maxBatchSize;
+  private final Set<Buffer> buffers = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<Buffer> threadBuffer = ThreadLocal.withInitial(this::newBuffer);
+  private final ScheduledExecutorService flusher;
+  private volatile boolean isShutdown = false;
+
+  SpanEndBatcher(
+      List<BatchingSpanProcessor> processors, int maxBatchSize, long flushIntervalNanos) {
+    this.processors = processors;
+    this.maxBatchSize = maxBatchSize;
+    this.flusher =
+        Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory(WORKER_THREAD_NAME));
+    flusher.scheduleWithFixedDelay(
+        this::flushAll, flushIntervalNanos, flushIntervalNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Buffers a span which has ended, delivering the current thread's buffer if it is full. */
+  void add(ReadableSpan span) {
+    // Keep recyclable spans alive until they are delivered.
+    if (span instanceof RecyclableSpan) {
+      ((RecyclableSpan) span).retain();
+    }
+    if (isShutdown) {
+      // Buffers are no longer flushed, so let the processors handle the span immediately.
+      deliver(Collections.singletonList(span));
+      return;
+    }
+    Buffer buffer = threadBuffer.get();
+    buffer.add(span);
+    if (isShutdown) {
+      // Shut down while adding, so the final flush may have missed the span.
+      buffer.flush();
+    }
+  }
+
+  /** Delivers the spans buffered by all threads, waiting for any delivery already in progress. */
+  void flushAll() {
+    Iterator<Buffer> it = buffers.iterator();
+    while (it.hasNext()) {
+      Buffer buffer = it.next();
+      // Checked before flushing, so that a buffer is only removed once no spans can be added.
+      boolean threadDead = buffer.isThreadDead();
+      buffer.flush();
+      if (threadDead) {
+        it.remove();
+      }
+    }
+  }
+
+  /** Delivers all buffered spans and stops the background thread. */
+  void shutdown() {
+    isShutdown = true;
+    flusher.shutdown();
+    flushAll();
+  }
+
+  private Buffer newBuffer() {
+    Buffer buffer = new Buffer(Thread.currentThread());
+    buffers.add(buffer);
+    return buffer;
+  }
+
+  private void deliver(List<ReadableSpan> spans) {
+    for (BatchingSpanProcessor processor : processors) {
+      try {
+        processor.onEndBatch(spans);
+      } catch (Throwable t) {
+        logger.log(Level.WARNING, "SpanProcessor threw an exception in onEndBatch", t);
+      }
+    }
+    for (ReadableSpan span : spans) {
+      if (span instanceof RecyclableSpan) {
+        ((RecyclableSpan) span).release();
+      }
+    }
+  }
+
+  // Visible for testing
+  int getBufferCount() {
+    return buffers.size();
+  }
+
+  /**
+   * The spans ended on a single thread. The owning thread adds to it, and any thread may flush it,
+   * so access is synchronized. The lock is normally uncontended.
+   *
+   * <p>Spans are taken from the buffer and delivered while holding {@link #deliveryLock}, so a
+   * flush waits for a delivery in progress on another thread to complete. Adding a span only takes
+   * the buffer's own lock, so a slow processor only blocks the owning thread once its buffer is
+   * full.
+   */
+  private final class Buffer {
+
+    private final Object deliveryLock = new Object();
+    private final WeakReference<Thread> thread;
+    // Null when empty, to avoid holding a list for threads which rarely end spans.
+    @Nullable private List<ReadableSpan> spans;
+
+    private Buffer(Thread thread) {
+      this.thread = new WeakReference<>(thread);
+    }
+
+    void add(ReadableSpan span) {
+      boolean full;
+      synchronized (this) {
+        List<ReadableSpan> spans = this.spans;
+        if (spans == null) {
+          spans = new ArrayList<>(maxBatchSize);
+          this.spans = spans;
+        }
+        spans.add(span);
+        full = spans.size() >= maxBatchSize;
+      }
+      if (full) {
+        flush();
+      }
+    }
+
+    void flush() {
+      synchronized (deliveryLock) {
+        List<ReadableSpan> spans;
+        synchronized (this) {
+          spans = this.spans;
+          this.spans = null;
+        }
+        if (spans != null) {
+          deliver(spans);
+        }
+      }
+    }
+
+    boolean isThreadDead() {
+      Thread thread = this.thread.get();
+      return thread == null || !thread.isAlive();
+    }
+  }
+}
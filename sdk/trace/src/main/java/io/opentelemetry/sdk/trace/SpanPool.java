@@ -0,0 +1,95 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import io.opentelemetry.sdk.trace.internal.SpanRecyclingMode;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * A pool of recycled {@link SdkSpan} instances.
+ *
+ * <p>Spans are returned to a small per-thread pool first, so that a thread which both starts and
+ * releases spans reuses them without contention. Once a thread's pool is full, spans overflow into
+ * a bounded pool shared by all threads. This is where spans released by an exporting thread, such
+ * as the {@link io.opentelemetry.sdk.trace.export.BatchSpanProcessor} worker, end up.
+ */
+final class SpanPool {
+
+  private static final Logger logger = Logger.getLogger(SpanPool.class.getName());
+
+  // Visible for testing
+  static final int MAX_THREAD_LOCAL_SPANS = 32;
+  // Visible for testing
+  static final int MAX_SHARED_SPANS = 1024;
+
+  private final boolean debug;
+  private final ThreadLocal<ArrayDeque<SdkSpan>> threadLocalSpans =
+      ThreadLocal.withInitial(() -> new ArrayDeque<>(MAX_THREAD_LOCAL_SPANS));
+  // ArrayBlockingQueue rather than ConcurrentLinkedQueue to avoid allocating a node per offer.
+  private final Queue<SdkSpan> sharedSpans = new ArrayBlockingQueue<>(MAX_SHARED_SPANS);
+
+  private SpanPool(boolean debug) {
+    this.debug = debug;
+  }
+
+  /** Returns a pool for the given mode, or {@code null} if recycling is disabled. */
+  @Nullable
+  static SpanPool create(SpanRecyclingMode mode) {
+    if (mode == SpanRecyclingMode.DISABLED) {
+      return null;
+    }
+    return new SpanPool(/* debug= */ mode == SpanRecyclingMode.DEBUG);
+  }
+
+  /** Returns a span which is not in use, to be initialized by the caller. */
+  SdkSpan acquire() {
+    SdkSpan span = threadLocalSpans.get().pollFirst();
+    if (span == null) {
+      span = sharedSpans.poll();
+    }
+    return span == null ? new SdkSpan(this) : span;
+  }
+
+  /** Returns a span which has been released by all its owners to the pool. */
+  void recycle(SdkSpan span) {
+    ArrayDeque<SdkSpan> spans = threadLocalSpans.get();
+    if (spans.size() < MAX_THREAD_LOCAL_SPANS) {
+      spans.addFirst(span);
+    } else {
+      sharedSpans.offer(span);
+    }
+  }
+
+  /**
+   * Whether recycled spans record where they were recycled and report later use instead of being
+   * returned to the pool.
+   */
+  boolean isDebug() {
+    return debug;
+  }
+
+  void reportUseAfterRecycle(String operation, Throwable recycledAt) {
+    logger.log(
+        Level.WARNING,
+        "Span used after it was recycled by calling " + operation,
+        new IllegalStateException("Span used after it was recycled", recycledAt));
+  }
+
+  // Visible for testing
+  int getThreadLocalSize() {
+    return threadLocalSpans.get().size();
+  }
+
+  // Visible for testing
+  int getSharedSize() {
+    return sharedSpans.size();
+  }
+}
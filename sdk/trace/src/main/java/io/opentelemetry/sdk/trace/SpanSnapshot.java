@@ -0,0 +1,242 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import com.google.auto.value.AutoValue;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.internal.InstrumentationScopeUtil;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import java.util.List;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable class that stores {@link SpanData} based on a recyclable {@link SdkSpan}.
+ *
+ * <p>Unlike {@link SpanWrapper}, this class does not reference the {@link SdkSpan} it was created
+ * from, since the span may be reused for a different span once it is recycled.
+ */
+@Immutable
+@AutoValue
+abstract class SpanSnapshot implements SpanData {
+
+  abstract SpanContext spanContext();
+
+  abstract SpanContext parentSpanContext();
+
+  abstract Resource resource();
+
+  abstract InstrumentationScopeInfo instrumentationScopeInfo();
+
+  abstract SpanKind kind();
+
+  abstract long startEpochNanos();
+
+  abstract List<LinkData> resolvedLinks();
+
+  abstract List<EventData> resolvedEvents();
+
+  abstract Attributes attributes();
+
+  abstract int totalAttributeCount();
+
+  abstract int totalRecordedEvents();
+
+  abstract int totalRecordedLinks();
+
+  abstract StatusData status();
+
+  abstract String name();
+
+  abstract long endEpochNanos();
+
+  abstract boolean internalHasEnded();
+
+  /**
+   * Note: the collections that are passed into this creator method are assumed to be immutable to
+   * preserve the overall immutability of the class.
+   */
+  static SpanSnapshot create(
+      SpanContext spanContext,
+      SpanContext parentSpanContext,
+      Resource resource,
+      InstrumentationScopeInfo instrumentationScopeInfo,
+      SpanKind kind,
+      long startEpochNanos,
+      List<LinkData> links,
+      List<EventData> events,
+      Attributes attributes,
+      int totalAttributeCount,
+      int totalRecordedEvents,
+      int totalRecordedLinks,
+      StatusData status,
+      String name,
+      long endEpochNanos,
+      boolean hasEnded) {
+    return new AutoValue_SpanSnapshot(
+        spanContext,
+        parentSpanContext,
+        resource,
+        instrumentationScopeInfo,
+        kind,
+        startEpochNanos,
+        links,
+        events,
+        attributes,
+        totalAttributeCount,
+        totalRecordedEvents,
+        totalRecordedLinks,
+        status,
+        name,
+        endEpochNanos,
+        hasEnded);
+  }
+
+  @Override
+  public SpanContext getSpanContext() {
+    return spanContext();
+  }
+
+  @Override
+  public SpanContext getParentSpanContext() {
+    return parentSpanContext();
+  }
+
+  @Override
+  public Resource getResource() {
+    return resource();
+  }
+
+  @Override
+  @Deprecated
+  public io.opentelemetry.sdk.common.InstrumentationLibraryInfo getInstrumentationLibraryInfo() {
+    return InstrumentationScopeUtil.toInstrumentationLibraryInfo(instrumentationScopeInfo());
+  }
+
+  @Override
+  public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+    return instrumentationScopeInfo();
+  }
+
+  @Override
+  public String getName() {
+    return name();
+  }
+
+  @Override
+  public SpanKind getKind() {
+    return kind();
+  }
+
+  @Override
+  public long getStartEpochNanos() {
+    return startEpochNanos();
+  }
+
+  @Override
+  public Attributes getAttributes() {
+    return attributes();
+  }
+
+  @Override
+  public List<EventData> getEvents() {
+    return resolvedEvents();
+  }
+
+  @Override
+  public List<LinkData> getLinks() {
+    return resolvedLinks();
+  }
+
+  @Override
+  public StatusData getStatus() {
+    return status();
+  }
+
+  @Override
+  public long getEndEpochNanos() {
+    return endEpochNanos();
+  }
+
+  @Override
+  public boolean hasEnded() {
+    return internalHasEnded();
+  }
+
+  @Override
+  public int getTotalRecordedEvents() {
+    return totalRecordedEvents();
+  }
+
+  @Override
+  public int getTotalRecordedLinks() {
+    return totalRecordedLinks();
+  }
+
+  @Override
+  public int getTotalAttributeCount() {
+    return totalAttributeCount();
+  }
+
+  @Override
+  public final String toString() {
+    return "SpanData{"
+        + "spanContext="
+        + getSpanContext()
+        + ", "
+        + "parentSpanContext="
+        + getParentSpanContext()
+        + ", "
+        + "resource="
+        + getResource()
+        + ", "
+        + "instrumentationScopeInfo="
+        + getInstrumentationScopeInfo()
+        + ", "
+        + "name="
+        + getName()
+        + ", "
+        + "kind="
+        + getKind()
+        + ", "
+        + "startEpochNanos="
+        + getStartEpochNanos()
+        + ", "
+        + "endEpochNanos="
+        + getEndEpochNanos()
+        + ", "
+        + "attributes="
+        + getAttributes()
+        + ", "
+        + "totalAttributeCount="
+        + getTotalAttributeCount()
+        + ", "
+        + "events="
+        + getEvents()
+        + ", "
+        + "totalRecordedEvents="
+        + getTotalRecordedEvents()
+        + ", "
+        + "links="
+        + getLinks()
+        + ", "
+        + "totalRecordedLinks="
+        + getTotalRecordedLinks()
+        + ", "
+        + "status="
+        + getStatus()
+        + ", "
+        + "hasEnded="
+        + hasEnded()
+        + "}";
+  }
+}
@@ -26,6 +26,7 @@ final class TracerSharedState {
   private final Supplier<SpanLimits> spanLimitsSupplier;
   private final Sampler sampler;
   private final SpanProcessor activeSpanProcessor;
+  @Nullable private final SpanPool spanPool;
 
   @Nullable private volatile CompletableResultCode shutdownResult = null;
 
@@ -35,14 +36,22 @@ final class TracerSharedState {
       Resource resource,
       Supplier<SpanLimits> spanLimitsSupplier,
       Sampler sampler,
-      List<SpanProcessor> spanProcessors) {
+      List<SpanProcessor> spanProcessors,
+      @Nullable SpanPool spanPool,
+      int spanEndBatchSize,
+      long spanEndFlushIntervalNanos) {
     this.clock = clock;
     this.idGenerator = idGenerator;
     this.idGeneratorSafeToSkipIdValidation = idGenerator instanceof RandomIdGenerator;
     this.resource = resource;
     this.spanLimitsSupplier = spanLimitsSupplier;
     this.sampler = sampler;
-    activeSpanProcessor = SpanProcessor.composite(spanProcessors);
+    activeSpanProcessor =
+        spanEndBatchSize > 0
+            ? MultiSpanProcessor.createBatching(
+                spanProcessors, spanEndBatchSize, spanEndFlushIntervalNanos)
+            : SpanProcessor.composite(spanProcessors);
+    this.spanPool = spanPool;
   }
 
   Clock getClock() {
@@ -80,6 +89,12 @@ final class TracerSharedState {
     return activeSpanProcessor;
   }
 
+  /** Returns the pool spans are recycled to, or {@code null} if span recycling is disabled. */
+  @Nullable
+  SpanPool getSpanPool() {
+    return spanPool;
+  }
+
   /**
    * Returns {@code true} if tracing has been shut down.
    *
@@ -19,6 +19,7 @@ import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.data.SpanData;
 import io.opentelemetry.sdk.trace.internal.JcTools;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -104,6 +105,14 @@ public final class BatchSpanProcessor implements SpanProcessor {
     }
   }
 
+  /**
+   * Like {@link #onEnd(ReadableSpan)} for a batch of spans. Called reflectively when span end
+   * batching is enabled.
+   */
+  void onEndBatch(List<ReadableSpan> spans) {
+    worker.addSpans(spans, exportUnsampledSpans);
+  }
+
   @Override
   public boolean isEndRequired() {
     return true;
@@ -234,7 +243,11 @@ public final class BatchSpanProcessor implements SpanProcessor {
     }
 
     private void addSpan(ReadableSpan span) {
+      // Retain recyclable spans until they are exported. This must happen before the span is
+      // queued, since the worker may export and release it immediately.
+      retain(span);
       if (!queue.offer(span)) {
+        release(span);
         processedSpansCounter.add(1, droppedAttrs);
       } else {
         if (queue.size() >= spansNeeded.get()) {
@@ -243,6 +256,29 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    // Like addSpan, but only records dropped spans and checks whether to wake the worker once per
+    // batch.
+    private void addSpans(List<ReadableSpan> spans, boolean exportUnsampledSpans) {
+      int dropped = 0;
+      for (int i = 0; i < spans.size(); i++) {
+        ReadableSpan span = spans.get(i);
+        if (!exportUnsampledSpans && !span.getSpanContext().isSampled()) {
+          continue;
+        }
+        retain(span);
+        if (!queue.offer(span)) {
+          release(span);
+          dropped++;
+        }
+      }
+      if (dropped > 0) {
+        processedSpansCounter.add(dropped, droppedAttrs);
+      }
+      if (queue.size() >= spansNeeded.get()) {
+        signal.offer(true);
+      }
+    }
+
     @Override
     public void run() {
       updateNextExportTime();
@@ -252,7 +288,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
           flush();
         }
         JcTools.drain(
-            queue, maxExportBatchSize - batch.size(), span -> batch.add(span.toSpanData()));
+            queue, maxExportBatchSize - batch.size(), span -> batch.add(toSpanData(span)));
 
         if (batch.size() >= maxExportBatchSize || System.nanoTime() >= nextExportTime) {
           exportCurrentBatch();
@@ -279,7 +315,7 @@ public final class BatchSpanProcessor implements SpanProcessor {
       while (spansToFlush > 0) {
         ReadableSpan span = queue.poll();
         assert span != null;
-        batch.add(span.toSpanData());
+        batch.add(toSpanData(span));
         spansToFlush--;
         if (batch.size() >= maxExportBatchSize) {
           exportCurrentBatch();
@@ -293,6 +329,25 @@ public final class BatchSpanProcessor implements SpanProcessor {
       }
     }
 
+    // Snapshots a span taken from the queue and releases the reference retained in addSpan.
+    private static SpanData toSpanData(ReadableSpan span) {
+      SpanData spanData = span.toSpanData();
+      release(span);
+      return spanData;
+    }
+
+    private static void retain(ReadableSpan span) {
+      if (span instanceof RecyclableSpan) {
+        ((RecyclableSpan) span).retain();
+      }
+    }
+
+    private static void release(ReadableSpan span) {
+      if (span instanceof RecyclableSpan) {
+        ((RecyclableSpan) span).release();
+      }
+    }
+
     private void updateNextExportTime() {
       nextExportTime = System.nanoTime() + scheduleDelayNanos;
     }
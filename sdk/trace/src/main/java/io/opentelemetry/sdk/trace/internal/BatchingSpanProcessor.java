@@ -0,0 +1,43 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A {@link SpanProcessor} which can receive ended spans in batches, amortizing any per-span
+ * overhead of {@link #onEnd(ReadableSpan)}.
+ *
+ * <p>When span end batching is enabled with {@link
+ * SdkTracerProviderUtil#setSpanEndBatching(SdkTracerProviderBuilder, int, Duration)}, the SDK
+ * buffers ended spans per thread and calls {@link #onEndBatch(List)} instead of {@link
+ * #onEnd(ReadableSpan)}, once a thread's buffer is full or periodically from a background thread.
+ * Otherwise {@link #onEnd(ReadableSpan)} is called as for any other processor.
+ *
+ * <p>Buffered spans are delivered before {@link #forceFlush()} and {@link #shutdown()} are called
+ * through the {@link io.opentelemetry.sdk.trace.SdkTracerProvider}, but not when they are called on
+ * the processor directly.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface BatchingSpanProcessor extends SpanProcessor {
+
+  /**
+   * Called with spans which have ended. Each batch holds spans which ended on the same thread, in
+   * the order they ended.
+   *
+   * <p>The list is only valid for the duration of the call and must not be modified. Spans must be
+   * retained as described by {@link RecyclableSpan} to use them after this method returns.
+   *
+   * @param spans the spans that ended.
+   */
+  void onEndBatch(List<ReadableSpan> spans);
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.internal.RandomSupplier;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Sampler} making consistent probability sampling decisions, propagating them in the
+ * {@code ot} entry of the trace state as a p-value and r-value.
+ *
+ * <p>The r-value is the number of leading zeros of the random part of the trace ID, capped at 62,
+ * so that the trace is sampled with probability 2<sup>-p</sup> by any sampler with p-value {@code
+ * p <= r}. It is taken from the parent's trace state when present, so that downstream services
+ * make compatible decisions without looking at the trace ID again. Sampled spans record the
+ * p-value they were sampled with, unsampled spans only propagate the r-value.
+ *
+ * <p>Ratios which are not a power of two are approximated by randomly choosing between the two
+ * nearest p-values, so that the overall sampling probability matches the ratio.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ConsistentProbabilitySampler implements TraceIdRandomPartSampler {
+
+  static final String TRACE_STATE_KEY = "ot";
+
+  // p-value 63 represents a sampling probability of zero.
+  private static final int MAX_P = 63;
+  private static final int MAX_R = 62;
+  // One result per r-value for each sampled p-value, plus one for dropping.
+  private static final int RESULTS_PER_R = MAX_P + 1;
+
+  private static final Supplier<Random> randomSupplier = RandomSupplier.platformDefault();
+
+  private final int lowerP;
+  private final int upperP;
+  // The probability of choosing lowerP instead of upperP.
+  private final double lowerPProbability;
+  private final String description;
+
+  // Results are immutable, so racing threads at worst create equal instances.
+  private final SamplingResult[] results = new SamplingResult[(MAX_R + 1) * RESULTS_PER_R];
+
+  private ConsistentProbabilitySampler(double ratio) {
+    if (ratio == 0.0) {
+      upperP = MAX_P;
+      lowerPProbability = 0.0;
+    } else {
+      // 2^-upperP <= ratio < 2^-(upperP - 1)
+      upperP = Math.min(MAX_P, -Math.getExponent(ratio));
+      lowerPProbability = Math.scalb(ratio, upperP) - 1.0;
+    }
+    lowerP = Math.max(0, upperP - 1);
+    description = "ConsistentProbabilityBased{" + ratio + "}";
+  }
+
+  /**
+   * Returns a new {@link ConsistentProbabilitySampler} sampling traces with the given {@code
+   * ratio}.
+   */
+  public static ConsistentProbabilitySampler create(double ratio) {
+    if (ratio < 0.0 || ratio > 1.0) {
+      throw new IllegalArgumentException("ratio must be in range [0.0, 1.0]");
+    }
+    return new ConsistentProbabilitySampler(ratio);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    int r = parentRValue(parentContext);
+    if (r < 0) {
+      r = rValue(OtelEncodingUtils.longFromBase16String(traceId, 16));
+    }
+    return shouldSample(r);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      long traceIdRandomPart,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    int r = parentRValue(parentContext);
+    if (r < 0) {
+      r = rValue(traceIdRandomPart);
+    }
+    return shouldSample(r);
+  }
+
+  private SamplingResult shouldSample(int r) {
+    int p = upperP;
+    if (lowerPProbability > 0.0 && randomSupplier.get().nextDouble() < lowerPProbability) {
+      p = lowerP;
+    }
+    int index = r * RESULTS_PER_R + (p <= r ? p : MAX_P);
+    SamplingResult result = results[index];
+    if (result == null) {
+      result = p <= r ? new OtTraceStateResult(p, r) : new OtTraceStateResult(-1, r);
+      results[index] = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String getDescription() {
+    return description;
+  }
+
+  @Override
+  public String toString() {
+    return getDescription();
+  }
+
+  static int rValue(long traceIdRandomPart) {
+    return Math.min(MAX_R, Long.numberOfLeadingZeros(traceIdRandomPart));
+  }
+
+  private static int parentRValue(Context parentContext) {
+    String ot =
+        Span.fromContext(parentContext).getSpanContext().getTraceState().get(TRACE_STATE_KEY);
+    if (ot == null) {
+      return -1;
+    }
+    int start = 0;
+    while (start < ot.length()) {
+      int end = ot.indexOf(';', start);
+      if (end < 0) {
+        end = ot.length();
+      }
+      if (end - start > 2 && ot.charAt(start) == 'r' && ot.charAt(start + 1) == ':') {
+        return parseRValue(ot, start + 2, end);
+      }
+      start = end + 1;
+    }
+    return -1;
+  }
+
+  // Returns -1 unless the value is a valid r-value.
+  private static int parseRValue(String value, int start, int end) {
+    if (end - start > 2) {
+      return -1;
+    }
+    int r = 0;
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      r = r * 10 + (c - '0');
+    }
+    return r <= MAX_R ? r : -1;
+  }
+
+  /** Returns {@code ot} with its p-value and r-value replaced. A negative p-value is omitted. */
+  static String updateOtValue(@Nullable String ot, int p, int r) {
+    StringBuilder sb = new StringBuilder();
+    if (p >= 0) {
+      sb.append("p:").append(p).append(';');
+    }
+    sb.append("r:").append(r);
+    if (ot != null) {
+      int start = 0;
+      while (start < ot.length()) {
+        int end = ot.indexOf(';', start);
+        if (end < 0) {
+          end = ot.length();
+        }
+        boolean pOrR =
+            end - start >= 2
+                && (ot.charAt(start) == 'p' || ot.charAt(start) == 'r')
+                && ot.charAt(start + 1) == ':';
+        if (!pOrR && end > start) {
+          sb.append(';').append(ot, start, end);
+        }
+        start = end + 1;
+      }
+    }
+    return sb.toString();
+  }
+
+  private static final class OtTraceStateResult implements SamplingResult {
+
+    // -1 when not sampled.
+    private final int p;
+    private final int r;
+    // The ot entry for parents without one, which is the case for every root span.
+    private final String rootOtValue;
+
+    private OtTraceStateResult(int p, int r) {
+      this.p = p;
+      this.r = r;
+      this.rootOtValue = updateOtValue(null, p, r);
+    }
+
+    @Override
+    public SamplingDecision getDecision() {
+      return p >= 0 ? SamplingDecision.RECORD_AND_SAMPLE : SamplingDecision.DROP;
+    }
+
+    @Override
+    public Attributes getAttributes() {
+      return Attributes.empty();
+    }
+
+    @Override
+    public TraceState getUpdatedTraceState(TraceState parentTraceState) {
+      String ot = parentTraceState.get(TRACE_STATE_KEY);
+      String updated = ot == null ? rootOtValue : updateOtValue(ot, p, r);
+      if (updated.equals(ot)) {
+        return parentTraceState;
+      }
+      return parentTraceState.toBuilder().put(TRACE_STATE_KEY, updated).build();
+    }
+  }
+}
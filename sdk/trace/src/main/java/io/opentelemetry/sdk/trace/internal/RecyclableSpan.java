@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * A span which the SDK may reuse for a new span once it has been released by everything holding a
+ * reference to it. Spans are only recycled when recycling has been enabled with {@link
+ * SdkTracerProviderUtil#setSpanRecyclingMode}; otherwise {@link #retain()} and {@link #release()}
+ * do nothing.
+ *
+ * <p>A recyclable span starts with a single reference, owned by the application, which is released
+ * when the span is ended and all {@link SpanProcessor#onEnd(ReadableSpan)} callbacks have returned.
+ * The application must not use the span after calling {@code end()}, including reading its {@code
+ * SpanContext}.
+ *
+ * <p>A {@link SpanProcessor} which uses a span after its {@code onStart} or {@code onEnd} callback
+ * returns must call {@link #retain()} from within the callback, and {@link #release()} once it no
+ * longer needs the span. {@link ReadableSpan#toSpanData()} returns a snapshot which remains valid
+ * after the span is recycled, so processors which only need the snapshot can take it inside the
+ * callback instead of retaining the span. A span which is never released is not recycled and is
+ * left to the garbage collector.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface RecyclableSpan extends ReadableSpan {
+
+  /** Adds a reference to this span, preventing it from being recycled until it is released. */
+  void retain();
+
+  /** Removes a reference added with {@link #retain()}. */
+  void release();
+}
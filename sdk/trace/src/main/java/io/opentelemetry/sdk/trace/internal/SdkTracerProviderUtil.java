@@ -10,6 +10,7 @@ import io.opentelemetry.sdk.internal.ScopeConfigurator;
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 /**
@@ -55,4 +56,37 @@ public final class SdkTracerProviderUtil {
           "Error calling addTracerConfiguratorCondition on SdkTracerProviderBuilder", e);
     }
   }
+
+  /** Reflectively set the {@link SpanRecyclingMode} to the {@link SdkTracerProviderBuilder}. */
+  public static void setSpanRecyclingMode(
+      SdkTracerProviderBuilder sdkTracerProviderBuilder, SpanRecyclingMode spanRecyclingMode) {
+    try {
+      Method method =
+          SdkTracerProviderBuilder.class.getDeclaredMethod(
+              "setSpanRecyclingMode", SpanRecyclingMode.class);
+      method.setAccessible(true);
+      method.invoke(sdkTracerProviderBuilder, spanRecyclingMode);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setSpanRecyclingMode on SdkTracerProviderBuilder", e);
+    }
+  }
+
+  /**
+   * Reflectively enable delivering ended spans to {@link BatchingSpanProcessor}s in batches on the
+   * {@link SdkTracerProviderBuilder}.
+   */
+  public static void setSpanEndBatching(
+      SdkTracerProviderBuilder sdkTracerProviderBuilder, int maxBatchSize, Duration flushInterval) {
+    try {
+      Method method =
+          SdkTracerProviderBuilder.class.getDeclaredMethod(
+              "setSpanEndBatching", int.class, Duration.class);
+      method.setAccessible(true);
+      method.invoke(sdkTracerProviderBuilder, maxBatchSize, flushInterval);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(
+          "Error calling setSpanEndBatching on SdkTracerProviderBuilder", e);
+    }
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
+
+/**
+ * Controls whether ended spans are recycled by the SDK.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ *
+ * @see SdkTracerProviderUtil#setSpanRecyclingMode(SdkTracerProviderBuilder, SpanRecyclingMode)
+ * @see RecyclableSpan
+ */
+public enum SpanRecyclingMode {
+  /** Spans are never recycled. This is the default. */
+  DISABLED,
+  /** Spans are recycled once the application and all span processors have released them. */
+  ENABLED,
+  /**
+   * Spans are not reused, but are marked as recycled when they would have been. Any later use of a
+   * recycled span is logged together with the stack trace of where it was recycled. Intended for
+   * checking that instrumentation and span processors follow the {@link RecyclableSpan} contract
+   * before enabling recycling.
+   */
+  DEBUG
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.List;
+
+/**
+ * A {@link Sampler} which can make its decision from the low 64 bits of the trace ID, the part of
+ * the ID samplers draw their randomness from. When the SDK generates the trace ID of a new root
+ * span itself, it passes these bits directly so that the sampler does not need to parse them back
+ * out of the hex encoded trace ID.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface TraceIdRandomPartSampler extends Sampler {
+
+  /**
+   * Called during {@link io.opentelemetry.api.trace.SpanBuilder#startSpan()} instead of {@link
+   * #shouldSample(Context, String, String, SpanKind, Attributes, List)} when the low 64 bits of the
+   * trace ID are known. Must return the same result as that method for the same arguments.
+   *
+   * @param traceIdRandomPart the low 64 bits of {@code traceId}.
+   */
+  SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      long traceIdRandomPart,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks);
+}
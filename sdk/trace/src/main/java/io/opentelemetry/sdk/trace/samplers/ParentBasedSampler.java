@@ -11,6 +11,7 @@ import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.TraceIdRandomPartSampler;
 import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -21,7 +22,7 @@ import javax.annotation.concurrent.Immutable;
  * ParentBasedSamplerBuilder} methods for the details on the various configurable options.
  */
 @Immutable
-final class ParentBasedSampler implements Sampler {
+final class ParentBasedSampler implements TraceIdRandomPartSampler {
 
   private final Sampler root;
   private final Sampler remoteParentSampled;
@@ -75,6 +76,24 @@ final class ParentBasedSampler implements Sampler {
             parentContext, traceId, name, spanKind, attributes, parentLinks);
   }
 
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      long traceIdRandomPart,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    if (root instanceof TraceIdRandomPartSampler
+        && !Span.fromContext(parentContext).getSpanContext().isValid()) {
+      return ((TraceIdRandomPartSampler) root)
+          .shouldSample(
+              parentContext, traceId, traceIdRandomPart, name, spanKind, attributes, parentLinks);
+    }
+    return shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
   @Override
   public String getDescription() {
     return String.format(
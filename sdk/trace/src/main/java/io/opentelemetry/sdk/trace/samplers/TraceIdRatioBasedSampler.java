@@ -10,6 +10,7 @@ import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.TraceIdRandomPartSampler;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.List;
@@ -24,7 +25,7 @@ import javax.annotation.concurrent.Immutable;
  * bit ID's will also work with this sampler.
  */
 @Immutable
-final class TraceIdRatioBasedSampler implements Sampler {
+final class TraceIdRatioBasedSampler implements TraceIdRandomPartSampler {
 
   private static final SamplingResult POSITIVE_SAMPLING_RESULT = SamplingResult.recordAndSample();
 
@@ -65,6 +66,22 @@ final class TraceIdRatioBasedSampler implements Sampler {
       SpanKind spanKind,
       Attributes attributes,
       List<LinkData> parentLinks) {
+    return shouldSample(getTraceIdRandomPart(traceId));
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      long traceIdRandomPart,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    return shouldSample(traceIdRandomPart);
+  }
+
+  private SamplingResult shouldSample(long traceIdRandomPart) {
     // Always sample if we are within probability range. This is true even for child spans (that
     // may have had a different sampling samplingResult made) to allow for different sampling
     // policies,
@@ -73,7 +90,7 @@ final class TraceIdRatioBasedSampler implements Sampler {
     // while allowing for a (very) small chance of *not* sampling if the id == Long.MAX_VALUE.
     // This is considered a reasonable tradeoff for the simplicity/performance requirements (this
     // code is executed in-line for every Span creation).
-    return Math.abs(getTraceIdRandomPart(traceId)) < idUpperBound
+    return Math.abs(traceIdRandomPart) < idUpperBound
         ? POSITIVE_SAMPLING_RESULT
         : NEGATIVE_SAMPLING_RESULT;
   }
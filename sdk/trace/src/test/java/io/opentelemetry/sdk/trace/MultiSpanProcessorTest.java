@@ -8,17 +8,25 @@ package io.opentelemetry.sdk.trace;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -29,6 +37,7 @@ import org.mockito.quality.Strictness;
 class MultiSpanProcessorTest {
   @Mock private SpanProcessor spanProcessor1;
   @Mock private SpanProcessor spanProcessor2;
+  @Mock private BatchingSpanProcessor batchingSpanProcessor;
   @Mock private ReadableSpan readableSpan;
   @Mock private ReadWriteSpan readWriteSpan;
 
@@ -42,6 +51,10 @@ class MultiSpanProcessorTest {
     when(spanProcessor2.isEndRequired()).thenReturn(true);
     when(spanProcessor2.forceFlush()).thenReturn(CompletableResultCode.ofSuccess());
     when(spanProcessor2.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
+    when(batchingSpanProcessor.isStartRequired()).thenReturn(false);
+    when(batchingSpanProcessor.isEndRequired()).thenReturn(true);
+    when(batchingSpanProcessor.forceFlush()).thenReturn(CompletableResultCode.ofSuccess());
+    when(batchingSpanProcessor.shutdown()).thenReturn(CompletableResultCode.ofSuccess());
   }
 
   @Test
@@ -107,6 +120,92 @@ class MultiSpanProcessorTest {
     verify(spanProcessor2).shutdown();
   }
 
+  @Test
+  void batchingSpanProcessor() {
+    SpanProcessor multiSpanProcessor =
+        MultiSpanProcessor.createBatching(
+            Arrays.asList(spanProcessor1, batchingSpanProcessor), 2, TimeUnit.HOURS.toNanos(1));
+    assertThat(multiSpanProcessor.isEndRequired()).isTrue();
+
+    multiSpanProcessor.onEnd(readableSpan);
+    verify(spanProcessor1).onEnd(same(readableSpan));
+    verify(batchingSpanProcessor, never()).onEndBatch(any());
+    verify(batchingSpanProcessor, never()).onEnd(any());
+
+    // Delivered once the batch is full.
+    multiSpanProcessor.onEnd(readableSpan);
+    verify(batchingSpanProcessor).onEndBatch(Arrays.asList(readableSpan, readableSpan));
+
+    // Partial batches are delivered before flushing the processors.
+    multiSpanProcessor.onEnd(readableSpan);
+    multiSpanProcessor.forceFlush();
+    verify(batchingSpanProcessor).onEndBatch(Collections.singletonList(readableSpan));
+    verify(batchingSpanProcessor).forceFlush();
+    verify(spanProcessor1, times(3)).onEnd(same(readableSpan));
+
+    multiSpanProcessor.shutdown();
+    verify(batchingSpanProcessor).shutdown();
+    verify(batchingSpanProcessor, times(2)).onEndBatch(any());
+  }
+
+  @Test
+  void batchingSpanProcessor_DeliveredOnShutdown() {
+    SpanProcessor multiSpanProcessor =
+        MultiSpanProcessor.createBatching(
+            Collections.singletonList(batchingSpanProcessor), 10, TimeUnit.HOURS.toNanos(1));
+
+    multiSpanProcessor.onEnd(readableSpan);
+    verify(batchingSpanProcessor, never()).onEndBatch(any());
+
+    multiSpanProcessor.shutdown();
+    verify(batchingSpanProcessor).onEndBatch(Collections.singletonList(readableSpan));
+    verify(batchingSpanProcessor).shutdown();
+  }
+
+  @Test
+  void batchingSpanProcessor_FlushWaitsForDeliveryInProgress() throws InterruptedException {
+    CountDownLatch delivering = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              delivering.countDown();
+              release.await();
+              return null;
+            })
+        .when(batchingSpanProcessor)
+        .onEndBatch(any());
+    SpanProcessor multiSpanProcessor =
+        MultiSpanProcessor.createBatching(
+            Collections.singletonList(batchingSpanProcessor), 1, TimeUnit.HOURS.toNanos(1));
+
+    // The full batch is taken from the buffer and delivered on the ending thread.
+    Thread ender = new Thread(() -> multiSpanProcessor.onEnd(readableSpan));
+    ender.start();
+    assertThat(delivering.await(10, TimeUnit.SECONDS)).isTrue();
+
+    Thread flusher = new Thread(multiSpanProcessor::forceFlush);
+    flusher.start();
+    verify(batchingSpanProcessor, after(100).never()).forceFlush();
+
+    release.countDown();
+    ender.join();
+    flusher.join();
+    InOrder inOrder = inOrder(batchingSpanProcessor);
+    inOrder.verify(batchingSpanProcessor).onEndBatch(Collections.singletonList(readableSpan));
+    inOrder.verify(batchingSpanProcessor).forceFlush();
+  }
+
+  @Test
+  void batchingSpanProcessor_DeliveredImmediatelyAfterShutdown() {
+    SpanProcessor multiSpanProcessor =
+        MultiSpanProcessor.createBatching(
+            Collections.singletonList(batchingSpanProcessor), 10, TimeUnit.HOURS.toNanos(1));
+
+    multiSpanProcessor.shutdown();
+    multiSpanProcessor.onEnd(readableSpan);
+    verify(batchingSpanProcessor).onEndBatch(Collections.singletonList(readableSpan));
+  }
+
   @Test
   void stringRepresentation() {
     when(spanProcessor1.toString()).thenReturn("spanProcessor1");
@@ -1353,6 +1353,7 @@ class SdkSpanTest {
   }
 
   @Test
+  @SuppressWarnings("unchecked")
   void testAsSpanData() {
     String name = "GreatSpan";
     SpanKind kind = SpanKind.SERVER;
@@ -1365,7 +1366,8 @@ class SdkSpanTest {
     Resource resource = this.resource;
     Attributes attributes = TestUtils.generateRandomAttributes();
     AttributesMap attributesWithCapacity = AttributesMap.create(32, Integer.MAX_VALUE);
-    attributes.forEach(attributesWithCapacity::put);
+    attributes.forEach(
+        (key, value) -> attributesWithCapacity.put((AttributeKey<Object>) key, value));
     Attributes event1Attributes = TestUtils.generateRandomAttributes();
     Attributes event2Attributes = TestUtils.generateRandomAttributes();
     SpanContext context =
@@ -1447,4 +1449,35 @@ class SdkSpanTest {
     }
     modifierFuture.get();
   }
+
+  @Test
+  void testConcurrentModificationByOwnerAndOtherThread()
+      throws ExecutionException, InterruptedException {
+    // The span is owned by this thread, which accesses it without locking until the other thread
+    // touches it.
+    SdkSpan span = createTestSpan(SpanKind.INTERNAL);
+    int eventsPerThread = 5096 * 5;
+    ExecutorService es = Executors.newSingleThreadExecutor();
+    Future<?> modifierFuture =
+        es.submit(
+            () -> {
+              for (int i = 0; i < eventsPerThread; ++i) {
+                span.addEvent("other");
+                span.toSpanData();
+              }
+            });
+    try {
+      for (int i = 0; i < eventsPerThread; ++i) {
+        span.addEvent("owner");
+      }
+    } catch (Throwable t) {
+      modifierFuture.cancel(true);
+      throw t;
+    }
+    modifierFuture.get();
+    es.shutdown();
+    span.end();
+
+    assertThat(span.toSpanData().getTotalRecordedEvents()).isEqualTo(2 * eventsPerThread);
+  }
 }
@@ -19,7 +19,14 @@ import io.opentelemetry.sdk.common.Clock;
 import io.opentelemetry.sdk.common.CompletableResultCode;
 import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
 import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.BatchingSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -220,6 +227,30 @@ class SdkTracerProviderTest {
     Mockito.verify(spanProcessor, Mockito.times(1)).shutdown();
   }
 
+  @Test
+  void spanEndBatching_BatchSpanProcessor() {
+    InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    BatchSpanProcessor batchSpanProcessor =
+        BatchSpanProcessor.builder(exporter).setScheduleDelay(1, TimeUnit.HOURS).build();
+    assertThat(batchSpanProcessor).isNotInstanceOf(BatchingSpanProcessor.class);
+    SdkTracerProviderBuilder builder =
+        SdkTracerProvider.builder().addSpanProcessor(batchSpanProcessor);
+    SdkTracerProviderUtil.setSpanEndBatching(builder, 10, Duration.ofHours(1));
+    SdkTracerProvider tracerProvider = builder.build();
+
+    Tracer tracer = tracerProvider.get("test");
+    tracer.spanBuilder("one").startSpan().end();
+    tracer.spanBuilder("two").startSpan().end();
+    assertThat(exporter.getFinishedSpanItems()).isEmpty();
+
+    // The buffered spans reach the processor before it is flushed.
+    tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    assertThat(exporter.getFinishedSpanItems())
+        .extracting(SpanData::getName)
+        .containsExactly("one", "two");
+    tracerProvider.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
   @Test
   void returnNoopSpanAfterShutdown() {
     tracerFactory.shutdown();
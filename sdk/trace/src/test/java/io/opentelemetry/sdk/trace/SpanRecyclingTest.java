@@ -0,0 +1,204 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.netmikey.logunit.api.LogCapturer;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.internal.RecyclableSpan;
+import io.opentelemetry.sdk.trace.internal.SdkTracerProviderUtil;
+import io.opentelemetry.sdk.trace.internal.SpanRecyclingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class SpanRecyclingTest {
+
+  @RegisterExtension
+  LogCapturer logs = LogCapturer.create().captureForType(SpanPool.class);
+
+  private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+  private static SdkTracerProvider tracerProvider(
+      SpanRecyclingMode mode, SpanProcessor... processors) {
+    SdkTracerProviderBuilder builder = SdkTracerProvider.builder();
+    SdkTracerProviderUtil.setSpanRecyclingMode(builder, mode);
+    for (SpanProcessor processor : processors) {
+      builder.addSpanProcessor(processor);
+    }
+    return builder.build();
+  }
+
+  @Test
+  void disabled_DoesNotReuseSpans() {
+    Tracer tracer =
+        tracerProvider(SpanRecyclingMode.DISABLED, SimpleSpanProcessor.create(exporter))
+            .get("test");
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    first.end();
+    Span second = tracer.spanBuilder("second").startSpan();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(((ReadableSpan) first).getName()).isEqualTo("first");
+  }
+
+  @Test
+  void enabled_ReusesEndedSpans() {
+    Tracer tracer =
+        tracerProvider(SpanRecyclingMode.ENABLED, SimpleSpanProcessor.create(exporter))
+            .get("test");
+
+    Span first = tracer.spanBuilder("first").setAttribute("key", "first").startSpan();
+    SpanContext firstContext = first.getSpanContext();
+    first.addEvent("event");
+    first.end();
+    Span second = tracer.spanBuilder("second").startSpan();
+    second.end();
+
+    assertThat(second).isSameAs(first);
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertThat(spans).hasSize(2);
+    // Snapshots taken before the span was recycled are not affected by its reuse.
+    assertThat(spans.get(0).getName()).isEqualTo("first");
+    assertThat(spans.get(0).getSpanContext()).isEqualTo(firstContext);
+    assertThat(spans.get(0).getAttributes().get(stringKey("key"))).isEqualTo("first");
+    assertThat(spans.get(0).getEvents()).hasSize(1);
+    assertThat(spans.get(1).getName()).isEqualTo("second");
+    assertThat(spans.get(1).getSpanContext()).isNotEqualTo(firstContext);
+    assertThat(spans.get(1).getAttributes().isEmpty()).isTrue();
+    assertThat(spans.get(1).getEvents()).isEmpty();
+    assertThat(spans.get(1).hasEnded()).isTrue();
+  }
+
+  @Test
+  void enabled_RetainedSpansAreNotReusedUntilReleased() {
+    List<ReadableSpan> retained = new ArrayList<>();
+    SpanProcessor retainingProcessor =
+        new SpanProcessor() {
+          @Override
+          public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+          @Override
+          public boolean isStartRequired() {
+            return false;
+          }
+
+          @Override
+          public void onEnd(ReadableSpan span) {
+            ((RecyclableSpan) span).retain();
+            retained.add(span);
+          }
+
+          @Override
+          public boolean isEndRequired() {
+            return true;
+          }
+        };
+    Tracer tracer = tracerProvider(SpanRecyclingMode.ENABLED, retainingProcessor).get("test");
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    first.end();
+    Span second = tracer.spanBuilder("second").startSpan();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(retained.get(0).getName()).isEqualTo("first");
+
+    ((RecyclableSpan) retained.get(0)).release();
+    Span third = tracer.spanBuilder("third").startSpan();
+
+    assertThat(third).isSameAs(first);
+  }
+
+  @Test
+  void enabled_RetainAfterReleaseDoesNotRecycleTwice() {
+    Tracer tracer =
+        tracerProvider(SpanRecyclingMode.ENABLED, SimpleSpanProcessor.create(exporter))
+            .get("test");
+
+    Span span = tracer.spanBuilder("span").startSpan();
+    span.end();
+    // Breaks the contract, as the span was already released and recycled.
+    ((RecyclableSpan) span).retain();
+    ((RecyclableSpan) span).release();
+
+    Span first = tracer.spanBuilder("first").startSpan();
+    Span second = tracer.spanBuilder("second").startSpan();
+
+    assertThat(first).isSameAs(span);
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  void enabled_BatchSpanProcessor() {
+    BatchSpanProcessor processor =
+        BatchSpanProcessor.builder(exporter).setScheduleDelay(1, TimeUnit.HOURS).build();
+    Tracer tracer = tracerProvider(SpanRecyclingMode.ENABLED, processor).get("test");
+
+    List<String> expectedNames = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      String name = "span" + i;
+      expectedNames.add(name);
+      tracer.spanBuilder(name).setAttribute("name", name).startSpan().end();
+      if (i % 10 == 0) {
+        processor.forceFlush().join(10, TimeUnit.SECONDS);
+      }
+    }
+    processor.forceFlush().join(10, TimeUnit.SECONDS);
+
+    List<SpanData> spans = exporter.getFinishedSpanItems();
+    assertThat(spans.stream().map(SpanData::getName).collect(Collectors.toList()))
+        .containsExactlyElementsOf(expectedNames);
+    assertThat(spans)
+        .allSatisfy(
+            span ->
+                assertThat(span.getAttributes().get(stringKey("name"))).isEqualTo(span.getName()));
+    processor.shutdown().join(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void debug_ReportsUseAfterRecycle() {
+    Tracer tracer =
+        tracerProvider(SpanRecyclingMode.DEBUG, SimpleSpanProcessor.create(exporter))
+            .get("test");
+
+    Span span = tracer.spanBuilder("span").startSpan();
+    span.end();
+    // Spans are never reused in debug mode.
+    assertThat(tracer.spanBuilder("other").startSpan()).isNotSameAs(span);
+
+    span.setAttribute("key", "value");
+
+    logs.assertContains("Span used after it was recycled by calling setAttribute()");
+    assertThat(((ReadableSpan) span).getAttribute(stringKey("key"))).isNull();
+  }
+
+  @Test
+  void debug_NoReportWhenContractFollowed() {
+    Tracer tracer =
+        tracerProvider(SpanRecyclingMode.DEBUG, SimpleSpanProcessor.create(exporter))
+            .get("test");
+
+    Span span = tracer.spanBuilder("span").startSpan();
+    span.setAttribute("key", "value");
+    span.end();
+
+    assertThat(logs.getEvents()).isEmpty();
+    assertThat(exporter.getFinishedSpanItems()).hasSize(1);
+  }
+}
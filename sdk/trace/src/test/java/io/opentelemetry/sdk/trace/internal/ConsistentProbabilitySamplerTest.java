@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.sdk.trace.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class ConsistentProbabilitySamplerTest {
+
+  // Random part with no leading zeros, r-value 0.
+  private static final String R0_TRACE_ID = "00000000000000008fffffffffffffff";
+  // Random part with 16 leading zeros, r-value 16.
+  private static final String R16_TRACE_ID = "00000000000000000000ffffffffffff";
+  private static final String SPAN_ID = "ff00000000000041";
+
+  @Test
+  void invalidRatio() {
+    assertThatThrownBy(() -> ConsistentProbabilitySampler.create(1.01))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ConsistentProbabilitySampler.create(-0.00001))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rootSpan_Sampled() {
+    SamplingResult result =
+        shouldSample(ConsistentProbabilitySampler.create(0.25), Context.root(), R16_TRACE_ID);
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(result.getUpdatedTraceState(TraceState.getDefault()).get("ot"))
+        .isEqualTo("p:2;r:16");
+  }
+
+  @Test
+  void rootSpan_NotSampled() {
+    SamplingResult result =
+        shouldSample(ConsistentProbabilitySampler.create(0.25), Context.root(), R0_TRACE_ID);
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(result.getUpdatedTraceState(TraceState.getDefault()).get("ot")).isEqualTo("r:0");
+  }
+
+  @Test
+  void zeroRatio_NeverSampled() {
+    SamplingResult result =
+        shouldSample(
+            ConsistentProbabilitySampler.create(0.0),
+            Context.root(),
+            "00000000000000000000000000000001");
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(result.getUpdatedTraceState(TraceState.getDefault()).get("ot")).isEqualTo("r:62");
+  }
+
+  @Test
+  void parentRValue_Used() {
+    TraceState parentTraceState =
+        TraceState.builder().put("ot", "p:0;r:5;x:y").put("vendor", "value").build();
+    Context parent =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        R0_TRACE_ID, SPAN_ID, TraceFlags.getSampled(), parentTraceState)));
+
+    SamplingResult result =
+        shouldSample(ConsistentProbabilitySampler.create(0.25), parent, R0_TRACE_ID);
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    TraceState updated = result.getUpdatedTraceState(parentTraceState);
+    assertThat(updated.get("ot")).isEqualTo("p:2;r:5;x:y");
+    assertThat(updated.get("vendor")).isEqualTo("value");
+  }
+
+  @Test
+  void invalidParentRValue_Ignored() {
+    TraceState parentTraceState = TraceState.builder().put("ot", "r:63").build();
+    Context parent =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        R0_TRACE_ID, SPAN_ID, TraceFlags.getSampled(), parentTraceState)));
+
+    SamplingResult result =
+        shouldSample(ConsistentProbabilitySampler.create(0.25), parent, R0_TRACE_ID);
+
+    assertThat(result.getDecision()).isEqualTo(SamplingDecision.DROP);
+    assertThat(result.getUpdatedTraceState(parentTraceState).get("ot")).isEqualTo("r:0");
+  }
+
+  @Test
+  void randomPart_SameResultAsTraceId() {
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.5);
+
+    SamplingResult fromTraceId = shouldSample(sampler, Context.root(), R16_TRACE_ID);
+    SamplingResult fromRandomPart =
+        sampler.shouldSample(
+            Context.root(),
+            R16_TRACE_ID,
+            0x0000ffffffffffffL,
+            "span",
+            SpanKind.INTERNAL,
+            Attributes.empty(),
+            Collections.emptyList());
+
+    assertThat(fromRandomPart).isSameAs(fromTraceId);
+  }
+
+  @Test
+  void sampledWithRatio() {
+    IdGenerator idGenerator = IdGenerator.random();
+    ConsistentProbabilitySampler sampler = ConsistentProbabilitySampler.create(0.3);
+    int sampled = 0;
+    int tries = 10000;
+    for (int i = 0; i < tries; i++) {
+      if (shouldSample(sampler, Context.root(), idGenerator.generateTraceId()).getDecision()
+          == SamplingDecision.RECORD_AND_SAMPLE) {
+        sampled++;
+      }
+    }
+    // Allow for a large amount of slop to avoid flakiness.
+    assertThat((double) sampled / tries).isBetween(0.25, 0.35);
+  }
+
+  private static SamplingResult shouldSample(
+      ConsistentProbabilitySampler sampler, Context parent, String traceId) {
+    return sampler.shouldSample(
+        parent, traceId, "span", SpanKind.INTERNAL, Attributes.empty(), Collections.emptyList());
+  }
+}
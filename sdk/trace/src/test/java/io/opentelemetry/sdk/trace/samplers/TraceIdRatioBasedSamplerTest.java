@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.internal.OtelEncodingUtils;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.api.trace.SpanKind;
@@ -17,6 +18,7 @@ import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.IdGenerator;
 import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.internal.TraceIdRandomPartSampler;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -178,6 +180,35 @@ class TraceIdRatioBasedSamplerTest {
     assertThat(samplingResult2.getDecision()).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
   }
 
+  @Test
+  void sampleBasedOnTraceIdRandomPart() {
+    Sampler sampler = Sampler.parentBased(Sampler.traceIdRatioBased(0.3));
+    assertThat(sampler).isInstanceOf(TraceIdRandomPartSampler.class);
+    for (int i = 0; i < NUM_SAMPLE_TRIES; i++) {
+      String traceId = idsGenerator.generateTraceId();
+      long randomPart = OtelEncodingUtils.longFromBase16String(traceId, 16);
+      SamplingResult fromString =
+          sampler.shouldSample(
+              invalidParentContext,
+              traceId,
+              SPAN_NAME,
+              SPAN_KIND,
+              Attributes.empty(),
+              Collections.emptyList());
+      SamplingResult fromLong =
+          ((TraceIdRandomPartSampler) sampler)
+              .shouldSample(
+                  invalidParentContext,
+                  traceId,
+                  randomPart,
+                  SPAN_NAME,
+                  SPAN_KIND,
+                  Attributes.empty(),
+                  Collections.emptyList());
+      assertThat(fromLong).isSameAs(fromString);
+    }
+  }
+
   // Applies the given sampler to NUM_SAMPLE_TRIES random traceId.
   private static void assertSamplerSamplesWithProbability(
       Sampler sampler, Context parent, List<LinkData> parentLinks, double probability) {